@@ -0,0 +1,63 @@
+-- =====================================================
+-- UUID Key Insert Benchmark
+-- =====================================================
+-- Compares random (v4) and time-ordered (v7) primary keys
+-- on tables shaped like task_comments: a UUID primary key
+-- plus an indexed UUID foreign key. Run against a scratch
+-- database after migrating it to V19:
+--
+--   psql "$DATABASE_URL" -v rows=1000000 -f benchmarks/uuid-key-inserts.sql
+--
+-- Reports insert time, index sizes and how many index
+-- pages were dirtied. Everything runs in temp tables.
+-- =====================================================
+
+\timing on
+\if :{?rows}
+\else
+    \set rows 1000000
+\endif
+
+CREATE TEMP TABLE bench_v4 (
+    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    task_id UUID NOT NULL,
+    content TEXT NOT NULL
+);
+CREATE INDEX ON bench_v4 (task_id);
+
+CREATE TEMP TABLE bench_v7 (
+    id UUID PRIMARY KEY DEFAULT uuid_generate_v7(),
+    task_id UUID NOT NULL,
+    content TEXT NOT NULL
+);
+CREATE INDEX ON bench_v7 (task_id);
+
+-- Same parent keys for both runs, 20 children each, so only the primary key differs
+CREATE TEMP TABLE bench_tasks AS
+SELECT uuid_generate_v7() AS task_id FROM generate_series(1, GREATEST(:rows / 20, 1));
+
+\echo 'v4 inserts'
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF, SUMMARY ON)
+INSERT INTO bench_v4 (task_id, content)
+SELECT p.task_ids[1 + g % array_length(p.task_ids, 1)], 'comment ' || g
+FROM (SELECT array_agg(task_id) AS task_ids FROM bench_tasks) p,
+     generate_series(1, :rows) g;
+
+\echo 'v7 inserts'
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF, SUMMARY ON)
+INSERT INTO bench_v7 (task_id, content)
+SELECT p.task_ids[1 + g % array_length(p.task_ids, 1)], 'comment ' || g
+FROM (SELECT array_agg(task_id) AS task_ids FROM bench_tasks) p,
+     generate_series(1, :rows) g;
+
+SELECT relname AS index_name,
+       pg_size_pretty(pg_relation_size(oid)) AS size
+FROM pg_class
+WHERE relname IN ('bench_v4_pkey', 'bench_v7_pkey', 'bench_v4_task_id_idx', 'bench_v7_task_id_idx')
+ORDER BY relname;
+
+-- Leaf density: random keys split pages at random and leave them about 70% full
+CREATE EXTENSION IF NOT EXISTS pgstattuple;
+SELECT 'bench_v4_pkey' AS index_name, avg_leaf_density, leaf_fragmentation FROM pgstatindex('bench_v4_pkey')
+UNION ALL
+SELECT 'bench_v7_pkey', avg_leaf_density, leaf_fragmentation FROM pgstatindex('bench_v7_pkey');
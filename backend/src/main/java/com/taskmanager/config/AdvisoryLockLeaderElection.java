@@ -0,0 +1,218 @@
+package com.taskmanager.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Elects one node per {@link SingletonJob} name with Postgres session advisory locks held on a dedicated
+ * connection. Postgres releases the locks when that session ends, so a node that dies or loses its
+ * connection hands its jobs over without any external coordinator: the others keep trying the locks
+ * they do not hold on every renewal. A node trusts its locks only until its lease runs out, which is
+ * extended by every successful renewal, so a stalled node stops running jobs on its own.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AdvisoryLockLeaderElection implements SmartLifecycle {
+
+    // Two-key form: the application name separates this app's locks from others on the same database
+    private static final String TRY_LOCK = "SELECT pg_try_advisory_lock(hashtext(?), hashtext(?))";
+
+    private final DataSourceProperties dataSourceProperties;
+
+    @Value("${leader-election.enabled}")
+    private boolean enabled;
+
+    @Value("${leader-election.url}")
+    private String url;
+
+    @Value("${spring.application.name}")
+    private String namespace;
+
+    @Value("${leader-election.renew-interval}")
+    private Duration renewInterval;
+
+    @Value("${leader-election.lease}")
+    private Duration lease;
+
+    // Every lock a job has asked for; renewals keep trying the ones this node does not hold
+    private final Set<String> lockNames = ConcurrentHashMap.newKeySet();
+
+    // Guarded by this
+    private final Set<String> heldLocks = new HashSet<>();
+    private Connection connection;
+    private long leaseExpiresAt;
+
+    private volatile boolean running;
+    private Thread thread;
+
+    /**
+     * Whether this node should run the job with the given lock name now.
+     * The first call for a name tries the lock right away; always true when leader election is disabled.
+     */
+    public boolean isLeader(String name) {
+        if (!enabled) {
+            return true;
+        }
+        lockNames.add(name);
+        synchronized (this) {
+            if (connection == null || System.currentTimeMillis() >= leaseExpiresAt) {
+                return false;
+            }
+            if (heldLocks.contains(name)) {
+                return true;
+            }
+            try {
+                return tryAcquire(name);
+            } catch (SQLException e) {
+                log.warn("Leader election connection failed while acquiring {}", name, e);
+                release();
+                return false;
+            }
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        if (!enabled) {
+            return;
+        }
+        // Connect on the starting thread so leadership is settled before scheduled jobs first run
+        renew();
+        thread = new Thread(this::renewLoop, "leader-election");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (thread != null) {
+            thread.interrupt();
+            try {
+                thread.join(renewInterval.toMillis() + 1_000L);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        // Closing the session releases the locks, so other nodes take over at their next renewal
+        synchronized (this) {
+            release();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void renewLoop() {
+        while (running) {
+            try {
+                Thread.sleep(renewInterval.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            renew();
+        }
+    }
+
+    private synchronized void renew() {
+        try {
+            if (connection == null) {
+                connection = connect();
+            } else if (!connection.isValid((int) Math.max(1, renewInterval.toSeconds()))) {
+                throw new SQLException("Leader election connection is no longer valid");
+            }
+            leaseExpiresAt = System.currentTimeMillis() + lease.toMillis();
+            for (String name : lockNames) {
+                if (!heldLocks.contains(name)) {
+                    tryAcquire(name);
+                }
+            }
+        } catch (SQLException e) {
+            log.warn("Leader election connection failed, retrying in {}", renewInterval, e);
+            release();
+        }
+    }
+
+    private boolean tryAcquire(String name) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(TRY_LOCK)) {
+            statement.setString(1, namespace);
+            statement.setString(2, name);
+            try (ResultSet rs = statement.executeQuery()) {
+                if (rs.next() && rs.getBoolean(1)) {
+                    heldLocks.add(name);
+                    log.info("Acquired singleton job lock {}", name);
+                    return true;
+                }
+                return false;
+            }
+        }
+    }
+
+    private Connection connect() throws SQLException {
+        Properties properties = new Properties();
+        if (dataSourceProperties.determineUsername() != null) {
+            properties.setProperty("user", dataSourceProperties.determineUsername());
+        }
+        if (dataSourceProperties.determinePassword() != null) {
+            properties.setProperty("password", dataSourceProperties.determinePassword());
+        }
+        properties.setProperty("ApplicationName", namespace + "-leader-election");
+        properties.setProperty("tcpKeepAlive", "true");
+        // A hung socket must not hold the node's locks past its lease
+        properties.setProperty("socketTimeout", String.valueOf(Math.max(1, lease.toSeconds())));
+        properties.setProperty("options", serverOptions());
+        return DriverManager.getConnection(url, properties);
+    }
+
+    /**
+     * The server must end the session, and so release the locks, on its own when this node stalls or
+     * vanishes: client timeouts do nothing if the JVM is frozen. Renewals keep the session busy, so it is
+     * only idle for a whole lease when the node stopped renewing, by which time its lease has run out too.
+     * Keepalives probe a silent peer from one renewal interval on, giving up about one lease later.
+     */
+    private String serverOptions() {
+        long probeSeconds = Math.max(1, renewInterval.toSeconds());
+        long probes = Math.max(1, lease.toSeconds() / probeSeconds);
+        return String.join(" ",
+                "-c idle_session_timeout=" + Math.max(1, lease.toMillis()),
+                "-c tcp_keepalives_idle=" + probeSeconds,
+                "-c tcp_keepalives_interval=" + probeSeconds,
+                "-c tcp_keepalives_count=" + probes);
+    }
+
+    private void release() {
+        if (!heldLocks.isEmpty()) {
+            log.info("Released singleton job locks {}", heldLocks);
+            heldLocks.clear();
+        }
+        leaseExpiresAt = 0L;
+        if (connection != null) {
+            try {
+                connection.close();
+            } catch (SQLException e) {
+                log.debug("Failed to close the leader election connection", e);
+            }
+            connection = null;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.taskmanager.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.jcache.MissingCacheStrategy;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * Builds the Caffeine regions of the Hibernate second-level cache from {@link EntityCacheProperties}
+ * and hands the cache manager to Hibernate. Every region must be configured; Hibernate fails at
+ * startup on a region it cannot find instead of creating an unbounded one.
+ */
+@Configuration
+@EnableConfigurationProperties(EntityCacheProperties.class)
+@Slf4j
+public class EntityCacheConfig {
+
+    @Bean(destroyMethod = "close")
+    public CacheManager entityCacheManager(EntityCacheProperties properties) {
+        CaffeineCachingProvider provider = (CaffeineCachingProvider) Caching.getCachingProvider(
+                CaffeineCachingProvider.class.getName());
+        // A private URI gives each application context its own regions (tests start several)
+        CacheManager cacheManager = provider.getCacheManager(
+                URI.create("urn:task-manager:entity-cache:" + UUID.randomUUID()), provider.getDefaultClassLoader());
+
+        properties.getRegions().forEach((name, region) -> {
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            configuration.setTypes(Object.class, Object.class);
+            // Hibernate caches its own disassembled state, so entries need no copying
+            configuration.setStoreByValue(false);
+            configuration.setMaximumSize(OptionalLong.of(region.getMaxSize()));
+            if (region.getTtl() != null) {
+                configuration.setExpireAfterWrite(OptionalLong.of(region.getTtl().toNanos()));
+            }
+            // Hit, miss and eviction counts per region, published as JCache MXBeans
+            configuration.setStatisticsEnabled(true);
+            configuration.setManagementEnabled(true);
+            cacheManager.createCache(name, configuration);
+            log.info("Configured cache region {} (max size {}, ttl {})", name, region.getMaxSize(), region.getTtl());
+        });
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer entityCacheCustomizer(CacheManager entityCacheManager) {
+        return hibernateProperties -> {
+            hibernateProperties.put(ConfigSettings.CACHE_MANAGER, entityCacheManager);
+            hibernateProperties.put(ConfigSettings.MISSING_CACHE_STRATEGY, MissingCacheStrategy.FAIL.getExternalRepresentation());
+        };
+    }
+}
@@ -0,0 +1,28 @@
+package com.taskmanager.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Size and time-to-live of each Hibernate second-level cache region, keyed by region name.
+ */
+@Data
+@ConfigurationProperties(prefix = "entity-cache")
+public class EntityCacheProperties {
+
+    private Map<String, Region> regions = new LinkedHashMap<>();
+
+    @Data
+    public static class Region {
+
+        // Maximum number of entries before least-recently-used ones are evicted
+        private long maxSize = 10_000;
+
+        // Entries expire this long after they were written; null keeps them until evicted
+        private Duration ttl;
+    }
+}
@@ -0,0 +1,20 @@
+package com.taskmanager.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Read replica settings. The replica pool itself is configured under {@code replica.datasource}.
+ */
+@Data
+@ConfigurationProperties(prefix = "replica")
+public class ReadReplicaProperties {
+
+    // Route read-only transactions to the replica pool
+    private boolean enabled = false;
+
+    // Read-only transactions fall back to the primary while the replica is further behind than this
+    private Duration maxLag = Duration.ofSeconds(2);
+}
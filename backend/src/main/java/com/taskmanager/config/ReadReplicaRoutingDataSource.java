@@ -0,0 +1,150 @@
+package com.taskmanager.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.sql.DataSource;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Sends connections for {@code @Transactional(readOnly = true)} work to the replica pool
+ * while the replica is reachable and within the allowed lag, and everything else to the primary.
+ * Must sit behind a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}
+ * so the connection is picked once the transaction's read-only flag is known.
+ */
+@Slf4j
+public class ReadReplicaRoutingDataSource extends AbstractRoutingDataSource
+        implements ReadReplicaRoutingMXBean, DisposableBean {
+
+    private static final String OBJECT_NAME = "com.taskmanager:type=DataSourceRouting";
+
+    enum Route {
+        PRIMARY,
+        REPLICA
+    }
+
+    private final boolean replicaConfigured;
+    private final LongAdder primaryConnections = new LongAdder();
+    private final LongAdder replicaConnections = new LongAdder();
+    private final LongAdder replicaFallbacks = new LongAdder();
+
+    // Stays false until the first lag check succeeds
+    private volatile boolean replicaAvailable;
+    private volatile long replicaLagMillis = -1;
+
+    public ReadReplicaRoutingDataSource(DataSource primary, DataSource replica) {
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(Route.PRIMARY, primary);
+        if (replica != null) {
+            targets.put(Route.REPLICA, replica);
+        }
+        this.replicaConfigured = replica != null;
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (replicaAvailable) {
+                replicaConnections.increment();
+                return Route.REPLICA;
+            }
+            if (replicaConfigured) {
+                replicaFallbacks.increment();
+            }
+        }
+        primaryConnections.increment();
+        return Route.PRIMARY;
+    }
+
+    // Whether a connection taken now for the current transaction would come from the replica
+    public boolean routesToReplica() {
+        return replicaAvailable && TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
+    // Whether read-only transactions may be routed to a replica at all, now or after a lag check
+    public boolean isReplicaConfigured() {
+        return replicaConfigured;
+    }
+
+    public void replicaLagMeasured(long lagMillis, Duration maxLag) {
+        replicaLagMillis = lagMillis;
+        setReplicaAvailable(lagMillis <= maxLag.toMillis());
+    }
+
+    public void replicaUnreachable() {
+        replicaLagMillis = -1;
+        setReplicaAvailable(false);
+    }
+
+    private void setReplicaAvailable(boolean available) {
+        if (replicaConfigured && available != replicaAvailable) {
+            log.info(available
+                    ? "Routing read-only transactions to the replica (lag {} ms)"
+                    : "Routing read-only transactions to the primary (replica lag {} ms)", replicaLagMillis);
+        }
+        replicaAvailable = replicaConfigured && available;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        super.afterPropertiesSet();
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (!server.isRegistered(name)) {
+                server.registerMBean(this, name);
+            }
+        } catch (JMException e) {
+            log.warn("Could not register data source routing metrics", e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+        } catch (JMException e) {
+            log.warn("Could not unregister data source routing metrics", e);
+        }
+    }
+
+    @Override
+    public long getPrimaryConnections() {
+        return primaryConnections.sum();
+    }
+
+    @Override
+    public long getReplicaConnections() {
+        return replicaConnections.sum();
+    }
+
+    @Override
+    public long getReplicaFallbacks() {
+        return replicaFallbacks.sum();
+    }
+
+    @Override
+    public long getReplicaLagMillis() {
+        return replicaLagMillis;
+    }
+
+    @Override
+    public boolean isReplicaAvailable() {
+        return replicaAvailable;
+    }
+}
@@ -0,0 +1,19 @@
+package com.taskmanager.config;
+
+/**
+ * Per-route connection counts and replica state, published over JMX.
+ */
+public interface ReadReplicaRoutingMXBean {
+
+    long getPrimaryConnections();
+
+    long getReplicaConnections();
+
+    // Read-only connections sent to the primary because the replica was lagging or unreachable
+    long getReplicaFallbacks();
+
+    // Last measured replica lag; -1 when unknown or unreachable
+    long getReplicaLagMillis();
+
+    boolean isReplicaAvailable();
+}
@@ -0,0 +1,33 @@
+package com.taskmanager.config;
+
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Keeps replica reads out of the second-level and query caches. A lagging replica can return
+ * rows the primary has already changed and evicted; cached, they would outlive the eviction.
+ * Read-only transactions still read from the caches, they just never put into them.
+ */
+public class ReplicaAwareJpaTransactionManager extends JpaTransactionManager {
+
+    private final ReadReplicaRoutingDataSource routingDataSource;
+
+    public ReplicaAwareJpaTransactionManager(ReadReplicaRoutingDataSource routingDataSource) {
+        this.routingDataSource = routingDataSource;
+    }
+
+    @Override
+    protected void doBegin(Object transaction, TransactionDefinition definition) {
+        super.doBegin(transaction, definition);
+        EntityManagerHolder holder =
+                (EntityManagerHolder) TransactionSynchronizationManager.getResource(obtainEntityManagerFactory());
+        // Decided on configuration, not current lag: the connection is only routed later, when first used.
+        // Set on every begin, because with open-in-view one session spans several transactions.
+        holder.getEntityManager().unwrap(Session.class).setCacheMode(
+                definition.isReadOnly() && routingDataSource.isReplicaConfigured() ? CacheMode.GET : CacheMode.NORMAL);
+    }
+}
@@ -0,0 +1,54 @@
+package com.taskmanager.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * Measures how far the replica is behind and tells the router whether it may serve reads.
+ */
+@Component
+@ConditionalOnProperty(name = "replica.enabled", havingValue = "true")
+@Slf4j
+public class ReplicaLagMonitor {
+
+    // An idle primary stops advancing the replay timestamp, so a caught-up replica counts as zero lag
+    private static final String LAG_QUERY = """
+        SELECT CASE
+            WHEN NOT pg_is_in_recovery() THEN 0
+            WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+            ELSE COALESCE((EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000)::bigint, 0)
+        END
+        """;
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final ReadReplicaRoutingDataSource readReplicaRoutingDataSource;
+    private final ReadReplicaProperties readReplicaProperties;
+
+    public ReplicaLagMonitor(
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            ReadReplicaRoutingDataSource readReplicaRoutingDataSource,
+            ReadReplicaProperties readReplicaProperties
+    ) {
+        this.replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+        this.readReplicaRoutingDataSource = readReplicaRoutingDataSource;
+        this.readReplicaProperties = readReplicaProperties;
+    }
+
+    @Scheduled(fixedDelayString = "${replica.lag-check-interval-ms}")
+    public void checkLag() {
+        try {
+            Long lagMillis = replicaJdbcTemplate.queryForObject(LAG_QUERY, Long.class);
+            readReplicaRoutingDataSource.replicaLagMeasured(lagMillis == null ? 0 : lagMillis, readReplicaProperties.getMaxLag());
+        } catch (DataAccessException e) {
+            log.warn("Replica lag check failed: {}", e.getMessage());
+            readReplicaRoutingDataSource.replicaUnreachable();
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.taskmanager.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+    // Static so the post-processor is registered before the job beans it proxies are created
+    @Bean
+    public static SingletonJobPostProcessor singletonJobPostProcessor(
+            ObjectProvider<AdvisoryLockLeaderElection> leaderElection) {
+        return new SingletonJobPostProcessor(leaderElection);
+    }
+}
@@ -0,0 +1,24 @@
+package com.taskmanager.config;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Runs a scheduled method only on the node that holds the named advisory lock, so the job runs once
+ * across the cluster. Other nodes skip the invocation and take over when the holder goes away.
+ * Put it next to {@code @Scheduled} on a void method. Jobs should stay safe to repeat, since a
+ * run that outlives its node's lease can overlap the next holder's first run.
+ *
+ * @see AdvisoryLockLeaderElection
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface SingletonJob {
+
+    // Lock name; jobs that share a name share a leader
+    String value();
+}
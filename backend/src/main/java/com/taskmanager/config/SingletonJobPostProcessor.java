@@ -0,0 +1,60 @@
+package com.taskmanager.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.aop.framework.autoproxy.AbstractBeanFactoryAwareAdvisingPostProcessor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+
+import java.lang.reflect.Method;
+
+/**
+ * Proxies beans with {@link SingletonJob} methods so each call first asks the leader election
+ * whether this node holds the job's lock, and is skipped otherwise. Runs just before the
+ * {@code @Scheduled} post-processor, so the scheduler invokes the proxy.
+ */
+@Slf4j
+public class SingletonJobPostProcessor extends AbstractBeanFactoryAwareAdvisingPostProcessor {
+
+    public SingletonJobPostProcessor(ObjectProvider<AdvisoryLockLeaderElection> leaderElection) {
+        setProxyTargetClass(true);
+        setBeforeExistingAdvisors(true);
+        setOrder(Ordered.LOWEST_PRECEDENCE - 1);
+        this.advisor = new DefaultPointcutAdvisor(
+                new AnnotationMatchingPointcut(null, SingletonJob.class, true),
+                new SingletonJobInterceptor(leaderElection));
+    }
+
+    private static final class SingletonJobInterceptor implements MethodInterceptor {
+
+        private final ObjectProvider<AdvisoryLockLeaderElection> leaderElection;
+
+        SingletonJobInterceptor(ObjectProvider<AdvisoryLockLeaderElection> leaderElection) {
+            this.leaderElection = leaderElection;
+        }
+
+        @Override
+        public Object invoke(MethodInvocation invocation) throws Throwable {
+            Class<?> targetClass = invocation.getThis() != null ? AopUtils.getTargetClass(invocation.getThis()) : null;
+            Method method = AopUtils.getMostSpecificMethod(invocation.getMethod(), targetClass);
+            SingletonJob singletonJob = AnnotatedElementUtils.findMergedAnnotation(method, SingletonJob.class);
+            if (singletonJob == null) {
+                return invocation.proceed();
+            }
+            if (method.getReturnType() != void.class) {
+                throw new IllegalStateException("@SingletonJob method must return void: " + method);
+            }
+
+            if (!leaderElection.getObject().isLeader(singletonJob.value())) {
+                log.debug("Skipping {}: another node holds its lock", singletonJob.value());
+                return null;
+            }
+            return invocation.proceed();
+        }
+    }
+}
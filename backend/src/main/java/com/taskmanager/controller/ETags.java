@@ -0,0 +1,40 @@
+package com.taskmanager.controller;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HexFormat;
+import java.util.Objects;
+import java.util.StringJoiner;
+
+/**
+ * Builds strong ETags from a project version plus whatever else varies the
+ * representation (page cursor, caller, time bucket for derived fields).
+ */
+final class ETags {
+
+    private ETags() {
+    }
+
+    // Overdue flags and due-date counts change with the clock, not only with writes
+    static String clockBucket() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES).toString();
+    }
+
+    static String of(long version, Object... variant) {
+        StringJoiner joiner = new StringJoiner("|");
+        joiner.add(Long.toString(version));
+        for (Object part : variant) {
+            joiner.add(Objects.toString(part, ""));
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(joiner.toString().getBytes(StandardCharsets.UTF_8));
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
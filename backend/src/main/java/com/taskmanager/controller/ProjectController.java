@@ -3,6 +3,7 @@ package com.taskmanager.controller;
 import com.taskmanager.dto.*;
 import com.taskmanager.entity.ProjectRole;
 import com.taskmanager.entity.User;
+import com.taskmanager.service.ProjectDashboardService;
 import com.taskmanager.service.ProjectService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -10,10 +11,12 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.Map;
@@ -27,6 +30,7 @@ import java.util.UUID;
 public class ProjectController {
 
     private final ProjectService projectService;
+    private final ProjectDashboardService projectDashboardService;
 
     @PostMapping
     @Operation(summary = "Create a new project", description = "Creates a new project with the current user as owner")
@@ -51,10 +55,20 @@ public class ProjectController {
     @Operation(summary = "Get project by ID", description = "Returns detailed information about a specific project")
     public ResponseEntity<ProjectResponse> getProjectById(
             @AuthenticationPrincipal User user,
-            @Parameter(description = "Project ID") @PathVariable UUID projectId
+            @Parameter(description = "Project ID") @PathVariable UUID projectId,
+            WebRequest webRequest
     ) {
+        long version = projectService.getProjectVersion(user.getId(), projectId);
+        String eTag = ETags.of(version, "project");
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+
         ProjectResponse response = projectService.getProjectById(user.getId(), projectId);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(response);
     }
 
     @PutMapping("/{projectId}")
@@ -78,14 +92,45 @@ public class ProjectController {
         return ResponseEntity.ok(Map.of("message", "Project deleted successfully"));
     }
 
+    @GetMapping("/{projectId}/dashboard")
+    @Operation(summary = "Get project dashboard", description = "Returns the project, its members, the first tasks of every board column and the task statistics in one response")
+    public ResponseEntity<ProjectDashboardResponse> getDashboard(
+            @AuthenticationPrincipal User user,
+            @Parameter(description = "Project ID") @PathVariable UUID projectId,
+            @Parameter(description = "Tasks per board column (max 200)") @RequestParam(required = false) Integer limit
+    ) {
+        ProjectDashboardResponse dashboard = projectDashboardService.getDashboard(user.getId(), projectId, limit);
+        return ResponseEntity.ok(dashboard);
+    }
+
+    @GetMapping("/{projectId}/deletion")
+    @Operation(summary = "Get project deletion progress", description = "Returns how far the background soft-delete of a deleted project's tasks has got. Only the OWNER can view it.")
+    public ResponseEntity<ProjectDeletionResponse> getDeletionStatus(
+            @AuthenticationPrincipal User user,
+            @Parameter(description = "Project ID") @PathVariable UUID projectId
+    ) {
+        ProjectDeletionResponse response = projectService.getDeletionStatus(user.getId(), projectId);
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/{projectId}/members")
     @Operation(summary = "Get project members", description = "Returns all members of a project with their roles")
     public ResponseEntity<List<ProjectMemberResponse>> getProjectMembers(
             @AuthenticationPrincipal User user,
-            @Parameter(description = "Project ID") @PathVariable UUID projectId
+            @Parameter(description = "Project ID") @PathVariable UUID projectId,
+            WebRequest webRequest
     ) {
+        long version = projectService.getProjectVersion(user.getId(), projectId);
+        String eTag = ETags.of(version, "members");
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+
         List<ProjectMemberResponse> members = projectService.getProjectMembers(user.getId(), projectId);
-        return ResponseEntity.ok(members);
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(members);
     }
 
     @PostMapping("/{projectId}/members")
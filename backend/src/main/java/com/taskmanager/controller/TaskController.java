@@ -2,6 +2,10 @@ package com.taskmanager.controller;
 
 import com.taskmanager.dto.*;
 import com.taskmanager.entity.User;
+import com.taskmanager.service.TaskArchiveService;
+import com.taskmanager.service.TaskBulkService;
+import com.taskmanager.service.TaskExportService;
+import com.taskmanager.service.TaskImportService;
 import com.taskmanager.service.TaskService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -9,11 +13,20 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -26,6 +39,10 @@ import java.util.UUID;
 public class TaskController {
 
     private final TaskService taskService;
+    private final TaskBulkService taskBulkService;
+    private final TaskExportService taskExportService;
+    private final TaskImportService taskImportService;
+    private final TaskArchiveService taskArchiveService;
 
     @PostMapping("/tasks")
     @Operation(summary = "Create a new task", description = "Creates a new task in a project. Requires OWNER or EDITOR role in the project.")
@@ -37,25 +54,217 @@ public class TaskController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @PostMapping("/tasks/bulk")
+    @Operation(summary = "Bulk create, update or delete tasks", description = "Applies up to 5000 operations in one transaction. Operations that fail validation or permission checks are reported per item and skipped.")
+    public ResponseEntity<BulkTaskResponse> bulkTasks(
+            @AuthenticationPrincipal User user,
+            @Valid @RequestBody BulkTaskRequest request
+    ) {
+        BulkTaskResponse response = taskBulkService.applyOperations(user.getId(), request);
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/tasks")
-    @Operation(summary = "Get all user tasks", description = "Returns all tasks across all projects the user has access to")
-    public ResponseEntity<List<TaskResponse>> getAllUserTasks(
-            @AuthenticationPrincipal User user
+    @Operation(summary = "Get all user tasks", description = "Returns a page of tasks across all projects the user has access to. Pass nextCursor back as cursor to fetch the next page.")
+    public ResponseEntity<TaskPageResponse> getAllUserTasks(
+            @AuthenticationPrincipal User user,
+            @Parameter(description = "Cursor from the previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (max 200)") @RequestParam(required = false) Integer limit
     ) {
-        List<TaskResponse> tasks = taskService.getAllUserTasks(user.getId());
+        TaskPageResponse tasks = taskService.getAllUserTasks(user.getId(), cursor, limit);
         return ResponseEntity.ok(tasks);
     }
 
+    @GetMapping("/me/tasks")
+    @Operation(summary = "Get my task inbox", description = "Returns a page of active tasks assigned to the current user, by due date, with the size of the overdue, today and this-week buckets. Pass nextCursor back as cursor to fetch the next page.")
+    public ResponseEntity<TaskInboxResponse> getMyTasks(
+            @AuthenticationPrincipal User user,
+            @Parameter(description = "Bucket: overdue, today or this_week; all assigned tasks when omitted") @RequestParam(required = false) String bucket,
+            @Parameter(description = "Cursor from the previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (max 200)") @RequestParam(required = false) Integer limit
+    ) {
+        TaskInboxResponse inbox = taskService.getMyTasks(user.getId(), bucket, cursor, limit);
+        return ResponseEntity.ok(inbox);
+    }
+
+    @GetMapping("/calendar")
+    @Operation(summary = "Get task calendar", description = "Returns per-day buckets of active tasks due between from and to (inclusive, up to 366 days) with each day's count and top tasks. Covers all accessible projects unless projectIds is given.")
+    public ResponseEntity<TaskCalendarResponse> getCalendar(
+            @AuthenticationPrincipal User user,
+            @Parameter(description = "First day, YYYY-MM-DD") @RequestParam String from,
+            @Parameter(description = "Last day, YYYY-MM-DD") @RequestParam String to,
+            @Parameter(description = "Limit to these projects") @RequestParam(required = false) List<UUID> projectIds,
+            @Parameter(description = "Tasks returned per day (default 3, max 20)") @RequestParam(required = false) Integer perDay
+    ) {
+        TaskCalendarResponse calendar = taskService.getCalendar(user.getId(), from, to, projectIds, perDay);
+        return ResponseEntity.ok(calendar);
+    }
+
     @GetMapping("/projects/{projectId}/tasks")
-    @Operation(summary = "Get project tasks", description = "Returns all tasks for a specific project")
-    public ResponseEntity<List<TaskResponse>> getProjectTasks(
+    @Operation(summary = "Get project tasks", description = "Returns a page of tasks for a specific project in board order. Pass nextCursor back as cursor to fetch the next page.")
+    public ResponseEntity<TaskPageResponse> getProjectTasks(
+            @AuthenticationPrincipal User user,
+            @Parameter(description = "Project ID") @PathVariable UUID projectId,
+            @Parameter(description = "Cursor from the previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (max 200)") @RequestParam(required = false) Integer limit,
+            WebRequest webRequest
+    ) {
+        long version = taskService.getProjectVersion(user.getId(), projectId);
+        String eTag = ETags.of(version, "tasks", cursor, limit, ETags.clockBucket());
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+
+        TaskPageResponse tasks = taskService.getProjectTasks(user.getId(), projectId, cursor, limit);
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(tasks);
+    }
+
+    @GetMapping("/projects/{projectId}/board")
+    @Operation(summary = "Get project board", description = "Returns every status column of the project with its first tasks in board order, its total count and a cursor for the rest.")
+    public ResponseEntity<TaskBoardResponse> getProjectBoard(
+            @AuthenticationPrincipal User user,
+            @Parameter(description = "Project ID") @PathVariable UUID projectId,
+            @Parameter(description = "Tasks per column (max 200)") @RequestParam(required = false) Integer limit,
+            WebRequest webRequest
+    ) {
+        long version = taskService.getProjectVersion(user.getId(), projectId);
+        String eTag = ETags.of(version, "board", limit, ETags.clockBucket());
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+
+        TaskBoardResponse board = taskService.getProjectBoard(user.getId(), projectId, limit);
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(board);
+    }
+
+    @GetMapping("/projects/{projectId}/board/{status}")
+    @Operation(summary = "Get more of a board column", description = "Continues one status column of the project board. Pass the column's nextCursor as cursor.")
+    public ResponseEntity<TaskBoardColumnResponse> getBoardColumn(
             @AuthenticationPrincipal User user,
-            @Parameter(description = "Project ID") @PathVariable UUID projectId
+            @Parameter(description = "Project ID") @PathVariable UUID projectId,
+            @Parameter(description = "Column status, e.g. DONE") @PathVariable String status,
+            @Parameter(description = "Cursor from the previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (max 200)") @RequestParam(required = false) Integer limit,
+            WebRequest webRequest
     ) {
-        List<TaskResponse> tasks = taskService.getProjectTasks(user.getId(), projectId);
+        long version = taskService.getProjectVersion(user.getId(), projectId);
+        String eTag = ETags.of(version, "board", status, cursor, limit, ETags.clockBucket());
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+
+        TaskBoardColumnResponse column = taskService.getBoardColumn(user.getId(), projectId, status, cursor, limit);
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(column);
+    }
+
+    @GetMapping("/projects/{projectId}/tasks/export")
+    @Operation(summary = "Export project tasks", description = "Streams all tasks of a project in board order as NDJSON (one task per line) or CSV.")
+    public ResponseEntity<StreamingResponseBody> exportProjectTasks(
+            @AuthenticationPrincipal User user,
+            @Parameter(description = "Project ID") @PathVariable UUID projectId,
+            @Parameter(description = "ndjson or csv") @RequestParam(defaultValue = "ndjson") String format
+    ) {
+        TaskExportFormat exportFormat = TaskExportFormat.fromParameter(format);
+        taskExportService.checkAccess(user.getId(), projectId);
+
+        StreamingResponseBody body = out -> taskExportService.export(projectId, exportFormat, out);
+        ContentDisposition disposition = ContentDisposition.attachment()
+                .filename("tasks-" + projectId + "." + exportFormat.getFileExtension())
+                .build();
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
+                .body(body);
+    }
+
+    @PostMapping(value = "/projects/{projectId}/tasks/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(summary = "Import tasks from CSV", description = "Creates a task for every valid row of the uploaded CSV file and reports the rows that were rejected.")
+    public ResponseEntity<TaskImportResponse> importTasks(
+            @AuthenticationPrincipal User user,
+            @Parameter(description = "Project ID") @PathVariable UUID projectId,
+            @Parameter(description = "CSV file with a header row") @RequestParam("file") MultipartFile file
+    ) throws IOException {
+        try (InputStream csv = file.getInputStream()) {
+            TaskImportResponse response = taskImportService.importTasks(user.getId(), projectId, csv);
+            return ResponseEntity.ok(response);
+        }
+    }
+
+    @PostMapping("/projects/{projectId}/tasks/reorder")
+    @Operation(summary = "Reorder tasks", description = "Moves tasks between neighbours on the board, optionally into another status column. All moves are applied in one transaction.")
+    public ResponseEntity<List<TaskPositionResponse>> reorderTasks(
+            @AuthenticationPrincipal User user,
+            @Parameter(description = "Project ID") @PathVariable UUID projectId,
+            @Valid @RequestBody ReorderTasksRequest request
+    ) {
+        List<TaskPositionResponse> positions = taskService.reorderTasks(user.getId(), projectId, request);
+        return ResponseEntity.ok(positions);
+    }
+
+    @PostMapping("/projects/{projectId}/tasks/transition")
+    @Operation(summary = "Transition matching tasks", description = "Sets status, assignee and/or project on every task matching the filter in a single statement.")
+    public ResponseEntity<TaskTransitionResponse> transitionTasks(
+            @AuthenticationPrincipal User user,
+            @Parameter(description = "Project ID") @PathVariable UUID projectId,
+            @Valid @RequestBody TaskTransitionRequest request
+    ) {
+        TaskTransitionResponse response = taskService.transitionTasks(user.getId(), projectId, request);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/projects/{projectId}/tasks/changes")
+    @Operation(summary = "Get project task changes", description = "Returns tasks created, updated or deleted since a change cursor. Omit since for a full initial sync, then pass nextCursor on later calls.")
+    public ResponseEntity<TaskChangesResponse> getTaskChanges(
+            @AuthenticationPrincipal User user,
+            @Parameter(description = "Project ID") @PathVariable UUID projectId,
+            @Parameter(description = "Change cursor from the previous sync") @RequestParam(required = false) String since,
+            @Parameter(description = "Maximum changes to return (max 1000)") @RequestParam(required = false) Integer limit
+    ) {
+        TaskChangesResponse changes = taskService.getTaskChanges(user.getId(), projectId, since, limit);
+        return ResponseEntity.ok(changes);
+    }
+
+    @GetMapping("/projects/{projectId}/tasks/archive")
+    @Operation(summary = "Get archived project tasks", description = "Returns a page of the project's archived tasks (soft-deleted, or finished long ago), newest first. Pass nextCursor back as cursor to fetch the next page.")
+    public ResponseEntity<TaskPageResponse> getProjectArchive(
+            @AuthenticationPrincipal User user,
+            @Parameter(description = "Project ID") @PathVariable UUID projectId,
+            @Parameter(description = "Cursor from the previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (max 200)") @RequestParam(required = false) Integer limit
+    ) {
+        TaskPageResponse tasks = taskArchiveService.getProjectArchive(user.getId(), projectId, cursor, limit);
         return ResponseEntity.ok(tasks);
     }
 
+    @GetMapping("/tasks/archive/{taskId}")
+    @Operation(summary = "Get archived task by ID", description = "Returns an archived task")
+    public ResponseEntity<TaskResponse> getArchivedTask(
+            @AuthenticationPrincipal User user,
+            @Parameter(description = "Task ID") @PathVariable UUID taskId
+    ) {
+        TaskResponse response = taskArchiveService.getArchivedTask(user.getId(), taskId);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/tasks/archive/{taskId}/comments")
+    @Operation(summary = "Get archived task comments", description = "Returns the comments of an archived task, newest first")
+    public ResponseEntity<List<TaskCommentResponse>> getArchivedComments(
+            @AuthenticationPrincipal User user,
+            @Parameter(description = "Task ID") @PathVariable UUID taskId
+    ) {
+        List<TaskCommentResponse> comments = taskArchiveService.getArchivedComments(user.getId(), taskId);
+        return ResponseEntity.ok(comments);
+    }
+
     @GetMapping("/tasks/{taskId}")
     @Operation(summary = "Get task by ID", description = "Returns detailed information about a specific task")
     public ResponseEntity<TaskResponse> getTaskById(
@@ -88,12 +297,12 @@ public class TaskController {
     }
 
     @PostMapping("/tasks/filter")
-    @Operation(summary = "Filter tasks", description = "Returns tasks filtered by multiple criteria (status, priority, assignee, due date, etc.)")
-    public ResponseEntity<List<TaskResponse>> filterTasks(
+    @Operation(summary = "Filter tasks", description = "Returns a page of tasks filtered by multiple criteria (status, priority, assignee, due date, etc.)")
+    public ResponseEntity<TaskPageResponse> filterTasks(
             @AuthenticationPrincipal User user,
             @RequestBody TaskFilterRequest filter
     ) {
-        List<TaskResponse> tasks = taskService.filterTasks(user.getId(), filter);
+        TaskPageResponse tasks = taskService.filterTasks(user.getId(), filter);
         return ResponseEntity.ok(tasks);
     }
 
@@ -101,10 +310,21 @@ public class TaskController {
     @Operation(summary = "Get task statistics", description = "Returns comprehensive statistics about tasks in a project (counts by status, priority, completion rates, etc.)")
     public ResponseEntity<TaskStatisticsResponse> getProjectStatistics(
             @AuthenticationPrincipal User user,
-            @Parameter(description = "Project ID") @PathVariable UUID projectId
+            @Parameter(description = "Project ID") @PathVariable UUID projectId,
+            WebRequest webRequest
     ) {
+        long version = taskService.getProjectVersion(user.getId(), projectId);
+        // Statistics include "assigned to me", so the tag is per caller
+        String eTag = ETags.of(version, "statistics", user.getId(), ETags.clockBucket());
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+
         TaskStatisticsResponse statistics = taskService.getProjectStatistics(user.getId(), projectId);
-        return ResponseEntity.ok(statistics);
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(statistics);
     }
 
     @PostMapping("/tasks/{taskId}/comments")
@@ -0,0 +1,31 @@
+package com.taskmanager.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkTaskOperation {
+
+    @NotNull(message = "Operation type is required")
+    private BulkTaskOperationType type;
+
+    // Task to update or delete; optional for CREATE, where it pre-assigns the new task's ID
+    private UUID id;
+
+    // Payload for CREATE
+    @Valid
+    private CreateTaskRequest create;
+
+    // Payload for UPDATE
+    @Valid
+    private UpdateTaskRequest update;
+}
@@ -0,0 +1,7 @@
+package com.taskmanager.dto;
+
+public enum BulkTaskOperationType {
+    CREATE,
+    UPDATE,
+    DELETE
+}
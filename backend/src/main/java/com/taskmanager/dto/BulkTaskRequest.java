@@ -0,0 +1,22 @@
+package com.taskmanager.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkTaskRequest {
+
+    @NotEmpty(message = "At least one operation is required")
+    @Size(max = 5000, message = "At most 5000 operations per request")
+    private List<@Valid BulkTaskOperation> operations;
+}
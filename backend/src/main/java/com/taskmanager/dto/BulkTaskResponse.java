@@ -0,0 +1,23 @@
+package com.taskmanager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkTaskResponse {
+
+    private int succeeded;
+    private int failed;
+
+    // One entry per operation, in request order
+    @Builder.Default
+    private List<BulkTaskResult> results = new ArrayList<>();
+}
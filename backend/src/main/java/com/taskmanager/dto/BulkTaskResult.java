@@ -0,0 +1,21 @@
+package com.taskmanager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkTaskResult {
+
+    // Position of the operation in the request
+    private int index;
+    private UUID id;
+    private boolean success;
+    private String error;
+}
@@ -41,6 +41,6 @@ public class CreateTaskRequest {
 
     private LocalDateTime dueDate;
 
-    @Builder.Default
-    private Integer position = 0;
+    // Defaults to the top of the board when omitted
+    private Double position;
 }
@@ -0,0 +1,26 @@
+package com.taskmanager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProjectDashboardResponse {
+
+    private ProjectResponse project;
+
+    @Builder.Default
+    private List<ProjectMemberResponse> members = new ArrayList<>();
+
+    // First tasks of every board column, as GET /api/projects/{projectId}/board
+    private TaskBoardResponse board;
+
+    private TaskStatisticsResponse statistics;
+}
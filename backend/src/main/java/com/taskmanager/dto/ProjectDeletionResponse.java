@@ -0,0 +1,29 @@
+package com.taskmanager.dto;
+
+import com.taskmanager.entity.ProjectDeletionStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectDeletionResponse {
+
+    private UUID projectId;
+    private ProjectDeletionStatus status;
+
+    // Progress of the background cascade; tasksTotal is known once it has started
+    private Integer tasksTotal;
+    private Integer tasksDeactivated;
+    private Integer notificationsDeleted;
+
+    private LocalDateTime requestedAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime completedAt;
+}
@@ -0,0 +1,23 @@
+package com.taskmanager.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReorderTasksRequest {
+
+    // Applied in order, so a later move may use an earlier moved task as its neighbour
+    @NotEmpty(message = "At least one move is required")
+    @Size(max = 200, message = "At most 200 moves per request")
+    private List<@Valid TaskMoveRequest> moves;
+}
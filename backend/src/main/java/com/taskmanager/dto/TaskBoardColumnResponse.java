@@ -0,0 +1,28 @@
+package com.taskmanager.dto;
+
+import com.taskmanager.entity.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskBoardColumnResponse {
+
+    private TaskStatus status;
+
+    // Active tasks in the column, including those not returned yet
+    private Long totalCount;
+
+    @Builder.Default
+    private List<TaskResponse> items = new ArrayList<>();
+
+    // Pass to GET /api/projects/{projectId}/board/{status}?cursor= for more; null when the column is complete
+    private String nextCursor;
+}
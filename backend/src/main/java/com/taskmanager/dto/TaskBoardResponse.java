@@ -0,0 +1,23 @@
+package com.taskmanager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskBoardResponse {
+
+    private UUID projectId;
+
+    // One column per TaskStatus, in declaration order, empty columns included
+    @Builder.Default
+    private List<TaskBoardColumnResponse> columns = new ArrayList<>();
+}
@@ -0,0 +1,26 @@
+package com.taskmanager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskCalendarDayResponse {
+
+    private LocalDate date;
+
+    // Active tasks due that day, including those not returned
+    private Long taskCount;
+
+    // The day's first tasks by due time and priority
+    @Builder.Default
+    private List<TaskCalendarTaskResponse> tasks = new ArrayList<>();
+}
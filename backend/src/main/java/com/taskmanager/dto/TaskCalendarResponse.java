@@ -0,0 +1,25 @@
+package com.taskmanager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskCalendarResponse {
+
+    // Inclusive range
+    private LocalDate from;
+    private LocalDate to;
+
+    // Only days with at least one task, in date order
+    @Builder.Default
+    private List<TaskCalendarDayResponse> days = new ArrayList<>();
+}
@@ -0,0 +1,28 @@
+package com.taskmanager.dto;
+
+import com.taskmanager.entity.TaskPriority;
+import com.taskmanager.entity.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// Calendar entry; fetch GET /api/tasks/{id} for the full task
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskCalendarTaskResponse {
+
+    private UUID id;
+    private String title;
+    private TaskStatus status;
+    private TaskPriority priority;
+    private UUID projectId;
+    private UUID assignedToId;
+    private LocalDateTime dueDate;
+    private Boolean isOverdue;
+}
@@ -0,0 +1,31 @@
+package com.taskmanager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskChangesResponse {
+
+    // Tasks created or updated since the cursor (upsert into the local copy)
+    @Builder.Default
+    private List<TaskResponse> changed = new ArrayList<>();
+
+    // Tasks soft-deleted since the cursor (remove from the local copy)
+    @Builder.Default
+    private List<UUID> deleted = new ArrayList<>();
+
+    // Pass back as ?since= on the next sync; unchanged when nothing new happened
+    private String nextCursor;
+
+    // True when more changes are waiting beyond this batch
+    private Boolean hasMore;
+}
@@ -26,4 +26,8 @@ public class TaskFilterRequest {
     private LocalDateTime dueDateTo;
     private String searchText;  // Search in title and description
     private Boolean overdue;    // Filter for overdue tasks only
+
+    // Keyset pagination
+    private String cursor;      // nextCursor from the previous page
+    private Integer limit;
 }
@@ -0,0 +1,17 @@
+package com.taskmanager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskImportError {
+
+    // 1-based data row in the uploaded file, not counting the header
+    private long row;
+    private String error;
+}
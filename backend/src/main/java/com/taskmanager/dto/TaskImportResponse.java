@@ -0,0 +1,25 @@
+package com.taskmanager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskImportResponse {
+
+    private int imported;
+    private int failed;
+
+    // Rejected rows in file order; capped, see errorsTruncated
+    @Builder.Default
+    private List<TaskImportError> errors = new ArrayList<>();
+
+    private boolean errorsTruncated;
+}
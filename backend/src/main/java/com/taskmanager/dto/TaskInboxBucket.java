@@ -0,0 +1,21 @@
+package com.taskmanager.dto;
+
+import java.util.Locale;
+
+// Due date windows of the "My Tasks" inbox; each only holds tasks that are not DONE or CANCELLED
+public enum TaskInboxBucket {
+    // Due date already passed
+    OVERDUE,
+    // Due later today
+    TODAY,
+    // Due after today and within the next seven days
+    THIS_WEEK;
+
+    public static TaskInboxBucket fromParameter(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unsupported inbox bucket: " + value);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.taskmanager.dto;
+
+import com.taskmanager.entity.TaskStatus;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskMoveRequest {
+
+    @NotNull(message = "Task ID is required")
+    private UUID taskId;
+
+    // Neighbours in the target column after the move; omit one (or both) at the column edges
+    private UUID afterTaskId;
+
+    private UUID beforeTaskId;
+
+    // Target column, if the task also changes status
+    private TaskStatus status;
+}
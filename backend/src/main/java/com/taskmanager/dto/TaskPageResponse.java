@@ -0,0 +1,22 @@
+package com.taskmanager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskPageResponse {
+
+    @Builder.Default
+    private List<TaskResponse> items = new ArrayList<>();
+
+    // Pass back as ?cursor= to fetch the next page; null on the last page
+    private String nextCursor;
+}
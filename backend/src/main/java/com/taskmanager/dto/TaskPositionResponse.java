@@ -0,0 +1,23 @@
+package com.taskmanager.dto;
+
+import com.taskmanager.entity.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// New board placement of a task after a reorder
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskPositionResponse {
+
+    private UUID id;
+    private Double position;
+    private TaskStatus status;
+    private LocalDateTime completedAt;
+}
@@ -48,7 +48,7 @@ public class TaskResponse {
     private LocalDateTime updatedAt;
 
     // Position for ordering
-    private Integer position;
+    private Double position;
 
     // Derived fields
     private Boolean isOverdue;
@@ -0,0 +1,25 @@
+package com.taskmanager.dto;
+
+import com.taskmanager.entity.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskTransitionRequest {
+
+    // Which tasks of the project to change, same criteria as /api/tasks/filter; omit for all tasks.
+    // projectId, cursor and limit are ignored.
+    private TaskFilterRequest filter;
+
+    // Changes to apply; at least one is required
+    private TaskStatus status;
+    private UUID assignedToId;
+    private UUID targetProjectId;
+}
@@ -35,5 +35,5 @@ public class UpdateTaskRequest {
 
     private LocalDateTime dueDate;
 
-    private Integer position;
+    private Double position;
 }
@@ -0,0 +1,21 @@
+package com.taskmanager.entity;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.EventType;
+
+/**
+ * Time-ordered UUID generator that keeps an id already set on the entity, so
+ * callers can pre-allocate ids and still {@code persist} (and batch) the insert.
+ */
+public class AssignableUuidGenerator extends TimeOrderedUuidGenerator {
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue, EventType eventType) {
+        return currentValue != null ? currentValue : super.generate(session, owner, null, eventType);
+    }
+
+    @Override
+    public boolean allowAssignedIdentifiers() {
+        return true;
+    }
+}
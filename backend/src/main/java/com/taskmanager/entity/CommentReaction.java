@@ -19,7 +19,7 @@ import java.util.UUID;
 public class CommentReaction {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     private UUID id;
 
     @Column(name = "comment_id", nullable = false)
@@ -3,5 +3,7 @@ package com.taskmanager.entity;
 public enum NotificationType {
     TASK_ASSIGNED,
     TASK_UPDATED,
-    TASK_REASSIGNED
+    TASK_REASSIGNED,
+    TASK_DUE_SOON,
+    TASK_OVERDUE
 }
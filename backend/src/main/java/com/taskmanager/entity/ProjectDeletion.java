@@ -0,0 +1,58 @@
+package com.taskmanager.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// A deleted project whose tasks are being soft-deleted in the background; see ProjectDeletionService
+@Entity
+@Table(name = "project_deletions")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProjectDeletion {
+
+    @Id
+    @Column(name = "project_id")
+    private UUID projectId;
+
+    @Column(name = "requested_by_user_id")
+    private UUID requestedByUserId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    @Builder.Default
+    private ProjectDeletionStatus status = ProjectDeletionStatus.PENDING;
+
+    // Active tasks when the cascade started
+    @Column(name = "tasks_total")
+    private Integer tasksTotal;
+
+    @Column(name = "tasks_deactivated", nullable = false)
+    @Builder.Default
+    private Integer tasksDeactivated = 0;
+
+    @Column(name = "notifications_deleted", nullable = false)
+    @Builder.Default
+    private Integer notificationsDeleted = 0;
+
+    @Column(name = "requested_at", nullable = false)
+    private LocalDateTime requestedAt;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+}
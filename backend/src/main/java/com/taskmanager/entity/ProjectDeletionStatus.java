@@ -0,0 +1,10 @@
+package com.taskmanager.entity;
+
+/**
+ * Progress of the background cascade after a project is deleted.
+ */
+public enum ProjectDeletionStatus {
+    PENDING,        // Project deleted, cascade not started yet
+    RUNNING,        // Some tasks are soft-deleted, more remain
+    COMPLETED       // Every task of the project is soft-deleted
+}
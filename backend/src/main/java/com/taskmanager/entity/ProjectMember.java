@@ -4,7 +4,11 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.annotation.CreatedDate;
 
 import java.time.LocalDateTime;
@@ -15,14 +19,19 @@ import java.util.UUID;
     name = "project_members",
     uniqueConstraints = @UniqueConstraint(columnNames = {"project_id", "user_id"})
 )
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "project-members")
+@NamedEntityGraph(name = ProjectMember.WITH_USER, attributeNodes = @NamedAttributeNode("user"))
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class ProjectMember {
 
+    // Fetch plan for member lists that show names; membership and role checks only need userId
+    public static final String WITH_USER = "ProjectMember.withUser";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     private UUID id;
 
     @Column(name = "project_id", nullable = false)
@@ -30,13 +39,17 @@ public class ProjectMember {
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "project_id", insertable = false, updatable = false)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private Project project;
 
     @Column(name = "user_id", nullable = false)
     private UUID userId;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", insertable = false, updatable = false)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private User user;
 
     @Enumerated(EnumType.STRING)
@@ -0,0 +1,23 @@
+package com.taskmanager.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.util.UUID;
+
+@Entity
+@Table(name = "project_versions")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProjectVersion {
+
+    @Id
+    @Column(name = "project_id")
+    private UUID projectId;
+
+    @Column(nullable = false)
+    private Long version;
+}
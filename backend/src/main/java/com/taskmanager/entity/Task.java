@@ -11,6 +11,7 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "tasks")
+@NamedEntityGraph(name = Task.WITH_ASSIGNEE, attributeNodes = @NamedAttributeNode("assignedTo"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -18,8 +19,12 @@ import java.util.UUID;
 @Builder
 public class Task {
 
+    // Fetch plan for single-task reads that show the assignee; everything else only needs assignedToId
+    public static final String WITH_ASSIGNEE = "Task.withAssignee";
+
+    // Bulk imports may pre-allocate ids so inserts can be batched
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @AssignableUuid
     private UUID id;
 
     @Column(nullable = false, length = 200)
@@ -45,7 +50,7 @@ public class Task {
     @Column(name = "assigned_to_id")
     private UUID assignedToId;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "assigned_to_id", insertable = false, updatable = false)
     private User assignedTo;
 
@@ -74,13 +79,22 @@ public class Task {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
-    // Position for ordering (used in kanban boards)
+    // Fractional rank for ordering (used in kanban boards); a move only rewrites the moved task
     @Column(nullable = false)
     @Builder.Default
-    private Integer position = 0;
+    private Double position = 0.0;
 
     // Soft delete
     @Column(name = "is_active", nullable = false)
     @Builder.Default
     private Boolean isActive = true;
+
+    // Change stamp for delta sync, assigned by the database on every insert/update.
+    // Only read on load: reading it back after each write would stop Hibernate from batching.
+    @Column(name = "change_seq", insertable = false, updatable = false)
+    private Long changeSeq;
+
+    // Transaction that wrote changeSeq; delta sync orders changes by (changeXid, changeSeq)
+    @Column(name = "change_xid", insertable = false, updatable = false)
+    private Long changeXid;
 }
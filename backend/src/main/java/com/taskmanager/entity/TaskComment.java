@@ -18,7 +18,7 @@ import java.util.UUID;
 public class TaskComment {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     private UUID id;
 
     @Column(name = "task_id", nullable = false)
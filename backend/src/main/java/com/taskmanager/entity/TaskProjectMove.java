@@ -0,0 +1,42 @@
+package com.taskmanager.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// A task leaving a project; written by the set-based transition, read by delta sync
+@Entity
+@Table(name = "task_project_moves")
+@Immutable
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskProjectMove {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "task_id", nullable = false)
+    private UUID taskId;
+
+    // Project the task moved out of
+    @Column(name = "project_id", nullable = false)
+    private UUID projectId;
+
+    // The task's change_seq after the move
+    @Column(name = "change_seq", nullable = false)
+    private Long changeSeq;
+
+    // Transaction that made the move, assigned by the database
+    @Column(name = "change_xid", insertable = false, updatable = false)
+    private Long changeXid;
+
+    @Column(name = "moved_at", nullable = false)
+    private LocalDateTime movedAt;
+}
@@ -2,8 +2,12 @@ package com.taskmanager.repository;
 
 import com.taskmanager.entity.Notification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -15,4 +19,8 @@ public interface NotificationRepository extends JpaRepository<Notification, UUID
     List<Notification> findByUserIdAndIsReadFalseOrderByCreatedAtDesc(UUID userId);
 
     Long countByUserIdAndIsReadFalse(UUID userId);
+
+    @Modifying
+    @Query("DELETE FROM Notification n WHERE n.taskId IN :taskIds")
+    int deleteByTaskIdIn(@Param("taskIds") Collection<UUID> taskIds);
 }
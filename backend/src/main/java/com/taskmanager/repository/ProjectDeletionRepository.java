@@ -0,0 +1,25 @@
+package com.taskmanager.repository;
+
+import com.taskmanager.entity.ProjectDeletion;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface ProjectDeletionRepository extends JpaRepository<ProjectDeletion, UUID> {
+
+    // Claim the oldest unfinished deletions; a lock timeout of -2 is SKIP LOCKED, so nodes never wait on each other
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = AvailableSettings.JAKARTA_LOCK_TIMEOUT, value = "-2"))
+    @Query("SELECT d FROM ProjectDeletion d WHERE d.status <> 'COMPLETED' ORDER BY d.requestedAt ASC")
+    List<ProjectDeletion> findUnfinishedForUpdate(Pageable pageable);
+}
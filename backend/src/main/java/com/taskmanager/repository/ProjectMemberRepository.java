@@ -2,28 +2,36 @@ package com.taskmanager.repository;
 
 import com.taskmanager.entity.ProjectMember;
 import com.taskmanager.entity.ProjectRole;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 @Repository
 public interface ProjectMemberRepository extends JpaRepository<ProjectMember, UUID> {
 
-    // Find all members of a project
+    // Find all members of a project, with their users loaded in the same query
+    @EntityGraph(ProjectMember.WITH_USER)
     List<ProjectMember> findByProjectIdOrderByJoinedAtAsc(UUID projectId);
 
     // Find a specific member in a project
     Optional<ProjectMember> findByProjectIdAndUserId(UUID projectId, UUID userId);
 
     // Check if user is already a member of a project
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     boolean existsByProjectIdAndUserId(UUID projectId, UUID userId);
 
     // Get user's role in a project
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     @Query("SELECT pm.role FROM ProjectMember pm " +
            "WHERE pm.projectId = :projectId AND pm.userId = :userId")
     Optional<ProjectRole> findRoleByProjectIdAndUserId(
@@ -31,6 +39,10 @@ public interface ProjectMemberRepository extends JpaRepository<ProjectMember, UU
         @Param("userId") UUID userId
     );
 
+    // Get the user IDs of all members of a project
+    @Query("SELECT pm.userId FROM ProjectMember pm WHERE pm.projectId = :projectId")
+    Set<UUID> findUserIdsByProjectId(@Param("projectId") UUID projectId);
+
     // Delete a member from a project
     void deleteByProjectIdAndUserId(UUID projectId, UUID userId);
 
@@ -1,8 +1,11 @@
 package com.taskmanager.repository;
 
 import com.taskmanager.entity.Project;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -33,16 +36,33 @@ public interface ProjectRepository extends JpaRepository<Project, UUID> {
            "ORDER BY p.createdAt DESC")
     List<Project> findAllUserProjects(@Param("userId") UUID userId);
 
+    // IDs of the active projects a user owns or is a member of; each branch is a single index lookup
+    @Query(value = """
+        SELECT p.id FROM projects p
+        WHERE p.owner_id = :userId AND p.is_active = true
+        UNION
+        SELECT p.id FROM project_members pm
+        JOIN projects p ON p.id = pm.project_id
+        WHERE pm.user_id = :userId AND p.is_active = true
+        """, nativeQuery = true)
+    List<UUID> findAccessibleProjectIds(@Param("userId") UUID userId);
+
     // Find project by ID and check if it's active
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Project> findByIdAndIsActiveTrue(UUID id);
 
+    // Check that a project exists and is active without loading it
+    boolean existsByIdAndIsActiveTrue(UUID id);
+
     // Check if user is owner of a project
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     @Query("SELECT CASE WHEN COUNT(p) > 0 THEN true ELSE false END " +
            "FROM Project p " +
            "WHERE p.id = :projectId AND p.ownerId = :userId")
     boolean isOwner(@Param("projectId") UUID projectId, @Param("userId") UUID userId);
 
     // Check if user has access to a project (owner or member)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     @Query("SELECT CASE WHEN COUNT(p) > 0 THEN true ELSE false END " +
            "FROM Project p " +
            "LEFT JOIN p.members pm " +
@@ -0,0 +1,47 @@
+package com.taskmanager.repository;
+
+import com.taskmanager.entity.ProjectVersion;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface ProjectVersionRepository extends JpaRepository<ProjectVersion, UUID> {
+
+    // Get the current version stamp of a project
+    @Query("SELECT pv.version FROM ProjectVersion pv WHERE pv.projectId = :projectId")
+    Optional<Long> findVersionByProjectId(@Param("projectId") UUID projectId);
+
+    // Highest version stamp handed out so far
+    @Query("SELECT COALESCE(MAX(pv.version), 0) FROM ProjectVersion pv")
+    long findLatestVersion();
+
+    // Assign a new version to a project, creating its row on first write.
+    // Native writes name their table so Hibernate only invalidates cached queries over it.
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "project_versions"))
+    @Query(value = """
+        INSERT INTO project_versions (project_id, version)
+        VALUES (:projectId, nextval('project_version_seq'))
+        ON CONFLICT (project_id) DO UPDATE SET version = EXCLUDED.version
+        """, nativeQuery = true)
+    void bump(@Param("projectId") UUID projectId);
+
+    // Assign new versions to every project a user belongs to
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "project_versions"))
+    @Query(value = """
+        UPDATE project_versions
+        SET version = nextval('project_version_seq')
+        WHERE project_id IN (SELECT project_id FROM project_members WHERE user_id = :userId)
+        """, nativeQuery = true)
+    void bumpAllForMember(@Param("userId") UUID userId);
+}
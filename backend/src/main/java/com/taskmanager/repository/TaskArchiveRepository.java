@@ -0,0 +1,208 @@
+package com.taskmanager.repository;
+
+import com.taskmanager.dto.TaskCommentResponse;
+import com.taskmanager.dto.TaskResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Moves finished and soft-deleted tasks, with their comments and reactions,
+ * from the hot tables into the archive tables, and reads them back.
+ * Runs inside the surrounding transaction.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TaskArchiveRepository {
+
+    // Next batch, locked; rows a user is editing right now are skipped and picked up on a later run
+    private static final String LOCK_ARCHIVABLE = """
+        SELECT id, project_id FROM tasks
+        WHERE id IN (
+            (SELECT id FROM tasks
+             WHERE is_active = FALSE AND updated_at < :deletedBefore
+             LIMIT :limit)
+            UNION ALL
+            (SELECT id FROM tasks
+             WHERE is_active = TRUE AND status IN ('DONE', 'CANCELLED')
+               AND COALESCE(completed_at, updated_at) < :finishedBefore
+             LIMIT :limit)
+        )
+        AND (
+            (is_active = FALSE AND updated_at < :deletedBefore)
+            OR (is_active = TRUE AND status IN ('DONE', 'CANCELLED')
+                AND COALESCE(completed_at, updated_at) < :finishedBefore)
+        )
+        LIMIT :limit
+        FOR UPDATE SKIP LOCKED
+        """;
+
+    private static final String COPY_TASKS = """
+        INSERT INTO archived_tasks (id, title, description, status, priority, project_id, assigned_to_id,
+                                    created_by_user_id, estimated_hours, actual_hours, due_date, completed_at,
+                                    created_at, updated_at, position, is_active, archive_seq, archived_at)
+        SELECT id, title, description, status, priority, project_id, assigned_to_id,
+               created_by_user_id, estimated_hours, actual_hours, due_date, completed_at,
+               created_at, updated_at, position, is_active, nextval('task_change_seq'), :now
+        FROM tasks
+        WHERE id IN (:ids)
+        """;
+
+    private static final String COPY_COMMENTS = """
+        INSERT INTO archived_task_comments (id, task_id, user_id, comment_text, likes_count, dislikes_count,
+                                            created_at, updated_at)
+        SELECT id, task_id, user_id, comment_text, likes_count, dislikes_count, created_at, updated_at
+        FROM task_comments
+        WHERE task_id IN (:ids)
+        """;
+
+    private static final String COPY_REACTIONS = """
+        INSERT INTO archived_comment_reactions (id, comment_id, user_id, reaction_type, created_at)
+        SELECT r.id, r.comment_id, r.user_id, r.reaction_type, r.created_at
+        FROM comment_reactions r
+        JOIN task_comments c ON c.id = r.comment_id
+        WHERE c.task_id IN (:ids)
+        """;
+
+    // Comments and reactions go with the task through ON DELETE CASCADE; notifications keep their row
+    // with task_id set to NULL, and move records stay as tombstones for the project the task left
+    private static final String DELETE_TASKS = "DELETE FROM tasks WHERE id IN (:ids)";
+
+    private static final String SELECT_ARCHIVED_TASK_RESPONSE = """
+        SELECT t.id, t.title, t.description, t.status, t.priority,
+               t.project_id, p.name AS project_name,
+               t.assigned_to_id, a.first_name AS assignee_first_name, a.last_name AS assignee_last_name,
+               a.email AS assignee_email,
+               t.created_by_user_id, c.first_name AS creator_first_name, c.last_name AS creator_last_name,
+               c.email AS creator_email,
+               t.estimated_hours, t.actual_hours, t.due_date, t.completed_at, t.created_at, t.updated_at,
+               t.position,
+               (SELECT COUNT(*) FROM archived_task_comments tc WHERE tc.task_id = t.id) AS comment_count
+        FROM archived_tasks t
+        JOIN projects p ON p.id = t.project_id
+        LEFT JOIN users a ON a.id = t.assigned_to_id
+        LEFT JOIN users c ON c.id = t.created_by_user_id
+        """;
+
+    private static final String SELECT_ARCHIVED_COMMENTS = """
+        SELECT tc.id, tc.task_id, tc.user_id, u.first_name, u.last_name, u.email, tc.comment_text,
+               tc.likes_count, tc.dislikes_count, r.reaction_type, tc.created_at, tc.updated_at
+        FROM archived_task_comments tc
+        LEFT JOIN users u ON u.id = tc.user_id
+        LEFT JOIN archived_comment_reactions r ON r.comment_id = tc.id AND r.user_id = :userId
+        WHERE tc.task_id = :taskId
+        ORDER BY tc.created_at DESC
+        """;
+
+    private static final String SELECT_ARCHIVED_SINCE = """
+        SELECT id, archive_xid, archive_seq FROM archived_tasks
+        WHERE project_id = :projectId
+          AND (archive_xid, archive_seq) > (:afterXid, :afterSeq)
+          AND archive_xid < :horizon
+          AND archive_xid >= :tombstonesFrom
+        ORDER BY archive_xid ASC, archive_seq ASC
+        LIMIT :limit
+        """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    // Locks up to limit archivable tasks and returns their project IDs, keyed by task ID
+    public Map<UUID, UUID> lockArchivable(LocalDateTime deletedBefore, LocalDateTime finishedBefore, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("deletedBefore", deletedBefore)
+                .addValue("finishedBefore", finishedBefore)
+                .addValue("limit", limit);
+        Map<UUID, UUID> tasks = new LinkedHashMap<>();
+        jdbcTemplate.query(LOCK_ARCHIVABLE, params, rs -> {
+            tasks.put(rs.getObject("id", UUID.class), rs.getObject("project_id", UUID.class));
+        });
+        return tasks;
+    }
+
+    // Copies the tasks with their comments and reactions into the archive, then deletes the originals
+    public int archive(Collection<UUID> taskIds, LocalDateTime now) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("ids", taskIds)
+                .addValue("now", now);
+        jdbcTemplate.update(COPY_TASKS, params);
+        jdbcTemplate.update(COPY_COMMENTS, params);
+        jdbcTemplate.update(COPY_REACTIONS, params);
+        return jdbcTemplate.update(DELETE_TASKS, params);
+    }
+
+    // A page of a project's archived tasks, newest first; cursor is optional
+    public List<TaskResponse> findProjectArchive(UUID projectId, TaskCursor after, int limit, LocalDateTime now) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("projectId", projectId)
+                .addValue("limit", limit);
+
+        String sql = SELECT_ARCHIVED_TASK_RESPONSE + "WHERE t.project_id = :projectId";
+        if (after != null) {
+            params.addValue("afterCreatedAt", after.getCreatedAt())
+                    .addValue("afterId", after.getId());
+            sql += " AND (t.created_at < :afterCreatedAt OR (t.created_at = :afterCreatedAt AND t.id > :afterId))";
+        }
+        sql += " ORDER BY t.created_at DESC, t.id ASC LIMIT :limit";
+        return jdbcTemplate.query(sql, params, TaskReadRepository.taskResponseMapper(now));
+    }
+
+    public Optional<TaskResponse> findArchivedTask(UUID taskId, LocalDateTime now) {
+        List<TaskResponse> rows = jdbcTemplate.query(SELECT_ARCHIVED_TASK_RESPONSE + "WHERE t.id = :taskId",
+                new MapSqlParameterSource("taskId", taskId), TaskReadRepository.taskResponseMapper(now));
+        return rows.stream().findFirst();
+    }
+
+    // Comments of an archived task, newest first, with the given user's own reaction
+    public List<TaskCommentResponse> findArchivedComments(UUID taskId, UUID userId) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("taskId", taskId)
+                .addValue("userId", userId);
+        return jdbcTemplate.query(SELECT_ARCHIVED_COMMENTS, params, (rs, rowNum) -> {
+            String email = rs.getString("email");
+            return TaskCommentResponse.builder()
+                    .id(rs.getObject("id", UUID.class))
+                    .taskId(rs.getObject("task_id", UUID.class))
+                    .userId(rs.getObject("user_id", UUID.class))
+                    .userName(email != null ? rs.getString("first_name") + " " + rs.getString("last_name") : "Unknown")
+                    .userEmail(email)
+                    .commentText(rs.getString("comment_text"))
+                    .likesCount(rs.getInt("likes_count"))
+                    .dislikesCount(rs.getInt("dislikes_count"))
+                    .userReaction(rs.getString("reaction_type"))
+                    .createdAt(toLocalDateTime(rs.getTimestamp("created_at")))
+                    .updatedAt(toLocalDateTime(rs.getTimestamp("updated_at")))
+                    .build();
+        });
+    }
+
+    // Up to limit tasks archived out of a project after the cursor and below the horizon (delta sync), with their stamps
+    public Map<UUID, TaskChangeCursor> findArchivedSince(UUID projectId, TaskChangeCursor after, long horizon, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("projectId", projectId)
+                .addValue("afterXid", after.getXid())
+                .addValue("afterSeq", after.getSeq())
+                .addValue("horizon", horizon)
+                .addValue("tombstonesFrom", after.getTombstonesFrom())
+                .addValue("limit", limit);
+        Map<UUID, TaskChangeCursor> archived = new LinkedHashMap<>();
+        jdbcTemplate.query(SELECT_ARCHIVED_SINCE, params, rs -> {
+            archived.put(rs.getObject("id", UUID.class),
+                    TaskChangeCursor.of(rs.getLong("archive_xid"), rs.getLong("archive_seq")));
+        });
+        return archived;
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+}
@@ -0,0 +1,88 @@
+package com.taskmanager.repository;
+
+import com.taskmanager.entity.Task;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque delta sync cursor: the (transaction ID, change_seq) of the last change served.
+ * Changes are served in that order, so the next sync continues strictly after it.
+ * During an initial sync it also carries the horizon the sync started at: deletions
+ * committed before then concern tasks the client never received, so they are skipped.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class TaskChangeCursor implements Comparable<TaskChangeCursor> {
+
+    public static final TaskChangeCursor START = new TaskChangeCursor(0L, 0L, 0L);
+
+    private static final String VERSION = "v1";
+    private static final String SEPARATOR = "|";
+
+    private final long xid;
+    private final long seq;
+    // Deletions stamped by older transactions are skipped; 0 outside an initial sync
+    private final long tombstonesFrom;
+
+    public static TaskChangeCursor initialSync(long horizon) {
+        return new TaskChangeCursor(0L, 0L, horizon);
+    }
+
+    public static TaskChangeCursor of(Task task) {
+        return new TaskChangeCursor(task.getChangeXid(), task.getChangeSeq(), 0L);
+    }
+
+    public static TaskChangeCursor of(long xid, long seq) {
+        return new TaskChangeCursor(xid, seq, 0L);
+    }
+
+    // The cursor after serving the change at stamp; the initial sync ends once the stream passes its horizon
+    public TaskChangeCursor advanceTo(TaskChangeCursor stamp) {
+        return new TaskChangeCursor(stamp.xid, stamp.seq, stamp.xid < tombstonesFrom ? tombstonesFrom : 0L);
+    }
+
+    @Override
+    public int compareTo(TaskChangeCursor other) {
+        int byXid = Long.compare(xid, other.xid);
+        return byXid != 0 ? byXid : Long.compare(seq, other.seq);
+    }
+
+    public String encode() {
+        String raw = String.join(SEPARATOR, VERSION, Long.toString(xid), Long.toString(seq));
+        if (tombstonesFrom > 0) {
+            raw += SEPARATOR + tombstonesFrom;
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TaskChangeCursor decode(String value) {
+        // Cursors issued before V26 are plain change_seq values; every row they cover has transaction ID 0
+        if (!value.isEmpty() && value.chars().allMatch(Character::isDigit)) {
+            try {
+                return of(0L, Long.parseLong(value));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid cursor", e);
+            }
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR, -1);
+            if (parts.length < 3 || parts.length > 4 || !VERSION.equals(parts[0])) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            long xid = Long.parseLong(parts[1]);
+            long seq = Long.parseLong(parts[2]);
+            long tombstonesFrom = parts.length == 4 ? Long.parseLong(parts[3]) : 0L;
+            if (xid < 0 || seq < 0 || tombstonesFrom < 0) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return new TaskChangeCursor(xid, seq, tombstonesFrom);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+}
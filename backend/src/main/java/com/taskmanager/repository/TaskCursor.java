@@ -0,0 +1,71 @@
+package com.taskmanager.repository;
+
+import com.taskmanager.dto.TaskResponse;
+import com.taskmanager.entity.Task;
+import com.taskmanager.entity.TaskPriority;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Opaque keyset cursor for paginated task lists.
+ * Holds the sort key of the last task on a page so the next page can
+ * continue strictly after it instead of using OFFSET.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class TaskCursor {
+
+    private static final String VERSION = "v1";
+    private static final String SEPARATOR = "|";
+
+    private final Double position;
+    private final LocalDateTime dueDate;
+    private final TaskPriority priority;
+    private final LocalDateTime createdAt;
+    private final UUID id;
+
+    public static TaskCursor of(Task task) {
+        return new TaskCursor(task.getPosition(), task.getDueDate(), task.getPriority(), task.getCreatedAt(), task.getId());
+    }
+
+    public static TaskCursor of(TaskResponse task) {
+        return new TaskCursor(task.getPosition(), task.getDueDate(), task.getPriority(), task.getCreatedAt(), task.getId());
+    }
+
+    public String encode() {
+        String raw = String.join(SEPARATOR,
+                VERSION,
+                position != null ? position.toString() : "",
+                dueDate != null ? dueDate.toString() : "",
+                priority != null ? priority.name() : "",
+                createdAt.toString(),
+                id.toString());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TaskCursor decode(String value) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR, -1);
+            if (parts.length != 6 || !VERSION.equals(parts[0])) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return new TaskCursor(
+                    parts[1].isEmpty() ? null : Double.valueOf(parts[1]),
+                    parts[2].isEmpty() ? null : LocalDateTime.parse(parts[2]),
+                    parts[3].isEmpty() ? null : TaskPriority.valueOf(parts[3]),
+                    LocalDateTime.parse(parts[4]),
+                    UUID.fromString(parts[5])
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.taskmanager.repository;
+
+import com.taskmanager.entity.NotificationType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Due date windows for the reminder and overdue alerts, and the claim that makes each alert go out once.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TaskDueAlertRepository {
+
+    // Keyset batch over idx_tasks_open_due_date; tasks already alerted as overdue for their due date are done
+    private static final String SELECT_DUE_TASKS = """
+        SELECT t.id, t.due_date,
+               EXISTS (SELECT 1 FROM task_due_alerts r
+                       WHERE r.task_id = t.id AND r.type = 'TASK_DUE_SOON' AND r.due_date = t.due_date) AS reminder_sent
+        FROM tasks t
+        WHERE t.is_active = TRUE
+          AND t.status NOT IN ('DONE', 'CANCELLED')
+          AND t.assigned_to_id IS NOT NULL
+          AND t.due_date >= :from
+          AND t.due_date < :upTo
+          AND (t.due_date > :afterDueDate OR (t.due_date = :afterDueDate AND t.id > :afterId))
+          AND NOT EXISTS (SELECT 1 FROM task_due_alerts o
+                          WHERE o.task_id = t.id AND o.type = 'TASK_OVERDUE' AND o.due_date = t.due_date)
+        ORDER BY t.due_date ASC, t.id ASC
+        LIMIT :limit
+        """;
+
+    // Records the alert for tasks still open, assigned and due when expected; only rows actually claimed come back
+    private static final String CLAIM_ALERTS = """
+        WITH claimed AS (
+            INSERT INTO task_due_alerts (task_id, type, due_date, sent_at)
+            SELECT t.id, :type, t.due_date, :now
+            FROM unnest(CAST(:taskIds AS uuid[]), CAST(:dueDates AS timestamp[])) AS d(task_id, due_date)
+            JOIN tasks t ON t.id = d.task_id AND t.due_date = d.due_date
+            WHERE t.is_active = TRUE
+              AND t.status NOT IN ('DONE', 'CANCELLED')
+              AND t.assigned_to_id IS NOT NULL
+            ON CONFLICT (task_id, type) DO UPDATE
+                SET due_date = EXCLUDED.due_date, sent_at = EXCLUDED.sent_at
+                WHERE task_due_alerts.due_date <> EXCLUDED.due_date
+            RETURNING task_id
+        )
+        SELECT t.id, t.assigned_to_id, t.title, p.name AS project_name, t.due_date
+        FROM claimed c
+        JOIN tasks t ON t.id = c.task_id
+        JOIN projects p ON p.id = t.project_id
+        """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    // Open, assigned tasks due in [from, upTo) not yet alerted as overdue, after the given task in due date order
+    public List<DueTask> findDueTasks(LocalDateTime from, LocalDateTime upTo, DueTask after, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("from", from)
+                .addValue("upTo", upTo)
+                // Before every real due date and task ID on the first batch
+                .addValue("afterDueDate", after != null ? after.dueDate() : from)
+                .addValue("afterId", after != null ? after.taskId() : new UUID(0L, 0L))
+                .addValue("limit", limit);
+        return jdbcTemplate.query(SELECT_DUE_TASKS, params, (rs, rowNum) -> new DueTask(
+                rs.getObject("id", UUID.class),
+                rs.getTimestamp("due_date").toLocalDateTime(),
+                rs.getBoolean("reminder_sent")));
+    }
+
+    /**
+     * Claims one alert type for the given tasks, each at the due date it was scheduled for.
+     * A task whose due date moved, that was finished or unassigned, or that another node already
+     * alerted for this due date is skipped.
+     */
+    public List<ClaimedAlert> claim(NotificationType type, Map<UUID, LocalDateTime> dueDates, LocalDateTime now) {
+        if (dueDates.isEmpty()) {
+            return List.of();
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("type", type.name())
+                .addValue("taskIds", dueDates.keySet().toArray(new UUID[0]))
+                // ISO text, cast to timestamp[] in SQL
+                .addValue("dueDates", dueDates.values().stream()
+                        .map(dueDate -> toMicros(dueDate).toString())
+                        .toArray(String[]::new))
+                .addValue("now", now);
+        return jdbcTemplate.query(CLAIM_ALERTS, params, (rs, rowNum) -> new ClaimedAlert(
+                rs.getObject("id", UUID.class),
+                rs.getObject("assigned_to_id", UUID.class),
+                rs.getString("title"),
+                rs.getString("project_name"),
+                rs.getTimestamp("due_date").toLocalDateTime()));
+    }
+
+    // Rounds half up to microseconds like the JDBC driver did when the due date was stored;
+    // PostgreSQL would round the extra digits of the ISO text half to even instead
+    private static LocalDateTime toMicros(LocalDateTime dateTime) {
+        return dateTime.plusNanos(500).truncatedTo(ChronoUnit.MICROS);
+    }
+
+    public record DueTask(UUID taskId, LocalDateTime dueDate, boolean reminderSent) {
+    }
+
+    public record ClaimedAlert(UUID taskId, UUID assignedToId, String title, String projectName,
+                               LocalDateTime dueDate) {
+    }
+}
@@ -0,0 +1,326 @@
+package com.taskmanager.repository;
+
+import com.taskmanager.dto.TaskFilterRequest;
+import com.taskmanager.dto.TaskTransitionRequest;
+import com.taskmanager.entity.Task;
+import com.taskmanager.entity.TaskStatus;
+import lombok.RequiredArgsConstructor;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Plain JDBC access to the tasks table for set-based writes that do not need
+ * entity state. Runs inside the surrounding JPA transaction.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TaskJdbcRepository {
+
+    private static final String UPDATE_BOARD_POSITION = """
+        UPDATE tasks
+        SET position = :position, status = :status, completed_at = :completedAt, updated_at = :updatedAt
+        WHERE id = :id
+        """;
+
+    // Project tasks in board order, with the assignee's name for exports
+    private static final String SELECT_PROJECT_EXPORT = """
+        SELECT t.id, t.title, t.description, t.status, t.priority, t.position,
+               t.assigned_to_id, u.first_name || ' ' || u.last_name AS assigned_to_name,
+               t.created_by_user_id, t.estimated_hours, t.actual_hours,
+               t.due_date, t.completed_at, t.created_at, t.updated_at
+        FROM tasks t
+        LEFT JOIN users u ON u.id = t.assigned_to_id
+        WHERE t.project_id = ? AND t.is_active = TRUE
+        ORDER BY t.position ASC, t.created_at DESC, t.id ASC
+        """;
+
+    // Rows per round trip while streaming; the driver only uses a cursor inside a transaction
+    private static final int EXPORT_FETCH_SIZE = 500;
+
+    // Columns of the import staging table, in COPY order
+    public static final List<String> IMPORT_STAGING_COLUMNS = List.of(
+            "row_no", "title", "description", "status", "priority",
+            "assigned_to_id", "estimated_hours", "actual_hours", "due_date"
+    );
+
+    // Lives until the end of the importing transaction, so concurrent imports never see each other's rows
+    private static final String CREATE_IMPORT_STAGING = """
+        CREATE TEMP TABLE task_import_staging (
+            row_no BIGINT NOT NULL,
+            title VARCHAR(200) NOT NULL,
+            description TEXT,
+            status VARCHAR(20) NOT NULL,
+            priority VARCHAR(20) NOT NULL,
+            assigned_to_id UUID,
+            estimated_hours DECIMAL(5,2),
+            actual_hours DECIMAL(5,2),
+            due_date TIMESTAMP
+        ) ON COMMIT DROP
+        """;
+
+    private static final String COPY_IMPORT_STAGING =
+            "COPY task_import_staging (" + String.join(", ", IMPORT_STAGING_COLUMNS) + ") FROM STDIN WITH (FORMAT csv)";
+
+    // Staged rows go above the existing board like created tasks, in file order with the first row on top;
+    // returns the number of imported tasks per assignee, NULL for unassigned
+    private static final String MERGE_IMPORT_STAGING = """
+        WITH imported AS (
+            INSERT INTO tasks (id, title, description, status, priority, project_id, assigned_to_id, created_by_user_id,
+                               estimated_hours, actual_hours, due_date, completed_at, position, is_active, created_at, updated_at)
+            SELECT uuid_generate_v7(), s.title, s.description, s.status, s.priority, :projectId, s.assigned_to_id, :userId,
+                   s.estimated_hours, s.actual_hours, s.due_date,
+                   CASE WHEN s.status = 'DONE' THEN :now END,
+                   board.top_position - (COUNT(*) OVER () - row_number() OVER (ORDER BY s.row_no) + 1) * :step,
+                   TRUE, :now, :now
+            FROM task_import_staging s
+            CROSS JOIN (
+                SELECT COALESCE(MIN(position), :step) AS top_position
+                FROM tasks WHERE project_id = :projectId AND is_active = TRUE
+            ) board
+            RETURNING assigned_to_id
+        )
+        SELECT assigned_to_id, COUNT(*) AS tasks FROM imported GROUP BY assigned_to_id
+        """;
+
+    // Next batch of a deleted project's active tasks; rows locked by in-flight edits are left for a later batch
+    private static final String DEACTIVATE_PROJECT_TASKS = """
+        WITH deactivated AS (
+            UPDATE tasks t
+            SET is_active = FALSE, updated_at = :now
+            WHERE t.id IN (
+                SELECT id FROM tasks
+                WHERE project_id = :projectId AND is_active = TRUE
+                LIMIT :limit
+                FOR UPDATE SKIP LOCKED
+            )
+            RETURNING t.id
+        )
+        SELECT id FROM deactivated
+        """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    // Write board moves as a single JDBC batch; each task carries its new position, status and completedAt
+    public void batchUpdateBoardPositions(List<Task> moves) {
+        LocalDateTime now = LocalDateTime.now();
+        SqlParameterSource[] batch = moves.stream()
+                .map(task -> new MapSqlParameterSource()
+                        .addValue("id", task.getId())
+                        .addValue("position", task.getPosition())
+                        .addValue("status", task.getStatus().name())
+                        .addValue("completedAt", task.getCompletedAt(), Types.TIMESTAMP)
+                        .addValue("updatedAt", now))
+                .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(UPDATE_BOARD_POSITION, batch);
+    }
+
+    // Streams a project's active tasks row by row through a forward-only cursor; call inside a transaction
+    public void streamProjectTasks(UUID projectId, RowCallbackHandler handler) {
+        jdbcTemplate.getJdbcTemplate().query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    SELECT_PROJECT_EXPORT, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(EXPORT_FETCH_SIZE);
+            statement.setObject(1, projectId);
+            return statement;
+        }, handler);
+    }
+
+    /**
+     * Creates the per-transaction staging table and fills it through COPY FROM STDIN.
+     * The writer receives the COPY stream and must write CSV rows in {@link #IMPORT_STAGING_COLUMNS} order.
+     *
+     * @return number of rows copied
+     */
+    public long copyIntoImportStaging(StagingWriter writer) {
+        jdbcTemplate.getJdbcTemplate().execute(CREATE_IMPORT_STAGING);
+        return jdbcTemplate.getJdbcTemplate().execute((ConnectionCallback<Long>) connection -> {
+            PGCopyOutputStream out = new PGCopyOutputStream(connection.unwrap(PGConnection.class), COPY_IMPORT_STAGING);
+            try {
+                writer.write(out);
+                return out.endCopy();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } finally {
+                if (out.isActive()) {
+                    out.cancelCopy();
+                }
+            }
+        });
+    }
+
+    // Moves the staged rows into the project as new tasks; must run in the transaction that staged them
+    public ImportedTasks mergeImportStaging(UUID projectId, UUID userId, double step, LocalDateTime now) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("projectId", projectId)
+                .addValue("userId", userId)
+                .addValue("step", step)
+                .addValue("now", now);
+        Map<UUID, Integer> byAssignee = new HashMap<>();
+        jdbcTemplate.query(MERGE_IMPORT_STAGING, params, (RowCallbackHandler) rs ->
+                byAssignee.put(rs.getObject("assigned_to_id", UUID.class), rs.getInt("tasks")));
+        int count = byAssignee.values().stream().mapToInt(Integer::intValue).sum();
+        byAssignee.remove(null);
+        return new ImportedTasks(count, byAssignee);
+    }
+
+    // Soft-deletes up to limit active tasks of a project and returns their ids
+    public List<UUID> deactivateProjectTasks(UUID projectId, int limit, LocalDateTime now) {
+        return jdbcTemplate.queryForList(DEACTIVATE_PROJECT_TASKS, new MapSqlParameterSource()
+                .addValue("projectId", projectId)
+                .addValue("limit", limit)
+                .addValue("now", now), UUID.class);
+    }
+
+    // Tasks added by an import, and how many of them went to each assignee
+    public record ImportedTasks(int count, Map<UUID, Integer> perAssignee) {
+    }
+
+    @FunctionalInterface
+    public interface StagingWriter {
+        void write(OutputStream out) throws IOException;
+    }
+
+    /**
+     * Applies a transition to every active task of a project matching the filter, in one statement.
+     * Moved tasks are stacked above {@code targetTop}, {@code step} apart, in their current order and leave a
+     * task_project_moves row behind for the source project's delta sync.
+     *
+     * @return ids of the updated tasks
+     */
+    public List<UUID> transition(UUID projectId, TaskTransitionRequest request, double targetTop, double step,
+                                 LocalDateTime now) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("projectId", projectId)
+                .addValue("now", now)
+                .addValue("step", step);
+
+        List<String> assignments = new ArrayList<>();
+        assignments.add("updated_at = :now");
+        if (request.getStatus() != null) {
+            assignments.add("status = :status");
+            assignments.add(request.getStatus() == TaskStatus.DONE
+                    ? "completed_at = COALESCE(t.completed_at, :now)"
+                    : "completed_at = NULL");
+            params.addValue("status", request.getStatus().name());
+        }
+        if (request.getAssignedToId() != null) {
+            assignments.add("assigned_to_id = :assignedToId");
+            params.addValue("assignedToId", request.getAssignedToId());
+        }
+
+        boolean moving = request.getTargetProjectId() != null;
+        if (moving) {
+            assignments.add("project_id = :targetProjectId");
+            assignments.add("position = :targetTop - m.rn * :step");
+            if (request.getAssignedToId() == null) {
+                // Assignees who are not members of the target project are dropped
+                assignments.add("""
+                    assigned_to_id = CASE WHEN EXISTS (
+                        SELECT 1 FROM project_members pm
+                        WHERE pm.project_id = :targetProjectId AND pm.user_id = t.assigned_to_id
+                    ) THEN t.assigned_to_id END""");
+            }
+            params.addValue("targetProjectId", request.getTargetProjectId())
+                    .addValue("targetTop", targetTop);
+        }
+
+        // Highest position gets rn = 1, so the moved block keeps its board order on the target
+        String update = "UPDATE tasks t SET " + String.join(", ", assignments) + """
+
+                FROM (
+                    SELECT t.id, row_number() OVER (ORDER BY t.position DESC, t.created_at ASC, t.id DESC) AS rn
+                    FROM tasks t
+                    WHERE %s
+                ) m
+                WHERE t.id = m.id
+                RETURNING t.id, t.change_seq
+                """.formatted(selection(request.getFilter(), params));
+
+        String sql = moving
+                ? """
+                  WITH moved AS (%s),
+                  recorded AS (
+                      INSERT INTO task_project_moves (task_id, project_id, change_seq)
+                      SELECT id, :projectId, change_seq FROM moved
+                  )
+                  SELECT id FROM moved
+                  """.formatted(update)
+                : "WITH updated AS (" + update + ") SELECT id FROM updated";
+        return jdbcTemplate.queryForList(sql, params, UUID.class);
+    }
+
+    // Active tasks of :projectId matching the filter
+    private static String selection(TaskFilterRequest filter, MapSqlParameterSource params) {
+        List<String> predicates = new ArrayList<>(List.of("t.project_id = :projectId", "t.is_active = TRUE"));
+        predicates.addAll(filterPredicates(filter, params));
+        return String.join(" AND ", predicates);
+    }
+
+    // Task list filter predicates on alias t; callers bind :now
+    static List<String> filterPredicates(TaskFilterRequest filter, MapSqlParameterSource params) {
+        List<String> predicates = new ArrayList<>();
+        if (filter == null) {
+            return predicates;
+        }
+
+        if (filter.getStatuses() != null && !filter.getStatuses().isEmpty()) {
+            predicates.add("t.status IN (:filterStatuses)");
+            params.addValue("filterStatuses", filter.getStatuses().stream().map(Enum::name).toList());
+        }
+        if (filter.getPriorities() != null && !filter.getPriorities().isEmpty()) {
+            predicates.add("t.priority IN (:filterPriorities)");
+            params.addValue("filterPriorities", filter.getPriorities().stream().map(Enum::name).toList());
+        }
+        if (filter.getAssignedToId() != null) {
+            predicates.add("t.assigned_to_id = :filterAssignedToId");
+            params.addValue("filterAssignedToId", filter.getAssignedToId());
+        }
+        if (filter.getCreatedByUserId() != null) {
+            predicates.add("t.created_by_user_id = :filterCreatedByUserId");
+            params.addValue("filterCreatedByUserId", filter.getCreatedByUserId());
+        }
+        if (filter.getDueDateFrom() != null) {
+            predicates.add("t.due_date > :filterDueDateFrom");
+            params.addValue("filterDueDateFrom", filter.getDueDateFrom());
+        }
+        if (filter.getDueDateTo() != null) {
+            predicates.add("t.due_date < :filterDueDateTo");
+            params.addValue("filterDueDateTo", filter.getDueDateTo());
+        }
+        if (filter.getSearchText() != null && !filter.getSearchText().isBlank()) {
+            predicates.add("(LOWER(t.title) LIKE :filterSearch ESCAPE '\\' OR LOWER(t.description) LIKE :filterSearch ESCAPE '\\')");
+            params.addValue("filterSearch", "%" + escapeLike(filter.getSearchText().toLowerCase()) + "%");
+        }
+        if (Boolean.TRUE.equals(filter.getOverdue())) {
+            predicates.add("t.due_date < :now AND t.status NOT IN ('DONE', 'CANCELLED')");
+        }
+        return predicates;
+    }
+
+    // Search text is matched literally; the predicates declare backslash as the LIKE escape
+    private static String escapeLike(String value) {
+        return value
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+}
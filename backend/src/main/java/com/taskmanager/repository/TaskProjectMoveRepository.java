@@ -0,0 +1,32 @@
+package com.taskmanager.repository;
+
+import com.taskmanager.entity.TaskProjectMove;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface TaskProjectMoveRepository extends JpaRepository<TaskProjectMove, Long> {
+
+    // Find up to limit tasks that left a project after a change stamp and below the horizon (delta sync);
+    // moves by transactions older than tombstonesFrom are left out
+    @Query(value = """
+        SELECT * FROM task_project_moves
+        WHERE project_id = :projectId
+          AND (change_xid, change_seq) > (:afterXid, :afterSeq)
+          AND change_xid < :horizon
+          AND change_xid >= :tombstonesFrom
+        ORDER BY change_xid ASC, change_seq ASC
+        LIMIT :limit
+        """, nativeQuery = true)
+    List<TaskProjectMove> findMovedOutSince(@Param("projectId") UUID projectId,
+                                            @Param("afterXid") long afterXid,
+                                            @Param("afterSeq") long afterSeq,
+                                            @Param("horizon") long horizon,
+                                            @Param("tombstonesFrom") long tombstonesFrom,
+                                            @Param("limit") int limit);
+}
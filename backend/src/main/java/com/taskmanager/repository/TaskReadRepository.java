@@ -0,0 +1,390 @@
+package com.taskmanager.repository;
+
+import com.taskmanager.dto.TaskBoardColumnResponse;
+import com.taskmanager.dto.TaskCalendarDayResponse;
+import com.taskmanager.dto.TaskCalendarTaskResponse;
+import com.taskmanager.dto.TaskFilterRequest;
+import com.taskmanager.dto.TaskInboxBucket;
+import com.taskmanager.dto.TaskResponse;
+import com.taskmanager.entity.TaskPriority;
+import com.taskmanager.entity.TaskStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Read path for the task list endpoints.
+ * One joined query maps rows straight into {@link TaskResponse}, without loading
+ * entities into a persistence context. Every order ends with {@code id} as a unique
+ * tiebreaker, so a {@link TaskCursor} identifies an exact position in it.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TaskReadRepository {
+
+    private static final String TASK_RESPONSE_COLUMNS = """
+        SELECT t.id, t.title, t.description, t.status, t.priority,
+               t.project_id, p.name AS project_name,
+               t.assigned_to_id, a.first_name AS assignee_first_name, a.last_name AS assignee_last_name,
+               a.email AS assignee_email,
+               t.created_by_user_id, c.first_name AS creator_first_name, c.last_name AS creator_last_name,
+               c.email AS creator_email,
+               t.estimated_hours, t.actual_hours, t.due_date, t.completed_at, t.created_at, t.updated_at,
+               t.position,
+               (SELECT COUNT(*) FROM task_comments tc WHERE tc.task_id = t.id) AS comment_count
+        """;
+
+    private static final String TASK_RESPONSE_JOINS = """
+        JOIN projects p ON p.id = t.project_id
+        LEFT JOIN users a ON a.id = t.assigned_to_id
+        LEFT JOIN users c ON c.id = t.created_by_user_id
+        """;
+
+    private static final String SELECT_TASK_RESPONSE = TASK_RESPONSE_COLUMNS + "FROM tasks t\n" + TASK_RESPONSE_JOINS;
+
+    // Kanban order used by project task lists
+    private static final String PROJECT_ORDER = "t.position ASC, t.created_at DESC, t.id ASC";
+
+    // "My tasks" order; NULL due dates sort last
+    private static final String USER_ORDER = "t.due_date ASC, t.priority DESC, t.created_at DESC, t.id ASC";
+
+    // Matches idx_tasks_assignee_inbox; NULL due dates sort last
+    private static final String INBOX_ORDER = "t.due_date ASC, t.created_at DESC, t.id ASC";
+
+    private static final String OPEN_STATUS = "t.status NOT IN ('DONE', 'CANCELLED')";
+
+    // One pass over the user's open assigned tasks due before the end of the week window
+    private static final String COUNT_INBOX_BUCKETS = """
+        SELECT COUNT(*) FILTER (WHERE t.due_date < :now) AS overdue,
+               COUNT(*) FILTER (WHERE t.due_date >= :now AND t.due_date < :startOfTomorrow) AS today,
+               COUNT(*) FILTER (WHERE t.due_date >= :startOfTomorrow) AS this_week
+        FROM tasks t
+        WHERE t.assigned_to_id = :userId
+          AND t.is_active = TRUE
+          AND t.due_date < :weekEnd
+          AND t.status NOT IN ('DONE', 'CANCELLED')
+          AND t.project_id = ANY(CAST(:projectIds AS uuid[]))
+        """;
+
+    // Top of every status column with its total, counted once per column; empty columns come back
+    // as a single row without a task
+    private static final String SELECT_BOARD = TASK_RESPONSE_COLUMNS + """
+             , col.status AS column_status, cnt.column_total
+        FROM unnest(CAST(:statuses AS varchar[])) WITH ORDINALITY AS col(status, ord)
+        LEFT JOIN LATERAL (
+            SELECT COUNT(*) AS column_total FROM tasks ct
+            WHERE ct.project_id = :projectId AND ct.is_active = TRUE AND ct.status = col.status
+        ) cnt ON TRUE
+        LEFT JOIN LATERAL (
+            SELECT * FROM tasks t
+            WHERE t.project_id = :projectId AND t.is_active = TRUE AND t.status = col.status
+            ORDER BY t.position ASC, t.created_at DESC, t.id ASC
+            LIMIT :limit
+        ) t ON TRUE
+        LEFT JOIN projects p ON p.id = t.project_id
+        LEFT JOIN users a ON a.id = t.assigned_to_id
+        LEFT JOIN users c ON c.id = t.created_by_user_id
+        ORDER BY col.ord, t.position ASC, t.created_at DESC, t.id ASC
+        """;
+
+    // Ranks a due date window per day using only idx_tasks_project_user_order columns, then reads the top rows
+    private static final String SELECT_CALENDAR = """
+        WITH ranked AS (
+            SELECT t.id, CAST(t.due_date AS date) AS day,
+                   COUNT(*) OVER (PARTITION BY CAST(t.due_date AS date)) AS day_total,
+                   row_number() OVER (PARTITION BY CAST(t.due_date AS date)
+                                      ORDER BY t.due_date ASC, t.priority DESC, t.created_at DESC, t.id ASC) AS rn
+            FROM tasks t
+            WHERE t.project_id = ANY(CAST(:projectIds AS uuid[]))
+              AND t.is_active = TRUE
+              AND t.due_date >= :from
+              AND t.due_date < :to
+        )
+        SELECT r.day, r.day_total,
+               t.id, t.title, t.status, t.priority, t.project_id, t.assigned_to_id, t.due_date
+        FROM ranked r
+        JOIN tasks t ON t.id = r.id
+        WHERE r.rn <= :perDay
+        ORDER BY r.day, r.rn
+        """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    // A page of a project's active tasks in board order; filter and cursor are optional
+    public List<TaskResponse> findProjectTasks(UUID projectId, TaskFilterRequest filter, TaskCursor after,
+                                               int limit, LocalDateTime now) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("projectId", projectId)
+                .addValue("now", now)
+                .addValue("limit", limit);
+
+        List<String> predicates = new ArrayList<>(List.of("t.project_id = :projectId", "t.is_active = TRUE"));
+        predicates.addAll(TaskJdbcRepository.filterPredicates(filter, params));
+        if (after != null) {
+            predicates.add(afterInProjectOrder(after, params));
+        }
+        return query(predicates, PROJECT_ORDER, params, now);
+    }
+
+    /**
+     * A page of active tasks across the given projects in user order; filter and cursor are optional.
+     * Each project contributes at most limit rows read in order from idx_tasks_project_user_order,
+     * so the cost follows the projects and page size rather than the projects' total task count.
+     */
+    public List<TaskResponse> findTasksInProjects(Collection<UUID> projectIds, TaskFilterRequest filter,
+                                                  TaskCursor after, int limit, LocalDateTime now) {
+        if (projectIds.isEmpty()) {
+            return List.of();
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("projectIds", projectIds.toArray(new UUID[0]))
+                .addValue("now", now)
+                .addValue("limit", limit);
+
+        List<String> predicates = new ArrayList<>(List.of("t.project_id = ap.project_id", "t.is_active = TRUE"));
+        predicates.addAll(TaskJdbcRepository.filterPredicates(filter, params));
+        if (after != null) {
+            predicates.add(afterInUserOrder(after, params));
+        }
+        String sql = TASK_RESPONSE_COLUMNS
+                + "FROM unnest(CAST(:projectIds AS uuid[])) AS ap(project_id)\n"
+                + "CROSS JOIN LATERAL (SELECT t.* FROM tasks t WHERE " + String.join(" AND ", predicates)
+                + " ORDER BY " + USER_ORDER + " LIMIT :limit) t\n"
+                + TASK_RESPONSE_JOINS
+                + "ORDER BY " + USER_ORDER
+                + " LIMIT :limit";
+        return jdbcTemplate.query(sql, params, taskResponseMapper(now));
+    }
+
+    /**
+     * Every status column of a project's board with up to limit tasks in board order and its total count.
+     * Each column is read from idx_tasks_project_status_position and stops after limit rows,
+     * so a column with thousands of DONE tasks costs no more than a short one.
+     */
+    public List<TaskBoardColumnResponse> findBoard(UUID projectId, int limit, LocalDateTime now) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("projectId", projectId)
+                .addValue("statuses", Arrays.stream(TaskStatus.values()).map(Enum::name).toArray(String[]::new))
+                .addValue("limit", limit);
+
+        Map<TaskStatus, TaskBoardColumnResponse> columns = new LinkedHashMap<>();
+        RowMapper<TaskResponse> taskMapper = taskResponseMapper(now);
+        jdbcTemplate.query(SELECT_BOARD, params, rs -> {
+            TaskStatus status = TaskStatus.valueOf(rs.getString("column_status"));
+            TaskBoardColumnResponse column = columns.computeIfAbsent(status, s -> TaskBoardColumnResponse.builder()
+                    .status(s)
+                    .build());
+            column.setTotalCount(rs.getLong("column_total"));
+            if (rs.getObject("id") != null) {
+                column.getItems().add(taskMapper.mapRow(rs, column.getItems().size()));
+            }
+        });
+        return new ArrayList<>(columns.values());
+    }
+
+    /**
+     * Per-day buckets of the active tasks in the given projects due in [from, to), with each day's
+     * count and its first perDay tasks. Days without tasks are left out.
+     * The window is a range scan of idx_tasks_project_user_order per project, and only the returned
+     * tasks are read from the table, so a year across many projects stays one index pass.
+     */
+    public List<TaskCalendarDayResponse> findCalendar(Collection<UUID> projectIds, LocalDateTime from,
+                                                      LocalDateTime to, int perDay, LocalDateTime now) {
+        if (projectIds.isEmpty()) {
+            return List.of();
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("projectIds", projectIds.toArray(new UUID[0]))
+                .addValue("from", from)
+                .addValue("to", to)
+                .addValue("perDay", perDay);
+
+        Map<LocalDate, TaskCalendarDayResponse> days = new LinkedHashMap<>();
+        jdbcTemplate.query(SELECT_CALENDAR, params, rs -> {
+            TaskCalendarDayResponse day = days.computeIfAbsent(rs.getDate("day").toLocalDate(),
+                    date -> TaskCalendarDayResponse.builder().date(date).build());
+            day.setTaskCount(rs.getLong("day_total"));
+
+            TaskStatus status = TaskStatus.valueOf(rs.getString("status"));
+            LocalDateTime dueDate = toLocalDateTime(rs.getTimestamp("due_date"));
+            day.getTasks().add(TaskCalendarTaskResponse.builder()
+                    .id(rs.getObject("id", UUID.class))
+                    .title(rs.getString("title"))
+                    .status(status)
+                    .priority(TaskPriority.valueOf(rs.getString("priority")))
+                    .projectId(rs.getObject("project_id", UUID.class))
+                    .assignedToId(rs.getObject("assigned_to_id", UUID.class))
+                    .dueDate(dueDate)
+                    .isOverdue(dueDate.isBefore(now) && status != TaskStatus.DONE && status != TaskStatus.CANCELLED)
+                    .build());
+        });
+        return new ArrayList<>(days.values());
+    }
+
+    // A page of a user's active assigned tasks in the given projects, in inbox order; bucket and cursor are optional
+    public List<TaskResponse> findInboxTasks(UUID userId, Collection<UUID> projectIds, TaskInboxBucket bucket,
+                                             TaskCursor after, int limit, LocalDateTime now) {
+        if (projectIds.isEmpty()) {
+            return List.of();
+        }
+        MapSqlParameterSource params = inboxParams(userId, projectIds, now)
+                .addValue("limit", limit);
+
+        List<String> predicates = new ArrayList<>(List.of(
+                "t.assigned_to_id = :userId",
+                "t.is_active = TRUE",
+                "t.project_id = ANY(CAST(:projectIds AS uuid[]))"));
+        if (bucket != null) {
+            predicates.add(OPEN_STATUS);
+            predicates.add(switch (bucket) {
+                case OVERDUE -> "t.due_date < :now";
+                case TODAY -> "t.due_date >= :now AND t.due_date < :startOfTomorrow";
+                case THIS_WEEK -> "t.due_date >= :startOfTomorrow AND t.due_date < :weekEnd";
+            });
+        }
+        if (after != null) {
+            predicates.add(afterInInboxOrder(after, params));
+        }
+        return query(predicates, INBOX_ORDER, params, now);
+    }
+
+    // Size of each inbox bucket for a user's assigned tasks in the given projects
+    public Map<TaskInboxBucket, Long> countInboxBuckets(UUID userId, Collection<UUID> projectIds, LocalDateTime now) {
+        Map<TaskInboxBucket, Long> counts = new EnumMap<>(TaskInboxBucket.class);
+        for (TaskInboxBucket bucket : TaskInboxBucket.values()) {
+            counts.put(bucket, 0L);
+        }
+        if (projectIds.isEmpty()) {
+            return counts;
+        }
+        jdbcTemplate.query(COUNT_INBOX_BUCKETS, inboxParams(userId, projectIds, now), rs -> {
+            counts.put(TaskInboxBucket.OVERDUE, rs.getLong("overdue"));
+            counts.put(TaskInboxBucket.TODAY, rs.getLong("today"));
+            counts.put(TaskInboxBucket.THIS_WEEK, rs.getLong("this_week"));
+        });
+        return counts;
+    }
+
+    private static MapSqlParameterSource inboxParams(UUID userId, Collection<UUID> projectIds, LocalDateTime now) {
+        LocalDateTime startOfTomorrow = now.toLocalDate().plusDays(1).atStartOfDay();
+        return new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("projectIds", projectIds.toArray(new UUID[0]))
+                .addValue("now", now)
+                .addValue("startOfTomorrow", startOfTomorrow)
+                .addValue("weekEnd", startOfTomorrow.plusDays(6));
+    }
+
+    private List<TaskResponse> query(List<String> predicates, String order, MapSqlParameterSource params,
+                                     LocalDateTime now) {
+        String sql = SELECT_TASK_RESPONSE
+                + "WHERE " + String.join(" AND ", predicates)
+                + " ORDER BY " + order
+                + " LIMIT :limit";
+        return jdbcTemplate.query(sql, params, taskResponseMapper(now));
+    }
+
+    // Cursors carry every sort key, so a missing one means the cursor came from another list or was forged
+    private static String afterInProjectOrder(TaskCursor cursor, MapSqlParameterSource params) {
+        if (cursor.getPosition() == null) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        params.addValue("afterPosition", cursor.getPosition());
+        return "(t.position > :afterPosition OR (t.position = :afterPosition AND "
+                + afterCreatedAtAndId(cursor, params) + "))";
+    }
+
+    private static String afterInUserOrder(TaskCursor cursor, MapSqlParameterSource params) {
+        if (cursor.getPriority() == null) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        params.addValue("afterPriority", cursor.getPriority().name());
+        String samePriorityOrLower = "(t.priority < :afterPriority OR (t.priority = :afterPriority AND "
+                + afterCreatedAtAndId(cursor, params) + "))";
+
+        if (cursor.getDueDate() == null) {
+            // Already in the trailing block of tasks without a due date
+            return "(t.due_date IS NULL AND " + samePriorityOrLower + ")";
+        }
+        params.addValue("afterDueDate", cursor.getDueDate());
+        return "(t.due_date > :afterDueDate OR t.due_date IS NULL OR (t.due_date = :afterDueDate AND "
+                + samePriorityOrLower + "))";
+    }
+
+    private static String afterInInboxOrder(TaskCursor cursor, MapSqlParameterSource params) {
+        if (cursor.getDueDate() == null) {
+            // Already in the trailing block of tasks without a due date
+            return "(t.due_date IS NULL AND " + afterCreatedAtAndId(cursor, params) + ")";
+        }
+        params.addValue("afterDueDate", cursor.getDueDate());
+        return "(t.due_date > :afterDueDate OR t.due_date IS NULL OR (t.due_date = :afterDueDate AND "
+                + afterCreatedAtAndId(cursor, params) + "))";
+    }
+
+    private static String afterCreatedAtAndId(TaskCursor cursor, MapSqlParameterSource params) {
+        params.addValue("afterCreatedAt", cursor.getCreatedAt())
+                .addValue("afterId", cursor.getId());
+        return "(t.created_at < :afterCreatedAt OR (t.created_at = :afterCreatedAt AND t.id > :afterId))";
+    }
+
+    // Same fields and fallbacks as TaskService.mapToTaskResponse
+    static RowMapper<TaskResponse> taskResponseMapper(LocalDateTime now) {
+        return (rs, rowNum) -> {
+            TaskStatus status = TaskStatus.valueOf(rs.getString("status"));
+            LocalDateTime dueDate = toLocalDateTime(rs.getTimestamp("due_date"));
+            UUID assignedToId = rs.getObject("assigned_to_id", UUID.class);
+            String creatorEmail = rs.getString("creator_email");
+
+            return TaskResponse.builder()
+                    .id(rs.getObject("id", UUID.class))
+                    .title(rs.getString("title"))
+                    .description(rs.getString("description"))
+                    .status(status)
+                    .priority(TaskPriority.valueOf(rs.getString("priority")))
+                    .projectId(rs.getObject("project_id", UUID.class))
+                    .projectName(rs.getString("project_name"))
+                    .assignedToId(assignedToId)
+                    .assignedToName(fullName(rs, "assignee"))
+                    .assignedToEmail(rs.getString("assignee_email"))
+                    .createdByUserId(rs.getObject("created_by_user_id", UUID.class))
+                    .createdByUserName(creatorEmail != null ? fullName(rs, "creator") : "Unknown")
+                    .createdByUserEmail(creatorEmail)
+                    .estimatedHours(rs.getBigDecimal("estimated_hours"))
+                    .actualHours(rs.getBigDecimal("actual_hours"))
+                    .dueDate(dueDate)
+                    .completedAt(toLocalDateTime(rs.getTimestamp("completed_at")))
+                    .createdAt(toLocalDateTime(rs.getTimestamp("created_at")))
+                    .updatedAt(toLocalDateTime(rs.getTimestamp("updated_at")))
+                    .position(rs.getDouble("position"))
+                    .isOverdue(dueDate != null && dueDate.isBefore(now)
+                            && status != TaskStatus.DONE && status != TaskStatus.CANCELLED)
+                    .commentCount(rs.getLong("comment_count"))
+                    .build();
+        };
+    }
+
+    private static String fullName(ResultSet rs, String prefix) throws SQLException {
+        String firstName = rs.getString(prefix + "_first_name");
+        return firstName != null ? firstName + " " + rs.getString(prefix + "_last_name") : null;
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+}
@@ -3,12 +3,20 @@ package com.taskmanager.repository;
 import com.taskmanager.entity.Task;
 import com.taskmanager.entity.TaskPriority;
 import com.taskmanager.entity.TaskStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -19,16 +27,92 @@ public interface TaskRepository extends JpaRepository<Task, UUID> {
     // Find by ID and active
     Optional<Task> findByIdAndIsActiveTrue(UUID id);
 
+    // Find by ID and active, with the assignee loaded in the same query (task detail)
+    @EntityGraph(Task.WITH_ASSIGNEE)
+    Optional<Task> findWithAssigneeByIdAndIsActiveTrue(UUID id);
+
     // Find all tasks for a project
     @Query("SELECT t FROM Task t WHERE t.projectId = :projectId AND t.isActive = true ORDER BY t.position ASC, t.createdAt DESC")
     List<Task> findByProjectIdAndIsActiveTrue(@Param("projectId") UUID projectId);
 
-    // Find all tasks for a user (across all projects they're part of)
+    // Which of the given task IDs are already taken (active or not)
+    @Query("SELECT t.id FROM Task t WHERE t.id IN :ids")
+    List<UUID> findExistingIds(@Param("ids") Collection<UUID> ids);
+
+    // Lowest board position in a project (new tasks go above it)
+    @Query("SELECT MIN(t.position) FROM Task t WHERE t.projectId = :projectId AND t.isActive = true")
+    Optional<Double> findMinPosition(@Param("projectId") UUID projectId);
+
+    // Serialize board reorders and rebalances in a project until the transaction ends
+    @Query(value = "SELECT 1 FROM pg_advisory_xact_lock(hashtext('task-board'), hashtext(CAST(:projectId AS text)))",
+            nativeQuery = true)
+    int lockBoard(@Param("projectId") UUID projectId);
+
+    // Lock the tasks involved in a board reorder against concurrent edits; take lockBoard first
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM Task t WHERE t.projectId = :projectId AND t.id IN :ids AND t.isActive = true ORDER BY t.id")
+    List<Task> findAllForReorder(@Param("projectId") UUID projectId, @Param("ids") Collection<UUID> ids);
+
+    // Respace a project's board positions evenly, keeping the current order; take lockBoard first
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "tasks"))
+    @Query(value = """
+        UPDATE tasks t
+        SET position = ranked.rn * :step
+        FROM (
+            SELECT id, row_number() OVER (ORDER BY position ASC, created_at DESC, id ASC) AS rn
+            FROM tasks
+            WHERE project_id = :projectId AND is_active = true
+        ) ranked
+        WHERE t.id = ranked.id AND t.position <> ranked.rn * :step
+        """, nativeQuery = true)
+    int rebalancePositions(@Param("projectId") UUID projectId, @Param("step") double step);
+
+    // Find projects changed after a version stamp where some neighbouring tasks are closer together than minGap
+    @Query(value = """
+        SELECT DISTINCT project_id FROM (
+            SELECT t.project_id,
+                   t.position - lag(t.position) OVER (PARTITION BY t.project_id ORDER BY t.position) AS gap
+            FROM tasks t
+            WHERE t.is_active = true
+              AND t.project_id IN (SELECT pv.project_id FROM project_versions pv WHERE pv.version > :sinceVersion)
+        ) gaps
+        WHERE gap < :minGap
+        """, nativeQuery = true)
+    List<UUID> findProjectsWithCrowdedPositions(@Param("minGap") double minGap, @Param("sinceVersion") long sinceVersion);
+
+    // Oldest transaction still running; every change stamped by an older transaction is final (delta sync)
+    @Query(value = "SELECT pg_snapshot_xmin(pg_current_snapshot())::text::bigint", nativeQuery = true)
+    long findChangeHorizon();
+
+    // Find tasks created, updated or soft-deleted after a change stamp, up to the horizon (delta sync);
+    // soft deletes by transactions older than tombstonesFrom are left out
+    @Query(value = """
+        SELECT * FROM tasks
+        WHERE project_id = :projectId
+          AND (change_xid, change_seq) > (:afterXid, :afterSeq)
+          AND change_xid < :horizon
+          AND (is_active = TRUE OR change_xid >= :tombstonesFrom)
+        ORDER BY change_xid ASC, change_seq ASC
+        LIMIT :limit
+        """, nativeQuery = true)
+    List<Task> findChangesSince(@Param("projectId") UUID projectId,
+                                @Param("afterXid") long afterXid,
+                                @Param("afterSeq") long afterSeq,
+                                @Param("horizon") long horizon,
+                                @Param("tombstonesFrom") long tombstonesFrom,
+                                @Param("limit") int limit);
+
+    // Find all tasks for a user (across the active projects they own or are a member of)
     @Query("""
-        SELECT DISTINCT t FROM Task t, ProjectMember pm
-        WHERE t.projectId = pm.projectId
-        AND pm.userId = :userId
-        AND t.isActive = true
+        SELECT t FROM Task t
+        WHERE t.isActive = true
+        AND t.projectId IN (
+            SELECT p.id FROM Project p
+            WHERE p.isActive = true
+            AND (p.ownerId = :userId
+                 OR EXISTS (SELECT 1 FROM ProjectMember pm WHERE pm.projectId = p.id AND pm.userId = :userId))
+        )
         ORDER BY t.dueDate ASC NULLS LAST, t.priority DESC, t.createdAt DESC
         """)
     List<Task> findAllUserTasks(@Param("userId") UUID userId);
@@ -102,6 +186,9 @@ public interface TaskRepository extends JpaRepository<Task, UUID> {
         """)
     Long countOverdueTasks(@Param("projectId") UUID projectId, @Param("now") LocalDateTime now);
 
+    // Count a project's active tasks
+    long countByProjectIdAndIsActiveTrue(UUID projectId);
+
     // Count unassigned tasks
     @Query("SELECT COUNT(t) FROM Task t WHERE t.projectId = :projectId AND t.assignedToId IS NULL AND t.isActive = true")
     Long countUnassignedTasks(@Param("projectId") UUID projectId);
@@ -0,0 +1,48 @@
+package com.taskmanager.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * In-process copy of the active project IDs each user can see, read by the cross-project task lists.
+ * Entries are evicted when the user's memberships change and when one of their projects changes.
+ */
+@Component
+public class AccessibleProjectsCache {
+
+    private final Cache<UUID, List<UUID>> projectIds;
+
+    public AccessibleProjectsCache(
+            @Value("${accessible-projects.cache.max-size}") long maxSize,
+            @Value("${accessible-projects.cache.ttl}") Duration ttl
+    ) {
+        this.projectIds = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    public List<UUID> get(UUID userId, Function<UUID, List<UUID>> loader) {
+        return projectIds.get(userId, loader);
+    }
+
+    public void evict(UUID userId) {
+        projectIds.invalidate(userId);
+    }
+
+    // Deactivating a project must hide it from every user who had it
+    public void evictProject(UUID projectId) {
+        projectIds.asMap().values().removeIf(ids -> ids.contains(projectId));
+    }
+
+    public void evictAll() {
+        projectIds.invalidateAll();
+    }
+}
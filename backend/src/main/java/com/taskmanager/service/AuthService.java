@@ -24,6 +24,7 @@ public class AuthService {
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
     private final AuthenticationManager authenticationManager;
+    private final CacheInvalidationPublisher cacheInvalidationPublisher;
 
     @Transactional
     public AuthResponse register(RegisterRequest request) {
@@ -44,6 +45,8 @@ public class AuthService {
                 .build();
 
         User savedUser = userRepository.save(user);
+        // Other nodes may have cached a failed login lookup for this email
+        cacheInvalidationPublisher.publish(CacheInvalidation.of(CacheInvalidation.Target.USER, savedUser.getId()));
         String token = jwtService.generateToken(savedUser);
 
         log.info("User registered successfully with ID: {}", savedUser.getId());
@@ -51,7 +54,8 @@ public class AuthService {
         return buildAuthResponse(savedUser, token);
     }
 
-    @Transactional(readOnly = true)
+    // Not read-only: a read replica may not have the account yet right after registration
+    @Transactional
     public AuthResponse login(LoginRequest request) {
         log.info("User login attempt for email: {}", request.getEmail());
 
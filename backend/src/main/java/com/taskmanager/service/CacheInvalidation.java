@@ -0,0 +1,60 @@
+package com.taskmanager.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.UUID;
+
+/**
+ * A change another node must reflect in its in-process caches. Sent over Postgres NOTIFY
+ * as {@code "<node> <target> <id>"}, with {@code *} as the ID when every entry of the target is affected.
+ */
+@Data
+@AllArgsConstructor
+public class CacheInvalidation {
+
+    public enum Target {
+        USER,
+        PROJECT,
+        PROJECT_MEMBERS,
+        PROJECT_VERSION,
+        // Keyed by user ID: the set of projects the user can see changed
+        USER_PROJECTS
+    }
+
+    private static final String ALL = "*";
+
+    private Target target;
+
+    // Null when every entry of the target is affected
+    private UUID id;
+
+    public static CacheInvalidation of(Target target, UUID id) {
+        return new CacheInvalidation(target, id);
+    }
+
+    public static CacheInvalidation all(Target target) {
+        return new CacheInvalidation(target, null);
+    }
+
+    public String toPayload(String nodeId) {
+        return nodeId + " " + target + " " + (id == null ? ALL : id);
+    }
+
+    // Returns the sending node and the invalidation; rejects anything this version did not write
+    public static Received fromPayload(String payload) {
+        String[] parts = payload.split(" ");
+        if (parts.length != 3) {
+            throw new IllegalArgumentException("Malformed cache invalidation: " + payload);
+        }
+        UUID id = ALL.equals(parts[2]) ? null : UUID.fromString(parts[2]);
+        return new Received(parts[0], new CacheInvalidation(Target.valueOf(parts[1]), id));
+    }
+
+    @Data
+    @AllArgsConstructor
+    public static class Received {
+        private String nodeId;
+        private CacheInvalidation invalidation;
+    }
+}
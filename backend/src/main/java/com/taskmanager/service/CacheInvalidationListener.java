@@ -0,0 +1,114 @@
+package com.taskmanager.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Holds a dedicated LISTEN connection and evicts local cache entries for invalidations
+ * published by other nodes. After a lost connection it evicts everything, since
+ * notifications sent while it was away are gone.
+ */
+@Component
+@ConditionalOnProperty(name = "cache-invalidation.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class CacheInvalidationListener implements SmartLifecycle {
+
+    private static final int POLL_TIMEOUT_MS = 5_000;
+    private static final long RECONNECT_DELAY_MS = 5_000;
+
+    private final DataSourceProperties dataSourceProperties;
+    private final CacheInvalidationPublisher cacheInvalidationPublisher;
+    private final CacheInvalidator cacheInvalidator;
+
+    @Value("${cache-invalidation.url}")
+    private String url;
+
+    private volatile boolean running;
+    private Thread thread;
+
+    @Override
+    public void start() {
+        running = true;
+        thread = new Thread(this::listen, "cache-invalidation-listener");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        thread.interrupt();
+        try {
+            thread.join(POLL_TIMEOUT_MS + 1_000L);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void listen() {
+        boolean reconnecting = false;
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(
+                    url, dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword())) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CacheInvalidationPublisher.CHANNEL);
+                }
+                if (reconnecting) {
+                    cacheInvalidator.evictAll();
+                }
+                log.info("Listening for cache invalidations on channel {}", CacheInvalidationPublisher.CHANNEL);
+
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(POLL_TIMEOUT_MS);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            handle(notification.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Cache invalidation listener lost its connection, reconnecting in {} ms", RECONNECT_DELAY_MS, e);
+                reconnecting = true;
+                try {
+                    Thread.sleep(RECONNECT_DELAY_MS);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void handle(String payload) {
+        try {
+            CacheInvalidation.Received received = CacheInvalidation.fromPayload(payload);
+            if (!received.getNodeId().equals(cacheInvalidationPublisher.getNodeId())) {
+                cacheInvalidator.apply(received.getInvalidation(), true);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Ignoring cache invalidation {}", payload, e);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.taskmanager.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Announces cache invalidations to every node through Postgres NOTIFY.
+ * Invalidations published in a transaction are collected and sent just before it commits;
+ * Postgres delivers them only if the commit succeeds, and this node applies them after it.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CacheInvalidationPublisher {
+
+    public static final String CHANNEL = "cache_invalidation";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CacheInvalidator cacheInvalidator;
+
+    // Lets listeners skip the invalidations this node sent itself
+    @Getter
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public void publish(CacheInvalidation invalidation) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            send(invalidation);
+            cacheInvalidator.apply(invalidation, false);
+            return;
+        }
+        pendingInvalidations().add(invalidation);
+    }
+
+    private Set<CacheInvalidation> pendingInvalidations() {
+        @SuppressWarnings("unchecked")
+        Set<CacheInvalidation> pending = (Set<CacheInvalidation>) TransactionSynchronizationManager.getResource(this);
+        if (pending != null) {
+            return pending;
+        }
+
+        Set<CacheInvalidation> created = new LinkedHashSet<>();
+        TransactionSynchronizationManager.bindResource(this, created);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                created.forEach(CacheInvalidationPublisher.this::send);
+            }
+
+            @Override
+            public void afterCommit() {
+                created.forEach(invalidation -> cacheInvalidator.apply(invalidation, false));
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(CacheInvalidationPublisher.this);
+            }
+        });
+        return created;
+    }
+
+    private void send(CacheInvalidation invalidation) {
+        log.debug("Publishing cache invalidation: {}", invalidation);
+        jdbcTemplate.query("SELECT pg_notify(?, ?)", rs -> { }, CHANNEL, invalidation.toPayload(nodeId));
+    }
+}
@@ -0,0 +1,88 @@
+package com.taskmanager.service;
+
+import com.taskmanager.entity.Project;
+import com.taskmanager.entity.ProjectMember;
+import com.taskmanager.entity.User;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Evicts the in-process cache entries an invalidation refers to.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CacheInvalidator {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final ProjectVersionCache projectVersionCache;
+    private final AccessibleProjectsCache accessibleProjectsCache;
+
+    /**
+     * Hibernate already keeps its second-level cache right for writes made on this node,
+     * so only changes from other nodes touch it.
+     */
+    public void apply(CacheInvalidation invalidation, boolean fromOtherNode) {
+        if (invalidation.getTarget() == CacheInvalidation.Target.PROJECT_VERSION) {
+            if (invalidation.getId() == null) {
+                projectVersionCache.evictAll();
+            } else {
+                projectVersionCache.evict(invalidation.getId());
+            }
+            return;
+        }
+        if (invalidation.getTarget() == CacheInvalidation.Target.USER_PROJECTS) {
+            if (invalidation.getId() == null) {
+                accessibleProjectsCache.evictAll();
+            } else {
+                accessibleProjectsCache.evict(invalidation.getId());
+            }
+            return;
+        }
+        if (invalidation.getTarget() == CacheInvalidation.Target.PROJECT) {
+            if (invalidation.getId() == null) {
+                accessibleProjectsCache.evictAll();
+            } else {
+                accessibleProjectsCache.evictProject(invalidation.getId());
+            }
+        }
+        if (!fromOtherNode) {
+            return;
+        }
+
+        Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        switch (invalidation.getTarget()) {
+            case USER -> evictEntity(cache, User.class, invalidation);
+            case PROJECT -> evictEntity(cache, Project.class, invalidation);
+            // Membership rows are cached by their own ID, which the sender does not know
+            case PROJECT_MEMBERS -> cache.evictEntityData(ProjectMember.class);
+            default -> throw new IllegalStateException("Unhandled target: " + invalidation.getTarget());
+        }
+        // Cached role, access and login lookups may include the changed rows
+        cache.evictDefaultQueryRegion();
+    }
+
+    // Used when invalidations may have been missed, e.g. while the listener was reconnecting
+    public void evictAll() {
+        log.info("Evicting all cached users, projects, memberships, project versions and accessible projects");
+        Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        cache.evictEntityData(User.class);
+        cache.evictEntityData(Project.class);
+        cache.evictEntityData(ProjectMember.class);
+        cache.evictDefaultQueryRegion();
+        projectVersionCache.evictAll();
+        accessibleProjectsCache.evictAll();
+    }
+
+    private void evictEntity(Cache cache, Class<?> entity, CacheInvalidation invalidation) {
+        if (invalidation.getId() == null) {
+            cache.evictEntityData(entity);
+        } else {
+            cache.evictEntityData(entity, invalidation.getId());
+        }
+    }
+}
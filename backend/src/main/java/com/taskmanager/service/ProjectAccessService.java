@@ -0,0 +1,33 @@
+package com.taskmanager.service;
+
+import com.taskmanager.config.ReadReplicaRoutingDataSource;
+import com.taskmanager.repository.ProjectRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Resolves the active projects a user owns or is a member of, once per user rather than once per query.
+ * Any write that changes that set must publish a {@link CacheInvalidation.Target#USER_PROJECTS} invalidation.
+ */
+@Service
+@RequiredArgsConstructor
+public class ProjectAccessService {
+
+    private final ProjectRepository projectRepository;
+    private final AccessibleProjectsCache accessibleProjectsCache;
+    private final ReadReplicaRoutingDataSource readReplicaRoutingDataSource;
+
+    @Transactional(readOnly = true)
+    public List<UUID> getAccessibleProjectIds(UUID userId) {
+        // A lagging replica can miss a membership granted before the last eviction; never cache it
+        if (readReplicaRoutingDataSource.routesToReplica()) {
+            return List.copyOf(projectRepository.findAccessibleProjectIds(userId));
+        }
+        return accessibleProjectsCache.get(userId,
+                id -> List.copyOf(projectRepository.findAccessibleProjectIds(id)));
+    }
+}
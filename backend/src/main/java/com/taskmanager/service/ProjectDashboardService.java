@@ -0,0 +1,144 @@
+package com.taskmanager.service;
+
+import com.taskmanager.dto.ProjectDashboardResponse;
+import com.taskmanager.dto.ProjectMemberResponse;
+import com.taskmanager.dto.ProjectResponse;
+import com.taskmanager.dto.TaskBoardResponse;
+import com.taskmanager.dto.TaskStatisticsResponse;
+import com.taskmanager.entity.User;
+import com.taskmanager.exception.ForbiddenException;
+import com.taskmanager.exception.ResourceNotFoundException;
+import com.taskmanager.repository.ProjectRepository;
+import com.taskmanager.repository.UserRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Everything the project page shows on open, in one call. The caller is authorized once,
+ * then the project, members, board and statistics are read concurrently, each in its own
+ * read-only transaction on its own connection, so the page costs the slowest read rather than the sum.
+ */
+@Service
+@Slf4j
+public class ProjectDashboardService {
+
+    private final ProjectRepository projectRepository;
+    private final UserRepository userRepository;
+    private final ProjectService projectService;
+    private final TaskService taskService;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ThreadPoolExecutor executor;
+    private final Duration timeout;
+
+    public ProjectDashboardService(
+            ProjectRepository projectRepository,
+            UserRepository userRepository,
+            ProjectService projectService,
+            TaskService taskService,
+            PlatformTransactionManager transactionManager,
+            @Value("${dashboard.executor.pool-size}") int poolSize,
+            @Value("${dashboard.executor.queue-capacity}") int queueCapacity,
+            @Value("${dashboard.timeout}") Duration timeout
+    ) {
+        this.projectRepository = projectRepository;
+        this.userRepository = userRepository;
+        this.projectService = projectService;
+        this.taskService = taskService;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        // Becomes the statement timeout, so a read still running after the deadline is stopped by the database
+        this.readOnlyTransaction.setTimeout((int) Math.max(1, (timeout.toMillis() + 999) / 1000));
+        this.timeout = timeout;
+
+        // Bounded so dashboards cannot take every pooled connection; when full, the request thread reads itself
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "dashboard-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    public ProjectDashboardResponse getDashboard(UUID userId, UUID projectId, Integer boardLimit) {
+        log.info("Fetching dashboard for project ID: {}", projectId);
+
+        if (!projectRepository.existsByIdAndIsActiveTrue(projectId)) {
+            throw new ResourceNotFoundException("Project not found");
+        }
+        if (!hasAccessToProject(userId, projectId)) {
+            throw new ForbiddenException("You don't have access to this project");
+        }
+
+        CompletableFuture<ProjectResponse> project = read(() -> projectService.readProject(projectId));
+        CompletableFuture<List<ProjectMemberResponse>> members = read(() -> projectService.readProjectMembers(projectId));
+        CompletableFuture<TaskBoardResponse> board = read(() -> taskService.readProjectBoard(projectId, boardLimit));
+        CompletableFuture<TaskStatisticsResponse> statistics = read(() -> taskService.readProjectStatistics(userId, projectId));
+
+        await(List.of(project, members, board, statistics));
+        return ProjectDashboardResponse.builder()
+                .project(project.join())
+                .members(members.join())
+                .board(board.join())
+                .statistics(statistics.join())
+                .build();
+    }
+
+    private <T> CompletableFuture<T> read(Supplier<T> query) {
+        return CompletableFuture.supplyAsync(() -> readOnlyTransaction.execute(status -> query.get()), executor);
+    }
+
+    // Rethrows the first failed read as is, so its status code reaches the client
+    private void await(List<CompletableFuture<?>> reads) {
+        CompletableFuture<Void> all = CompletableFuture.allOf(reads.toArray(new CompletableFuture<?>[0]));
+        try {
+            all.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Dashboard read failed", e.getCause());
+        } catch (TimeoutException e) {
+            // Cancelling allOf leaves its inputs alone; a cancelled read that has not started is skipped
+            reads.forEach(read -> read.cancel(true));
+            throw new IllegalStateException("Dashboard reads did not finish within " + timeout, e);
+        } catch (InterruptedException e) {
+            reads.forEach(read -> read.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while reading the dashboard", e);
+        }
+    }
+
+    private boolean hasAccessToProject(UUID userId, UUID projectId) {
+        // System admins have access to all projects
+        User user = userRepository.findById(userId).orElse(null);
+        if (user != null && user.isAdmin()) {
+            return true;
+        }
+        return projectRepository.hasAccess(projectId, userId);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
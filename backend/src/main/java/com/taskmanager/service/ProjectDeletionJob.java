@@ -0,0 +1,43 @@
+package com.taskmanager.service;
+
+import com.taskmanager.config.SingletonJob;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Works through deleted projects, soft-deleting their tasks in batches.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProjectDeletionJob {
+
+    private final ProjectDeletionService projectDeletionService;
+
+    @Value("${project-deletion.batch-size}")
+    private int batchSize;
+
+    @Value("${project-deletion.max-batches-per-run}")
+    private int maxBatchesPerRun;
+
+    @Scheduled(
+            fixedDelayString = "${project-deletion.interval-ms}",
+            initialDelayString = "${project-deletion.interval-ms}"
+    )
+    @SingletonJob("project-deletion")
+    public void cascadeDeletedProjects() {
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            try {
+                if (!projectDeletionService.processBatch(batchSize)) {
+                    return;
+                }
+            } catch (RuntimeException e) {
+                log.warn("Failed to process a project deletion batch", e);
+                return;
+            }
+        }
+    }
+}
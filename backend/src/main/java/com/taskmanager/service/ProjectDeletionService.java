@@ -0,0 +1,78 @@
+package com.taskmanager.service;
+
+import com.taskmanager.entity.ProjectDeletion;
+import com.taskmanager.entity.ProjectDeletionStatus;
+import com.taskmanager.repository.NotificationRepository;
+import com.taskmanager.repository.ProjectDeletionRepository;
+import com.taskmanager.repository.TaskJdbcRepository;
+import com.taskmanager.repository.TaskRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Soft-deletes the tasks of deleted projects and removes their notifications,
+ * one bounded batch per transaction. Comments stay with their tasks and leave
+ * the hot tables with them through the task archive.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ProjectDeletionService {
+
+    private final ProjectDeletionRepository projectDeletionRepository;
+    private final TaskJdbcRepository taskJdbcRepository;
+    private final TaskRepository taskRepository;
+    private final NotificationRepository notificationRepository;
+    private final ProjectVersionService projectVersionService;
+
+    /**
+     * Claims the oldest unfinished deletion and processes one batch of its tasks.
+     * Progress is saved in the same transaction, so an interrupted cascade resumes where it stopped.
+     *
+     * @return false when there was nothing to do or the batch made no progress
+     */
+    @Transactional
+    public boolean processBatch(int batchSize) {
+        List<ProjectDeletion> claimed = projectDeletionRepository.findUnfinishedForUpdate(PageRequest.of(0, 1));
+        if (claimed.isEmpty()) {
+            return false;
+        }
+
+        ProjectDeletion deletion = claimed.get(0);
+        LocalDateTime now = LocalDateTime.now();
+        if (deletion.getStatus() == ProjectDeletionStatus.PENDING) {
+            deletion.setStatus(ProjectDeletionStatus.RUNNING);
+            deletion.setStartedAt(now);
+            deletion.setTasksTotal((int) taskRepository.countByProjectIdAndIsActiveTrue(deletion.getProjectId()));
+        }
+
+        List<UUID> taskIds = taskJdbcRepository.deactivateProjectTasks(deletion.getProjectId(), batchSize, now);
+        if (!taskIds.isEmpty()) {
+            deletion.setTasksDeactivated(deletion.getTasksDeactivated() + taskIds.size());
+            deletion.setNotificationsDeleted(deletion.getNotificationsDeleted()
+                    + notificationRepository.deleteByTaskIdIn(taskIds));
+            projectVersionService.bump(deletion.getProjectId());
+        }
+
+        // A short batch may only mean the rest is locked by live edits, so confirm nothing is left
+        boolean completed = taskIds.size() < batchSize
+                && taskRepository.countByProjectIdAndIsActiveTrue(deletion.getProjectId()) == 0;
+        if (completed) {
+            deletion.setStatus(ProjectDeletionStatus.COMPLETED);
+            deletion.setCompletedAt(now);
+        }
+        deletion.setUpdatedAt(now);
+        projectDeletionRepository.save(deletion);
+
+        log.info("Deleted project {}: {} of {} tasks soft-deleted{}", deletion.getProjectId(),
+                deletion.getTasksDeactivated(), deletion.getTasksTotal(), completed ? ", done" : "");
+        return !taskIds.isEmpty() || completed;
+    }
+}
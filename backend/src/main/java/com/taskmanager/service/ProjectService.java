@@ -2,12 +2,14 @@ package com.taskmanager.service;
 
 import com.taskmanager.dto.*;
 import com.taskmanager.entity.Project;
+import com.taskmanager.entity.ProjectDeletion;
 import com.taskmanager.entity.ProjectMember;
 import com.taskmanager.entity.ProjectRole;
 import com.taskmanager.entity.User;
 import com.taskmanager.exception.DuplicateResourceException;
 import com.taskmanager.exception.ForbiddenException;
 import com.taskmanager.exception.ResourceNotFoundException;
+import com.taskmanager.repository.ProjectDeletionRepository;
 import com.taskmanager.repository.ProjectMemberRepository;
 import com.taskmanager.repository.ProjectRepository;
 import com.taskmanager.repository.UserRepository;
@@ -16,6 +18,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -28,6 +31,9 @@ public class ProjectService {
     private final ProjectRepository projectRepository;
     private final ProjectMemberRepository projectMemberRepository;
     private final UserRepository userRepository;
+    private final ProjectVersionService projectVersionService;
+    private final CacheInvalidationPublisher cacheInvalidationPublisher;
+    private final ProjectDeletionRepository projectDeletionRepository;
 
     @Transactional
     public ProjectResponse createProject(UUID userId, CreateProjectRequest request) {
@@ -55,6 +61,9 @@ public class ProjectService {
                 .role(ProjectRole.OWNER)
                 .build();
         projectMemberRepository.save(ownerMember);
+        projectVersionService.bump(savedProject.getId());
+        cacheInvalidationPublisher.publish(CacheInvalidation.of(CacheInvalidation.Target.PROJECT_MEMBERS, savedProject.getId()));
+        cacheInvalidationPublisher.publish(CacheInvalidation.of(CacheInvalidation.Target.USER_PROJECTS, userId));
 
         log.info("Project created successfully with ID: {}", savedProject.getId());
         return mapToProjectResponse(savedProject, user);
@@ -107,6 +116,16 @@ public class ProjectService {
         return mapToProjectResponse(project, owner);
     }
 
+    // Project without the access check, for callers that already authorized the user
+    @Transactional(readOnly = true)
+    public ProjectResponse readProject(UUID projectId) {
+        Project project = projectRepository.findByIdAndIsActiveTrue(projectId)
+                .orElseThrow(() -> new ResourceNotFoundException("Project not found"));
+
+        User owner = userRepository.findById(project.getOwnerId()).orElse(null);
+        return mapToProjectResponse(project, owner);
+    }
+
     @Transactional
     public ProjectResponse updateProject(UUID userId, UUID projectId, UpdateProjectRequest request) {
         log.info("Updating project ID: {} by user ID: {}", projectId, userId);
@@ -131,6 +150,8 @@ public class ProjectService {
         }
 
         Project updatedProject = projectRepository.save(project);
+        projectVersionService.bump(projectId);
+        cacheInvalidationPublisher.publish(CacheInvalidation.of(CacheInvalidation.Target.PROJECT, projectId));
         log.info("Project updated successfully: {}", projectId);
 
         User owner = userRepository.findById(updatedProject.getOwnerId()).orElse(null);
@@ -152,10 +173,45 @@ public class ProjectService {
         // Soft delete
         project.setIsActive(false);
         projectRepository.save(project);
+        projectVersionService.bump(projectId);
+        cacheInvalidationPublisher.publish(CacheInvalidation.of(CacheInvalidation.Target.PROJECT, projectId));
+
+        // Tasks are soft-deleted afterwards in batches by ProjectDeletionJob
+        LocalDateTime now = LocalDateTime.now();
+        projectDeletionRepository.save(ProjectDeletion.builder()
+                .projectId(projectId)
+                .requestedByUserId(userId)
+                .requestedAt(now)
+                .updatedAt(now)
+                .build());
 
         log.info("Project soft deleted successfully: {}", projectId);
     }
 
+    @Transactional(readOnly = true)
+    public ProjectDeletionResponse getDeletionStatus(UUID userId, UUID projectId) {
+        log.info("Fetching deletion progress for project ID: {}", projectId);
+
+        // Only the owner deletes a project, so only the owner follows its progress
+        if (!isOwner(userId, projectId)) {
+            throw new ForbiddenException("Only the project owner can view deletion progress");
+        }
+
+        ProjectDeletion deletion = projectDeletionRepository.findById(projectId)
+                .orElseThrow(() -> new ResourceNotFoundException("Project deletion not found"));
+
+        return ProjectDeletionResponse.builder()
+                .projectId(deletion.getProjectId())
+                .status(deletion.getStatus())
+                .tasksTotal(deletion.getTasksTotal())
+                .tasksDeactivated(deletion.getTasksDeactivated())
+                .notificationsDeleted(deletion.getNotificationsDeleted())
+                .requestedAt(deletion.getRequestedAt())
+                .startedAt(deletion.getStartedAt())
+                .completedAt(deletion.getCompletedAt())
+                .build();
+    }
+
     @Transactional
     public ProjectMemberResponse addMember(UUID userId, UUID projectId, AddMemberRequest request) {
         log.info("Adding member to project ID: {} by user ID: {}", projectId, userId);
@@ -194,6 +250,9 @@ public class ProjectService {
                 .build();
 
         ProjectMember savedMember = projectMemberRepository.save(member);
+        projectVersionService.bump(projectId);
+        cacheInvalidationPublisher.publish(CacheInvalidation.of(CacheInvalidation.Target.PROJECT_MEMBERS, projectId));
+        cacheInvalidationPublisher.publish(CacheInvalidation.of(CacheInvalidation.Target.USER_PROJECTS, userToAdd.getId()));
         log.info("Member added successfully to project: {}", projectId);
 
         return mapToProjectMemberResponse(savedMember, userToAdd);
@@ -224,6 +283,8 @@ public class ProjectService {
         // Update role
         member.setRole(newRole);
         ProjectMember updatedMember = projectMemberRepository.save(member);
+        projectVersionService.bump(projectId);
+        cacheInvalidationPublisher.publish(CacheInvalidation.of(CacheInvalidation.Target.PROJECT_MEMBERS, projectId));
 
         User memberUser = userRepository.findById(memberId).orElse(null);
         log.info("Member role updated successfully");
@@ -251,9 +312,29 @@ public class ProjectService {
 
         // Remove member
         projectMemberRepository.deleteByProjectIdAndUserId(projectId, memberId);
+        projectVersionService.bump(projectId);
+        cacheInvalidationPublisher.publish(CacheInvalidation.of(CacheInvalidation.Target.PROJECT_MEMBERS, projectId));
+        cacheInvalidationPublisher.publish(CacheInvalidation.of(CacheInvalidation.Target.USER_PROJECTS, memberId));
         log.info("Member removed successfully from project: {}", projectId);
     }
 
+    // Authorizes the caller and returns the project's version stamp for conditional GETs
+    @Transactional(readOnly = true)
+    public long getProjectVersion(UUID userId, UUID projectId) {
+        if (!projectRepository.existsByIdAndIsActiveTrue(projectId)) {
+            throw new ResourceNotFoundException("Project not found");
+        }
+
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+
+        if (!user.isAdmin() && !hasAccess(userId, projectId)) {
+            throw new ForbiddenException("You don't have access to this project");
+        }
+
+        return projectVersionService.getVersion(projectId);
+    }
+
     @Transactional(readOnly = true)
     public List<ProjectMemberResponse> getProjectMembers(UUID userId, UUID projectId) {
         log.info("Fetching members for project ID: {}", projectId);
@@ -270,14 +351,16 @@ public class ProjectService {
         if (!user.isAdmin() && !hasAccess(userId, projectId)) {
             throw new ForbiddenException("You don't have access to this project");
         }
+        return readProjectMembers(projectId);
+    }
 
+    // Members without the access check, for callers that already authorized the user
+    @Transactional(readOnly = true)
+    public List<ProjectMemberResponse> readProjectMembers(UUID projectId) {
         List<ProjectMember> members = projectMemberRepository.findByProjectIdOrderByJoinedAtAsc(projectId);
 
         return members.stream()
-                .map(member -> {
-                    User memberUser = userRepository.findById(member.getUserId()).orElse(null);
-                    return mapToProjectMemberResponse(member, memberUser);
-                })
+                .map(member -> mapToProjectMemberResponse(member, member.getUser()))
                 .collect(Collectors.toList());
     }
 
@@ -306,10 +389,7 @@ public class ProjectService {
         List<ProjectMember> members = projectMemberRepository.findByProjectIdOrderByJoinedAtAsc(project.getId());
 
         List<ProjectMemberResponse> memberResponses = members.stream()
-                .map(member -> {
-                    User memberUser = userRepository.findById(member.getUserId()).orElse(null);
-                    return mapToProjectMemberResponse(member, memberUser);
-                })
+                .map(member -> mapToProjectMemberResponse(member, member.getUser()))
                 .collect(Collectors.toList());
 
         return ProjectResponse.builder()
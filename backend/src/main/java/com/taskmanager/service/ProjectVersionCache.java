@@ -0,0 +1,42 @@
+package com.taskmanager.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * In-process copy of project version stamps, read on every conditional GET.
+ * Entries are evicted after a local bump commits and when another node announces one.
+ */
+@Component
+public class ProjectVersionCache {
+
+    private final Cache<UUID, Long> versions;
+
+    public ProjectVersionCache(
+            @Value("${project-versions.cache.max-size}") long maxSize,
+            @Value("${project-versions.cache.ttl}") Duration ttl
+    ) {
+        this.versions = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    public long get(UUID projectId, Function<UUID, Long> loader) {
+        return versions.get(projectId, loader);
+    }
+
+    public void evict(UUID projectId) {
+        versions.invalidate(projectId);
+    }
+
+    public void evictAll() {
+        versions.invalidateAll();
+    }
+}
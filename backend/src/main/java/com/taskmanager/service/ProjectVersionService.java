@@ -0,0 +1,50 @@
+package com.taskmanager.service;
+
+import com.taskmanager.config.ReadReplicaRoutingDataSource;
+import com.taskmanager.repository.ProjectVersionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+/**
+ * Tracks a version stamp per project. Any write that changes what a project's
+ * read endpoints return must call {@link #bump}; readers turn the version into an ETag.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ProjectVersionService {
+
+    private final ProjectVersionRepository projectVersionRepository;
+    private final ProjectVersionCache projectVersionCache;
+    private final CacheInvalidationPublisher cacheInvalidationPublisher;
+    private final ReadReplicaRoutingDataSource readReplicaRoutingDataSource;
+
+    @Transactional(readOnly = true)
+    public long getVersion(UUID projectId) {
+        // A lagging replica can return a version older than the last eviction; never cache it
+        if (readReplicaRoutingDataSource.routesToReplica()) {
+            return projectVersionRepository.findVersionByProjectId(projectId).orElse(0L);
+        }
+        return projectVersionCache.get(projectId,
+                id -> projectVersionRepository.findVersionByProjectId(id).orElse(0L));
+    }
+
+    @Transactional
+    public void bump(UUID projectId) {
+        log.debug("Bumping version of project ID: {}", projectId);
+        projectVersionRepository.bump(projectId);
+        cacheInvalidationPublisher.publish(CacheInvalidation.of(CacheInvalidation.Target.PROJECT_VERSION, projectId));
+    }
+
+    // User names and emails are embedded in project, member and task payloads
+    @Transactional
+    public void bumpAllForMember(UUID userId) {
+        log.debug("Bumping versions of all projects for member ID: {}", userId);
+        projectVersionRepository.bumpAllForMember(userId);
+        cacheInvalidationPublisher.publish(CacheInvalidation.all(CacheInvalidation.Target.PROJECT_VERSION));
+    }
+}
@@ -0,0 +1,66 @@
+package com.taskmanager.service;
+
+import com.taskmanager.config.SingletonJob;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Moves soft-deleted tasks and tasks finished longer than the retention period
+ * into the archive tables, in bounded batches.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TaskArchiveJob {
+
+    private final TaskArchiveService taskArchiveService;
+
+    @Value("${task-archive.finished-after}")
+    private Duration finishedAfter;
+
+    @Value("${task-archive.deleted-after}")
+    private Duration deletedAfter;
+
+    @Value("${task-archive.batch-size}")
+    private int batchSize;
+
+    @Value("${task-archive.max-batches-per-run}")
+    private int maxBatchesPerRun;
+
+    @Scheduled(
+            fixedDelayString = "${task-archive.interval-ms}",
+            initialDelayString = "${task-archive.interval-ms}"
+    )
+    @SingletonJob("task-archive")
+    public void archiveTasks() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime deletedBefore = now.minus(deletedAfter);
+        LocalDateTime finishedBefore = now.minus(finishedAfter);
+
+        int archived = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            int moved;
+            try {
+                moved = taskArchiveService.archiveBatch(deletedBefore, finishedBefore, batchSize);
+            } catch (RuntimeException e) {
+                log.warn("Failed to archive a batch of tasks", e);
+                break;
+            }
+            archived += moved;
+            // A short batch means the backlog is drained, or the rest is locked by live edits
+            if (moved < batchSize) {
+                break;
+            }
+        }
+
+        if (archived > 0) {
+            log.info("Archived {} tasks", archived);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.taskmanager.service;
+
+import com.taskmanager.dto.TaskCommentResponse;
+import com.taskmanager.dto.TaskPageResponse;
+import com.taskmanager.dto.TaskResponse;
+import com.taskmanager.entity.User;
+import com.taskmanager.exception.ForbiddenException;
+import com.taskmanager.exception.ResourceNotFoundException;
+import com.taskmanager.repository.ProjectRepository;
+import com.taskmanager.repository.TaskArchiveRepository;
+import com.taskmanager.repository.TaskCursor;
+import com.taskmanager.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Archived task history: moves batches of finished and soft-deleted tasks out
+ * of the hot tables, and serves the archive on demand.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TaskArchiveService {
+
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 200;
+
+    private final TaskArchiveRepository taskArchiveRepository;
+    private final ProjectRepository projectRepository;
+    private final UserRepository userRepository;
+    private final ProjectVersionService projectVersionService;
+
+    // One batch per transaction, so locks on tasks are held only for the rows being moved
+    @Transactional
+    public int archiveBatch(LocalDateTime deletedBefore, LocalDateTime finishedBefore, int batchSize) {
+        Map<UUID, UUID> tasks = taskArchiveRepository.lockArchivable(deletedBefore, finishedBefore, batchSize);
+        if (tasks.isEmpty()) {
+            return 0;
+        }
+
+        int archived = taskArchiveRepository.archive(tasks.keySet(), LocalDateTime.now());
+        // Finished tasks leave the board, so cached task lists of these projects are stale
+        new HashSet<>(tasks.values()).forEach(projectVersionService::bump);
+        return archived;
+    }
+
+    @Transactional(readOnly = true)
+    public TaskPageResponse getProjectArchive(UUID userId, UUID projectId, String cursor, Integer limit) {
+        log.info("Fetching archived tasks for project ID: {}", projectId);
+
+        if (!hasAccessToProject(userId, projectId)) {
+            throw new ForbiddenException("You don't have access to this project");
+        }
+
+        TaskCursor after = cursor != null ? TaskCursor.decode(cursor) : null;
+        int pageSize = resolvePageSize(limit);
+        List<TaskResponse> rows = taskArchiveRepository.findProjectArchive(projectId, after, pageSize + 1, LocalDateTime.now());
+
+        String nextCursor = null;
+        if (rows.size() > pageSize) {
+            rows = rows.subList(0, pageSize);
+            nextCursor = TaskCursor.of(rows.get(pageSize - 1)).encode();
+        }
+        return TaskPageResponse.builder()
+                .items(rows)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    @Transactional(readOnly = true)
+    public TaskResponse getArchivedTask(UUID userId, UUID taskId) {
+        log.info("Fetching archived task ID: {}", taskId);
+
+        TaskResponse task = taskArchiveRepository.findArchivedTask(taskId, LocalDateTime.now())
+                .orElseThrow(() -> new ResourceNotFoundException("Archived task not found"));
+
+        if (!hasAccessToProject(userId, task.getProjectId())) {
+            throw new ForbiddenException("You don't have access to this task");
+        }
+        return task;
+    }
+
+    @Transactional(readOnly = true)
+    public List<TaskCommentResponse> getArchivedComments(UUID userId, UUID taskId) {
+        TaskResponse task = getArchivedTask(userId, taskId);
+        return taskArchiveRepository.findArchivedComments(task.getId(), userId);
+    }
+
+    private int resolvePageSize(Integer requestedLimit) {
+        if (requestedLimit == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        if (requestedLimit < 1) {
+            throw new IllegalArgumentException("Limit must be at least 1");
+        }
+        return Math.min(requestedLimit, MAX_PAGE_SIZE);
+    }
+
+    private boolean hasAccessToProject(UUID userId, UUID projectId) {
+        // System admins have access to all projects
+        User user = userRepository.findById(userId).orElse(null);
+        if (user != null && user.isAdmin()) {
+            return true;
+        }
+        return projectRepository.hasAccess(projectId, userId);
+    }
+}
@@ -0,0 +1,298 @@
+package com.taskmanager.service;
+
+import com.taskmanager.dto.*;
+import com.taskmanager.entity.*;
+import com.taskmanager.exception.ForbiddenException;
+import com.taskmanager.exception.ResourceNotFoundException;
+import com.taskmanager.repository.ProjectMemberRepository;
+import com.taskmanager.repository.ProjectRepository;
+import com.taskmanager.repository.TaskRepository;
+import com.taskmanager.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Applies many task creates, updates and deletes in one transaction.
+ * Permissions and memberships are looked up once per project, and writes go
+ * through the persistence context so Hibernate can send them as JDBC batches.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TaskBulkService {
+
+    // Operations between flushes; a multiple of hibernate.jdbc.batch_size
+    private static final int CHUNK_SIZE = 500;
+
+    private final TaskRepository taskRepository;
+    private final ProjectRepository projectRepository;
+    private final ProjectMemberRepository projectMemberRepository;
+    private final UserRepository userRepository;
+    private final NotificationService notificationService;
+    private final ProjectVersionService projectVersionService;
+    private final EntityManager entityManager;
+
+    @Transactional
+    public BulkTaskResponse applyOperations(UUID userId, BulkTaskRequest request) {
+        List<BulkTaskOperation> operations = request.getOperations();
+        log.info("Applying {} bulk task operations for user ID: {}", operations.size(), userId);
+
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+        BulkContext context = new BulkContext(userId, user.isAdmin());
+        prepareCreates(context, operations);
+
+        List<BulkTaskResult> results = new ArrayList<>(operations.size());
+        for (int start = 0; start < operations.size(); start += CHUNK_SIZE) {
+            List<BulkTaskOperation> chunk = operations.subList(start, Math.min(start + CHUNK_SIZE, operations.size()));
+            Map<UUID, Task> tasks = loadTasks(chunk);
+
+            for (int i = 0; i < chunk.size(); i++) {
+                results.add(apply(context, start + i, chunk.get(i), tasks));
+            }
+
+            // Send this chunk's writes and drop the entities so the persistence context stays small
+            entityManager.flush();
+            entityManager.clear();
+        }
+
+        context.touchedProjects.forEach(projectVersionService::bump);
+
+        int succeeded = (int) results.stream().filter(BulkTaskResult::isSuccess).count();
+        log.info("Bulk task operations finished: {} succeeded, {} failed", succeeded, results.size() - succeeded);
+
+        return BulkTaskResponse.builder()
+                .succeeded(succeeded)
+                .failed(results.size() - succeeded)
+                .results(results)
+                .build();
+    }
+
+    private BulkTaskResult apply(BulkContext context, int index, BulkTaskOperation operation, Map<UUID, Task> tasks) {
+        try {
+            Task task = switch (operation.getType()) {
+                case CREATE -> create(context, operation);
+                case UPDATE -> update(context, operation, tasks);
+                case DELETE -> delete(context, operation, tasks);
+            };
+            context.touchedProjects.add(task.getProjectId());
+            return BulkTaskResult.builder().index(index).id(task.getId()).success(true).build();
+        } catch (ForbiddenException | ResourceNotFoundException | IllegalArgumentException e) {
+            return BulkTaskResult.builder().index(index).id(operation.getId()).success(false).error(e.getMessage()).build();
+        }
+    }
+
+    private Task create(BulkContext context, BulkTaskOperation operation) {
+        CreateTaskRequest data = operation.getCreate();
+        if (data == null) {
+            throw new IllegalArgumentException("create is required for CREATE");
+        }
+
+        Project project = project(context, data.getProjectId());
+        requireCanEdit(context, project.getId());
+        if (data.getAssignedToId() != null) {
+            validateAssignment(context, project.getId(), data.getAssignedToId());
+        }
+        if (operation.getId() != null && !context.reservedIds.remove(operation.getId())) {
+            throw new IllegalArgumentException("Task ID already exists");
+        }
+
+        Task task = Task.builder()
+                .id(operation.getId())
+                .title(data.getTitle())
+                .description(data.getDescription())
+                .projectId(project.getId())
+                .assignedToId(data.getAssignedToId())
+                .createdByUserId(context.userId)
+                .priority(data.getPriority() != null ? data.getPriority() : TaskPriority.MEDIUM)
+                .status(data.getStatus() != null ? data.getStatus() : TaskStatus.TODO)
+                .estimatedHours(data.getEstimatedHours())
+                .dueDate(data.getDueDate())
+                .position(data.getPosition() != null ? data.getPosition() : nextPosition(context, project.getId()))
+                .isActive(true)
+                .build();
+        entityManager.persist(task);
+
+        if (task.getAssignedToId() != null && !task.getAssignedToId().equals(context.userId)) {
+            notificationService.createNotification(
+                    task.getAssignedToId(),
+                    task.getId(),
+                    NotificationType.TASK_ASSIGNED,
+                    "New Task Assigned",
+                    String.format("You have been assigned to task '%s' in project '%s'", task.getTitle(), project.getName())
+            );
+        }
+        return task;
+    }
+
+    private Task update(BulkContext context, BulkTaskOperation operation, Map<UUID, Task> tasks) {
+        UpdateTaskRequest data = operation.getUpdate();
+        if (data == null) {
+            throw new IllegalArgumentException("update is required for UPDATE");
+        }
+
+        Task task = existingTask(operation, tasks);
+        requireCanEdit(context, task.getProjectId());
+        if (data.getAssignedToId() != null) {
+            validateAssignment(context, task.getProjectId(), data.getAssignedToId());
+        }
+
+        UUID oldAssignedToId = task.getAssignedToId();
+        TaskService.applyChanges(task, data);
+        if (data.getAssignedToId() != null) {
+            task.setAssignedToId(data.getAssignedToId());
+            if (!data.getAssignedToId().equals(oldAssignedToId) && !data.getAssignedToId().equals(context.userId)) {
+                notificationService.createNotification(
+                        data.getAssignedToId(),
+                        task.getId(),
+                        NotificationType.TASK_REASSIGNED,
+                        "Task Reassigned to You",
+                        String.format("You have been assigned to task '%s' in project '%s'",
+                                task.getTitle(), project(context, task.getProjectId()).getName())
+                );
+            }
+        }
+        return task;
+    }
+
+    private Task delete(BulkContext context, BulkTaskOperation operation, Map<UUID, Task> tasks) {
+        Task task = existingTask(operation, tasks);
+
+        // System admins, project owners, or task creators can delete
+        if (!context.admin && !isOwner(context, task.getProjectId()) && !task.getCreatedByUserId().equals(context.userId)) {
+            throw new ForbiddenException("Only system admin, project owner, or task creator can delete tasks");
+        }
+
+        task.setIsActive(false);
+        return task;
+    }
+
+    // Checks pre-assigned IDs up front and counts new tasks per project for their board positions
+    private void prepareCreates(BulkContext context, List<BulkTaskOperation> operations) {
+        Set<UUID> requestedIds = new HashSet<>();
+        for (BulkTaskOperation operation : operations) {
+            if (operation.getType() != BulkTaskOperationType.CREATE) {
+                continue;
+            }
+            if (operation.getId() != null) {
+                requestedIds.add(operation.getId());
+            }
+            if (operation.getCreate() != null && operation.getCreate().getProjectId() != null) {
+                context.pendingCreates.merge(operation.getCreate().getProjectId(), 1, Integer::sum);
+            }
+        }
+
+        if (!requestedIds.isEmpty()) {
+            context.reservedIds.addAll(requestedIds);
+            taskRepository.findExistingIds(requestedIds).forEach(context.reservedIds::remove);
+        }
+    }
+
+    private Map<UUID, Task> loadTasks(List<BulkTaskOperation> chunk) {
+        Set<UUID> ids = chunk.stream()
+                .filter(operation -> operation.getType() != BulkTaskOperationType.CREATE && operation.getId() != null)
+                .map(BulkTaskOperation::getId)
+                .collect(Collectors.toSet());
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        return taskRepository.findAllById(ids).stream()
+                .filter(Task::getIsActive)
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+    }
+
+    private Task existingTask(BulkTaskOperation operation, Map<UUID, Task> tasks) {
+        Task task = operation.getId() != null ? tasks.get(operation.getId()) : null;
+        // Also covers a task deleted earlier in the same chunk
+        if (task == null || !task.getIsActive()) {
+            throw new ResourceNotFoundException("Task not found");
+        }
+        return task;
+    }
+
+    // New tasks go above the current top of the board, keeping their request order
+    private double nextPosition(BulkContext context, UUID projectId) {
+        Double next = context.nextPositions.get(projectId);
+        if (next == null) {
+            int count = context.pendingCreates.getOrDefault(projectId, 1);
+            double top = taskRepository.findMinPosition(projectId)
+                    .map(min -> min - TaskService.POSITION_STEP)
+                    .orElse(0.0);
+            next = top - TaskService.POSITION_STEP * (count - 1);
+        }
+        context.nextPositions.put(projectId, next + TaskService.POSITION_STEP);
+        return next;
+    }
+
+    // Per-project lookups, each done at most once per request
+    private Project project(BulkContext context, UUID projectId) {
+        Optional<Project> project = context.projects.computeIfAbsent(projectId, projectRepository::findByIdAndIsActiveTrue);
+        return project.orElseThrow(() -> new ResourceNotFoundException("Project not found"));
+    }
+
+    private boolean isOwner(BulkContext context, UUID projectId) {
+        return context.owner.computeIfAbsent(projectId, id -> projectRepository.isOwner(id, context.userId));
+    }
+
+    private void requireCanEdit(BulkContext context, UUID projectId) {
+        boolean canEdit = context.admin || context.canEdit.computeIfAbsent(projectId, id -> {
+            if (isOwner(context, id)) {
+                return true;
+            }
+            ProjectRole role = projectMemberRepository.findRoleByProjectIdAndUserId(id, context.userId).orElse(null);
+            return role == ProjectRole.OWNER || role == ProjectRole.ADMIN;
+        });
+        if (!canEdit) {
+            throw new ForbiddenException("You don't have permission to edit tasks in this project");
+        }
+    }
+
+    private void validateAssignment(BulkContext context, UUID projectId, UUID assignedUserId) {
+        // System admins can assign tasks to any existing user
+        if (context.admin) {
+            boolean exists = context.existingUsers.computeIfAbsent(assignedUserId, userRepository::existsById);
+            if (!exists) {
+                throw new ResourceNotFoundException("User not found");
+            }
+            return;
+        }
+
+        Set<UUID> members = context.members.computeIfAbsent(projectId, projectMemberRepository::findUserIdsByProjectId);
+        if (!members.contains(assignedUserId)) {
+            throw new IllegalArgumentException("Cannot assign task to user who is not a project member");
+        }
+    }
+
+    private static class BulkContext {
+        private final UUID userId;
+        private final boolean admin;
+        private final Map<UUID, Optional<Project>> projects = new HashMap<>();
+        private final Map<UUID, Boolean> owner = new HashMap<>();
+        private final Map<UUID, Boolean> canEdit = new HashMap<>();
+        private final Map<UUID, Set<UUID>> members = new HashMap<>();
+        private final Map<UUID, Boolean> existingUsers = new HashMap<>();
+        private final Map<UUID, Integer> pendingCreates = new HashMap<>();
+        private final Map<UUID, Double> nextPositions = new HashMap<>();
+        private final Set<UUID> reservedIds = new HashSet<>();
+        private final Set<UUID> touchedProjects = new HashSet<>();
+
+        private BulkContext(UUID userId, boolean admin) {
+            this.userId = userId;
+            this.admin = admin;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.taskmanager.service;
+
+import com.taskmanager.config.SingletonJob;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the due date alert wheel filled with upcoming due dates and fires it every tick.
+ * Only the leader loads; every node still ticks so alerts rescheduled by its own writes fire there too.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TaskDueAlertJob {
+
+    private final TaskDueAlertService taskDueAlertService;
+
+    @Scheduled(
+            fixedDelayString = "${task-due-alerts.load-interval-ms}",
+            initialDelayString = "${task-due-alerts.tick-ms}"
+    )
+    @SingletonJob("task-due-alerts-load")
+    public void loadUpcomingDueDates() {
+        try {
+            int loaded = taskDueAlertService.loadUpcoming();
+            log.debug("Scheduled due date alerts for {} tasks", loaded);
+        } catch (RuntimeException e) {
+            log.warn("Failed to load upcoming due dates", e);
+        }
+    }
+
+    @Scheduled(
+            fixedDelayString = "${task-due-alerts.tick-ms}",
+            initialDelayString = "${task-due-alerts.tick-ms}"
+    )
+    public void sendDueAlerts() {
+        taskDueAlertService.sendDueAlerts();
+    }
+}
@@ -0,0 +1,202 @@
+package com.taskmanager.service;
+
+import com.taskmanager.entity.NotificationType;
+import com.taskmanager.repository.TaskDueAlertRepository;
+import com.taskmanager.repository.TaskDueAlertRepository.ClaimedAlert;
+import com.taskmanager.repository.TaskDueAlertRepository.DueTask;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Tells assignees when a task is about to be due (TASK_DUE_SOON) and when it becomes overdue (TASK_OVERDUE).
+ * Upcoming due dates are loaded in due date order into an in-memory {@link TimingWheel}, so only tasks due
+ * within the horizon are held and nothing polls the task table per alert. Each alert is claimed in
+ * task_due_alerts before it is sent, which makes it go out once even when several nodes fire it.
+ */
+@Service
+@Slf4j
+public class TaskDueAlertService {
+
+    private static final int SEND_BATCH_SIZE = 500;
+    private static final DateTimeFormatter DUE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    private final TaskDueAlertRepository taskDueAlertRepository;
+    private final NotificationService notificationService;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration reminderLead;
+    private final Duration horizon;
+    private final Duration catchUp;
+    private final int loadBatchSize;
+    private final TimingWheel<AlertKey, DueAlert> wheel;
+
+    public TaskDueAlertService(TaskDueAlertRepository taskDueAlertRepository,
+                               NotificationService notificationService,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${task-due-alerts.reminder-lead}") Duration reminderLead,
+                               @Value("${task-due-alerts.horizon}") Duration horizon,
+                               @Value("${task-due-alerts.catch-up}") Duration catchUp,
+                               @Value("${task-due-alerts.load-batch-size}") int loadBatchSize,
+                               @Value("${task-due-alerts.tick-ms}") long tickMs,
+                               @Value("${task-due-alerts.wheel-size}") int wheelSize) {
+        this.taskDueAlertRepository = taskDueAlertRepository;
+        this.notificationService = notificationService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.reminderLead = reminderLead;
+        this.horizon = horizon;
+        this.catchUp = catchUp;
+        this.loadBatchSize = loadBatchSize;
+        this.wheel = new TimingWheel<>(tickMs, wheelSize, System.currentTimeMillis());
+    }
+
+    /**
+     * Schedules every open, assigned task due from the catch-up window up to the horizon, batch by batch.
+     * Reloading is idempotent, and it picks up due dates changed by paths that do not reschedule.
+     *
+     * @return the number of tasks scheduled
+     */
+    public int loadUpcoming() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime from = now.minus(catchUp);
+        // Reminders for tasks due just past the horizon are already inside it
+        LocalDateTime upTo = now.plus(horizon).plus(reminderLead);
+
+        int loaded = 0;
+        DueTask after = null;
+        List<DueTask> batch;
+        do {
+            batch = taskDueAlertRepository.findDueTasks(from, upTo, after, loadBatchSize);
+            for (DueTask task : batch) {
+                schedule(task.taskId(), task.dueDate(), task.reminderSent(), now);
+            }
+            loaded += batch.size();
+            after = batch.isEmpty() ? null : batch.get(batch.size() - 1);
+        } while (batch.size() == loadBatchSize);
+        return loaded;
+    }
+
+    // Re-arms a task's alerts for its new due date once the current transaction commits
+    public void rescheduleAfterCommit(UUID taskId, LocalDateTime dueDate) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            reschedule(taskId, dueDate);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                reschedule(taskId, dueDate);
+            }
+        });
+    }
+
+    void reschedule(UUID taskId, LocalDateTime dueDate) {
+        wheel.cancel(new AlertKey(taskId, NotificationType.TASK_DUE_SOON));
+        wheel.cancel(new AlertKey(taskId, NotificationType.TASK_OVERDUE));
+
+        LocalDateTime now = LocalDateTime.now();
+        // Same window as loadUpcoming: due dates past the horizon are picked up by a later load,
+        // and ones older than the catch-up window are never alerted
+        if (dueDate != null
+                && !dueDate.isBefore(now.minus(catchUp))
+                && dueDate.isBefore(now.plus(horizon).plus(reminderLead))) {
+            schedule(taskId, dueDate, false, now);
+        }
+    }
+
+    /**
+     * Advances the wheel to now and sends the alerts that came due, one transaction per type and batch.
+     * A failed batch is logged and left for the next load, which schedules its alerts again.
+     *
+     * @return the number of notifications sent
+     */
+    public int sendDueAlerts() {
+        List<DueAlert> due = wheel.advance(System.currentTimeMillis());
+        if (due.isEmpty()) {
+            return 0;
+        }
+
+        Map<NotificationType, List<DueAlert>> byType = new EnumMap<>(NotificationType.class);
+        for (DueAlert alert : due) {
+            byType.computeIfAbsent(alert.type(), type -> new ArrayList<>()).add(alert);
+        }
+
+        int sent = 0;
+        for (Map.Entry<NotificationType, List<DueAlert>> entry : byType.entrySet()) {
+            List<DueAlert> alerts = entry.getValue();
+            for (int start = 0; start < alerts.size(); start += SEND_BATCH_SIZE) {
+                List<DueAlert> batch = alerts.subList(start, Math.min(start + SEND_BATCH_SIZE, alerts.size()));
+                try {
+                    Integer batchSent = transactionTemplate.execute(status -> send(entry.getKey(), batch));
+                    sent += batchSent != null ? batchSent : 0;
+                } catch (RuntimeException e) {
+                    log.warn("Failed to send {} {} alerts", batch.size(), entry.getKey(), e);
+                }
+            }
+        }
+        if (sent > 0) {
+            log.info("Sent {} due date alerts", sent);
+        }
+        return sent;
+    }
+
+    int scheduledCount() {
+        return wheel.size();
+    }
+
+    private void schedule(UUID taskId, LocalDateTime dueDate, boolean reminderSent, LocalDateTime now) {
+        if (!reminderSent && dueDate.isAfter(now)) {
+            wheel.schedule(new AlertKey(taskId, NotificationType.TASK_DUE_SOON),
+                    new DueAlert(taskId, NotificationType.TASK_DUE_SOON, dueDate),
+                    toEpochMilli(dueDate.minus(reminderLead)));
+        }
+        wheel.schedule(new AlertKey(taskId, NotificationType.TASK_OVERDUE),
+                new DueAlert(taskId, NotificationType.TASK_OVERDUE, dueDate),
+                toEpochMilli(dueDate));
+    }
+
+    private int send(NotificationType type, List<DueAlert> alerts) {
+        Map<UUID, LocalDateTime> dueDates = new LinkedHashMap<>();
+        alerts.forEach(alert -> dueDates.put(alert.taskId(), alert.dueDate()));
+
+        List<ClaimedAlert> claimed = taskDueAlertRepository.claim(type, dueDates, LocalDateTime.now());
+        for (ClaimedAlert alert : claimed) {
+            if (type == NotificationType.TASK_DUE_SOON) {
+                notificationService.createNotification(alert.assignedToId(), alert.taskId(), type,
+                        "Task Due Soon",
+                        String.format("Task '%s' in project '%s' is due at %s",
+                                alert.title(), alert.projectName(), alert.dueDate().format(DUE_FORMAT)));
+            } else {
+                notificationService.createNotification(alert.assignedToId(), alert.taskId(), type,
+                        "Task Overdue",
+                        String.format("Task '%s' in project '%s' is now overdue", alert.title(), alert.projectName()));
+            }
+        }
+        return claimed.size();
+    }
+
+    // LocalDateTime.now() and the stored due dates share the JVM's zone
+    private static long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private record AlertKey(UUID taskId, NotificationType type) {
+    }
+
+    private record DueAlert(UUID taskId, NotificationType type, LocalDateTime dueDate) {
+    }
+}
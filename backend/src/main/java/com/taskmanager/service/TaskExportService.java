@@ -0,0 +1,134 @@
+package com.taskmanager.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.dataformat.csv.CsvFactory;
+import com.fasterxml.jackson.dataformat.csv.CsvGenerator;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.taskmanager.dto.TaskExportFormat;
+import com.taskmanager.entity.User;
+import com.taskmanager.exception.ForbiddenException;
+import com.taskmanager.repository.ProjectRepository;
+import com.taskmanager.repository.TaskJdbcRepository;
+import com.taskmanager.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Streams a project's tasks as NDJSON or CSV.
+ * Rows go straight from the JDBC cursor to the output stream, so memory use
+ * does not grow with the size of the project.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TaskExportService {
+
+    private static final List<String> COLUMNS = List.of(
+            "id", "title", "description", "status", "priority", "position",
+            "assignedToId", "assignedToName", "createdByUserId", "estimatedHours", "actualHours",
+            "dueDate", "completedAt", "createdAt", "updatedAt"
+    );
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final CsvFactory CSV_FACTORY = new CsvFactory();
+    private static final CsvSchema CSV_SCHEMA = CsvSchema.builder()
+            .addColumns(COLUMNS, CsvSchema.ColumnType.STRING)
+            .setUseHeader(true)
+            .build();
+
+    private final TaskJdbcRepository taskJdbcRepository;
+    private final ProjectRepository projectRepository;
+    private final UserRepository userRepository;
+
+    // Checked before the response starts, so a denied export is a normal 403
+    @Transactional(readOnly = true)
+    public void checkAccess(UUID userId, UUID projectId) {
+        User user = userRepository.findById(userId).orElse(null);
+        boolean admin = user != null && user.isAdmin();
+        if (!admin && !projectRepository.hasAccess(projectId, userId)) {
+            throw new ForbiddenException("You don't have access to this project");
+        }
+    }
+
+    // The cursor needs an open transaction for the whole stream
+    @Transactional(readOnly = true)
+    public void export(UUID projectId, TaskExportFormat format, OutputStream out) throws IOException {
+        log.info("Exporting tasks for project ID: {} as {}", projectId, format);
+
+        try (JsonGenerator generator = createGenerator(format, out)) {
+            taskJdbcRepository.streamProjectTasks(projectId, rs -> {
+                try {
+                    writeRow(generator, rs);
+                    if (format == TaskExportFormat.NDJSON) {
+                        generator.writeRaw('\n');
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            // Usually the client went away mid-download
+            throw e.getCause();
+        }
+    }
+
+    private static JsonGenerator createGenerator(TaskExportFormat format, OutputStream out) throws IOException {
+        if (format == TaskExportFormat.CSV) {
+            CsvGenerator generator = CSV_FACTORY.createGenerator(out);
+            generator.setSchema(CSV_SCHEMA);
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            return generator;
+        }
+        JsonGenerator generator = JSON_FACTORY.createGenerator(out);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        // One object per line: newlines are written after each row instead of the default space before it
+        generator.setRootValueSeparator(null);
+        return generator;
+    }
+
+    // Fields are written in COLUMNS order, which the CSV schema relies on
+    private static void writeRow(JsonGenerator generator, ResultSet rs) throws SQLException, IOException {
+        generator.writeStartObject();
+        generator.writeStringField("id", rs.getString("id"));
+        generator.writeStringField("title", rs.getString("title"));
+        generator.writeStringField("description", rs.getString("description"));
+        generator.writeStringField("status", rs.getString("status"));
+        generator.writeStringField("priority", rs.getString("priority"));
+        generator.writeNumberField("position", rs.getDouble("position"));
+        generator.writeStringField("assignedToId", rs.getString("assigned_to_id"));
+        generator.writeStringField("assignedToName", rs.getString("assigned_to_name"));
+        generator.writeStringField("createdByUserId", rs.getString("created_by_user_id"));
+        writeDecimal(generator, "estimatedHours", rs.getBigDecimal("estimated_hours"));
+        writeDecimal(generator, "actualHours", rs.getBigDecimal("actual_hours"));
+        writeTimestamp(generator, "dueDate", rs.getTimestamp("due_date"));
+        writeTimestamp(generator, "completedAt", rs.getTimestamp("completed_at"));
+        writeTimestamp(generator, "createdAt", rs.getTimestamp("created_at"));
+        writeTimestamp(generator, "updatedAt", rs.getTimestamp("updated_at"));
+        generator.writeEndObject();
+    }
+
+    private static void writeDecimal(JsonGenerator generator, String field, BigDecimal value) throws IOException {
+        if (value == null) {
+            generator.writeNullField(field);
+        } else {
+            generator.writeNumberField(field, value);
+        }
+    }
+
+    private static void writeTimestamp(JsonGenerator generator, String field, Timestamp value) throws IOException {
+        generator.writeStringField(field, value != null ? value.toLocalDateTime().toString() : null);
+    }
+}
@@ -0,0 +1,259 @@
+package com.taskmanager.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.RuntimeJsonMappingException;
+import com.fasterxml.jackson.dataformat.csv.CsvGenerator;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.taskmanager.dto.TaskImportError;
+import com.taskmanager.dto.TaskImportResponse;
+import com.taskmanager.entity.NotificationType;
+import com.taskmanager.entity.Project;
+import com.taskmanager.entity.ProjectRole;
+import com.taskmanager.entity.TaskPriority;
+import com.taskmanager.entity.TaskStatus;
+import com.taskmanager.entity.User;
+import com.taskmanager.exception.ForbiddenException;
+import com.taskmanager.exception.ResourceNotFoundException;
+import com.taskmanager.repository.ProjectMemberRepository;
+import com.taskmanager.repository.ProjectRepository;
+import com.taskmanager.repository.TaskJdbcRepository;
+import com.taskmanager.repository.TaskJdbcRepository.ImportedTasks;
+import com.taskmanager.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Loads tasks from an uploaded CSV file.
+ * The file is read as a stream and valid rows are piped straight into a
+ * PostgreSQL COPY, then merged into the project with a single INSERT.
+ * Imported tasks go on top of the board like created ones; each assignee gets one summary notification.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TaskImportService {
+
+    // Rejected rows listed in the response; later ones are only counted
+    static final int MAX_REPORTED_ERRORS = 1000;
+
+    private static final BigDecimal MAX_HOURS = new BigDecimal("999.99");
+
+    private static final CsvMapper CSV_MAPPER = new CsvMapper();
+    private static final CsvSchema INPUT_SCHEMA = CsvSchema.emptySchema().withHeader();
+    private static final CsvSchema STAGING_SCHEMA = CsvSchema.builder()
+            .addColumns(TaskJdbcRepository.IMPORT_STAGING_COLUMNS, CsvSchema.ColumnType.STRING)
+            .build();
+
+    private final TaskJdbcRepository taskJdbcRepository;
+    private final ProjectRepository projectRepository;
+    private final ProjectMemberRepository projectMemberRepository;
+    private final UserRepository userRepository;
+    private final ProjectVersionService projectVersionService;
+    private final NotificationService notificationService;
+
+    @Transactional
+    public TaskImportResponse importTasks(UUID userId, UUID projectId, InputStream csv) {
+        log.info("Importing tasks into project ID: {}", projectId);
+
+        Project project = projectRepository.findByIdAndIsActiveTrue(projectId)
+                .orElseThrow(() -> new ResourceNotFoundException("Project not found"));
+        if (!canCreateTasks(userId, project.getId())) {
+            throw new ForbiddenException("You don't have permission to create tasks in this project");
+        }
+
+        // Memberships are loaded once for the whole file
+        Set<UUID> members = projectMemberRepository.findUserIdsByProjectId(projectId);
+        ImportReport report = new ImportReport();
+        taskJdbcRepository.copyIntoImportStaging(out -> stageRows(csv, out, members, report));
+
+        ImportedTasks imported = taskJdbcRepository.mergeImportStaging(
+                projectId, userId, TaskService.POSITION_STEP, LocalDateTime.now());
+        if (imported.count() > 0) {
+            projectVersionService.bump(projectId);
+        }
+
+        // A single summary notification per assignee instead of one per task
+        imported.perAssignee().forEach((assigneeId, tasks) -> {
+            if (!assigneeId.equals(userId)) {
+                notificationService.createNotification(
+                        assigneeId,
+                        null,
+                        NotificationType.TASK_ASSIGNED,
+                        "New Tasks Assigned",
+                        String.format("You have been assigned to %d imported tasks in project '%s'", tasks, project.getName())
+                );
+            }
+        });
+        log.info("Imported {} tasks into project ID: {}, {} rows rejected", imported.count(), projectId, report.failed);
+
+        return TaskImportResponse.builder()
+                .imported(imported.count())
+                .failed(report.failed)
+                .errors(report.errors)
+                .errorsTruncated(report.failed > report.errors.size())
+                .build();
+    }
+
+    // Reads the upload row by row and writes the valid rows to the COPY stream
+    private void stageRows(InputStream csv, OutputStream out, Set<UUID> members, ImportReport report) throws IOException {
+        try (MappingIterator<Map<String, String>> rows = CSV_MAPPER.readerForMapOf(String.class).with(INPUT_SCHEMA).readValues(csv);
+             CsvGenerator generator = CSV_MAPPER.getFactory().createGenerator(out)) {
+            generator.setSchema(STAGING_SCHEMA);
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+            long rowNo = 0;
+            while (hasNext(rows, rowNo)) {
+                rowNo++;
+                Map<String, String> row = rows.next();
+                if (rowNo == 1 && !row.containsKey("title")) {
+                    throw new IllegalArgumentException("CSV header must include a title column");
+                }
+                try {
+                    writeStagedRow(generator, rowNo, row, members);
+                } catch (IllegalArgumentException e) {
+                    report.reject(rowNo, e.getMessage());
+                }
+            }
+        }
+    }
+
+    private static boolean hasNext(MappingIterator<?> rows, long rowNo) {
+        try {
+            return rows.hasNext();
+        } catch (RuntimeJsonMappingException e) {
+            throw new IllegalArgumentException("Malformed CSV after row " + rowNo, e);
+        }
+    }
+
+    // Validates one row and writes it in staging column order; throws IllegalArgumentException to reject it
+    private static void writeStagedRow(CsvGenerator generator, long rowNo, Map<String, String> row, Set<UUID> members)
+            throws IOException {
+        String title = text(row, "title");
+        if (title == null) {
+            throw new IllegalArgumentException("Title is required");
+        }
+        if (title.length() > 200) {
+            throw new IllegalArgumentException("Title must not exceed 200 characters");
+        }
+
+        TaskStatus status = enumValue(TaskStatus.class, text(row, "status"), TaskStatus.TODO, "status");
+        TaskPriority priority = enumValue(TaskPriority.class, text(row, "priority"), TaskPriority.MEDIUM, "priority");
+        UUID assignedToId = assignee(text(row, "assignedToId"), members);
+        BigDecimal estimatedHours = hours(text(row, "estimatedHours"), "estimatedHours");
+        BigDecimal actualHours = hours(text(row, "actualHours"), "actualHours");
+        LocalDateTime dueDate = dateTime(text(row, "dueDate"));
+
+        generator.writeStartObject();
+        generator.writeNumberField("row_no", rowNo);
+        generator.writeStringField("title", title);
+        generator.writeStringField("description", text(row, "description"));
+        generator.writeStringField("status", status.name());
+        generator.writeStringField("priority", priority.name());
+        generator.writeStringField("assigned_to_id", assignedToId != null ? assignedToId.toString() : null);
+        generator.writeStringField("estimated_hours", estimatedHours != null ? estimatedHours.toPlainString() : null);
+        generator.writeStringField("actual_hours", actualHours != null ? actualHours.toPlainString() : null);
+        generator.writeStringField("due_date", dueDate != null ? dueDate.toString() : null);
+        generator.writeEndObject();
+    }
+
+    private static String text(Map<String, String> row, String column) {
+        String value = row.get(column);
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
+    private static <E extends Enum<E>> E enumValue(Class<E> type, String value, E defaultValue, String column) {
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Enum.valueOf(type, value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid " + column + ": " + value);
+        }
+    }
+
+    private static UUID assignee(String value, Set<UUID> members) {
+        if (value == null) {
+            return null;
+        }
+        UUID id;
+        try {
+            id = UUID.fromString(value);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid assignedToId: " + value);
+        }
+        if (!members.contains(id)) {
+            throw new IllegalArgumentException("Cannot assign task to user who is not a project member");
+        }
+        return id;
+    }
+
+    private static BigDecimal hours(String value, String column) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            BigDecimal hours = new BigDecimal(value);
+            if (hours.signum() < 0 || hours.compareTo(MAX_HOURS) > 0) {
+                throw new IllegalArgumentException(column + " must be between 0 and 999.99");
+            }
+            return hours;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid " + column + ": " + value);
+        }
+    }
+
+    // Accepts ISO date-times as written by the export, or plain dates
+    private static LocalDateTime dateTime(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return value.length() <= 10 ? LocalDate.parse(value).atStartOfDay() : LocalDateTime.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid dueDate: " + value);
+        }
+    }
+
+    private boolean canCreateTasks(UUID userId, UUID projectId) {
+        User user = userRepository.findById(userId).orElse(null);
+        if (user != null && user.isAdmin()) {
+            return true;
+        }
+        if (projectRepository.isOwner(projectId, userId)) {
+            return true;
+        }
+        ProjectRole role = projectMemberRepository.findRoleByProjectIdAndUserId(projectId, userId).orElse(null);
+        return role == ProjectRole.OWNER || role == ProjectRole.ADMIN;
+    }
+
+    private static class ImportReport {
+        private final List<TaskImportError> errors = new ArrayList<>();
+        private int failed;
+
+        private void reject(long row, String error) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(TaskImportError.builder().row(row).error(error).build());
+            }
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.taskmanager.service;
+
+import com.taskmanager.config.SingletonJob;
+import com.taskmanager.repository.ProjectVersionRepository;
+import com.taskmanager.repository.TaskRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Respaces kanban positions in projects where repeated moves into the same
+ * slot have left neighbouring tasks too close together to split again.
+ * Only projects whose version was bumped since an earlier run are scanned;
+ * a node that just became leader starts with a full scan.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TaskPositionRebalanceJob {
+
+    // Far above double precision at board magnitudes, so reorders rarely hit the in-request fallback
+    private static final double MIN_POSITION_GAP = 1e-3;
+
+    private final TaskRepository taskRepository;
+    private final ProjectVersionRepository projectVersionRepository;
+    private final TaskService taskService;
+
+    // Versions are drawn before commit, so each scan reaches back to the start of the run before the last
+    private long scanFromVersion;
+    private long lastRunVersion;
+
+    @Scheduled(
+            fixedDelayString = "${task-positions.rebalance-interval-ms}",
+            initialDelayString = "${task-positions.rebalance-interval-ms}"
+    )
+    @SingletonJob("task-position-rebalance")
+    public void rebalanceCrowdedProjects() {
+        long runVersion = projectVersionRepository.findLatestVersion();
+        List<UUID> projectIds = taskRepository.findProjectsWithCrowdedPositions(MIN_POSITION_GAP, scanFromVersion);
+
+        boolean allRebalanced = true;
+        if (!projectIds.isEmpty()) {
+            log.info("Rebalancing task positions in {} projects", projectIds.size());
+        }
+        for (UUID projectId : projectIds) {
+            try {
+                // One transaction per project so a busy board does not hold locks on the others
+                taskService.rebalancePositions(projectId);
+            } catch (RuntimeException e) {
+                allRebalanced = false;
+                log.warn("Failed to rebalance task positions in project ID: {}", projectId, e);
+            }
+        }
+
+        // Keep the window open while a project is left crowded, so the next run retries it
+        if (allRebalanced) {
+            scanFromVersion = lastRunVersion;
+            lastRunVersion = runVersion;
+        }
+    }
+}
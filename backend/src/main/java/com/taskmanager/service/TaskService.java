@@ -7,15 +7,27 @@ import com.taskmanager.exception.ResourceNotFoundException;
 import com.taskmanager.repository.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -24,13 +36,30 @@ import java.util.stream.Collectors;
 @Slf4j
 public class TaskService {
 
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final int DEFAULT_CHANGES_BATCH = 200;
+    private static final int MAX_CHANGES_BATCH = 1000;
+    private static final int DEFAULT_CALENDAR_TASKS_PER_DAY = 3;
+    private static final int MAX_CALENDAR_TASKS_PER_DAY = 20;
+    private static final int MAX_CALENDAR_DAYS = 366;
+    // Spacing between neighbouring board positions after a rebalance
+    static final double POSITION_STEP = 1024.0;
+
     private final TaskRepository taskRepository;
+    private final TaskJdbcRepository taskJdbcRepository;
+    private final TaskReadRepository taskReadRepository;
     private final TaskCommentRepository taskCommentRepository;
     private final ProjectRepository projectRepository;
     private final ProjectMemberRepository projectMemberRepository;
     private final UserRepository userRepository;
     private final CommentReactionRepository commentReactionRepository;
     private final NotificationService notificationService;
+    private final ProjectVersionService projectVersionService;
+    private final TaskProjectMoveRepository taskProjectMoveRepository;
+    private final TaskArchiveRepository taskArchiveRepository;
+    private final ProjectAccessService projectAccessService;
+    private final TaskDueAlertService taskDueAlertService;
 
     @Transactional
     public TaskResponse createTask(UUID userId, CreateTaskRequest request) {
@@ -66,11 +95,12 @@ public class TaskService {
                 .status(request.getStatus() != null ? request.getStatus() : TaskStatus.TODO)
                 .estimatedHours(request.getEstimatedHours())
                 .dueDate(request.getDueDate())
-                .position(request.getPosition() != null ? request.getPosition() : 0)
+                .position(request.getPosition() != null ? request.getPosition() : topOfBoard(request.getProjectId()))
                 .isActive(true)
                 .build();
 
         Task savedTask = taskRepository.save(task);
+        projectVersionService.bump(savedTask.getProjectId());
         log.info("Task created successfully with ID: {}", savedTask.getId());
 
         // Create notification if task is assigned to someone
@@ -86,20 +116,49 @@ public class TaskService {
             );
         }
 
+        // A task due within the alert horizon would otherwise wait for the next load
+        if (savedTask.getDueDate() != null && savedTask.getAssignedToId() != null) {
+            taskDueAlertService.rescheduleAfterCommit(savedTask.getId(), savedTask.getDueDate());
+        }
+
         return mapToTaskResponse(savedTask);
     }
 
     @Transactional(readOnly = true)
-    public List<TaskResponse> getAllUserTasks(UUID userId) {
-        log.info("Fetching all tasks for user ID: {}", userId);
-        List<Task> tasks = taskRepository.findAllUserTasks(userId);
-        return tasks.stream()
-                .map(this::mapToTaskResponse)
-                .collect(Collectors.toList());
+    public TaskPageResponse getAllUserTasks(UUID userId, String cursor, Integer limit) {
+        log.info("Fetching tasks for user ID: {}", userId);
+        TaskCursor after = cursor != null ? TaskCursor.decode(cursor) : null;
+        int pageSize = resolvePageSize(limit);
+
+        List<UUID> projectIds = projectAccessService.getAccessibleProjectIds(userId);
+        return toPage(taskReadRepository.findTasksInProjects(projectIds, null, after, pageSize + 1, LocalDateTime.now()), pageSize);
+    }
+
+    @Transactional(readOnly = true)
+    public TaskInboxResponse getMyTasks(UUID userId, String bucket, String cursor, Integer limit) {
+        log.info("Fetching task inbox for user ID: {}", userId);
+        TaskInboxBucket inboxBucket = bucket != null ? TaskInboxBucket.fromParameter(bucket) : null;
+        TaskCursor after = cursor != null ? TaskCursor.decode(cursor) : null;
+        int pageSize = resolvePageSize(limit);
+        LocalDateTime now = LocalDateTime.now();
+
+        // Tasks stay assigned after the user leaves a project, so limit the inbox to projects they still see
+        List<UUID> projectIds = projectAccessService.getAccessibleProjectIds(userId);
+        TaskPageResponse page = toPage(
+                taskReadRepository.findInboxTasks(userId, projectIds, inboxBucket, after, pageSize + 1, now), pageSize);
+        Map<TaskInboxBucket, Long> counts = taskReadRepository.countInboxBuckets(userId, projectIds, now);
+
+        return TaskInboxResponse.builder()
+                .items(page.getItems())
+                .nextCursor(page.getNextCursor())
+                .overdueCount(counts.get(TaskInboxBucket.OVERDUE))
+                .dueTodayCount(counts.get(TaskInboxBucket.TODAY))
+                .dueThisWeekCount(counts.get(TaskInboxBucket.THIS_WEEK))
+                .build();
     }
 
     @Transactional(readOnly = true)
-    public List<TaskResponse> getProjectTasks(UUID userId, UUID projectId) {
+    public TaskPageResponse getProjectTasks(UUID userId, UUID projectId, String cursor, Integer limit) {
         log.info("Fetching tasks for project ID: {}", projectId);
 
         // Verify user has access to project
@@ -107,17 +166,173 @@ public class TaskService {
             throw new ForbiddenException("You don't have access to this project");
         }
 
-        List<Task> tasks = taskRepository.findByProjectIdAndIsActiveTrue(projectId);
-        return tasks.stream()
-                .map(this::mapToTaskResponse)
-                .collect(Collectors.toList());
+        TaskCursor after = cursor != null ? TaskCursor.decode(cursor) : null;
+        int pageSize = resolvePageSize(limit);
+
+        return toPage(taskReadRepository.findProjectTasks(projectId, null, after, pageSize + 1, LocalDateTime.now()), pageSize);
+    }
+
+    @Transactional(readOnly = true)
+    public TaskBoardResponse getProjectBoard(UUID userId, UUID projectId, Integer limit) {
+        log.info("Fetching board for project ID: {}", projectId);
+
+        // Verify user has access to project
+        if (!hasAccessToProject(userId, projectId)) {
+            throw new ForbiddenException("You don't have access to this project");
+        }
+        return readProjectBoard(projectId, limit);
+    }
+
+    // Board without the access check, for callers that already authorized the user
+    @Transactional(readOnly = true)
+    public TaskBoardResponse readProjectBoard(UUID projectId, Integer limit) {
+        int columnSize = resolvePageSize(limit);
+        List<TaskBoardColumnResponse> columns = taskReadRepository.findBoard(projectId, columnSize + 1, LocalDateTime.now());
+        for (TaskBoardColumnResponse column : columns) {
+            TaskPageResponse page = toPage(column.getItems(), columnSize);
+            column.setItems(page.getItems());
+            column.setNextCursor(page.getNextCursor());
+        }
+        return TaskBoardResponse.builder()
+                .projectId(projectId)
+                .columns(columns)
+                .build();
+    }
+
+    // Continues one board column from the cursor it returned
+    @Transactional(readOnly = true)
+    public TaskBoardColumnResponse getBoardColumn(UUID userId, UUID projectId, String column, String cursor, Integer limit) {
+        log.info("Fetching {} board column for project ID: {}", column, projectId);
+        TaskStatus status = parseBoardColumn(column);
+
+        // Verify user has access to project
+        if (!hasAccessToProject(userId, projectId)) {
+            throw new ForbiddenException("You don't have access to this project");
+        }
+
+        TaskCursor after = cursor != null ? TaskCursor.decode(cursor) : null;
+        int pageSize = resolvePageSize(limit);
+        TaskFilterRequest filter = TaskFilterRequest.builder()
+                .statuses(List.of(status))
+                .build();
+        TaskPageResponse page = toPage(
+                taskReadRepository.findProjectTasks(projectId, filter, after, pageSize + 1, LocalDateTime.now()), pageSize);
+
+        return TaskBoardColumnResponse.builder()
+                .status(status)
+                .totalCount(taskRepository.countByProjectIdAndStatus(projectId, status))
+                .items(page.getItems())
+                .nextCursor(page.getNextCursor())
+                .build();
+    }
+
+    // Day buckets for calendar and timeline views; from and to are inclusive ISO dates
+    @Transactional(readOnly = true)
+    public TaskCalendarResponse getCalendar(UUID userId, String from, String to, List<UUID> projectIds, Integer perDay) {
+        log.info("Fetching task calendar for user ID: {} from {} to {}", userId, from, to);
+        LocalDate fromDate = parseCalendarDate("from", from);
+        LocalDate toDate = parseCalendarDate("to", to);
+        if (toDate.isBefore(fromDate)) {
+            throw new IllegalArgumentException("'to' must not be before 'from'");
+        }
+        if (ChronoUnit.DAYS.between(fromDate, toDate) >= MAX_CALENDAR_DAYS) {
+            throw new IllegalArgumentException("Calendar range is limited to " + MAX_CALENDAR_DAYS + " days");
+        }
+        int tasksPerDay = perDay != null ? perDay : DEFAULT_CALENDAR_TASKS_PER_DAY;
+        if (tasksPerDay < 1) {
+            throw new IllegalArgumentException("perDay must be at least 1");
+        }
+
+        List<UUID> accessible = projectAccessService.getAccessibleProjectIds(userId);
+        List<UUID> calendarProjects = accessible;
+        if (projectIds != null && !projectIds.isEmpty()) {
+            calendarProjects = projectIds.stream().distinct().toList();
+            Set<UUID> accessibleSet = new HashSet<>(accessible);
+            for (UUID projectId : calendarProjects) {
+                if (!accessibleSet.contains(projectId) && !hasAccessToProject(userId, projectId)) {
+                    throw new ForbiddenException("You don't have access to this project");
+                }
+            }
+        }
+
+        List<TaskCalendarDayResponse> days = taskReadRepository.findCalendar(calendarProjects,
+                fromDate.atStartOfDay(), toDate.plusDays(1).atStartOfDay(),
+                Math.min(tasksPerDay, MAX_CALENDAR_TASKS_PER_DAY), LocalDateTime.now());
+        return TaskCalendarResponse.builder()
+                .from(fromDate)
+                .to(toDate)
+                .days(days)
+                .build();
+    }
+
+    @Transactional(readOnly = true)
+    public TaskChangesResponse getTaskChanges(UUID userId, UUID projectId, String since, Integer limit) {
+        log.info("Fetching task changes for project ID: {} since: {}", projectId, since);
+
+        // Verify user has access to project
+        if (!hasAccessToProject(userId, projectId)) {
+            throw new ForbiddenException("You don't have access to this project");
+        }
+
+        TaskChangeCursor after = parseChangeCursor(since);
+        int batchSize = limit != null ? Math.min(Math.max(limit, 1), MAX_CHANGES_BATCH) : DEFAULT_CHANGES_BATCH;
+
+        // Stamps are drawn when a row is written, not when it commits. Serving changes in
+        // (transaction, stamp) order and only from transactions older than every running one
+        // means a late commit can never land behind a cursor already handed out.
+        long horizon = taskRepository.findChangeHorizon();
+        if (after == null) {
+            // Deletions committed before the initial sync concern tasks the client never received
+            after = TaskChangeCursor.initialSync(horizon);
+        }
+
+        // Task rows, moves to another project and archives form one stream in stamp order;
+        // no source is read past a page
+        List<TaskChange> stream = new ArrayList<>();
+        for (Task task : taskRepository.findChangesSince(projectId, after.getXid(), after.getSeq(),
+                horizon, after.getTombstonesFrom(), batchSize + 1)) {
+            stream.add(new TaskChange(TaskChangeCursor.of(task), task.getId(), task));
+        }
+        for (TaskProjectMove move : taskProjectMoveRepository.findMovedOutSince(projectId, after.getXid(),
+                after.getSeq(), horizon, after.getTombstonesFrom(), batchSize + 1)) {
+            stream.add(new TaskChange(TaskChangeCursor.of(move.getChangeXid(), move.getChangeSeq()),
+                    move.getTaskId(), null));
+        }
+        taskArchiveRepository.findArchivedSince(projectId, after, horizon, batchSize + 1)
+                .forEach((taskId, stamp) -> stream.add(new TaskChange(stamp, taskId, null)));
+        stream.sort(Comparator.comparing(TaskChange::stamp));
+        boolean hasMore = stream.size() > batchSize;
+        List<TaskChange> page = hasMore ? stream.subList(0, batchSize) : stream;
+
+        List<TaskResponse> changed = new ArrayList<>();
+        Set<UUID> changedIds = new HashSet<>();
+        Set<UUID> deleted = new LinkedHashSet<>();
+        TaskChangeCursor next = after;
+        for (TaskChange change : page) {
+            if (change.task() != null && Boolean.TRUE.equals(change.task().getIsActive())) {
+                changed.add(mapToTaskResponse(change.task()));
+                changedIds.add(change.taskId());
+            } else {
+                deleted.add(change.taskId());
+            }
+            next = next.advanceTo(change.stamp());
+        }
+
+        // A task that left and came back is in changed
+        deleted.removeAll(changedIds);
+        return TaskChangesResponse.builder()
+                .changed(changed)
+                .deleted(new ArrayList<>(deleted))
+                .nextCursor(next.encode())
+                .hasMore(hasMore)
+                .build();
     }
 
     @Transactional(readOnly = true)
     public TaskResponse getTaskById(UUID userId, UUID taskId) {
         log.info("Fetching task ID: {}", taskId);
 
-        Task task = taskRepository.findByIdAndIsActiveTrue(taskId)
+        Task task = taskRepository.findWithAssigneeByIdAndIsActiveTrue(taskId)
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found"));
 
         // Verify user has access
@@ -141,26 +356,8 @@ public class TaskService {
         }
 
         // Update fields if provided
-        if (request.getTitle() != null && !request.getTitle().isBlank()) {
-            task.setTitle(request.getTitle());
-        }
-        if (request.getDescription() != null) {
-            task.setDescription(request.getDescription());
-        }
-        if (request.getPriority() != null) {
-            task.setPriority(request.getPriority());
-        }
-        if (request.getStatus() != null) {
-            task.setStatus(request.getStatus());
-            // If marking as DONE, set completed timestamp
-            if (request.getStatus() == TaskStatus.DONE && task.getCompletedAt() == null) {
-                task.setCompletedAt(LocalDateTime.now());
-            }
-            // If unmarking as DONE, clear completed timestamp
-            if (request.getStatus() != TaskStatus.DONE && task.getCompletedAt() != null) {
-                task.setCompletedAt(null);
-            }
-        }
+        applyChanges(task, request);
+
         if (request.getAssignedToId() != null) {
             validateAssignment(task.getProjectId(), request.getAssignedToId(), userId);
             UUID oldAssignedToId = task.getAssignedToId();
@@ -179,23 +376,159 @@ public class TaskService {
                 );
             }
         }
-        if (request.getEstimatedHours() != null) {
-            task.setEstimatedHours(request.getEstimatedHours());
+
+        Task updatedTask = taskRepository.save(task);
+        projectVersionService.bump(updatedTask.getProjectId());
+
+        // Due date alerts follow a new due date or assignee now rather than at the next load
+        if (request.getDueDate() != null || request.getAssignedToId() != null) {
+            taskDueAlertService.rescheduleAfterCommit(updatedTask.getId(), updatedTask.getDueDate());
         }
-        if (request.getActualHours() != null) {
-            task.setActualHours(request.getActualHours());
+        log.info("Task updated successfully: {}", taskId);
+
+        return mapToTaskResponse(updatedTask);
+    }
+
+    @Transactional
+    public List<TaskPositionResponse> reorderTasks(UUID userId, UUID projectId, ReorderTasksRequest request) {
+        log.info("Reordering {} tasks in project ID: {}", request.getMoves().size(), projectId);
+
+        if (!canEditTask(userId, projectId)) {
+            throw new ForbiddenException("You don't have permission to edit tasks in this project");
         }
-        if (request.getDueDate() != null) {
-            task.setDueDate(request.getDueDate());
+
+        Set<UUID> taskIds = new HashSet<>();
+        Map<UUID, TaskStatus> newStatuses = new HashMap<>();
+        for (TaskMoveRequest move : request.getMoves()) {
+            if (move.getTaskId().equals(move.getAfterTaskId()) || move.getTaskId().equals(move.getBeforeTaskId())) {
+                throw new IllegalArgumentException("A task cannot be placed next to itself");
+            }
+            taskIds.add(move.getTaskId());
+            if (move.getAfterTaskId() != null) {
+                taskIds.add(move.getAfterTaskId());
+            }
+            if (move.getBeforeTaskId() != null) {
+                taskIds.add(move.getBeforeTaskId());
+            }
+            if (move.getStatus() != null) {
+                newStatuses.put(move.getTaskId(), move.getStatus());
+            }
         }
-        if (request.getPosition() != null) {
-            task.setPosition(request.getPosition());
+
+        taskRepository.lockBoard(projectId);
+        Map<UUID, Task> tasks = lockForReorder(projectId, taskIds);
+        Map<UUID, Double> newPositions = planMoves(request.getMoves(), tasks);
+        if (newPositions == null) {
+            // Some neighbours are too close to split; respace the board and plan again
+            rebalancePositions(projectId);
+            tasks = lockForReorder(projectId, taskIds);
+            newPositions = planMoves(request.getMoves(), tasks);
+            if (newPositions == null) {
+                throw new IllegalArgumentException("Too many moves into the same slot");
+            }
         }
 
-        Task updatedTask = taskRepository.save(task);
-        log.info("Task updated successfully: {}", taskId);
+        List<Task> moved = new ArrayList<>();
+        for (Map.Entry<UUID, Double> entry : newPositions.entrySet()) {
+            Task current = tasks.get(entry.getKey());
+            TaskStatus status = newStatuses.getOrDefault(entry.getKey(), current.getStatus());
+            moved.add(Task.builder()
+                    .id(current.getId())
+                    .position(entry.getValue())
+                    .status(status)
+                    .completedAt(newStatuses.containsKey(entry.getKey())
+                            ? completedAtFor(status, current.getCompletedAt())
+                            : current.getCompletedAt())
+                    .build());
+        }
 
-        return mapToTaskResponse(updatedTask);
+        // Loaded entities stay untouched; the moves are written in one batch
+        taskJdbcRepository.batchUpdateBoardPositions(moved);
+        projectVersionService.bump(projectId);
+        log.info("Reordered {} tasks in project ID: {}", moved.size(), projectId);
+
+        return moved.stream()
+                .map(task -> TaskPositionResponse.builder()
+                        .id(task.getId())
+                        .position(task.getPosition())
+                        .status(task.getStatus())
+                        .completedAt(task.getCompletedAt())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    // Respaces a project's board evenly without changing its order
+    @Transactional
+    public int rebalancePositions(UUID projectId) {
+        taskRepository.lockBoard(projectId);
+        int updated = taskRepository.rebalancePositions(projectId, POSITION_STEP);
+        if (updated > 0) {
+            projectVersionService.bump(projectId);
+            log.info("Rebalanced {} task positions in project ID: {}", updated, projectId);
+        }
+        return updated;
+    }
+
+    @Transactional
+    public TaskTransitionResponse transitionTasks(UUID userId, UUID projectId, TaskTransitionRequest request) {
+        log.info("Transitioning tasks in project ID: {}", projectId);
+
+        if (request.getStatus() == null && request.getAssignedToId() == null && request.getTargetProjectId() == null) {
+            throw new IllegalArgumentException("At least one of status, assignedToId or targetProjectId is required");
+        }
+
+        Project project = projectRepository.findByIdAndIsActiveTrue(projectId)
+                .orElseThrow(() -> new ResourceNotFoundException("Project not found"));
+        if (!canEditTask(userId, projectId)) {
+            throw new ForbiddenException("You don't have permission to edit tasks in this project");
+        }
+
+        UUID targetProjectId = request.getTargetProjectId();
+        boolean moving = targetProjectId != null;
+        if (moving) {
+            if (targetProjectId.equals(projectId)) {
+                throw new IllegalArgumentException("Target project must differ from the current project");
+            }
+            projectRepository.findByIdAndIsActiveTrue(targetProjectId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Target project not found"));
+            if (!canEditTask(userId, targetProjectId)) {
+                throw new ForbiddenException("You don't have permission to edit tasks in the target project");
+            }
+        }
+
+        UUID destinationId = moving ? targetProjectId : projectId;
+        if (request.getAssignedToId() != null) {
+            validateAssignment(destinationId, request.getAssignedToId(), userId);
+        }
+
+        // One UPDATE ... RETURNING for the whole selection
+        double targetTop = moving ? taskRepository.findMinPosition(targetProjectId).orElse(POSITION_STEP) : 0.0;
+        List<UUID> taskIds = taskJdbcRepository.transition(projectId, request, targetTop, POSITION_STEP, LocalDateTime.now());
+        if (taskIds.isEmpty()) {
+            return TaskTransitionResponse.builder().build();
+        }
+
+        projectVersionService.bump(projectId);
+        if (moving) {
+            projectVersionService.bump(targetProjectId);
+        }
+
+        // A single summary notification instead of one per task
+        if (request.getAssignedToId() != null && !request.getAssignedToId().equals(userId)) {
+            notificationService.createNotification(
+                    request.getAssignedToId(),
+                    null,
+                    NotificationType.TASK_REASSIGNED,
+                    "Tasks Reassigned to You",
+                    String.format("You have been assigned to %d tasks in project '%s'", taskIds.size(), project.getName())
+            );
+        }
+
+        log.info("Transitioned {} tasks in project ID: {}", taskIds.size(), projectId);
+        return TaskTransitionResponse.builder()
+                .updated(taskIds.size())
+                .taskIds(taskIds)
+                .build();
     }
 
     @Transactional
@@ -213,12 +546,13 @@ public class TaskService {
         // Soft delete
         task.setIsActive(false);
         taskRepository.save(task);
+        projectVersionService.bump(task.getProjectId());
 
         log.info("Task soft deleted successfully: {}", taskId);
     }
 
     @Transactional(readOnly = true)
-    public List<TaskResponse> filterTasks(UUID userId, TaskFilterRequest filter) {
+    public TaskPageResponse filterTasks(UUID userId, TaskFilterRequest filter) {
         log.info("Filtering tasks with criteria");
 
         // Verify user has access to the project
@@ -226,63 +560,25 @@ public class TaskService {
             throw new ForbiddenException("You don't have access to this project");
         }
 
-        // Start with all tasks for the project or user
-        List<Task> tasks;
-        if (filter.getProjectId() != null) {
-            tasks = taskRepository.findByProjectIdAndIsActiveTrue(filter.getProjectId());
-        } else {
-            tasks = taskRepository.findAllUserTasks(userId);
-        }
-
-        // Apply filters
-        if (filter.getStatuses() != null && !filter.getStatuses().isEmpty()) {
-            tasks = tasks.stream()
-                    .filter(t -> filter.getStatuses().contains(t.getStatus()))
-                    .collect(Collectors.toList());
-        }
-        if (filter.getPriorities() != null && !filter.getPriorities().isEmpty()) {
-            tasks = tasks.stream()
-                    .filter(t -> filter.getPriorities().contains(t.getPriority()))
-                    .collect(Collectors.toList());
-        }
-        if (filter.getAssignedToId() != null) {
-            tasks = tasks.stream()
-                    .filter(t -> filter.getAssignedToId().equals(t.getAssignedToId()))
-                    .collect(Collectors.toList());
-        }
-        if (filter.getCreatedByUserId() != null) {
-            tasks = tasks.stream()
-                    .filter(t -> filter.getCreatedByUserId().equals(t.getCreatedByUserId()))
-                    .collect(Collectors.toList());
-        }
-        if (filter.getDueDateFrom() != null) {
-            tasks = tasks.stream()
-                    .filter(t -> t.getDueDate() != null && t.getDueDate().isAfter(filter.getDueDateFrom()))
-                    .collect(Collectors.toList());
-        }
-        if (filter.getDueDateTo() != null) {
-            tasks = tasks.stream()
-                    .filter(t -> t.getDueDate() != null && t.getDueDate().isBefore(filter.getDueDateTo()))
-                    .collect(Collectors.toList());
-        }
-        if (filter.getSearchText() != null && !filter.getSearchText().isBlank()) {
-            String searchLower = filter.getSearchText().toLowerCase();
-            tasks = tasks.stream()
-                    .filter(t -> (t.getTitle() != null && t.getTitle().toLowerCase().contains(searchLower)) ||
-                            (t.getDescription() != null && t.getDescription().toLowerCase().contains(searchLower)))
-                    .collect(Collectors.toList());
-        }
-        if (Boolean.TRUE.equals(filter.getOverdue())) {
-            LocalDateTime now = LocalDateTime.now();
-            tasks = tasks.stream()
-                    .filter(t -> t.getDueDate() != null && t.getDueDate().isBefore(now) &&
-                            t.getStatus() != TaskStatus.DONE && t.getStatus() != TaskStatus.CANCELLED)
-                    .collect(Collectors.toList());
-        }
-
-        return tasks.stream()
-                .map(this::mapToTaskResponse)
-                .collect(Collectors.toList());
+        TaskCursor after = filter.getCursor() != null ? TaskCursor.decode(filter.getCursor()) : null;
+        int pageSize = resolvePageSize(filter.getLimit());
+        LocalDateTime now = LocalDateTime.now();
+
+        // All criteria are applied in the query so pages stay bounded regardless of project size
+        List<TaskResponse> rows = filter.getProjectId() != null
+                ? taskReadRepository.findProjectTasks(filter.getProjectId(), filter, after, pageSize + 1, now)
+                : taskReadRepository.findTasksInProjects(projectAccessService.getAccessibleProjectIds(userId),
+                        filter, after, pageSize + 1, now);
+        return toPage(rows, pageSize);
+    }
+
+    // Authorizes the caller and returns the project's version stamp for conditional GETs
+    @Transactional(readOnly = true)
+    public long getProjectVersion(UUID userId, UUID projectId) {
+        if (!hasAccessToProject(userId, projectId)) {
+            throw new ForbiddenException("You don't have access to this project");
+        }
+        return projectVersionService.getVersion(projectId);
     }
 
     @Transactional(readOnly = true)
@@ -293,7 +589,12 @@ public class TaskService {
         if (!hasAccessToProject(userId, projectId)) {
             throw new ForbiddenException("You don't have access to this project");
         }
+        return readProjectStatistics(userId, projectId);
+    }
 
+    // Statistics without the access check, for callers that already authorized the user
+    @Transactional(readOnly = true)
+    public TaskStatisticsResponse readProjectStatistics(UUID userId, UUID projectId) {
         List<Task> allTasks = taskRepository.findAllActiveTasksByProjectId(projectId);
         LocalDateTime now = LocalDateTime.now();
 
@@ -399,6 +700,8 @@ public class TaskService {
                 .build();
 
         TaskComment savedComment = taskCommentRepository.save(comment);
+        // Comment counts are part of the task list payload
+        projectVersionService.bump(task.getProjectId());
         log.info("Comment added successfully to task: {}", taskId);
 
         return mapToTaskCommentResponse(savedComment, userId);
@@ -422,6 +725,143 @@ public class TaskService {
                 .collect(Collectors.toList());
     }
 
+    // Rows come from the read path with one extra row to detect a following page
+    private TaskPageResponse toPage(List<TaskResponse> rows, int pageSize) {
+        String nextCursor = null;
+        if (rows.size() > pageSize) {
+            rows = rows.subList(0, pageSize);
+            nextCursor = TaskCursor.of(rows.get(pageSize - 1)).encode();
+        }
+
+        return TaskPageResponse.builder()
+                .items(rows)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    // Board position helpers
+    private double topOfBoard(UUID projectId) {
+        return taskRepository.findMinPosition(projectId)
+                .map(min -> min - POSITION_STEP)
+                .orElse(0.0);
+    }
+
+    private Map<UUID, Task> lockForReorder(UUID projectId, Set<UUID> taskIds) {
+        Map<UUID, Task> tasks = taskRepository.findAllForReorder(projectId, taskIds).stream()
+                .collect(Collectors.toMap(Task::getId, task -> task));
+        if (tasks.size() != taskIds.size()) {
+            throw new ResourceNotFoundException("Task not found");
+        }
+        return tasks;
+    }
+
+    // Ranks each moved task between its neighbours, in request order; null if a gap is too small to split
+    private Map<UUID, Double> planMoves(List<TaskMoveRequest> moves, Map<UUID, Task> tasks) {
+        Map<UUID, Double> positions = new HashMap<>();
+        tasks.forEach((id, task) -> positions.put(id, task.getPosition()));
+
+        Map<UUID, Double> planned = new LinkedHashMap<>();
+        for (TaskMoveRequest move : moves) {
+            Double after = move.getAfterTaskId() != null ? positions.get(move.getAfterTaskId()) : null;
+            Double before = move.getBeforeTaskId() != null ? positions.get(move.getBeforeTaskId()) : null;
+            Double position = rankBetween(after, before, positions.get(move.getTaskId()));
+            if (position == null) {
+                return null;
+            }
+            positions.put(move.getTaskId(), position);
+            planned.put(move.getTaskId(), position);
+        }
+        return planned;
+    }
+
+    private static Double rankBetween(Double after, Double before, Double current) {
+        if (after == null && before == null) {
+            return current;
+        }
+        if (after == null) {
+            return before - POSITION_STEP;
+        }
+        if (before == null) {
+            return after + POSITION_STEP;
+        }
+        if (after > before) {
+            throw new IllegalArgumentException("afterTaskId must come before beforeTaskId on the board");
+        }
+        double midpoint = after + (before - after) / 2;
+        return midpoint > after && midpoint < before ? midpoint : null;
+    }
+
+    // Copies the provided plain fields onto a task; assignment changes are left to the caller
+    static void applyChanges(Task task, UpdateTaskRequest request) {
+        if (request.getTitle() != null && !request.getTitle().isBlank()) {
+            task.setTitle(request.getTitle());
+        }
+        if (request.getDescription() != null) {
+            task.setDescription(request.getDescription());
+        }
+        if (request.getPriority() != null) {
+            task.setPriority(request.getPriority());
+        }
+        if (request.getStatus() != null) {
+            task.setStatus(request.getStatus());
+            task.setCompletedAt(completedAtFor(request.getStatus(), task.getCompletedAt()));
+        }
+        if (request.getEstimatedHours() != null) {
+            task.setEstimatedHours(request.getEstimatedHours());
+        }
+        if (request.getActualHours() != null) {
+            task.setActualHours(request.getActualHours());
+        }
+        if (request.getDueDate() != null) {
+            task.setDueDate(request.getDueDate());
+        }
+        if (request.getPosition() != null) {
+            task.setPosition(request.getPosition());
+        }
+    }
+
+    // Completion time is set when a task enters DONE and cleared when it leaves
+    private static LocalDateTime completedAtFor(TaskStatus status, LocalDateTime completedAt) {
+        if (status != TaskStatus.DONE) {
+            return null;
+        }
+        return completedAt != null ? completedAt : LocalDateTime.now();
+    }
+
+    // Null when the client has no cursor yet (initial sync)
+    private TaskChangeCursor parseChangeCursor(String since) {
+        if (since == null || since.isBlank()) {
+            return null;
+        }
+        return TaskChangeCursor.decode(since);
+    }
+
+    private LocalDate parseCalendarDate(String name, String value) {
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid '" + name + "' date, expected YYYY-MM-DD: " + value);
+        }
+    }
+
+    private TaskStatus parseBoardColumn(String column) {
+        try {
+            return TaskStatus.valueOf(column.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown board column: " + column);
+        }
+    }
+
+    private int resolvePageSize(Integer requestedLimit) {
+        if (requestedLimit == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        if (requestedLimit < 1) {
+            throw new IllegalArgumentException("Limit must be at least 1");
+        }
+        return Math.min(requestedLimit, MAX_PAGE_SIZE);
+    }
+
     // Permission helper methods
     private boolean isSystemAdmin(UUID userId) {
         User user = userRepository.findById(userId).orElse(null);
@@ -481,9 +921,13 @@ public class TaskService {
         // Get project info
         Project project = projectRepository.findById(task.getProjectId()).orElse(null);
 
-        // Get assigned user info
-        User assignedUser = task.getAssignedToId() != null ?
-                userRepository.findById(task.getAssignedToId()).orElse(null) : null;
+        // Get assigned user info, reusing the association when the fetch plan loaded it
+        User assignedUser = null;
+        if (task.getAssignedToId() != null) {
+            assignedUser = Hibernate.isInitialized(task.getAssignedTo()) && task.getAssignedTo() != null
+                    ? task.getAssignedTo()
+                    : userRepository.findById(task.getAssignedToId()).orElse(null);
+        }
 
         // Get creator info
         User creator = userRepository.findById(task.getCreatedByUserId()).orElse(null);
@@ -649,4 +1093,8 @@ public class TaskService {
         TaskComment updatedComment = taskCommentRepository.save(comment);
         return mapToTaskCommentResponse(updatedComment, userId);
     }
+
+    // One entry of the delta sync stream; task is null for a tombstone
+    private record TaskChange(TaskChangeCursor stamp, UUID taskId, Task task) {
+    }
 }
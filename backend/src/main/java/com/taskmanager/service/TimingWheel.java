@@ -0,0 +1,191 @@
+package com.taskmanager.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * Hierarchical timing wheel for in-memory timers keyed by K.
+ * The first wheel has wheelSize buckets of tickMs each; timers further out go to overflow wheels
+ * whose tick is a whole lower wheel, and drop down a level each time their bucket comes due.
+ * Scheduling and cancelling are O(1), and advancing visits only buckets that hold timers, in
+ * expiration order, so the cost does not grow with how far ahead timers are set.
+ * Timers fire to within one tick. The caller drives the clock with {@link #advance(long)}.
+ */
+final class TimingWheel<K, V> {
+
+    private final PriorityQueue<Bucket<K, V>> dueBuckets =
+            new PriorityQueue<>(Comparator.comparingLong(bucket -> bucket.expiration));
+    private final Map<K, Timer<K, V>> timers = new HashMap<>();
+    // Timers scheduled at a time the wheel has already passed; they fire on the next advance
+    private final Set<Timer<K, V>> expired = new LinkedHashSet<>();
+    private final Level<K, V> wheel;
+
+    TimingWheel(long tickMs, int wheelSize, long startMs) {
+        if (tickMs < 1 || wheelSize < 2) {
+            throw new IllegalArgumentException("A timing wheel needs a tick of at least 1 ms and at least 2 buckets");
+        }
+        this.wheel = new Level<>(tickMs, wheelSize, startMs, dueBuckets);
+    }
+
+    // Sets the timer for key to fire at expirationMs, replacing any timer already set for it
+    synchronized void schedule(K key, V value, long expirationMs) {
+        cancel(key);
+        Timer<K, V> timer = new Timer<>(key, value, expirationMs);
+        timers.put(key, timer);
+        if (!wheel.add(timer)) {
+            expired.add(timer);
+        }
+    }
+
+    synchronized boolean cancel(K key) {
+        Timer<K, V> timer = timers.remove(key);
+        if (timer == null) {
+            return false;
+        }
+        if (timer.bucket != null) {
+            timer.bucket.remove(timer);
+        } else {
+            expired.remove(timer);
+        }
+        return true;
+    }
+
+    // Moves the clock to nowMs and returns the values of the timers that fired, earliest first
+    synchronized List<V> advance(long nowMs) {
+        List<V> fired = new ArrayList<>();
+        for (Timer<K, V> timer : expired) {
+            fire(timer, fired);
+        }
+        expired.clear();
+
+        Bucket<K, V> bucket;
+        while ((bucket = dueBuckets.peek()) != null && bucket.expiration <= nowMs) {
+            dueBuckets.poll();
+            wheel.advanceClock(bucket.expiration);
+            for (Timer<K, V> timer : bucket.flush()) {
+                // Lands in a finer bucket, or fires if it is within the current tick
+                if (!wheel.add(timer)) {
+                    fire(timer, fired);
+                }
+            }
+        }
+        wheel.advanceClock(nowMs);
+        return fired;
+    }
+
+    synchronized int size() {
+        return timers.size();
+    }
+
+    private void fire(Timer<K, V> timer, List<V> fired) {
+        timers.remove(timer.key);
+        fired.add(timer.value);
+    }
+
+    private static final class Level<K, V> {
+
+        private final long tickMs;
+        private final int wheelSize;
+        private final long interval;
+        private final Bucket<K, V>[] buckets;
+        private final PriorityQueue<Bucket<K, V>> dueBuckets;
+        private long currentTime;
+        private Level<K, V> overflow;
+
+        @SuppressWarnings("unchecked")
+        Level(long tickMs, int wheelSize, long startMs, PriorityQueue<Bucket<K, V>> dueBuckets) {
+            this.tickMs = tickMs;
+            this.wheelSize = wheelSize;
+            this.interval = tickMs * wheelSize;
+            this.buckets = new Bucket[wheelSize];
+            for (int i = 0; i < wheelSize; i++) {
+                buckets[i] = new Bucket<>();
+            }
+            this.dueBuckets = dueBuckets;
+            this.currentTime = startMs - (startMs % tickMs);
+        }
+
+        // False when the timer is already due at this level's resolution
+        boolean add(Timer<K, V> timer) {
+            long expiration = timer.expirationMs;
+            if (expiration < currentTime + tickMs) {
+                return false;
+            }
+            if (expiration < currentTime + interval) {
+                long virtualId = expiration / tickMs;
+                Bucket<K, V> bucket = buckets[(int) (virtualId % wheelSize)];
+                bucket.add(timer);
+                if (bucket.setExpiration(virtualId * tickMs)) {
+                    dueBuckets.offer(bucket);
+                }
+                return true;
+            }
+            if (overflow == null) {
+                overflow = new Level<>(interval, wheelSize, currentTime, dueBuckets);
+            }
+            return overflow.add(timer);
+        }
+
+        void advanceClock(long timeMs) {
+            if (timeMs >= currentTime + tickMs) {
+                currentTime = timeMs - (timeMs % tickMs);
+                if (overflow != null) {
+                    overflow.advanceClock(currentTime);
+                }
+            }
+        }
+    }
+
+    private static final class Bucket<K, V> {
+
+        private final Set<Timer<K, V>> timers = new LinkedHashSet<>();
+        // Start of the tick this bucket currently stands for; -1 while it is not queued
+        private long expiration = -1L;
+
+        void add(Timer<K, V> timer) {
+            timers.add(timer);
+            timer.bucket = this;
+        }
+
+        void remove(Timer<K, V> timer) {
+            timers.remove(timer);
+            timer.bucket = null;
+        }
+
+        boolean setExpiration(long expiration) {
+            if (this.expiration == expiration) {
+                return false;
+            }
+            this.expiration = expiration;
+            return true;
+        }
+
+        List<Timer<K, V>> flush() {
+            List<Timer<K, V>> flushed = new ArrayList<>(timers);
+            timers.clear();
+            flushed.forEach(timer -> timer.bucket = null);
+            expiration = -1L;
+            return flushed;
+        }
+    }
+
+    private static final class Timer<K, V> {
+
+        private final K key;
+        private final V value;
+        private final long expirationMs;
+        private Bucket<K, V> bucket;
+
+        Timer(K key, V value, long expirationMs) {
+            this.key = key;
+            this.value = value;
+            this.expirationMs = expirationMs;
+        }
+    }
+}
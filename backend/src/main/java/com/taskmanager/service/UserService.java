@@ -30,6 +30,8 @@ public class UserService {
     private final ProjectRepository projectRepository;
     private final ProjectMemberRepository projectMemberRepository;
     private final TaskRepository taskRepository;
+    private final ProjectVersionService projectVersionService;
+    private final CacheInvalidationPublisher cacheInvalidationPublisher;
 
     @Transactional(readOnly = true)
     public UserResponse getUserProfile(UUID userId) {
@@ -57,6 +59,9 @@ public class UserService {
         }
 
         User updatedUser = userRepository.save(user);
+        // Names appear in project, member and task payloads of every project the user is in
+        projectVersionService.bumpAllForMember(userId);
+        cacheInvalidationPublisher.publish(CacheInvalidation.of(CacheInvalidation.Target.USER, userId));
         log.info("User profile updated successfully for ID: {}", userId);
 
         return mapToUserResponse(updatedUser);
@@ -71,6 +76,7 @@ public class UserService {
 
         user.setIsActive(false);
         userRepository.save(user);
+        cacheInvalidationPublisher.publish(CacheInvalidation.of(CacheInvalidation.Target.USER, userId));
 
         log.info("User account soft deleted for ID: {}", userId);
     }
@@ -0,0 +1,18 @@
+-- =====================================================
+-- Keyset Pagination Indexes For Task Lists
+-- =====================================================
+-- Task list endpoints page through results with a cursor
+-- on their sort keys plus id as tiebreaker. These indexes
+-- match each ORDER BY so a page is a bounded index range
+-- scan instead of a sort over every task.
+-- =====================================================
+
+-- Project board order: position ASC, created_at DESC, id ASC
+CREATE INDEX IF NOT EXISTS idx_tasks_project_position_keyset
+    ON tasks (project_id, position ASC, created_at DESC, id ASC)
+    WHERE is_active = true;
+
+-- "My tasks" order: due_date ASC NULLS LAST, priority DESC, created_at DESC, id ASC
+CREATE INDEX IF NOT EXISTS idx_tasks_due_date_keyset
+    ON tasks (due_date ASC NULLS LAST, priority DESC, created_at DESC, id ASC)
+    WHERE is_active = true;
@@ -0,0 +1,44 @@
+-- =====================================================
+-- Task Change Sequence For Delta Sync
+-- =====================================================
+-- Every insert or update of a task (including soft
+-- deletes via is_active = false) stamps the row with a
+-- new value from a global, monotonic sequence. Clients
+-- keep the highest value they have seen and ask only for
+-- rows with a larger change_seq.
+-- =====================================================
+
+CREATE SEQUENCE IF NOT EXISTS task_change_seq;
+
+ALTER TABLE tasks ADD COLUMN IF NOT EXISTS change_seq BIGINT;
+
+-- Backfill existing rows in their modification order
+UPDATE tasks t
+SET change_seq = ordered.seq
+FROM (
+    SELECT id, nextval('task_change_seq') AS seq
+    FROM (SELECT id FROM tasks ORDER BY updated_at, id) by_update
+) ordered
+WHERE t.id = ordered.id;
+
+ALTER TABLE tasks ALTER COLUMN change_seq SET DEFAULT nextval('task_change_seq');
+ALTER TABLE tasks ALTER COLUMN change_seq SET NOT NULL;
+
+CREATE OR REPLACE FUNCTION tasks_bump_change_seq()
+RETURNS TRIGGER AS $$
+BEGIN
+    NEW.change_seq := nextval('task_change_seq');
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_tasks_change_seq ON tasks;
+CREATE TRIGGER trg_tasks_change_seq
+    BEFORE UPDATE ON tasks
+    FOR EACH ROW
+    EXECUTE FUNCTION tasks_bump_change_seq();
+
+-- Serves "changes in project X since N" as a single index range scan
+CREATE INDEX IF NOT EXISTS idx_tasks_project_change_seq ON tasks (project_id, change_seq);
+
+COMMENT ON COLUMN tasks.change_seq IS 'Monotonic change stamp, bumped on every insert/update. Used by the delta sync endpoint.';
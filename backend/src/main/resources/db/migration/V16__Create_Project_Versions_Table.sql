@@ -0,0 +1,32 @@
+-- =====================================================
+-- Project Version Stamps For Conditional GETs
+-- =====================================================
+-- One row per project holding a version that is bumped
+-- on every task, member or project write. Read endpoints
+-- derive strong ETags from it and answer If-None-Match
+-- with 304 without loading or serializing the payload.
+-- =====================================================
+
+CREATE SEQUENCE IF NOT EXISTS project_version_seq;
+
+CREATE TABLE IF NOT EXISTS project_versions (
+    project_id UUID PRIMARY KEY,
+    version BIGINT NOT NULL,
+    CONSTRAINT fk_project_versions_project FOREIGN KEY (project_id) REFERENCES projects(id) ON DELETE CASCADE
+);
+
+INSERT INTO project_versions (project_id, version)
+SELECT id, nextval('project_version_seq')
+FROM projects
+ON CONFLICT (project_id) DO NOTHING;
+
+-- Match the RLS setup of the other tables (see V12/V13)
+ALTER TABLE project_versions ENABLE ROW LEVEL SECURITY;
+DROP POLICY IF EXISTS "Enable all access for service role" ON project_versions;
+CREATE POLICY "Enable all access for service role"
+    ON project_versions FOR ALL
+    TO service_role
+    USING (true)
+    WITH CHECK (true);
+
+COMMENT ON TABLE project_versions IS 'Per-project version stamp bumped on every task, member or project write. Used for ETags.';
@@ -0,0 +1,29 @@
+-- =====================================================
+-- Fractional Task Positions
+-- =====================================================
+-- Board positions become rank keys: a task moved between
+-- two neighbours gets the midpoint of their positions, so
+-- a drag-and-drop rewrites one row instead of renumbering
+-- the column. A background job respaces a project once
+-- the gaps between neighbours get too small.
+-- =====================================================
+
+ALTER TABLE tasks ALTER COLUMN position TYPE DOUBLE PRECISION;
+
+-- Spread existing tasks out in their current board order (position, newest first)
+UPDATE tasks t
+SET position = ranked.rn * 1024
+FROM (
+    SELECT id,
+           row_number() OVER (
+               PARTITION BY project_id
+               ORDER BY COALESCE(position, 0) ASC, created_at DESC, id ASC
+           ) AS rn
+    FROM tasks
+) ranked
+WHERE t.id = ranked.id;
+
+ALTER TABLE tasks ALTER COLUMN position SET DEFAULT 0;
+ALTER TABLE tasks ALTER COLUMN position SET NOT NULL;
+
+COMMENT ON COLUMN tasks.position IS 'Fractional board rank; lower comes first. Respaced by the rebalance job.';
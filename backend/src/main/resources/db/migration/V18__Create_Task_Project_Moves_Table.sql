@@ -0,0 +1,33 @@
+-- =====================================================
+-- Task Project Moves For Delta Sync
+-- =====================================================
+-- When tasks are moved to another project, the project
+-- they left no longer sees them in its change feed. Each
+-- move leaves a row here, stamped with the task's new
+-- change_seq, which the old project reports as a deletion.
+-- =====================================================
+
+CREATE TABLE IF NOT EXISTS task_project_moves (
+    id BIGINT GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    task_id UUID NOT NULL,
+    project_id UUID NOT NULL,
+    change_seq BIGINT NOT NULL,
+    moved_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT fk_task_project_moves_task FOREIGN KEY (task_id) REFERENCES tasks(id) ON DELETE CASCADE,
+    CONSTRAINT fk_task_project_moves_project FOREIGN KEY (project_id) REFERENCES projects(id) ON DELETE CASCADE
+);
+
+-- Serves "moves out of project X since N" next to idx_tasks_project_change_seq
+CREATE INDEX IF NOT EXISTS idx_task_project_moves_project_change_seq
+    ON task_project_moves (project_id, change_seq);
+
+-- Match the RLS setup of the other tables (see V12/V13)
+ALTER TABLE task_project_moves ENABLE ROW LEVEL SECURITY;
+DROP POLICY IF EXISTS "Enable all access for service role" ON task_project_moves;
+CREATE POLICY "Enable all access for service role"
+    ON task_project_moves FOR ALL
+    TO service_role
+    USING (true)
+    WITH CHECK (true);
+
+COMMENT ON TABLE task_project_moves IS 'Tasks moved out of a project, reported as deletions by that project''s delta sync.';
@@ -0,0 +1,38 @@
+-- =====================================================
+-- Time-Ordered UUID Defaults
+-- =====================================================
+-- New keys are UUIDv7: a millisecond timestamp followed
+-- by random bits. Inserts append to the right edge of
+-- the primary key and foreign key indexes instead of
+-- touching a random leaf page each time. Existing v4
+-- keys are left as they are; both versions share the
+-- same UUID columns and indexes.
+-- =====================================================
+
+-- Built from gen_random_uuid(): overwrite the first 48 bits with the
+-- current Unix time in milliseconds and turn the version nibble 4 into 7
+CREATE OR REPLACE FUNCTION uuid_generate_v7()
+RETURNS UUID
+LANGUAGE sql
+VOLATILE
+AS $$
+    SELECT encode(
+        set_bit(
+            set_bit(
+                overlay(uuid_send(gen_random_uuid())
+                        PLACING substring(int8send(floor(extract(epoch FROM clock_timestamp()) * 1000)::BIGINT) FROM 3)
+                        FROM 1 FOR 6),
+                52, 1),
+            53, 1),
+        'hex')::UUID
+$$;
+
+ALTER TABLE users ALTER COLUMN id SET DEFAULT uuid_generate_v7();
+ALTER TABLE projects ALTER COLUMN id SET DEFAULT uuid_generate_v7();
+ALTER TABLE project_members ALTER COLUMN id SET DEFAULT uuid_generate_v7();
+ALTER TABLE tasks ALTER COLUMN id SET DEFAULT uuid_generate_v7();
+ALTER TABLE task_comments ALTER COLUMN id SET DEFAULT uuid_generate_v7();
+ALTER TABLE comment_reactions ALTER COLUMN id SET DEFAULT uuid_generate_v7();
+ALTER TABLE notifications ALTER COLUMN id SET DEFAULT uuid_generate_v7();
+
+COMMENT ON FUNCTION uuid_generate_v7() IS 'RFC 9562 version 7 UUID: Unix millisecond timestamp followed by random bits.';
@@ -0,0 +1,91 @@
+-- =====================================================
+-- Workload-Tuned Composite And Partial Indexes
+-- =====================================================
+-- Repository queries filter on is_active = true plus a
+-- project, user or assignee, then sort. The single-column
+-- indexes from V2, V3 and V10 force the planner to
+-- bitmap-AND them or scan the table. These indexes match
+-- each query shape and hold only the rows it can return.
+-- The low-selectivity indexes they replace are dropped.
+-- Plain indexes that back ON DELETE foreign keys stay.
+-- =====================================================
+
+-- =====================================================
+-- PART 1: Tasks
+-- =====================================================
+
+-- Board columns and per-status counts: project_id + status, ordered by position
+CREATE INDEX IF NOT EXISTS idx_tasks_project_status_position
+    ON tasks (project_id, status, position)
+    WHERE is_active = true;
+
+-- Priority filter and per-priority counts, ordered by due date
+CREATE INDEX IF NOT EXISTS idx_tasks_project_priority_due_date
+    ON tasks (project_id, priority, due_date)
+    WHERE is_active = true;
+
+-- Overdue lists and counts only ever look at open tasks
+CREATE INDEX IF NOT EXISTS idx_tasks_project_open_due_date
+    ON tasks (project_id, due_date)
+    WHERE is_active = true AND status NOT IN ('DONE', 'CANCELLED');
+
+-- Unassigned count
+CREATE INDEX IF NOT EXISTS idx_tasks_project_unassigned
+    ON tasks (project_id)
+    WHERE is_active = true AND assigned_to_id IS NULL;
+
+-- Tasks assigned to a user: due_date ASC, created_at DESC
+CREATE INDEX IF NOT EXISTS idx_tasks_assignee_due_date
+    ON tasks (assigned_to_id, due_date ASC, created_at DESC)
+    WHERE is_active = true;
+
+-- Tasks created by a user: created_at DESC
+CREATE INDEX IF NOT EXISTS idx_tasks_creator_created_at
+    ON tasks (created_by_user_id, created_at DESC)
+    WHERE is_active = true;
+
+-- V4 meant to index assigned_to_id, but V3 had already used the name
+-- idx_tasks_assigned_to for the legacy assigned_to_user_id column, so
+-- ON DELETE SET NULL from users had no index to use
+CREATE INDEX IF NOT EXISTS idx_tasks_assigned_to_id ON tasks (assigned_to_id);
+
+-- project_id alone is the leading column of idx_tasks_project_change_seq (V15)
+DROP INDEX IF EXISTS idx_tasks_project_id;
+DROP INDEX IF EXISTS idx_tasks_status;
+DROP INDEX IF EXISTS idx_tasks_priority;
+DROP INDEX IF EXISTS idx_tasks_due_date;
+DROP INDEX IF EXISTS idx_tasks_is_active;
+
+-- =====================================================
+-- PART 2: Projects
+-- =====================================================
+
+-- Projects owned by a user, newest first, and their count
+CREATE INDEX IF NOT EXISTS idx_projects_owner_created_at
+    ON projects (owner_id, created_at DESC)
+    WHERE is_active = true;
+
+-- The admin listing reads nearly every row, where a scan is the right plan
+DROP INDEX IF EXISTS idx_projects_is_active;
+DROP INDEX IF EXISTS idx_projects_created_at;
+
+-- =====================================================
+-- PART 3: Notifications
+-- =====================================================
+
+-- A user's notifications, newest first (also backs ON DELETE CASCADE from users)
+CREATE INDEX IF NOT EXISTS idx_notifications_user_created_at
+    ON notifications (user_id, created_at DESC);
+
+-- Unread notifications and the unread badge count
+CREATE INDEX IF NOT EXISTS idx_notifications_user_unread_created_at
+    ON notifications (user_id, created_at DESC)
+    WHERE is_read = false;
+
+DROP INDEX IF EXISTS idx_notifications_user_id;
+DROP INDEX IF EXISTS idx_notifications_is_read;
+DROP INDEX IF EXISTS idx_notifications_user_id_is_read;
+DROP INDEX IF EXISTS idx_notifications_created_at;
+
+COMMENT ON INDEX idx_tasks_project_open_due_date IS 'Overdue tasks per project; partial on active tasks that are not DONE or CANCELLED.';
+COMMENT ON INDEX idx_notifications_user_unread_created_at IS 'Unread notifications per user, newest first.';
@@ -0,0 +1,105 @@
+-- =====================================================
+-- Task Archive
+-- =====================================================
+-- Soft-deleted tasks and tasks finished long ago move out
+-- of tasks, together with their comments and reactions,
+-- so the hot table and its indexes stay proportional to
+-- live work. The archive job copies a batch of rows here
+-- and deletes them from the hot tables in one transaction.
+-- =====================================================
+
+CREATE TABLE IF NOT EXISTS archived_tasks (
+    id UUID PRIMARY KEY,
+    title VARCHAR(200) NOT NULL,
+    description TEXT,
+    status VARCHAR(20) NOT NULL,
+    priority VARCHAR(20) NOT NULL,
+    project_id UUID NOT NULL,
+    assigned_to_id UUID,
+    created_by_user_id UUID NOT NULL,
+    estimated_hours DECIMAL(5,2),
+    actual_hours DECIMAL(5,2),
+    due_date TIMESTAMP,
+    completed_at TIMESTAMP,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    position DOUBLE PRECISION NOT NULL,
+    is_active BOOLEAN NOT NULL,
+    -- Drawn from task_change_seq when archived; delta sync reports the task as deleted
+    archive_seq BIGINT NOT NULL,
+    archived_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT fk_archived_tasks_project FOREIGN KEY (project_id) REFERENCES projects(id) ON DELETE CASCADE
+);
+
+CREATE TABLE IF NOT EXISTS archived_task_comments (
+    id UUID PRIMARY KEY,
+    task_id UUID NOT NULL,
+    user_id UUID NOT NULL,
+    comment_text TEXT NOT NULL,
+    likes_count INTEGER NOT NULL DEFAULT 0,
+    dislikes_count INTEGER NOT NULL DEFAULT 0,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    CONSTRAINT fk_archived_task_comments_task FOREIGN KEY (task_id) REFERENCES archived_tasks(id) ON DELETE CASCADE
+);
+
+CREATE TABLE IF NOT EXISTS archived_comment_reactions (
+    id UUID PRIMARY KEY,
+    comment_id UUID NOT NULL,
+    user_id UUID NOT NULL,
+    reaction_type VARCHAR(10) NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    CONSTRAINT fk_archived_comment_reactions_comment
+        FOREIGN KEY (comment_id) REFERENCES archived_task_comments(id) ON DELETE CASCADE
+);
+
+-- Archive browsing per project: created_at DESC, id ASC
+CREATE INDEX IF NOT EXISTS idx_archived_tasks_project_created_at
+    ON archived_tasks (project_id, created_at DESC, id ASC);
+
+-- Delta sync: archived since change stamp N
+CREATE INDEX IF NOT EXISTS idx_archived_tasks_project_archive_seq
+    ON archived_tasks (project_id, archive_seq);
+
+CREATE INDEX IF NOT EXISTS idx_archived_task_comments_task_id ON archived_task_comments (task_id);
+CREATE INDEX IF NOT EXISTS idx_archived_comment_reactions_comment_id ON archived_comment_reactions (comment_id);
+
+-- Archive job candidates, so finding the next batch never scans live work
+CREATE INDEX IF NOT EXISTS idx_tasks_deleted_updated_at
+    ON tasks (updated_at)
+    WHERE is_active = false;
+
+CREATE INDEX IF NOT EXISTS idx_tasks_finished_at
+    ON tasks ((COALESCE(completed_at, updated_at)))
+    WHERE is_active = true AND status IN ('DONE', 'CANCELLED');
+
+-- Match the RLS setup of the other tables (see V12/V13)
+ALTER TABLE archived_tasks ENABLE ROW LEVEL SECURITY;
+ALTER TABLE archived_task_comments ENABLE ROW LEVEL SECURITY;
+ALTER TABLE archived_comment_reactions ENABLE ROW LEVEL SECURITY;
+
+DROP POLICY IF EXISTS "Enable all access for service role" ON archived_tasks;
+CREATE POLICY "Enable all access for service role"
+    ON archived_tasks FOR ALL
+    TO service_role
+    USING (true)
+    WITH CHECK (true);
+
+DROP POLICY IF EXISTS "Enable all access for service role" ON archived_task_comments;
+CREATE POLICY "Enable all access for service role"
+    ON archived_task_comments FOR ALL
+    TO service_role
+    USING (true)
+    WITH CHECK (true);
+
+DROP POLICY IF EXISTS "Enable all access for service role" ON archived_comment_reactions;
+CREATE POLICY "Enable all access for service role"
+    ON archived_comment_reactions FOR ALL
+    TO service_role
+    USING (true)
+    WITH CHECK (true);
+
+COMMENT ON TABLE archived_tasks IS 'Soft-deleted and long-finished tasks moved out of tasks by the archive job.';
+COMMENT ON TABLE archived_task_comments IS 'Comments of archived tasks.';
+COMMENT ON TABLE archived_comment_reactions IS 'Reactions on comments of archived tasks.';
+COMMENT ON COLUMN archived_tasks.archive_seq IS 'Change stamp taken when the task was archived; reported as a deletion by delta sync.';
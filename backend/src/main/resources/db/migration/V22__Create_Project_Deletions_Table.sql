@@ -0,0 +1,50 @@
+-- =====================================================
+-- Project Deletion Cascade
+-- =====================================================
+-- Deleting a project only flips projects.is_active. One
+-- row here per deleted project drives a background job
+-- that soft-deletes the project's tasks and removes their
+-- notifications in small batches. Progress is saved after
+-- every batch, so the job resumes after a restart and any
+-- node can pick it up.
+-- =====================================================
+
+CREATE TABLE IF NOT EXISTS project_deletions (
+    project_id UUID PRIMARY KEY,
+    requested_by_user_id UUID,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    tasks_total INTEGER,
+    tasks_deactivated INTEGER NOT NULL DEFAULT 0,
+    notifications_deleted INTEGER NOT NULL DEFAULT 0,
+    requested_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    started_at TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    completed_at TIMESTAMP,
+    CONSTRAINT fk_project_deletions_project FOREIGN KEY (project_id) REFERENCES projects(id) ON DELETE CASCADE,
+    CONSTRAINT fk_project_deletions_user FOREIGN KEY (requested_by_user_id) REFERENCES users(id) ON DELETE SET NULL,
+    CONSTRAINT chk_project_deletions_status CHECK (status IN ('PENDING', 'RUNNING', 'COMPLETED'))
+);
+
+-- The job only looks at unfinished deletions, oldest first
+CREATE INDEX IF NOT EXISTS idx_project_deletions_unfinished
+    ON project_deletions (requested_at)
+    WHERE status <> 'COMPLETED';
+
+-- Projects deleted before this migration still have active tasks
+INSERT INTO project_deletions (project_id, requested_at)
+SELECT p.id, p.updated_at
+FROM projects p
+WHERE p.is_active = false
+AND EXISTS (SELECT 1 FROM tasks t WHERE t.project_id = p.id AND t.is_active = true)
+ON CONFLICT (project_id) DO NOTHING;
+
+-- Match the RLS setup of the other tables (see V12/V13)
+ALTER TABLE project_deletions ENABLE ROW LEVEL SECURITY;
+DROP POLICY IF EXISTS "Enable all access for service role" ON project_deletions;
+CREATE POLICY "Enable all access for service role"
+    ON project_deletions FOR ALL
+    TO service_role
+    USING (true)
+    WITH CHECK (true);
+
+COMMENT ON TABLE project_deletions IS 'Progress of the background cascade that soft-deletes a deleted project''s tasks.';
@@ -0,0 +1,16 @@
+-- =====================================================
+-- Index For Cross-Project Task Lists In User Order
+-- =====================================================
+-- GET /api/tasks and filtered task searches without a
+-- project read the top of each accessible project in
+-- due date, priority, created_at, id order, then merge.
+-- This index returns each project's tasks already in
+-- that order, so every per-project read stops after one
+-- page instead of sorting all of the project's tasks.
+-- =====================================================
+
+CREATE INDEX IF NOT EXISTS idx_tasks_project_user_order
+    ON tasks (project_id, due_date ASC, priority DESC, created_at DESC, id ASC)
+    WHERE is_active = true;
+
+COMMENT ON INDEX idx_tasks_project_user_order IS 'Active tasks per project in user order (due date, priority, newest first); read per project by the cross-project task list.';
@@ -0,0 +1,20 @@
+-- =====================================================
+-- Index For The "My Tasks" Inbox
+-- =====================================================
+-- GET /api/me/tasks reads a user's active assigned tasks
+-- by due date, created_at and id, with a keyset cursor,
+-- and counts the overdue, today and this-week buckets.
+-- This replaces idx_tasks_assignee_due_date (V20) with
+-- the full inbox order. status and project_id are
+-- included so the bucket counts and the access filter
+-- are answered from the index without heap reads.
+-- =====================================================
+
+CREATE INDEX IF NOT EXISTS idx_tasks_assignee_inbox
+    ON tasks (assigned_to_id, due_date ASC, created_at DESC, id ASC)
+    INCLUDE (status, project_id)
+    WHERE is_active = true;
+
+DROP INDEX IF EXISTS idx_tasks_assignee_due_date;
+
+COMMENT ON INDEX idx_tasks_assignee_inbox IS 'Active tasks per assignee in inbox order (due date, newest first); serves the task inbox, its bucket counts and tasks assigned to a user.';
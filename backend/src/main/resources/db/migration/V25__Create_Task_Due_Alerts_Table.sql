@@ -0,0 +1,47 @@
+-- =====================================================
+-- Due Date Reminders And Overdue Alerts
+-- =====================================================
+-- A background job loads open, assigned tasks due within
+-- the next few hours into an in-memory timing wheel and
+-- notifies the assignee shortly before the due date
+-- (TASK_DUE_SOON) and when it passes (TASK_OVERDUE).
+-- One row per task and alert type records the due date
+-- it was last sent for. Sending claims that row first,
+-- so every node may fire the same alert and only one
+-- notification goes out. A later due date re-arms it.
+-- Alert state lives here rather than on tasks so that
+-- sending does not bump tasks.change_seq (V15).
+-- =====================================================
+
+CREATE TABLE IF NOT EXISTS task_due_alerts (
+    task_id UUID NOT NULL,
+    type VARCHAR(50) NOT NULL,
+    due_date TIMESTAMP NOT NULL,
+    sent_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (task_id, type),
+    CONSTRAINT fk_task_due_alerts_task FOREIGN KEY (task_id) REFERENCES tasks(id) ON DELETE CASCADE,
+    CONSTRAINT chk_task_due_alerts_type CHECK (type IN ('TASK_DUE_SOON', 'TASK_OVERDUE'))
+);
+
+-- The job reads a window of due dates in order; only open tasks can become overdue
+CREATE INDEX IF NOT EXISTS idx_tasks_open_due_date
+    ON tasks (due_date, id)
+    WHERE is_active = true AND status NOT IN ('DONE', 'CANCELLED') AND assigned_to_id IS NOT NULL;
+
+-- Allow the new notification types (V10 declared the check inline)
+ALTER TABLE notifications DROP CONSTRAINT IF EXISTS notifications_type_check;
+ALTER TABLE notifications ADD CONSTRAINT chk_notifications_type
+    CHECK (type IN ('TASK_ASSIGNED', 'TASK_UPDATED', 'TASK_REASSIGNED', 'TASK_DUE_SOON', 'TASK_OVERDUE'));
+
+-- Match the RLS setup of the other tables (see V12/V13)
+ALTER TABLE task_due_alerts ENABLE ROW LEVEL SECURITY;
+DROP POLICY IF EXISTS "Enable all access for service role" ON task_due_alerts;
+CREATE POLICY "Enable all access for service role"
+    ON task_due_alerts FOR ALL
+    TO service_role
+    USING (true)
+    WITH CHECK (true);
+
+COMMENT ON TABLE task_due_alerts IS 'Due date reminders and overdue alerts already sent, per task and type, with the due date they were sent for.';
+COMMENT ON INDEX idx_tasks_open_due_date IS 'Open, assigned active tasks by due date; read in windows by the due date alert job.';
+COMMENT ON COLUMN notifications.type IS 'Type of notification: TASK_ASSIGNED, TASK_UPDATED, TASK_REASSIGNED, TASK_DUE_SOON or TASK_OVERDUE';
@@ -0,0 +1,49 @@
+-- =====================================================
+-- Commit-Safe Change Stamps For Delta Sync
+-- =====================================================
+-- change_seq is drawn when a row is written, not when it
+-- commits: a transaction holding stamp 100 can commit
+-- after one holding 101, and a client that synced in
+-- between would move its cursor past 100 for good.
+-- Every stamped row now also records the writing
+-- transaction's ID. Delta sync orders by (transaction
+-- ID, change_seq) and only serves transactions below the
+-- oldest one still running, whose rows can no longer
+-- change. Rows written before this migration keep
+-- transaction ID 0, ordered before everything after.
+-- =====================================================
+
+-- Constant default first, so existing rows are not rewritten
+ALTER TABLE tasks ADD COLUMN IF NOT EXISTS change_xid BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE tasks ALTER COLUMN change_xid SET DEFAULT pg_current_xact_id()::text::BIGINT;
+
+ALTER TABLE task_project_moves ADD COLUMN IF NOT EXISTS change_xid BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE task_project_moves ALTER COLUMN change_xid SET DEFAULT pg_current_xact_id()::text::BIGINT;
+
+ALTER TABLE archived_tasks ADD COLUMN IF NOT EXISTS archive_xid BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE archived_tasks ALTER COLUMN archive_xid SET DEFAULT pg_current_xact_id()::text::BIGINT;
+
+CREATE OR REPLACE FUNCTION tasks_bump_change_seq()
+RETURNS TRIGGER AS $$
+BEGIN
+    NEW.change_seq := nextval('task_change_seq');
+    NEW.change_xid := pg_current_xact_id()::text::BIGINT;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Delta sync reads each source as one index range in (change_xid, change_seq) order
+CREATE INDEX IF NOT EXISTS idx_tasks_project_change_xid
+    ON tasks (project_id, change_xid, change_seq);
+CREATE INDEX IF NOT EXISTS idx_task_project_moves_project_change_xid
+    ON task_project_moves (project_id, change_xid, change_seq);
+CREATE INDEX IF NOT EXISTS idx_archived_tasks_project_archive_xid
+    ON archived_tasks (project_id, archive_xid, archive_seq);
+
+DROP INDEX IF EXISTS idx_tasks_project_change_seq;
+DROP INDEX IF EXISTS idx_task_project_moves_project_change_seq;
+DROP INDEX IF EXISTS idx_archived_tasks_project_archive_seq;
+
+COMMENT ON COLUMN tasks.change_xid IS 'Transaction that wrote change_seq; delta sync serves only transactions older than every running one.';
+COMMENT ON COLUMN task_project_moves.change_xid IS 'Transaction that moved the task; see tasks.change_xid.';
+COMMENT ON COLUMN archived_tasks.archive_xid IS 'Transaction that archived the task; see tasks.change_xid.';
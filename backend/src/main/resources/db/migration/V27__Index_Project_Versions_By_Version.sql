@@ -0,0 +1,11 @@
+-- =====================================================
+-- Project Versions By Version Stamp
+-- =====================================================
+-- The position rebalance job only looks at projects
+-- whose version was bumped since an earlier run, and
+-- reads the latest version as its next starting point.
+-- Both are ranges over version, not project_id.
+-- =====================================================
+
+CREATE INDEX IF NOT EXISTS idx_project_versions_version
+    ON project_versions (version);
@@ -0,0 +1,20 @@
+-- =====================================================
+-- Keep Notifications And Move Records On Archive
+-- =====================================================
+-- The task archive deletes tasks from the live table.
+-- Notifications cascaded with them, emptying users'
+-- inboxes of read and unread entries alike. They now
+-- stay and lose only their task link, like summary
+-- notifications that never had one. Move records are
+-- delta sync tombstones for the project a task left and
+-- must outlive the task, so they no longer reference it.
+-- =====================================================
+
+ALTER TABLE notifications DROP CONSTRAINT IF EXISTS fk_notifications_task;
+ALTER TABLE notifications ADD CONSTRAINT fk_notifications_task
+    FOREIGN KEY (task_id) REFERENCES tasks(id) ON DELETE SET NULL;
+
+ALTER TABLE task_project_moves DROP CONSTRAINT IF EXISTS fk_task_project_moves_task;
+
+COMMENT ON COLUMN notifications.task_id IS 'Task the notification is about; NULL for summaries and once the task is archived.';
+COMMENT ON COLUMN task_project_moves.task_id IS 'Moved task; kept after the task is archived or deleted.';
@@ -0,0 +1,104 @@
+package com.taskmanager.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs two electing nodes against the PostgreSQL database from application.yml.
+ * Each test uses its own namespace, so locks never collide with another run.
+ */
+@JdbcTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("AdvisoryLockLeaderElection tests")
+class AdvisoryLockLeaderElectionTest {
+
+    private static final String JOB = "sample-job";
+
+    @Autowired
+    private DataSourceProperties dataSourceProperties;
+
+    private final String namespace = "leader-election-test-" + UUID.randomUUID();
+    private final List<AdvisoryLockLeaderElection> nodes = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        nodes.forEach(AdvisoryLockLeaderElection::stop);
+    }
+
+    @Test
+    @DisplayName("Should elect exactly one node per lock")
+    void isLeader_TwoNodes_OneAcquires() {
+        // Arrange
+        AdvisoryLockLeaderElection first = startNode(Duration.ofSeconds(60), Duration.ofSeconds(60));
+        AdvisoryLockLeaderElection second = startNode(Duration.ofSeconds(60), Duration.ofSeconds(60));
+
+        // Act
+        boolean firstLeads = first.isLeader(JOB);
+        boolean secondLeads = second.isLeader(JOB);
+
+        // Assert
+        assertThat(firstLeads).isTrue();
+        assertThat(secondLeads).isFalse();
+        assertThat(first.isLeader(JOB)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should hand the lock over once the holder's session closes")
+    void isLeader_HolderStops_OtherNodeTakesOver() {
+        // Arrange
+        AdvisoryLockLeaderElection first = startNode(Duration.ofSeconds(60), Duration.ofSeconds(60));
+        AdvisoryLockLeaderElection second = startNode(Duration.ofSeconds(60), Duration.ofSeconds(60));
+        assertThat(first.isLeader(JOB)).isTrue();
+        assertThat(second.isLeader(JOB)).isFalse();
+
+        // Act
+        first.stop();
+
+        // Assert
+        assertThat(second.isLeader(JOB)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should stop leading when the lease runs out, and let the server release the lock")
+    void isLeader_LeaseExpired_ServerReleasesLock() throws InterruptedException {
+        // Arrange: a renewal interval far beyond the lease, so the holder never renews
+        AdvisoryLockLeaderElection stalled = startNode(Duration.ofSeconds(60), Duration.ofSeconds(1));
+        assertThat(stalled.isLeader(JOB)).isTrue();
+
+        // Act: idle_session_timeout ends the stalled session after one lease
+        Thread.sleep(2_500L);
+        AdvisoryLockLeaderElection successor = startNode(Duration.ofSeconds(60), Duration.ofSeconds(60));
+
+        // Assert
+        assertThat(stalled.isLeader(JOB)).isFalse();
+        assertThat(successor.isLeader(JOB)).isTrue();
+    }
+
+    private AdvisoryLockLeaderElection startNode(Duration renewInterval, Duration lease) {
+        AdvisoryLockLeaderElection node = new AdvisoryLockLeaderElection(dataSourceProperties);
+        ReflectionTestUtils.setField(node, "enabled", true);
+        ReflectionTestUtils.setField(node, "url", dataSourceProperties.determineUrl());
+        ReflectionTestUtils.setField(node, "namespace", namespace);
+        ReflectionTestUtils.setField(node, "renewInterval", renewInterval);
+        ReflectionTestUtils.setField(node, "lease", lease);
+        node.start();
+        nodes.add(node);
+        return node;
+    }
+}
@@ -0,0 +1,135 @@
+package com.taskmanager.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReadReplicaRoutingDataSource Unit Tests")
+class ReadReplicaRoutingDataSourceTest {
+
+    private static final Duration MAX_LAG = Duration.ofSeconds(2);
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private DataSource replica;
+
+    @Mock
+    private Connection connection;
+
+    private ReadReplicaRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() {
+        routingDataSource = new ReadReplicaRoutingDataSource(primary, replica);
+        routingDataSource.initialize();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    @DisplayName("Should send read-only transactions to a caught-up replica")
+    void readOnly_ReplicaWithinLag_UsesReplica() throws Exception {
+        // Arrange
+        when(replica.getConnection()).thenReturn(connection);
+        routingDataSource.replicaLagMeasured(100, MAX_LAG);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // Act
+        routingDataSource.getConnection();
+
+        // Assert
+        verify(replica).getConnection();
+        verifyNoInteractions(primary);
+        assertThat(routingDataSource.routesToReplica()).isTrue();
+        assertThat(routingDataSource.getReplicaConnections()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should fall back to the primary while the replica lags")
+    void readOnly_ReplicaLagging_FallsBackToPrimary() throws Exception {
+        // Arrange
+        when(primary.getConnection()).thenReturn(connection);
+        routingDataSource.replicaLagMeasured(5_000, MAX_LAG);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // Act
+        routingDataSource.getConnection();
+
+        // Assert
+        verify(primary).getConnection();
+        verifyNoInteractions(replica);
+        assertThat(routingDataSource.getReplicaFallbacks()).isEqualTo(1);
+        assertThat(routingDataSource.getReplicaLagMillis()).isEqualTo(5_000);
+    }
+
+    @Test
+    @DisplayName("Should fall back to the primary when the replica is unreachable")
+    void readOnly_ReplicaUnreachable_FallsBackToPrimary() throws Exception {
+        // Arrange
+        when(primary.getConnection()).thenReturn(connection);
+        routingDataSource.replicaLagMeasured(0, MAX_LAG);
+        routingDataSource.replicaUnreachable();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // Act
+        routingDataSource.getConnection();
+
+        // Assert
+        verify(primary).getConnection();
+        assertThat(routingDataSource.isReplicaAvailable()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should send read-write work to the primary")
+    void readWrite_UsesPrimary() throws Exception {
+        // Arrange
+        when(primary.getConnection()).thenReturn(connection);
+        routingDataSource.replicaLagMeasured(0, MAX_LAG);
+
+        // Act
+        routingDataSource.getConnection();
+
+        // Assert
+        verify(primary).getConnection();
+        verifyNoInteractions(replica);
+        assertThat(routingDataSource.getPrimaryConnections()).isEqualTo(1);
+        assertThat(routingDataSource.getReplicaFallbacks()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should never use a replica that is not configured")
+    void noReplica_AlwaysPrimary() throws Exception {
+        // Arrange
+        ReadReplicaRoutingDataSource primaryOnly = new ReadReplicaRoutingDataSource(primary, null);
+        primaryOnly.initialize();
+        when(primary.getConnection()).thenReturn(connection);
+        primaryOnly.replicaLagMeasured(0, MAX_LAG);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // Act
+        primaryOnly.getConnection();
+
+        // Assert
+        verify(primary).getConnection();
+        assertThat(primaryOnly.isReplicaAvailable()).isFalse();
+        assertThat(primaryOnly.getReplicaFallbacks()).isZero();
+    }
+}
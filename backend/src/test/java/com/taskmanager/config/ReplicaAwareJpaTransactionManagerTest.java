@@ -0,0 +1,86 @@
+package com.taskmanager.config;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.EntityTransaction;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReplicaAwareJpaTransactionManager Unit Tests")
+class ReplicaAwareJpaTransactionManagerTest {
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private DataSource replica;
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private EntityTransaction entityTransaction;
+
+    @Mock
+    private Session session;
+
+    @BeforeEach
+    void setUp() {
+        when(entityManagerFactory.createEntityManager()).thenReturn(entityManager);
+        when(entityManager.getTransaction()).thenReturn(entityTransaction);
+        when(entityManager.unwrap(Session.class)).thenReturn(session);
+    }
+
+    @Test
+    @DisplayName("Should only read from the caches in read-only transactions when a replica is configured")
+    void readOnly_ReplicaConfigured_UsesGetCacheMode() {
+        // Act
+        runInTransaction(new ReadReplicaRoutingDataSource(primary, replica), true);
+
+        // Assert
+        verify(session).setCacheMode(CacheMode.GET);
+    }
+
+    @Test
+    @DisplayName("Should fill the caches in read-write transactions")
+    void readWrite_ReplicaConfigured_UsesNormalCacheMode() {
+        // Act
+        runInTransaction(new ReadReplicaRoutingDataSource(primary, replica), false);
+
+        // Assert
+        verify(session).setCacheMode(CacheMode.NORMAL);
+    }
+
+    @Test
+    @DisplayName("Should fill the caches in read-only transactions without a replica")
+    void readOnly_NoReplica_UsesNormalCacheMode() {
+        // Act
+        runInTransaction(new ReadReplicaRoutingDataSource(primary, null), true);
+
+        // Assert
+        verify(session).setCacheMode(CacheMode.NORMAL);
+    }
+
+    private void runInTransaction(ReadReplicaRoutingDataSource routingDataSource, boolean readOnly) {
+        ReplicaAwareJpaTransactionManager transactionManager = new ReplicaAwareJpaTransactionManager(routingDataSource);
+        transactionManager.setEntityManagerFactory(entityManagerFactory);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(readOnly);
+        transactionTemplate.executeWithoutResult(status -> { });
+    }
+}
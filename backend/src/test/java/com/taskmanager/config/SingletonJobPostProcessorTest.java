@@ -0,0 +1,89 @@
+package com.taskmanager.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SingletonJobPostProcessor Unit Tests")
+class SingletonJobPostProcessorTest {
+
+    @Mock
+    private AdvisoryLockLeaderElection leaderElection;
+
+    private SampleJob target;
+    private SampleJob job;
+
+    @BeforeEach
+    void setUp() {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("leaderElection", leaderElection);
+        SingletonJobPostProcessor postProcessor =
+                new SingletonJobPostProcessor(beanFactory.getBeanProvider(AdvisoryLockLeaderElection.class));
+        postProcessor.setBeanFactory(beanFactory);
+        target = new SampleJob();
+        job = (SampleJob) postProcessor.postProcessAfterInitialization(target, "sampleJob");
+    }
+
+    @Test
+    @DisplayName("Should run a singleton job on the node holding its lock")
+    void singletonJob_Leader_Runs() {
+        // Arrange
+        when(leaderElection.isLeader("sample")).thenReturn(true);
+
+        // Act
+        job.run();
+
+        // Assert
+        assertThat(AopUtils.isAopProxy(job)).isTrue();
+        assertThat(target.runs.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should skip a singleton job on a node that does not hold its lock")
+    void singletonJob_NotLeader_Skips() {
+        // Arrange
+        when(leaderElection.isLeader("sample")).thenReturn(false);
+
+        // Act
+        job.run();
+
+        // Assert
+        assertThat(target.runs.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should leave methods without @SingletonJob alone")
+    void plainMethod_RunsWithoutLeaderCheck() {
+        // Act
+        job.runEverywhere();
+
+        // Assert
+        assertThat(target.runs.get()).isEqualTo(1);
+        verifyNoInteractions(leaderElection);
+    }
+
+    static class SampleJob {
+
+        final AtomicInteger runs = new AtomicInteger();
+
+        @SingletonJob("sample")
+        public void run() {
+            runs.incrementAndGet();
+        }
+
+        public void runEverywhere() {
+            runs.incrementAndGet();
+        }
+    }
+}
@@ -7,6 +7,7 @@ import com.taskmanager.entity.User;
 import com.taskmanager.exception.ForbiddenException;
 import com.taskmanager.exception.ResourceNotFoundException;
 import com.taskmanager.security.JwtAuthenticationFilter;
+import com.taskmanager.service.ProjectDashboardService;
 import com.taskmanager.service.ProjectService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -49,6 +50,9 @@ class ProjectControllerTest {
     @MockBean
     private ProjectService projectService;
 
+    @MockBean
+    private ProjectDashboardService projectDashboardService;
+
     private User authenticatedUser;
     private UUID userId;
     private UUID projectId;
@@ -195,6 +199,51 @@ class ProjectControllerTest {
         verify(projectService).getProjectById(userId, projectId);
     }
 
+    @Test
+    @DisplayName("GET /api/projects/{projectId}/dashboard - Should get the composed dashboard")
+    @WithMockUser
+    void getDashboard_Success() throws Exception {
+        // Arrange
+        ProjectDashboardResponse dashboard = ProjectDashboardResponse.builder()
+                .project(projectResponse)
+                .board(TaskBoardResponse.builder().projectId(projectId).build())
+                .statistics(TaskStatisticsResponse.builder().totalTasks(7L).build())
+                .build();
+        when(projectDashboardService.getDashboard(userId, projectId, null)).thenReturn(dashboard);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/projects/{projectId}/dashboard", projectId)
+                .with(user(authenticatedUser)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.project.name").value("Test Project"))
+                .andExpect(jsonPath("$.board.projectId").value(projectId.toString()))
+                .andExpect(jsonPath("$.statistics.totalTasks").value(7));
+
+        verify(projectDashboardService).getDashboard(userId, projectId, null);
+    }
+
+    @Test
+    @DisplayName("GET /api/projects/{projectId} - Should return 304 when ETag matches")
+    @WithMockUser
+    void getProjectById_NotModified() throws Exception {
+        // Arrange
+        when(projectService.getProjectVersion(userId, projectId)).thenReturn(3L);
+        when(projectService.getProjectById(userId, projectId)).thenReturn(projectResponse);
+
+        String eTag = mockMvc.perform(get("/api/projects/{projectId}", projectId)
+                .with(user(authenticatedUser)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        // Act & Assert
+        mockMvc.perform(get("/api/projects/{projectId}", projectId)
+                .header("If-None-Match", eTag)
+                .with(user(authenticatedUser)))
+                .andExpect(status().isNotModified());
+
+        verify(projectService, times(1)).getProjectById(userId, projectId);
+    }
+
     @Test
     @DisplayName("GET /api/projects/{projectId} - Should return 404 when project not found")
     @WithMockUser
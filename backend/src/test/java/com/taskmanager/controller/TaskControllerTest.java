@@ -8,6 +8,10 @@ import com.taskmanager.entity.User;
 import com.taskmanager.exception.ForbiddenException;
 import com.taskmanager.exception.ResourceNotFoundException;
 import com.taskmanager.security.JwtAuthenticationFilter;
+import com.taskmanager.service.TaskArchiveService;
+import com.taskmanager.service.TaskBulkService;
+import com.taskmanager.service.TaskExportService;
+import com.taskmanager.service.TaskImportService;
 import com.taskmanager.service.TaskService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -18,14 +22,19 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.FilterType;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.OutputStream;
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
+import static org.hamcrest.Matchers.containsString;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
@@ -52,6 +61,18 @@ class TaskControllerTest {
     @MockBean
     private TaskService taskService;
 
+    @MockBean
+    private TaskBulkService taskBulkService;
+
+    @MockBean
+    private TaskExportService taskExportService;
+
+    @MockBean
+    private TaskImportService taskImportService;
+
+    @MockBean
+    private TaskArchiveService taskArchiveService;
+
     private User authenticatedUser;
     private UUID userId;
     private UUID projectId;
@@ -82,7 +103,7 @@ class TaskControllerTest {
                 .projectName("Test Project")
                 .status(TaskStatus.TODO)
                 .priority(TaskPriority.MEDIUM)
-                .position(0)
+                .position(0.0)
                 .createdByUserId(userId)
                 .createdByUserName("Test User")
                 .commentCount(0L)
@@ -118,6 +139,64 @@ class TaskControllerTest {
         verify(taskService).createTask(eq(userId), any(CreateTaskRequest.class));
     }
 
+    @Test
+    @DisplayName("POST /api/tasks/bulk - Should return per-item results")
+    @WithMockUser
+    void bulkTasks_Success() throws Exception {
+        // Arrange
+        BulkTaskRequest request = BulkTaskRequest.builder()
+                .operations(List.of(
+                        BulkTaskOperation.builder()
+                                .type(BulkTaskOperationType.CREATE)
+                                .create(CreateTaskRequest.builder().title("Imported").projectId(projectId).build())
+                                .build(),
+                        BulkTaskOperation.builder()
+                                .type(BulkTaskOperationType.DELETE)
+                                .id(taskId)
+                                .build()))
+                .build();
+
+        when(taskBulkService.applyOperations(eq(userId), any(BulkTaskRequest.class)))
+                .thenReturn(BulkTaskResponse.builder()
+                        .succeeded(1)
+                        .failed(1)
+                        .results(List.of(
+                                BulkTaskResult.builder().index(0).id(UUID.randomUUID()).success(true).build(),
+                                BulkTaskResult.builder().index(1).id(taskId).success(false).error("Task not found").build()))
+                        .build());
+
+        // Act & Assert
+        mockMvc.perform(post("/api/tasks/bulk")
+                .with(user(authenticatedUser))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.succeeded").value(1))
+                .andExpect(jsonPath("$.results[1].error").value("Task not found"));
+    }
+
+    @Test
+    @DisplayName("POST /api/tasks/bulk - Should return 400 when a create payload is invalid")
+    @WithMockUser
+    void bulkTasks_InvalidCreate_BadRequest() throws Exception {
+        // Arrange
+        BulkTaskRequest request = BulkTaskRequest.builder()
+                .operations(List.of(BulkTaskOperation.builder()
+                        .type(BulkTaskOperationType.CREATE)
+                        .create(CreateTaskRequest.builder().projectId(projectId).build())
+                        .build()))
+                .build();
+
+        // Act & Assert
+        mockMvc.perform(post("/api/tasks/bulk")
+                .with(user(authenticatedUser))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+
+        verify(taskBulkService, never()).applyOperations(any(), any());
+    }
+
     @Test
     @DisplayName("POST /api/tasks - Should return 400 when title is missing")
     @WithMockUser
@@ -163,17 +242,105 @@ class TaskControllerTest {
     @WithMockUser
     void getAllUserTasks_Success() throws Exception {
         // Arrange
-        when(taskService.getAllUserTasks(userId)).thenReturn(List.of(taskResponse));
+        when(taskService.getAllUserTasks(userId, null, null))
+                .thenReturn(TaskPageResponse.builder().items(List.of(taskResponse)).build());
 
         // Act & Assert
         mockMvc.perform(get("/api/tasks")
                 .with(user(authenticatedUser)))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
-                .andExpect(jsonPath("$.length()").value(1))
-                .andExpect(jsonPath("$[0].title").value("Test Task"));
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].title").value("Test Task"))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+
+        verify(taskService).getAllUserTasks(userId, null, null);
+    }
 
-        verify(taskService).getAllUserTasks(userId);
+    @Test
+    @DisplayName("GET /api/me/tasks - Should get the task inbox with bucket counts")
+    @WithMockUser
+    void getMyTasks_Success() throws Exception {
+        // Arrange
+        when(taskService.getMyTasks(userId, "today", null, null))
+                .thenReturn(TaskInboxResponse.builder()
+                        .items(List.of(taskResponse))
+                        .overdueCount(3L)
+                        .dueTodayCount(1L)
+                        .dueThisWeekCount(4L)
+                        .build());
+
+        // Act & Assert
+        mockMvc.perform(get("/api/me/tasks")
+                .param("bucket", "today")
+                .with(user(authenticatedUser)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.overdueCount").value(3))
+                .andExpect(jsonPath("$.dueTodayCount").value(1))
+                .andExpect(jsonPath("$.dueThisWeekCount").value(4));
+
+        verify(taskService).getMyTasks(userId, "today", null, null);
+    }
+
+    @Test
+    @DisplayName("GET /api/calendar - Should get the day buckets for a range")
+    @WithMockUser
+    void getCalendar_Success() throws Exception {
+        // Arrange
+        UUID projectId = UUID.randomUUID();
+        TaskCalendarDayResponse day = TaskCalendarDayResponse.builder()
+                .date(LocalDate.of(2026, 3, 2))
+                .taskCount(4L)
+                .tasks(List.of(TaskCalendarTaskResponse.builder().id(taskId).title("Test Task").build()))
+                .build();
+        when(taskService.getCalendar(userId, "2026-03-01", "2026-03-31", List.of(projectId), null))
+                .thenReturn(TaskCalendarResponse.builder()
+                        .from(LocalDate.of(2026, 3, 1))
+                        .to(LocalDate.of(2026, 3, 31))
+                        .days(List.of(day))
+                        .build());
+
+        // Act & Assert
+        mockMvc.perform(get("/api/calendar")
+                .param("from", "2026-03-01")
+                .param("to", "2026-03-31")
+                .param("projectIds", projectId.toString())
+                .with(user(authenticatedUser)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.days.length()").value(1))
+                .andExpect(jsonPath("$.days[0].taskCount").value(4))
+                .andExpect(jsonPath("$.days[0].tasks[0].title").value("Test Task"));
+
+        verify(taskService).getCalendar(userId, "2026-03-01", "2026-03-31", List.of(projectId), null);
+    }
+
+    @Test
+    @DisplayName("GET /api/projects/{projectId}/board - Should get the board columns")
+    @WithMockUser
+    void getProjectBoard_Success() throws Exception {
+        // Arrange
+        TaskBoardColumnResponse column = TaskBoardColumnResponse.builder()
+                .status(TaskStatus.TODO)
+                .totalCount(120L)
+                .items(List.of(taskResponse))
+                .nextCursor("next")
+                .build();
+        when(taskService.getProjectBoard(userId, projectId, 1))
+                .thenReturn(TaskBoardResponse.builder().projectId(projectId).columns(List.of(column)).build());
+
+        // Act & Assert
+        mockMvc.perform(get("/api/projects/{projectId}/board", projectId)
+                .param("limit", "1")
+                .with(user(authenticatedUser)))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andExpect(jsonPath("$.columns[0].status").value("TODO"))
+                .andExpect(jsonPath("$.columns[0].totalCount").value(120))
+                .andExpect(jsonPath("$.columns[0].items.length()").value(1))
+                .andExpect(jsonPath("$.columns[0].nextCursor").value("next"));
+
+        verify(taskService).getProjectBoard(userId, projectId, 1);
     }
 
     @Test
@@ -181,16 +348,74 @@ class TaskControllerTest {
     @WithMockUser
     void getProjectTasks_Success() throws Exception {
         // Arrange
-        when(taskService.getProjectTasks(userId, projectId)).thenReturn(List.of(taskResponse));
+        when(taskService.getProjectTasks(userId, projectId, null, null))
+                .thenReturn(TaskPageResponse.builder().items(List.of(taskResponse)).build());
 
         // Act & Assert
         mockMvc.perform(get("/api/projects/{projectId}/tasks", projectId)
                 .with(user(authenticatedUser)))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
-                .andExpect(jsonPath("$.length()").value(1));
+                .andExpect(jsonPath("$.items.length()").value(1));
+
+        verify(taskService).getProjectTasks(userId, projectId, null, null);
+    }
+
+    @Test
+    @DisplayName("GET /api/projects/{projectId}/tasks - Should return 304 when ETag matches")
+    @WithMockUser
+    void getProjectTasks_NotModified() throws Exception {
+        // Arrange
+        when(taskService.getProjectVersion(userId, projectId)).thenReturn(7L);
+        when(taskService.getProjectTasks(userId, projectId, null, null))
+                .thenReturn(TaskPageResponse.builder().items(List.of(taskResponse)).build());
+
+        String eTag = mockMvc.perform(get("/api/projects/{projectId}/tasks", projectId)
+                .with(user(authenticatedUser)))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        // Act & Assert
+        mockMvc.perform(get("/api/projects/{projectId}/tasks", projectId)
+                .header("If-None-Match", eTag)
+                .with(user(authenticatedUser)))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        verify(taskService, times(1)).getProjectTasks(userId, projectId, null, null);
+    }
+
+    @Test
+    @DisplayName("GET /api/projects/{projectId}/tasks - Should pass cursor and limit through")
+    @WithMockUser
+    void getProjectTasks_WithCursor() throws Exception {
+        // Arrange
+        when(taskService.getProjectTasks(userId, projectId, "abc", 25))
+                .thenReturn(TaskPageResponse.builder().items(List.of(taskResponse)).nextCursor("def").build());
+
+        // Act & Assert
+        mockMvc.perform(get("/api/projects/{projectId}/tasks", projectId)
+                .param("cursor", "abc")
+                .param("limit", "25")
+                .with(user(authenticatedUser)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.nextCursor").value("def"));
+    }
+
+    @Test
+    @DisplayName("GET /api/projects/{projectId}/tasks - Should return 400 for an invalid cursor")
+    @WithMockUser
+    void getProjectTasks_InvalidCursor_BadRequest() throws Exception {
+        // Arrange
+        when(taskService.getProjectTasks(userId, projectId, "bad", null))
+                .thenThrow(new IllegalArgumentException("Invalid cursor"));
 
-        verify(taskService).getProjectTasks(userId, projectId);
+        // Act & Assert
+        mockMvc.perform(get("/api/projects/{projectId}/tasks", projectId)
+                .param("cursor", "bad")
+                .with(user(authenticatedUser)))
+                .andExpect(status().isBadRequest());
     }
 
     @Test
@@ -198,7 +423,7 @@ class TaskControllerTest {
     @WithMockUser
     void getProjectTasks_NoAccess_Forbidden() throws Exception {
         // Arrange
-        when(taskService.getProjectTasks(userId, projectId))
+        when(taskService.getProjectTasks(userId, projectId, null, null))
                 .thenThrow(new ForbiddenException("You don't have access to this project"));
 
         // Act & Assert
@@ -207,6 +432,193 @@ class TaskControllerTest {
                 .andExpect(status().isForbidden());
     }
 
+    @Test
+    @DisplayName("GET /api/projects/{projectId}/tasks/export - Should stream tasks as CSV")
+    @WithMockUser
+    void exportProjectTasks_Csv() throws Exception {
+        // Arrange
+        doAnswer(invocation -> {
+            invocation.getArgument(2, OutputStream.class).write("id,title\n".getBytes());
+            return null;
+        }).when(taskExportService).export(eq(projectId), eq(TaskExportFormat.CSV), any());
+
+        // Act
+        MvcResult result = mockMvc.perform(get("/api/projects/{projectId}/tasks/export", projectId)
+                .with(user(authenticatedUser))
+                .param("format", "csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Assert
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("text/csv"))
+                .andExpect(header().string("Content-Disposition", containsString("tasks-" + projectId + ".csv")))
+                .andExpect(content().string("id,title\n"));
+        verify(taskExportService).checkAccess(userId, projectId);
+    }
+
+    @Test
+    @DisplayName("GET /api/projects/{projectId}/tasks/export - Should return 400 for an unknown format")
+    @WithMockUser
+    void exportProjectTasks_UnknownFormat_BadRequest() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/projects/{projectId}/tasks/export", projectId)
+                .with(user(authenticatedUser))
+                .param("format", "xlsx"))
+                .andExpect(status().isBadRequest());
+
+        verify(taskExportService, never()).export(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("POST /api/projects/{projectId}/tasks/import - Should return the import report")
+    @WithMockUser
+    void importTasks_Success() throws Exception {
+        // Arrange
+        MockMultipartFile file = new MockMultipartFile("file", "tasks.csv", "text/csv", "title\nFirst\n,\n".getBytes());
+        when(taskImportService.importTasks(eq(userId), eq(projectId), any()))
+                .thenReturn(TaskImportResponse.builder()
+                        .imported(1)
+                        .failed(1)
+                        .errors(List.of(TaskImportError.builder().row(2).error("Title is required").build()))
+                        .build());
+
+        // Act & Assert
+        mockMvc.perform(multipart("/api/projects/{projectId}/tasks/import", projectId)
+                .file(file)
+                .with(user(authenticatedUser)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(1))
+                .andExpect(jsonPath("$.errors[0].row").value(2))
+                .andExpect(jsonPath("$.errors[0].error").value("Title is required"));
+    }
+
+    @Test
+    @DisplayName("POST /api/projects/{projectId}/tasks/reorder - Should return new positions")
+    @WithMockUser
+    void reorderTasks_Success() throws Exception {
+        // Arrange
+        ReorderTasksRequest request = ReorderTasksRequest.builder()
+                .moves(List.of(TaskMoveRequest.builder()
+                        .taskId(taskId)
+                        .beforeTaskId(UUID.randomUUID())
+                        .status(TaskStatus.IN_PROGRESS)
+                        .build()))
+                .build();
+
+        when(taskService.reorderTasks(eq(userId), eq(projectId), any(ReorderTasksRequest.class)))
+                .thenReturn(List.of(TaskPositionResponse.builder()
+                        .id(taskId)
+                        .position(512.0)
+                        .status(TaskStatus.IN_PROGRESS)
+                        .build()));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/projects/{projectId}/tasks/reorder", projectId)
+                .with(user(authenticatedUser))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].position").value(512.0))
+                .andExpect(jsonPath("$[0].status").value("IN_PROGRESS"));
+    }
+
+    @Test
+    @DisplayName("POST /api/projects/{projectId}/tasks/reorder - Should return 400 when moves are empty")
+    @WithMockUser
+    void reorderTasks_NoMoves_BadRequest() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/api/projects/{projectId}/tasks/reorder", projectId)
+                .with(user(authenticatedUser))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"moves\":[]}"))
+                .andExpect(status().isBadRequest());
+
+        verify(taskService, never()).reorderTasks(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("POST /api/projects/{projectId}/tasks/transition - Should return updated task IDs")
+    @WithMockUser
+    void transitionTasks_Success() throws Exception {
+        // Arrange
+        TaskTransitionRequest request = TaskTransitionRequest.builder()
+                .filter(TaskFilterRequest.builder().overdue(true).build())
+                .status(TaskStatus.CANCELLED)
+                .build();
+
+        when(taskService.transitionTasks(eq(userId), eq(projectId), any(TaskTransitionRequest.class)))
+                .thenReturn(TaskTransitionResponse.builder().updated(1).taskIds(List.of(taskId)).build());
+
+        // Act & Assert
+        mockMvc.perform(post("/api/projects/{projectId}/tasks/transition", projectId)
+                .with(user(authenticatedUser))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updated").value(1))
+                .andExpect(jsonPath("$.taskIds[0]").value(taskId.toString()));
+    }
+
+    @Test
+    @DisplayName("GET /api/projects/{projectId}/tasks/changes - Should return changes since cursor")
+    @WithMockUser
+    void getTaskChanges_Success() throws Exception {
+        // Arrange
+        UUID deletedId = UUID.randomUUID();
+        when(taskService.getTaskChanges(userId, projectId, "42", null))
+                .thenReturn(TaskChangesResponse.builder()
+                        .changed(List.of(taskResponse))
+                        .deleted(List.of(deletedId))
+                        .nextCursor("44")
+                        .hasMore(false)
+                        .build());
+
+        // Act & Assert
+        mockMvc.perform(get("/api/projects/{projectId}/tasks/changes", projectId)
+                .param("since", "42")
+                .with(user(authenticatedUser)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changed.length()").value(1))
+                .andExpect(jsonPath("$.deleted[0]").value(deletedId.toString()))
+                .andExpect(jsonPath("$.nextCursor").value("44"));
+    }
+
+    @Test
+    @DisplayName("GET /api/projects/{projectId}/tasks/archive - Should return archived tasks")
+    @WithMockUser
+    void getProjectArchive_Success() throws Exception {
+        // Arrange
+        TaskPageResponse page = TaskPageResponse.builder()
+                .items(List.of(taskResponse))
+                .nextCursor("next")
+                .build();
+        when(taskArchiveService.getProjectArchive(userId, projectId, null, 20)).thenReturn(page);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/projects/{projectId}/tasks/archive", projectId)
+                .param("limit", "20")
+                .with(user(authenticatedUser)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].id").value(taskId.toString()))
+                .andExpect(jsonPath("$.nextCursor").value("next"));
+    }
+
+    @Test
+    @DisplayName("GET /api/tasks/archive/{taskId} - Should return 404 when the task is not archived")
+    @WithMockUser
+    void getArchivedTask_NotFound() throws Exception {
+        // Arrange
+        when(taskArchiveService.getArchivedTask(userId, taskId))
+                .thenThrow(new ResourceNotFoundException("Archived task not found"));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks/archive/{taskId}", taskId)
+                .with(user(authenticatedUser)))
+                .andExpect(status().isNotFound());
+    }
+
     @Test
     @DisplayName("GET /api/tasks/{taskId} - Should get task by ID")
     @WithMockUser
@@ -256,7 +668,7 @@ class TaskControllerTest {
                 .projectId(projectId)
                 .projectName("Test Project")
                 .priority(TaskPriority.MEDIUM)
-                .position(0)
+                .position(0.0)
                 .createdByUserId(userId)
                 .createdByUserName("Test User")
                 .commentCount(0L)
@@ -340,7 +752,7 @@ class TaskControllerTest {
                 .build();
 
         when(taskService.filterTasks(eq(userId), any(TaskFilterRequest.class)))
-                .thenReturn(List.of(taskResponse));
+                .thenReturn(TaskPageResponse.builder().items(List.of(taskResponse)).build());
 
         // Act & Assert
         mockMvc.perform(post("/api/tasks/filter")
@@ -349,7 +761,7 @@ class TaskControllerTest {
                 .content(objectMapper.writeValueAsString(filter)))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
-                .andExpect(jsonPath("$.length()").value(1));
+                .andExpect(jsonPath("$.items.length()").value(1));
 
         verify(taskService).filterTasks(eq(userId), any(TaskFilterRequest.class));
     }
@@ -367,7 +779,7 @@ class TaskControllerTest {
                 .build();
 
         when(taskService.filterTasks(eq(userId), any(TaskFilterRequest.class)))
-                .thenReturn(List.of());
+                .thenReturn(TaskPageResponse.builder().build());
 
         // Act & Assert
         mockMvc.perform(post("/api/tasks/filter")
@@ -375,7 +787,7 @@ class TaskControllerTest {
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(filter)))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.length()").value(0));
+                .andExpect(jsonPath("$.items.length()").value(0));
 
         verify(taskService).filterTasks(eq(userId), any(TaskFilterRequest.class));
     }
@@ -520,6 +932,6 @@ class TaskControllerTest {
         mockMvc.perform(get("/api/tasks"))
                 .andExpect(status().isUnauthorized());
 
-        verify(taskService, never()).getAllUserTasks(any());
+        verify(taskService, never()).getAllUserTasks(any(), any(), any());
     }
 }
@@ -0,0 +1,77 @@
+package com.taskmanager.entity;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("UuidV7 Unit Tests")
+class UuidV7Test {
+
+    @Test
+    @DisplayName("Should set the version and variant bits")
+    void generate_SetsVersionAndVariant() {
+        // Act
+        UUID uuid = UuidV7.generate();
+
+        // Assert
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should encode the creation time in the leading 48 bits")
+    void generate_EncodesTimestamp() {
+        // Arrange
+        long millis = 1_760_000_000_123L;
+
+        // Act
+        UUID uuid = UuidV7.generate(millis);
+
+        // Assert
+        assertThat(UuidV7.timestamp(uuid)).isEqualTo(millis);
+        assertThat(uuid.toString()).startsWith(String.format("%08x-%04x-7", millis >>> 16, millis & 0xFFFF));
+    }
+
+    @Test
+    @DisplayName("Should sort keys from later milliseconds after earlier ones")
+    void generate_OrdersByTime() {
+        // Arrange
+        List<UUID> uuids = new ArrayList<>();
+        for (long millis = 1_000; millis < 1_100; millis++) {
+            uuids.add(UuidV7.generate(millis));
+        }
+
+        // Act
+        List<String> asText = uuids.stream().map(UUID::toString).sorted().toList();
+
+        // Assert
+        assertThat(asText).containsExactlyElementsOf(uuids.stream().map(UUID::toString).toList());
+    }
+
+    @Test
+    @DisplayName("Should not repeat within the same millisecond")
+    void generate_SameMillisecond_Unique() {
+        // Act
+        HashSet<UUID> uuids = new HashSet<>();
+        for (int i = 0; i < 10_000; i++) {
+            uuids.add(UuidV7.generate(42L));
+        }
+
+        // Assert
+        assertThat(uuids).hasSize(10_000);
+    }
+
+    @Test
+    @DisplayName("Should reject timestamps of non-v7 keys")
+    void timestamp_RandomUuid_Throws() {
+        assertThatThrownBy(() -> UuidV7.timestamp(UUID.randomUUID()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,98 @@
+package com.taskmanager.repository;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Wraps the test DataSource and records every prepared statement it executes
+ * together with its bound parameters, so a test can replay the exact query
+ * a repository method ran (for example under EXPLAIN).
+ */
+public class BoundStatementCapture implements BeanPostProcessor {
+
+    private static final List<BoundStatement> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    record BoundStatement(String sql, List<Object> parameters) {
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        return bean instanceof DataSource dataSource ? wrap(dataSource) : bean;
+    }
+
+    static void clear() {
+        STATEMENTS.clear();
+    }
+
+    static List<BoundStatement> statements() {
+        return List.copyOf(STATEMENTS);
+    }
+
+    private static DataSource wrap(DataSource dataSource) {
+        return proxy(DataSource.class, (method, args) -> {
+            Object result = invoke(dataSource, method, args);
+            return result instanceof Connection connection ? wrap(connection) : result;
+        });
+    }
+
+    private static Connection wrap(Connection connection) {
+        return proxy(Connection.class, (method, args) -> {
+            Object result = invoke(connection, method, args);
+            if (result instanceof PreparedStatement statement && method.getName().equals("prepareStatement")) {
+                return wrap(statement, (String) args[0]);
+            }
+            return result;
+        });
+    }
+
+    private static PreparedStatement wrap(PreparedStatement statement, String sql) {
+        Map<Integer, Object> parameters = new TreeMap<>();
+        return proxy(PreparedStatement.class, (method, args) -> {
+            String name = method.getName();
+            if (name.equals("setNull")) {
+                parameters.put((Integer) args[0], null);
+            } else if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                parameters.put(index, args[1]);
+            } else if (name.startsWith("execute")) {
+                STATEMENTS.add(new BoundStatement(sql, Collections.unmodifiableList(new ArrayList<>(parameters.values()))));
+            }
+            return invoke(statement, method, args);
+        });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, Handler handler) {
+        InvocationHandler invocationHandler = (proxy, method, args) -> switch (method.getName()) {
+            case "equals" -> proxy == args[0];
+            case "hashCode" -> System.identityHashCode(proxy);
+            default -> handler.handle(method, args);
+        };
+        return (T) Proxy.newProxyInstance(BoundStatementCapture.class.getClassLoader(), new Class<?>[]{type}, invocationHandler);
+    }
+
+    @FunctionalInterface
+    private interface Handler {
+        Object handle(Method method, Object[] args) throws Throwable;
+    }
+}
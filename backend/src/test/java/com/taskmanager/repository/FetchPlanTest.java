@@ -0,0 +1,200 @@
+package com.taskmanager.repository;
+
+import com.taskmanager.entity.*;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Pins the fetch plan of hot repository methods: how many statements they run,
+ * which entities they load and whether user rows (and their profile images) come along.
+ * A failure here means a method now loads more than its use case declares.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.taskmanager.repository.SqlCapture"
+})
+@DisplayName("Repository fetch plan tests")
+class FetchPlanTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ProjectMemberRepository projectMemberRepository;
+
+    private Statistics statistics;
+    private User owner;
+    private User member;
+    private Project project;
+    private Task task;
+
+    @BeforeEach
+    void setUp() {
+        owner = persistUser("owner@example.com", "Owner");
+        member = persistUser("member@example.com", "Member");
+
+        project = Project.builder()
+                .name("Project")
+                .ownerId(owner.getId())
+                .isActive(true)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+        entityManager.persist(project);
+
+        entityManager.persist(ProjectMember.builder()
+                .projectId(project.getId())
+                .userId(owner.getId())
+                .role(ProjectRole.OWNER)
+                .joinedAt(LocalDateTime.now().minusDays(1))
+                .build());
+        entityManager.persist(ProjectMember.builder()
+                .projectId(project.getId())
+                .userId(member.getId())
+                .role(ProjectRole.MEMBER)
+                .joinedAt(LocalDateTime.now())
+                .build());
+
+        task = Task.builder()
+                .title("Task")
+                .projectId(project.getId())
+                .assignedToId(member.getId())
+                .createdByUserId(owner.getId())
+                .status(TaskStatus.TODO)
+                .priority(TaskPriority.MEDIUM)
+                .position(0.0)
+                .isActive(true)
+                .build();
+        entityManager.persist(task);
+
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        SqlCapture.clear();
+    }
+
+    @Test
+    @DisplayName("Task by ID loads the task row only")
+    void findByIdAndIsActiveTrue_LoadsTaskOnly() {
+        // Act
+        Optional<Task> found = taskRepository.findByIdAndIsActiveTrue(task.getId());
+
+        // Assert
+        assertThat(found).isPresent();
+        assertThat(Hibernate.isInitialized(found.get().getAssignedTo())).isFalse();
+        assertStatements(1);
+        assertLoaded(Task.class, 1);
+        assertLoaded(User.class, 0);
+        assertNoUserColumns();
+    }
+
+    @Test
+    @DisplayName("Task detail loads the assignee in the same statement")
+    void findWithAssigneeByIdAndIsActiveTrue_JoinsAssignee() {
+        // Act
+        Optional<Task> found = taskRepository.findWithAssigneeByIdAndIsActiveTrue(task.getId());
+
+        // Assert
+        assertThat(found).isPresent();
+        assertThat(Hibernate.isInitialized(found.get().getAssignedTo())).isTrue();
+        assertThat(found.get().getAssignedTo().getEmail()).isEqualTo("member@example.com");
+        assertStatements(1);
+        assertLoaded(Task.class, 1);
+        assertLoaded(User.class, 1);
+    }
+
+    @Test
+    @DisplayName("Member list loads each member's user in the same statement")
+    void findByProjectIdOrderByJoinedAtAsc_JoinsUsers() {
+        // Act
+        List<ProjectMember> members = projectMemberRepository.findByProjectIdOrderByJoinedAtAsc(project.getId());
+
+        // Assert
+        assertThat(members).extracting(m -> m.getUser().getEmail())
+                .containsExactly("owner@example.com", "member@example.com");
+        assertStatements(1);
+        assertLoaded(ProjectMember.class, 2);
+        assertLoaded(User.class, 2);
+    }
+
+    @Test
+    @DisplayName("Membership lookup loads the membership row only")
+    void findByProjectIdAndUserId_LoadsMembershipOnly() {
+        // Act
+        Optional<ProjectMember> found = projectMemberRepository.findByProjectIdAndUserId(project.getId(), member.getId());
+
+        // Assert
+        assertThat(found).isPresent();
+        assertThat(Hibernate.isInitialized(found.get().getUser())).isFalse();
+        assertStatements(1);
+        assertLoaded(ProjectMember.class, 1);
+        assertLoaded(User.class, 0);
+        assertNoUserColumns();
+    }
+
+    @Test
+    @DisplayName("Membership and role checks load no entities")
+    void membershipChecks_LoadNoEntities() {
+        // Act
+        boolean exists = projectMemberRepository.existsByProjectIdAndUserId(project.getId(), member.getId());
+        Optional<ProjectRole> role = projectMemberRepository.findRoleByProjectIdAndUserId(project.getId(), member.getId());
+
+        // Assert
+        assertThat(exists).isTrue();
+        assertThat(role).contains(ProjectRole.MEMBER);
+        assertStatements(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertNoUserColumns();
+    }
+
+    private User persistUser(String email, String firstName) {
+        User user = User.builder()
+                .email(email)
+                .password("password")
+                .firstName(firstName)
+                .lastName("User")
+                .profileImage("data:image/png;base64," + "A".repeat(1024))
+                .isActive(true)
+                .createdAt(LocalDateTime.now())
+                .build();
+        entityManager.persist(user);
+        return user;
+    }
+
+    private void assertStatements(long expected) {
+        assertThat(SqlCapture.statements()).hasSize((int) expected);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(expected);
+    }
+
+    private void assertLoaded(Class<?> entity, long expected) {
+        assertThat(statistics.getEntityStatistics(entity.getName()).getLoadCount())
+                .as("%s rows loaded", entity.getSimpleName())
+                .isEqualTo(expected);
+    }
+
+    private void assertNoUserColumns() {
+        assertThat(SqlCapture.statements()).noneMatch(sql -> sql.contains("profile_image") || sql.contains(" users "));
+    }
+}
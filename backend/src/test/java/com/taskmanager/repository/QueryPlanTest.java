@@ -0,0 +1,255 @@
+package com.taskmanager.repository;
+
+import com.taskmanager.dto.TaskInboxBucket;
+import com.taskmanager.entity.TaskPriority;
+import com.taskmanager.entity.TaskStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs every per-user and per-project repository query against a seeded
+ * dataset of a few hundred thousand rows and checks its PostgreSQL plan.
+ * A failure names the query and prints the plan that scans a whole table,
+ * which usually means an index from V14/V20 no longer matches the query.
+ * Needs the PostgreSQL database from application.yml; the seed is rolled back.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({BoundStatementCapture.class, TaskReadRepository.class, TaskDueAlertRepository.class})
+@DisplayName("Repository query plan tests")
+class QueryPlanTest {
+
+    private static final int USERS = 2_000;
+    private static final int TASKS_PER_PROJECT = 100;
+    private static final int NOTIFICATIONS_PER_USER = 100;
+
+    private static final Pattern SEQ_SCAN =
+            Pattern.compile("Seq Scan on (users|projects|project_members|tasks|notifications)\\b");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private ProjectVersionRepository projectVersionRepository;
+
+    @Autowired
+    private TaskReadRepository taskReadRepository;
+
+    @Autowired
+    private TaskDueAlertRepository taskDueAlertRepository;
+
+    private UUID userId;
+    private UUID projectId;
+    private UUID taskId;
+
+    @BeforeEach
+    void setUp() {
+        seed();
+        userId = jdbcTemplate.queryForObject(
+                "SELECT id FROM users WHERE email = 'plan-user-1@example.com'", UUID.class);
+        projectId = jdbcTemplate.queryForObject(
+                "SELECT id FROM projects WHERE owner_id = ? AND is_active = true", UUID.class, userId);
+        taskId = jdbcTemplate.queryForObject(
+                "SELECT id FROM tasks WHERE project_id = ? LIMIT 1", UUID.class, projectId);
+    }
+
+    @Test
+    @DisplayName("Should not scan a whole table for any per-user or per-project query")
+    void repositoryQueries_UseIndexes() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.now();
+        Map<String, Runnable> queries = new LinkedHashMap<>();
+
+        queries.put("TaskRepository.findByIdAndIsActiveTrue", () -> taskRepository.findByIdAndIsActiveTrue(taskId));
+        queries.put("TaskRepository.findByProjectIdAndIsActiveTrue", () -> taskRepository.findByProjectIdAndIsActiveTrue(projectId));
+        queries.put("TaskRepository.findMinPosition", () -> taskRepository.findMinPosition(projectId));
+        queries.put("TaskRepository.findChangesSince", () -> taskRepository.findChangesSince(
+                projectId, 0L, 0L, taskRepository.findChangeHorizon(), 0L, 100));
+        queries.put("TaskRepository.findProjectsWithCrowdedPositions", () -> taskRepository.findProjectsWithCrowdedPositions(
+                1e-3, projectVersionRepository.findLatestVersion() - 10));
+        queries.put("TaskRepository.findAllUserTasks", () -> taskRepository.findAllUserTasks(userId));
+        queries.put("TaskReadRepository.findTasksInProjects", () -> taskReadRepository.findTasksInProjects(
+                projectRepository.findAccessibleProjectIds(userId), null, null, 51, now));
+        queries.put("TaskReadRepository.findBoard", () -> taskReadRepository.findBoard(projectId, 51, now));
+        queries.put("TaskReadRepository.findInboxTasks", () -> taskReadRepository.findInboxTasks(
+                userId, projectRepository.findAccessibleProjectIds(userId), TaskInboxBucket.OVERDUE, null, 51, now));
+        queries.put("TaskReadRepository.countInboxBuckets", () -> taskReadRepository.countInboxBuckets(
+                userId, projectRepository.findAccessibleProjectIds(userId), now));
+        queries.put("TaskReadRepository.findCalendar", () -> taskReadRepository.findCalendar(
+                projectRepository.findAccessibleProjectIds(userId), now.minusDays(30), now.plusDays(335), 3, now));
+        queries.put("TaskDueAlertRepository.findDueTasks", () -> taskDueAlertRepository.findDueTasks(
+                now.minusDays(1), now.plusHours(7), null, 1000));
+        queries.put("TaskRepository.findByAssignedToId...", () ->
+                taskRepository.findByAssignedToIdAndIsActiveTrueOrderByDueDateAscCreatedAtDesc(userId));
+        queries.put("TaskRepository.findByCreatedByUserId...", () ->
+                taskRepository.findByCreatedByUserIdAndIsActiveTrueOrderByCreatedAtDesc(userId));
+        queries.put("TaskRepository.findByProjectIdAndStatus", () -> taskRepository.findByProjectIdAndStatus(projectId, TaskStatus.TODO));
+        queries.put("TaskRepository.findByProjectIdAndPriority", () -> taskRepository.findByProjectIdAndPriority(projectId, TaskPriority.HIGH));
+        queries.put("TaskRepository.findOverdueTasks", () -> taskRepository.findOverdueTasks(projectId, now));
+        queries.put("TaskRepository.findTasksDueToday", () -> taskRepository.findTasksDueToday(projectId, now));
+        queries.put("TaskRepository.searchTasks", () -> taskRepository.searchTasks(projectId, "task 4"));
+        queries.put("TaskRepository.countByProjectIdAndStatus", () -> taskRepository.countByProjectIdAndStatus(projectId, TaskStatus.DONE));
+        queries.put("TaskRepository.countByProjectIdAndPriority", () -> taskRepository.countByProjectIdAndPriority(projectId, TaskPriority.LOW));
+        queries.put("TaskRepository.countOverdueTasks", () -> taskRepository.countOverdueTasks(projectId, now));
+        queries.put("TaskRepository.countUnassignedTasks", () -> taskRepository.countUnassignedTasks(projectId));
+        queries.put("TaskRepository.findAllActiveTasksByProjectId", () -> taskRepository.findAllActiveTasksByProjectId(projectId));
+        queries.put("TaskRepository.hasAccessToTask", () -> taskRepository.hasAccessToTask(taskId, userId));
+
+        queries.put("ProjectRepository.findByOwnerIdAndIsActiveTrue...", () ->
+                projectRepository.findByOwnerIdAndIsActiveTrueOrderByCreatedAtDesc(userId));
+        queries.put("ProjectRepository.countByOwnerIdAndIsActiveTrue", () -> projectRepository.countByOwnerIdAndIsActiveTrue(userId));
+        queries.put("ProjectRepository.findByIdAndIsActiveTrue", () -> projectRepository.findByIdAndIsActiveTrue(projectId));
+        queries.put("ProjectRepository.existsByIdAndIsActiveTrue", () -> projectRepository.existsByIdAndIsActiveTrue(projectId));
+        queries.put("ProjectRepository.findAccessibleProjectIds", () -> projectRepository.findAccessibleProjectIds(userId));
+        queries.put("ProjectRepository.isOwner", () -> projectRepository.isOwner(projectId, userId));
+        queries.put("ProjectRepository.hasAccess", () -> projectRepository.hasAccess(projectId, userId));
+
+        queries.put("NotificationRepository.findByUserIdOrderByCreatedAtDesc", () ->
+                notificationRepository.findByUserIdOrderByCreatedAtDesc(userId));
+        queries.put("NotificationRepository.findByUserIdAndIsReadFalse...", () ->
+                notificationRepository.findByUserIdAndIsReadFalseOrderByCreatedAtDesc(userId));
+        queries.put("NotificationRepository.countByUserIdAndIsReadFalse", () -> notificationRepository.countByUserIdAndIsReadFalse(userId));
+
+        // Act
+        List<String> sequentialScans = new ArrayList<>();
+        queries.forEach((name, query) -> {
+            BoundStatementCapture.clear();
+            query.run();
+            List<BoundStatementCapture.BoundStatement> statements = BoundStatementCapture.statements();
+            assertThat(statements).as(name).isNotEmpty();
+            for (BoundStatementCapture.BoundStatement statement : statements) {
+                String plan = explain(statement);
+                if (SEQ_SCAN.matcher(plan).find()) {
+                    sequentialScans.add(name + "\n" + statement.sql() + "\n" + plan);
+                }
+            }
+        });
+
+        // Assert
+        assertThat(sequentialScans).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should count each board column once, not once per returned task")
+    void findBoard_CountsEachColumnOnce() {
+        // Arrange
+        BoundStatementCapture.clear();
+        taskReadRepository.findBoard(projectId, 51, LocalDateTime.now());
+        BoundStatementCapture.BoundStatement statement = BoundStatementCapture.statements().get(0);
+
+        // Act
+        String plan = explain("EXPLAIN ANALYZE ", statement);
+
+        // Assert: the count scans tasks as ct, once per status column
+        assertThat(plan.lines().filter(line -> line.contains(" on tasks ct")))
+                .as(plan)
+                .isNotEmpty()
+                .allMatch(line -> line.contains("loops=" + TaskStatus.values().length + ")"));
+    }
+
+    private String explain(BoundStatementCapture.BoundStatement statement) {
+        return explain("EXPLAIN ", statement);
+    }
+
+    private String explain(String explain, BoundStatementCapture.BoundStatement statement) {
+        List<String> lines = jdbcTemplate.query(explain + statement.sql(), ps -> {
+            for (int i = 0; i < statement.parameters().size(); i++) {
+                ps.setObject(i + 1, statement.parameters().get(i));
+            }
+        }, (rs, rowNum) -> rs.getString(1));
+        return String.join("\n", lines);
+    }
+
+    // One project per user with five members, 100 tasks per project, 100 notifications per user and a version per project
+    private void seed() {
+        jdbcTemplate.update("""
+                INSERT INTO users (email, password, first_name, last_name)
+                SELECT 'plan-user-' || g || '@example.com', 'password', 'Plan', 'User ' || g
+                FROM generate_series(1, ?) g
+                """, USERS);
+
+        jdbcTemplate.update("""
+                INSERT INTO projects (name, owner_id, is_active)
+                SELECT 'Plan project ' || u.n, u.id, u.n % 20 <> 0
+                FROM (SELECT id, substring(email FROM 'plan-user-(\\d+)@')::INT AS n
+                      FROM users WHERE email LIKE 'plan-user-%') u
+                """);
+
+        jdbcTemplate.update("""
+                WITH u AS (
+                    SELECT id, substring(email FROM 'plan-user-(\\d+)@')::INT AS n
+                    FROM users WHERE email LIKE 'plan-user-%'
+                )
+                INSERT INTO project_members (project_id, user_id, role)
+                SELECT p.id, m.id, CASE WHEN k = 0 THEN 'OWNER' ELSE 'MEMBER' END
+                FROM projects p
+                JOIN u o ON o.id = p.owner_id
+                CROSS JOIN generate_series(0, 4) k
+                JOIN u m ON m.n = (o.n - 1 + k * 97) % ? + 1
+                """, USERS);
+
+        jdbcTemplate.update("""
+                INSERT INTO tasks (title, status, priority, project_id, assigned_to_id, created_by_user_id,
+                                   due_date, position, is_active, created_at, updated_at)
+                SELECT 'Plan task ' || k,
+                       (ARRAY['TODO', 'IN_PROGRESS', 'IN_REVIEW', 'DONE', 'CANCELLED'])[1 + k % 5],
+                       (ARRAY['LOW', 'MEDIUM', 'HIGH', 'URGENT'])[1 + k % 4],
+                       p.id,
+                       CASE WHEN k % 3 = 0 THEN NULL ELSE p.owner_id END,
+                       p.owner_id,
+                       CASE WHEN k % 7 = 0 THEN NULL ELSE now() + (k % 60 - 30) * INTERVAL '1 day' END,
+                       k * 1024,
+                       k % 10 <> 0,
+                       now() - k * INTERVAL '1 hour',
+                       now()
+                FROM projects p
+                CROSS JOIN generate_series(1, ?) k
+                WHERE p.name LIKE 'Plan project %'
+                """, TASKS_PER_PROJECT);
+
+        jdbcTemplate.update("""
+                INSERT INTO notifications (user_id, type, title, message, is_read, created_at)
+                SELECT u.id, 'TASK_ASSIGNED', 'Assigned', 'Plan notification ' || k, k % 4 <> 0,
+                       now() - k * INTERVAL '1 hour'
+                FROM users u
+                CROSS JOIN generate_series(1, ?) k
+                WHERE u.email LIKE 'plan-user-%'
+                """, NOTIFICATIONS_PER_USER);
+
+        jdbcTemplate.update("""
+                INSERT INTO project_versions (project_id, version)
+                SELECT id, nextval('project_version_seq') FROM projects WHERE name LIKE 'Plan project %'
+                ON CONFLICT (project_id) DO NOTHING
+                """);
+
+        jdbcTemplate.execute("ANALYZE users, projects, project_members, tasks, notifications, project_versions");
+    }
+}
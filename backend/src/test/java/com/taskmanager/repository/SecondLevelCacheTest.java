@@ -0,0 +1,174 @@
+package com.taskmanager.repository;
+
+import com.taskmanager.config.EntityCacheConfig;
+import com.taskmanager.entity.*;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Users, projects and memberships come from the second-level cache once loaded,
+ * and writes through the repositories never leave a stale entry or query result behind.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(EntityCacheConfig.class)
+@DisplayName("Second-level cache tests")
+class SecondLevelCacheTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ProjectMemberRepository projectMemberRepository;
+
+    @Autowired
+    private ProjectVersionRepository projectVersionRepository;
+
+    private Statistics statistics;
+    private User owner;
+    private User member;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        owner = persistUser("cache-owner@example.com");
+        member = persistUser("cache-member@example.com");
+
+        project = Project.builder()
+                .name("Cached Project")
+                .ownerId(owner.getId())
+                .isActive(true)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+        entityManager.persist(project);
+
+        entityManager.persist(ProjectMember.builder()
+                .projectId(project.getId())
+                .userId(member.getId())
+                .role(ProjectRole.MEMBER)
+                .joinedAt(LocalDateTime.now())
+                .build());
+
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("Should serve a user by ID from the cache after the first load")
+    void findById_SecondLoadHitsCache() {
+        // Act
+        userRepository.findById(owner.getId());
+        entityManager.clear();
+        Optional<User> cached = userRepository.findById(owner.getId());
+
+        // Assert
+        assertThat(cached).isPresent();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getDomainDataRegionStatistics("users").getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should not serve a stale user after an update")
+    void findById_AfterUpdate_ReturnsNewState() {
+        // Arrange
+        User loaded = userRepository.findById(owner.getId()).orElseThrow();
+        loaded.setFirstName("Renamed");
+        userRepository.saveAndFlush(loaded);
+        entityManager.clear();
+
+        // Act
+        User reloaded = userRepository.findById(owner.getId()).orElseThrow();
+
+        // Assert
+        assertThat(reloaded.getFirstName()).isEqualTo("Renamed");
+    }
+
+    @Test
+    @DisplayName("Should cache role lookups and invalidate them when the role changes")
+    void findRoleByProjectIdAndUserId_InvalidatedOnRoleChange() {
+        // Act
+        projectMemberRepository.findRoleByProjectIdAndUserId(project.getId(), member.getId());
+        Optional<ProjectRole> cached = projectMemberRepository.findRoleByProjectIdAndUserId(project.getId(), member.getId());
+
+        // Assert
+        assertThat(cached).contains(ProjectRole.MEMBER);
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+
+        // Act
+        ProjectMember membership = projectMemberRepository
+                .findByProjectIdAndUserId(project.getId(), member.getId()).orElseThrow();
+        membership.setRole(ProjectRole.ADMIN);
+        projectMemberRepository.saveAndFlush(membership);
+
+        // Assert
+        assertThat(projectMemberRepository.findRoleByProjectIdAndUserId(project.getId(), member.getId()))
+                .contains(ProjectRole.ADMIN);
+    }
+
+    @Test
+    @DisplayName("Should invalidate cached access checks when a member is removed")
+    void hasAccess_InvalidatedOnMemberRemoval() {
+        // Arrange
+        assertThat(projectRepository.hasAccess(project.getId(), member.getId())).isTrue();
+
+        // Act
+        projectMemberRepository.deleteByProjectIdAndUserId(project.getId(), member.getId());
+        entityManager.flush();
+
+        // Assert
+        assertThat(projectRepository.hasAccess(project.getId(), member.getId())).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should keep cached users when a project version is bumped")
+    void versionBump_KeepsCachedUsers() {
+        // Arrange
+        userRepository.findById(owner.getId());
+        entityManager.clear();
+
+        // Act
+        projectVersionRepository.bump(project.getId());
+        userRepository.findById(owner.getId());
+
+        // Assert
+        assertThat(statistics.getDomainDataRegionStatistics("users").getHitCount()).isEqualTo(1);
+    }
+
+    private User persistUser(String email) {
+        User user = User.builder()
+                .email(email)
+                .password("password")
+                .firstName("Cache")
+                .lastName("User")
+                .isActive(true)
+                .createdAt(LocalDateTime.now())
+                .build();
+        entityManager.persist(user);
+        return user;
+    }
+}
@@ -0,0 +1,106 @@
+package com.taskmanager.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the archive move against PostgreSQL, whose foreign keys decide what leaves with a task.
+ * Needs the database from application.yml; the seed is rolled back.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(TaskArchiveRepository.class)
+@DisplayName("TaskArchiveRepository tests")
+class TaskArchiveRepositoryTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TaskArchiveRepository taskArchiveRepository;
+
+    private UUID userId;
+    private UUID projectId;
+
+    @BeforeEach
+    void setUp() {
+        userId = jdbcTemplate.queryForObject("""
+                INSERT INTO users (email, password, first_name, last_name)
+                VALUES (?, 'password', 'Task', 'Archive')
+                RETURNING id
+                """, UUID.class, "task-archive-" + UUID.randomUUID() + "@example.com");
+        projectId = jdbcTemplate.queryForObject(
+                "INSERT INTO projects (name, owner_id) VALUES ('Task archive', ?) RETURNING id", UUID.class, userId);
+    }
+
+    @Test
+    @DisplayName("Should keep users' notifications about an archived task, read or unread")
+    void archive_KeepsNotifications() {
+        // Arrange
+        UUID taskId = insertDoneTask();
+        UUID unread = insertNotification(taskId, false);
+        UUID read = insertNotification(taskId, true);
+
+        // Act
+        int archived = taskArchiveRepository.archive(List.of(taskId), LocalDateTime.now());
+
+        // Assert
+        assertThat(archived).isEqualTo(1);
+        List<Map<String, Object>> notifications = jdbcTemplate.queryForList(
+                "SELECT id, task_id, is_read FROM notifications WHERE user_id = ? ORDER BY is_read", userId);
+        assertThat(notifications).extracting(row -> row.get("id")).containsExactly(unread, read);
+        assertThat(notifications).extracting(row -> row.get("task_id")).containsOnlyNulls();
+    }
+
+    @Test
+    @DisplayName("Should keep the move records of an archived task for the project it left")
+    void archive_KeepsMoveRecords() {
+        // Arrange
+        UUID taskId = insertDoneTask();
+        UUID formerProjectId = jdbcTemplate.queryForObject(
+                "INSERT INTO projects (name, owner_id) VALUES ('Former project', ?) RETURNING id", UUID.class, userId);
+        jdbcTemplate.update("""
+                INSERT INTO task_project_moves (task_id, project_id, change_seq)
+                VALUES (?, ?, nextval('task_change_seq'))
+                """, taskId, formerProjectId);
+
+        // Act
+        taskArchiveRepository.archive(List.of(taskId), LocalDateTime.now());
+
+        // Assert
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM task_project_moves WHERE task_id = ? AND project_id = ?",
+                Long.class, taskId, formerProjectId)).isEqualTo(1L);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM tasks WHERE id = ?", Long.class, taskId)).isZero();
+    }
+
+    private UUID insertDoneTask() {
+        return jdbcTemplate.queryForObject("""
+                INSERT INTO tasks (title, status, project_id, assigned_to_id, created_by_user_id, completed_at, position)
+                VALUES ('Archived task', 'DONE', ?, ?, ?, ?, 0)
+                RETURNING id
+                """, UUID.class, projectId, userId, userId, LocalDateTime.now().minusYears(1));
+    }
+
+    private UUID insertNotification(UUID taskId, boolean read) {
+        return jdbcTemplate.queryForObject("""
+                INSERT INTO notifications (user_id, task_id, type, title, message, is_read)
+                VALUES (?, ?, 'TASK_ASSIGNED', 'New Task Assigned', 'You have been assigned', ?)
+                RETURNING id
+                """, UUID.class, userId, taskId, read);
+    }
+}
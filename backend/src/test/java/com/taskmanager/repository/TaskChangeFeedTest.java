@@ -0,0 +1,143 @@
+package com.taskmanager.repository;
+
+import com.taskmanager.entity.Task;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the delta sync query against concurrent writers on separate connections.
+ * Needs the PostgreSQL database from application.yml. Writes are committed, so the
+ * test removes its own user and project afterwards.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Task change feed tests")
+class TaskChangeFeedTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    private UUID userId;
+    private UUID projectId;
+
+    @BeforeEach
+    void setUp() {
+        userId = jdbcTemplate.queryForObject("""
+                INSERT INTO users (email, password, first_name, last_name)
+                VALUES (?, 'password', 'Change', 'Feed')
+                RETURNING id
+                """, UUID.class, "change-feed-" + UUID.randomUUID() + "@example.com");
+        projectId = jdbcTemplate.queryForObject(
+                "INSERT INTO projects (name, owner_id) VALUES ('Change feed', ?) RETURNING id", UUID.class, userId);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM projects WHERE id = ?", projectId);
+        jdbcTemplate.update("DELETE FROM users WHERE id = ?", userId);
+    }
+
+    @Test
+    @DisplayName("Should not move the cursor past a change whose transaction commits late")
+    void findChangesSince_LateCommit_IsNotSkipped() throws SQLException {
+        try (Connection early = dataSource.getConnection(); Connection late = dataSource.getConnection()) {
+            early.setAutoCommit(false);
+            late.setAutoCommit(false);
+
+            // Arrange: the early writer draws the lower stamp but commits after the late one
+            UUID earlyTask = insertTask(early, "Early");
+            UUID lateTask = insertTask(late, "Late");
+            late.commit();
+
+            // Act: a client syncs between the two commits, then again after both
+            List<Task> firstSync = changesAfter(TaskChangeCursor.START);
+            early.commit();
+            TaskChangeCursor cursor = firstSync.isEmpty()
+                    ? TaskChangeCursor.START
+                    : TaskChangeCursor.of(firstSync.get(firstSync.size() - 1));
+            List<Task> secondSync = changesAfter(cursor);
+
+            // Assert
+            Long earlySeq = jdbcTemplate.queryForObject("SELECT change_seq FROM tasks WHERE id = ?", Long.class, earlyTask);
+            Long lateSeq = jdbcTemplate.queryForObject("SELECT change_seq FROM tasks WHERE id = ?", Long.class, lateTask);
+            assertThat(earlySeq).isLessThan(lateSeq);
+
+            assertThat(firstSync).extracting(Task::getId).doesNotContain(earlyTask, lateTask);
+            List<Task> served = new ArrayList<>(firstSync);
+            served.addAll(secondSync);
+            assertThat(served).extracting(Task::getId).containsExactly(earlyTask, lateTask);
+        }
+    }
+
+    @Test
+    @DisplayName("Should leave soft deletes from before an initial sync out of it, but not later ones")
+    void findChangesSince_InitialSync_SkipsEarlierSoftDeletes() {
+        // Arrange
+        UUID deletedBefore = insertTask("Deleted before");
+        UUID deletedDuring = insertTask("Deleted during");
+        jdbcTemplate.update("UPDATE tasks SET is_active = false WHERE id = ?", deletedBefore);
+        TaskChangeCursor initialSync = TaskChangeCursor.initialSync(taskRepository.findChangeHorizon());
+        jdbcTemplate.update("UPDATE tasks SET is_active = false WHERE id = ?", deletedDuring);
+
+        // Act
+        List<Task> changes = changesAfter(initialSync);
+
+        // Assert
+        assertThat(changes).extracting(Task::getId).containsExactly(deletedDuring);
+    }
+
+    private List<Task> changesAfter(TaskChangeCursor cursor) {
+        return taskRepository.findChangesSince(projectId, cursor.getXid(), cursor.getSeq(),
+                taskRepository.findChangeHorizon(), cursor.getTombstonesFrom(), 100);
+    }
+
+    private UUID insertTask(String title) {
+        return jdbcTemplate.queryForObject("""
+                INSERT INTO tasks (title, project_id, created_by_user_id, position)
+                VALUES (?, ?, ?, 0)
+                RETURNING id
+                """, UUID.class, title, projectId, userId);
+    }
+
+    private UUID insertTask(Connection connection, String title) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("""
+                INSERT INTO tasks (title, project_id, created_by_user_id, position)
+                VALUES (?, ?, ?, 0)
+                RETURNING id
+                """)) {
+            statement.setString(1, title);
+            statement.setObject(2, projectId);
+            statement.setObject(3, userId);
+            try (ResultSet rs = statement.executeQuery()) {
+                rs.next();
+                return rs.getObject(1, UUID.class);
+            }
+        }
+    }
+}
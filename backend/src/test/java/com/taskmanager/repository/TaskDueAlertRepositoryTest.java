@@ -0,0 +1,139 @@
+package com.taskmanager.repository;
+
+import com.taskmanager.entity.NotificationType;
+import com.taskmanager.repository.TaskDueAlertRepository.ClaimedAlert;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the alert claim against PostgreSQL: it relies on unnest over uuid[] and timestamp[]
+ * and on ON CONFLICT ... WHERE. Needs the database from application.yml; the seed is rolled back.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(TaskDueAlertRepository.class)
+@DisplayName("TaskDueAlertRepository tests")
+class TaskDueAlertRepositoryTest {
+
+    private static final LocalDateTime DUE = LocalDateTime.of(2030, 1, 15, 9, 30);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TaskDueAlertRepository taskDueAlertRepository;
+
+    private UUID userId;
+    private UUID projectId;
+
+    @BeforeEach
+    void setUp() {
+        userId = jdbcTemplate.queryForObject("""
+                INSERT INTO users (email, password, first_name, last_name)
+                VALUES (?, 'password', 'Due', 'Alerts')
+                RETURNING id
+                """, UUID.class, "due-alerts-" + UUID.randomUUID() + "@example.com");
+        projectId = jdbcTemplate.queryForObject(
+                "INSERT INTO projects (name, owner_id) VALUES ('Due alerts', ?) RETURNING id", UUID.class, userId);
+    }
+
+    @Test
+    @DisplayName("Should claim an alert once per due date")
+    void claim_SameDueDateTwice_ClaimsOnce() {
+        // Arrange
+        UUID taskId = insertTask("TODO", userId, DUE);
+
+        // Act
+        List<ClaimedAlert> first = claim(taskId, DUE);
+        List<ClaimedAlert> second = claim(taskId, DUE);
+
+        // Assert
+        assertThat(first).singleElement().satisfies(alert -> {
+            assertThat(alert.taskId()).isEqualTo(taskId);
+            assertThat(alert.assignedToId()).isEqualTo(userId);
+            assertThat(alert.title()).isEqualTo("Alert task");
+            assertThat(alert.projectName()).isEqualTo("Due alerts");
+            assertThat(alert.dueDate()).isEqualTo(DUE);
+        });
+        assertThat(second).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should re-arm an alert when the due date moves, and skip the stale one")
+    void claim_DueDateMoved_ClaimsAgain() {
+        // Arrange
+        UUID taskId = insertTask("TODO", userId, DUE);
+        claim(taskId, DUE);
+        LocalDateTime moved = DUE.plusDays(2);
+        jdbcTemplate.update("UPDATE tasks SET due_date = ? WHERE id = ?", moved, taskId);
+
+        // Act
+        List<ClaimedAlert> stale = claim(taskId, DUE);
+        List<ClaimedAlert> rearmed = claim(taskId, moved);
+
+        // Assert
+        assertThat(stale).isEmpty();
+        assertThat(rearmed).extracting(ClaimedAlert::dueDate).containsExactly(moved);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT due_date FROM task_due_alerts WHERE task_id = ? AND type = 'TASK_OVERDUE'",
+                LocalDateTime.class, taskId)).isEqualTo(moved);
+    }
+
+    @Test
+    @DisplayName("Should skip finished and unassigned tasks")
+    void claim_DoneOrUnassigned_Skipped() {
+        // Arrange
+        UUID done = insertTask("DONE", userId, DUE);
+        UUID unassigned = insertTask("TODO", null, DUE);
+        UUID open = insertTask("IN_PROGRESS", userId, DUE);
+
+        // Act
+        List<ClaimedAlert> claimed = taskDueAlertRepository.claim(NotificationType.TASK_OVERDUE,
+                Map.of(done, DUE, unassigned, DUE, open, DUE), LocalDateTime.now());
+
+        // Assert
+        assertThat(claimed).extracting(ClaimedAlert::taskId).containsExactly(open);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM task_due_alerts WHERE task_id IN (?, ?)", Long.class, done, unassigned))
+                .isZero();
+    }
+
+    @Test
+    @DisplayName("Should match a due date stored with more than microsecond precision")
+    void claim_NanosecondDueDate_RoundTrips() {
+        // Arrange: half a microsecond, where half-up and half-to-even rounding disagree
+        LocalDateTime dueWithNanos = DUE.withNano(123_456_500);
+        UUID taskId = insertTask("TODO", userId, dueWithNanos);
+
+        // Act
+        List<ClaimedAlert> claimed = claim(taskId, dueWithNanos);
+
+        // Assert
+        assertThat(claimed).extracting(ClaimedAlert::taskId).containsExactly(taskId);
+    }
+
+    private List<ClaimedAlert> claim(UUID taskId, LocalDateTime dueDate) {
+        return taskDueAlertRepository.claim(NotificationType.TASK_OVERDUE, Map.of(taskId, dueDate), LocalDateTime.now());
+    }
+
+    private UUID insertTask(String status, UUID assignedToId, LocalDateTime dueDate) {
+        return jdbcTemplate.queryForObject("""
+                INSERT INTO tasks (title, status, project_id, assigned_to_id, created_by_user_id, due_date, position)
+                VALUES ('Alert task', ?, ?, ?, ?, ?, 0)
+                RETURNING id
+                """, UUID.class, status, projectId, assignedToId, userId, dueDate);
+    }
+}
@@ -1,5 +1,11 @@
 package com.taskmanager.repository;
 
+import com.taskmanager.dto.TaskBoardColumnResponse;
+import com.taskmanager.dto.TaskCalendarDayResponse;
+import com.taskmanager.dto.TaskCalendarTaskResponse;
+import com.taskmanager.dto.TaskFilterRequest;
+import com.taskmanager.dto.TaskInboxBucket;
+import com.taskmanager.dto.TaskResponse;
 import com.taskmanager.entity.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -7,15 +13,23 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @DataJpaTest
+@Import(TaskReadRepository.class)
 @DisplayName("TaskRepository Integration Tests")
 class TaskRepositoryTest {
 
@@ -25,6 +39,9 @@ class TaskRepositoryTest {
     @Autowired
     private TaskRepository taskRepository;
 
+    @Autowired
+    private TaskReadRepository taskReadRepository;
+
     private User user1;
     private User user2;
     private Project project1;
@@ -114,7 +131,7 @@ class TaskRepositoryTest {
                 .createdByUserId(user1.getId())
                 .status(TaskStatus.TODO)
                 .priority(TaskPriority.MEDIUM)
-                .position(0)
+                .position(0.0)
                 .isActive(true)
                 .createdAt(LocalDateTime.now().minusDays(3))
                 .updatedAt(LocalDateTime.now().minusDays(3))
@@ -129,7 +146,7 @@ class TaskRepositoryTest {
                 .assignedToId(user2.getId())
                 .status(TaskStatus.IN_PROGRESS)
                 .priority(TaskPriority.HIGH)
-                .position(1)
+                .position(1.0)
                 .dueDate(LocalDateTime.now().plusDays(2))
                 .isActive(true)
                 .createdAt(LocalDateTime.now().minusDays(2))
@@ -144,7 +161,7 @@ class TaskRepositoryTest {
                 .createdByUserId(user2.getId())
                 .status(TaskStatus.DONE)
                 .priority(TaskPriority.LOW)
-                .position(2)
+                .position(2.0)
                 .completedAt(LocalDateTime.now().minusDays(1))
                 .isActive(true)
                 .createdAt(LocalDateTime.now().minusDays(4))
@@ -159,7 +176,7 @@ class TaskRepositoryTest {
                 .createdByUserId(user1.getId())
                 .status(TaskStatus.TODO)
                 .priority(TaskPriority.URGENT)
-                .position(3)
+                .position(3.0)
                 .dueDate(LocalDateTime.now().minusDays(1))
                 .isActive(true)
                 .createdAt(LocalDateTime.now().minusDays(5))
@@ -174,7 +191,7 @@ class TaskRepositoryTest {
                 .createdByUserId(user1.getId())
                 .status(TaskStatus.TODO)
                 .priority(TaskPriority.MEDIUM)
-                .position(4)
+                .position(4.0)
                 .isActive(false)
                 .createdAt(LocalDateTime.now().minusDays(6))
                 .updatedAt(LocalDateTime.now().minusDays(6))
@@ -217,6 +234,14 @@ class TaskRepositoryTest {
                 .containsExactly("TODO Task", "In Progress Task", "Done Task", "Overdue Task");
     }
 
+    @Test
+    @DisplayName("Should find lowest board position of active tasks")
+    void findMinPosition() {
+        // Act & Assert
+        assertThat(taskRepository.findMinPosition(project1.getId())).contains(0.0);
+        assertThat(taskRepository.findMinPosition(project2.getId())).isEmpty();
+    }
+
     @Test
     @DisplayName("Should return empty list for project with no tasks")
     void findByProjectIdAndIsActiveTrue_NoTasks() {
@@ -316,7 +341,7 @@ class TaskRepositoryTest {
                 .createdByUserId(user1.getId())
                 .status(TaskStatus.DONE)
                 .priority(TaskPriority.MEDIUM)
-                .position(5)
+                .position(5.0)
                 .dueDate(LocalDateTime.now().minusDays(2))
                 .completedAt(LocalDateTime.now().minusDays(1))
                 .isActive(true)
@@ -345,7 +370,7 @@ class TaskRepositoryTest {
                 .createdByUserId(user1.getId())
                 .status(TaskStatus.TODO)
                 .priority(TaskPriority.HIGH)
-                .position(5)
+                .position(5.0)
                 .dueDate(LocalDateTime.now())
                 .isActive(true)
                 .createdAt(LocalDateTime.now())
@@ -540,4 +565,207 @@ class TaskRepositoryTest {
         assertThat(results).allMatch(Task::getIsActive);
         assertThat(results).noneMatch(t -> t.getId().equals(inactiveTask.getId()));
     }
+
+    @Test
+    @DisplayName("Should page project tasks with a keyset cursor")
+    void findProjectTasks_KeysetPages() {
+        // Act
+        List<TaskResponse> firstPage = taskReadRepository.findProjectTasks(
+                project1.getId(), null, null, 2, LocalDateTime.now());
+        TaskCursor cursor = TaskCursor.of(firstPage.get(firstPage.size() - 1));
+        List<TaskResponse> secondPage = taskReadRepository.findProjectTasks(
+                project1.getId(), null, cursor, 2, LocalDateTime.now());
+
+        // Assert
+        assertThat(firstPage).extracting(TaskResponse::getTitle)
+                .containsExactly("TODO Task", "In Progress Task");
+        assertThat(secondPage).extracting(TaskResponse::getTitle)
+                .containsExactly("Done Task", "Overdue Task");
+    }
+
+    @Test
+    @DisplayName("Should page user tasks across the NULL due date boundary")
+    void findTasksInProjects_UserOrder_KeysetPages() {
+        // Act
+        List<TaskResponse> paged = new ArrayList<>();
+        TaskCursor cursor = null;
+        List<TaskResponse> page;
+        do {
+            page = taskReadRepository.findTasksInProjects(List.of(project1.getId()), null, cursor, 1, LocalDateTime.now());
+            paged.addAll(page);
+            cursor = page.isEmpty() ? null : TaskCursor.of(page.get(0));
+        } while (!page.isEmpty());
+
+        // Assert: due date first, tasks without one last, then priority
+        assertThat(paged).extracting(TaskResponse::getTitle)
+                .containsExactly("Overdue Task", "In Progress Task", "TODO Task", "Done Task");
+        assertThat(paged).allMatch(t -> "Project 1".equals(t.getProjectName()));
+        assertThat(paged).extracting(TaskResponse::getCreatedByUserName).containsOnly("User One", "User Two");
+    }
+
+    @Test
+    @DisplayName("Should reject a cursor that lacks the sort keys of the list it is used on")
+    void findTasks_CursorFromOtherOrder_ThrowsException() {
+        // Arrange
+        TaskCursor withoutPriority = decodeCursor("1024.0", "");
+        TaskCursor withoutPosition = decodeCursor("", "HIGH");
+
+        // Act & Assert
+        assertThatThrownBy(() -> taskReadRepository.findTasksInProjects(
+                List.of(project1.getId()), null, withoutPriority, 10, LocalDateTime.now()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid cursor");
+        assertThatThrownBy(() -> taskReadRepository.findProjectTasks(
+                project1.getId(), null, withoutPosition, 10, LocalDateTime.now()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid cursor");
+    }
+
+    @Test
+    @DisplayName("Should apply status and priority filters in the query")
+    void findProjectTasks_Filter_StatusAndPriority() {
+        // Arrange
+        TaskFilterRequest filter = TaskFilterRequest.builder()
+                .statuses(List.of(TaskStatus.TODO, TaskStatus.IN_PROGRESS))
+                .priorities(List.of(TaskPriority.HIGH, TaskPriority.URGENT))
+                .build();
+
+        // Act
+        List<TaskResponse> tasks = taskReadRepository.findProjectTasks(
+                project1.getId(), filter, null, 10, LocalDateTime.now());
+
+        // Assert
+        assertThat(tasks).extracting(TaskResponse::getTitle)
+                .containsExactlyInAnyOrder("In Progress Task", "Overdue Task");
+    }
+
+    @Test
+    @DisplayName("Should apply overdue and search text filters in the query")
+    void findProjectTasks_Filter_OverdueAndSearch() {
+        // Arrange
+        TaskFilterRequest overdue = TaskFilterRequest.builder().overdue(true).build();
+        TaskFilterRequest search = TaskFilterRequest.builder().searchText("PROGRESS desc").build();
+        TaskFilterRequest wildcard = TaskFilterRequest.builder().searchText("%").build();
+
+        // Act
+        List<TaskResponse> overdueTasks = taskReadRepository.findProjectTasks(
+                project1.getId(), overdue, null, 10, LocalDateTime.now());
+        List<TaskResponse> searchResults = taskReadRepository.findProjectTasks(
+                project1.getId(), search, null, 10, LocalDateTime.now());
+        List<TaskResponse> wildcardResults = taskReadRepository.findProjectTasks(
+                project1.getId(), wildcard, null, 10, LocalDateTime.now());
+
+        // Assert
+        assertThat(overdueTasks).extracting(TaskResponse::getTitle).containsExactly("Overdue Task");
+        assertThat(searchResults).extracting(TaskResponse::getTitle).containsExactly("In Progress Task");
+        // LIKE wildcards in the search text are matched literally
+        assertThat(wildcardResults).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should page the task inbox in due date order and count its buckets")
+    void findInboxTasks_BucketsAndPages() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.now().toLocalDate().atTime(12, 0);
+        Task doneOverdue = persistAssigned("Done overdue", project1, TaskStatus.DONE, now.minusDays(2));
+        Task overdue = persistAssigned("Overdue", project1, TaskStatus.TODO, now.minusDays(1));
+        Task today = persistAssigned("Today", project1, TaskStatus.IN_PROGRESS, now.plusHours(2));
+        Task thisWeek = persistAssigned("This week", project1, TaskStatus.TODO, now.plusDays(3));
+        Task later = persistAssigned("Later", project1, TaskStatus.TODO, now.plusDays(30));
+        Task noDueDate = persistAssigned("No due date", project1, TaskStatus.TODO, null);
+        persistAssigned("Other project", project2, TaskStatus.TODO, now.minusDays(1));
+        entityManager.flush();
+        List<UUID> projectIds = List.of(project1.getId());
+
+        // Act
+        List<TaskResponse> paged = new ArrayList<>();
+        TaskCursor cursor = null;
+        List<TaskResponse> page;
+        do {
+            page = taskReadRepository.findInboxTasks(user1.getId(), projectIds, null, cursor, 1, now);
+            paged.addAll(page);
+            cursor = page.isEmpty() ? null : TaskCursor.of(page.get(0));
+        } while (!page.isEmpty());
+        List<TaskResponse> overdueBucket =
+                taskReadRepository.findInboxTasks(user1.getId(), projectIds, TaskInboxBucket.OVERDUE, null, 10, now);
+        Map<TaskInboxBucket, Long> counts = taskReadRepository.countInboxBuckets(user1.getId(), projectIds, now);
+
+        // Assert
+        assertThat(paged).extracting(TaskResponse::getId).containsExactly(
+                doneOverdue.getId(), overdue.getId(), today.getId(), thisWeek.getId(), later.getId(), noDueDate.getId());
+        assertThat(overdueBucket).extracting(TaskResponse::getId).containsExactly(overdue.getId());
+        assertThat(counts).containsEntry(TaskInboxBucket.OVERDUE, 1L)
+                .containsEntry(TaskInboxBucket.TODAY, 1L)
+                .containsEntry(TaskInboxBucket.THIS_WEEK, 1L);
+    }
+
+    @Test
+    @DisplayName("Should return every board column with its top tasks and total")
+    void findBoard_LimitsEachColumn() {
+        // Arrange
+        entityManager.flush();
+
+        // Act
+        List<TaskBoardColumnResponse> board = taskReadRepository.findBoard(project1.getId(), 1, LocalDateTime.now());
+
+        // Assert
+        assertThat(board).extracting(TaskBoardColumnResponse::getStatus).containsExactly(TaskStatus.values());
+        TaskBoardColumnResponse todo = board.get(0);
+        assertThat(todo.getTotalCount()).isEqualTo(2L); // TODO Task and Overdue Task
+        assertThat(todo.getItems()).hasSize(1);
+        assertThat(board).filteredOn(c -> c.getStatus() == TaskStatus.CANCELLED)
+                .singleElement()
+                .satisfies(c -> {
+                    assertThat(c.getTotalCount()).isZero();
+                    assertThat(c.getItems()).isEmpty();
+                });
+    }
+
+    @Test
+    @DisplayName("Should bucket tasks by due day with counts and the top tasks of each day")
+    void findCalendar_BucketsByDay() {
+        // Arrange
+        LocalDate day = LocalDate.of(2030, 6, 10);
+        Task morning = persistAssigned("Morning", project1, TaskStatus.TODO, day.atTime(9, 0));
+        persistAssigned("Evening", project1, TaskStatus.TODO, day.atTime(18, 0));
+        Task nextDay = persistAssigned("Next day", project1, TaskStatus.DONE, day.plusDays(1).atStartOfDay());
+        persistAssigned("After range", project1, TaskStatus.TODO, day.plusDays(2).atStartOfDay());
+        persistAssigned("Other project", project2, TaskStatus.TODO, day.atTime(10, 0));
+        entityManager.flush();
+
+        // Act
+        List<TaskCalendarDayResponse> days = taskReadRepository.findCalendar(List.of(project1.getId()),
+                day.atStartOfDay(), day.plusDays(2).atStartOfDay(), 1, LocalDateTime.now());
+
+        // Assert
+        assertThat(days).extracting(TaskCalendarDayResponse::getDate).containsExactly(day, day.plusDays(1));
+        assertThat(days.get(0).getTaskCount()).isEqualTo(2L);
+        assertThat(days.get(0).getTasks()).extracting(TaskCalendarTaskResponse::getId).containsExactly(morning.getId());
+        assertThat(days.get(1).getTaskCount()).isEqualTo(1L);
+        assertThat(days.get(1).getTasks()).extracting(TaskCalendarTaskResponse::getId).containsExactly(nextDay.getId());
+    }
+
+    private Task persistAssigned(String title, Project project, TaskStatus status, LocalDateTime dueDate) {
+        Task task = Task.builder()
+                .title(title)
+                .projectId(project.getId())
+                .createdByUserId(user1.getId())
+                .assignedToId(user1.getId())
+                .status(status)
+                .priority(TaskPriority.MEDIUM)
+                .position(0.0)
+                .dueDate(dueDate)
+                .isActive(true)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+        entityManager.persist(task);
+        return task;
+    }
+
+    // A cursor as TaskCursor.decode reads it, with only the given position and priority fields
+    private static TaskCursor decodeCursor(String position, String priority) {
+        String raw = String.join("|", "v1", position, "", priority, LocalDateTime.now().toString(), UUID.randomUUID().toString());
+        return TaskCursor.decode(Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8)));
+    }
 }
@@ -45,6 +45,9 @@ class AuthServiceTest {
     @Mock
     private AuthenticationManager authenticationManager;
 
+    @Mock
+    private CacheInvalidationPublisher cacheInvalidationPublisher;
+
     @InjectMocks
     private AuthService authService;
 
@@ -103,6 +106,7 @@ class AuthServiceTest {
         verify(passwordEncoder).encode(registerRequest.getPassword());
         verify(userRepository).save(any(User.class));
         verify(jwtService).generateToken(user);
+        verify(cacheInvalidationPublisher).publish(CacheInvalidation.of(CacheInvalidation.Target.USER, user.getId()));
     }
 
     @Test
@@ -0,0 +1,122 @@
+package com.taskmanager.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CacheInvalidationPublisher Unit Tests")
+class CacheInvalidationPublisherTest {
+
+    private static final String NOTIFY = "SELECT pg_notify(?, ?)";
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private CacheInvalidator cacheInvalidator;
+
+    @InjectMocks
+    private CacheInvalidationPublisher publisher;
+
+    private UUID projectId;
+
+    @BeforeEach
+    void setUp() {
+        projectId = UUID.randomUUID();
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clear();
+    }
+
+    @Test
+    @DisplayName("Should notify once per distinct invalidation just before commit")
+    void publish_InTransaction_NotifiesBeforeCommit() {
+        // Arrange
+        CacheInvalidation invalidation = CacheInvalidation.of(CacheInvalidation.Target.PROJECT_VERSION, projectId);
+
+        // Act
+        publisher.publish(invalidation);
+        publisher.publish(CacheInvalidation.of(CacheInvalidation.Target.PROJECT_VERSION, projectId));
+
+        // Assert
+        verifyNoInteractions(jdbcTemplate);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(sync -> sync.beforeCommit(false));
+        verify(jdbcTemplate, times(1)).query(eq(NOTIFY), any(RowCallbackHandler.class),
+                eq(CacheInvalidationPublisher.CHANNEL), eq(invalidation.toPayload(publisher.getNodeId())));
+        verifyNoInteractions(cacheInvalidator);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        verify(cacheInvalidator).apply(invalidation, false);
+    }
+
+    @Test
+    @DisplayName("Should neither notify nor evict when the transaction rolls back")
+    void publish_RolledBack_SendsNothing() {
+        // Act
+        publisher.publish(CacheInvalidation.of(CacheInvalidation.Target.PROJECT_MEMBERS, projectId));
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        // Assert
+        verifyNoInteractions(jdbcTemplate, cacheInvalidator);
+        assertThat(TransactionSynchronizationManager.getResource(publisher)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should notify and evict immediately outside a transaction")
+    void publish_NoTransaction_NotifiesImmediately() {
+        // Arrange
+        TransactionSynchronizationManager.clear();
+        CacheInvalidation invalidation = CacheInvalidation.all(CacheInvalidation.Target.PROJECT_VERSION);
+
+        // Act
+        publisher.publish(invalidation);
+
+        // Assert
+        verify(jdbcTemplate).query(eq(NOTIFY), any(RowCallbackHandler.class),
+                eq(CacheInvalidationPublisher.CHANNEL), anyString());
+        verify(cacheInvalidator).apply(invalidation, false);
+    }
+
+    @Test
+    @DisplayName("Should round-trip invalidations through the notification payload")
+    void payload_RoundTrips() {
+        // Arrange
+        CacheInvalidation single = CacheInvalidation.of(CacheInvalidation.Target.USER, projectId);
+        CacheInvalidation all = CacheInvalidation.all(CacheInvalidation.Target.PROJECT_VERSION);
+
+        // Act
+        CacheInvalidation.Received receivedSingle = CacheInvalidation.fromPayload(single.toPayload("node-a"));
+        CacheInvalidation.Received receivedAll = CacheInvalidation.fromPayload(all.toPayload("node-a"));
+
+        // Assert
+        assertThat(receivedSingle.getNodeId()).isEqualTo("node-a");
+        assertThat(receivedSingle.getInvalidation()).isEqualTo(single);
+        assertThat(receivedAll.getInvalidation()).isEqualTo(all);
+        assertThatThrownBy(() -> CacheInvalidation.fromPayload("garbage"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
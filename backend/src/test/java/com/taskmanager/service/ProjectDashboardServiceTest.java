@@ -0,0 +1,167 @@
+package com.taskmanager.service;
+
+import com.taskmanager.dto.ProjectDashboardResponse;
+import com.taskmanager.dto.ProjectMemberResponse;
+import com.taskmanager.dto.ProjectResponse;
+import com.taskmanager.dto.TaskBoardResponse;
+import com.taskmanager.dto.TaskStatisticsResponse;
+import com.taskmanager.exception.ForbiddenException;
+import com.taskmanager.exception.ResourceNotFoundException;
+import com.taskmanager.repository.ProjectRepository;
+import com.taskmanager.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProjectDashboardService Unit Tests")
+class ProjectDashboardServiceTest {
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ProjectService projectService;
+
+    @Mock
+    private TaskService taskService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ProjectDashboardService projectDashboardService;
+
+    private UUID userId;
+    private UUID projectId;
+
+    @BeforeEach
+    void setUp() {
+        userId = UUID.randomUUID();
+        projectId = UUID.randomUUID();
+        projectDashboardService = new ProjectDashboardService(projectRepository, userRepository, projectService,
+                taskService, transactionManager, 4, 10, Duration.ofSeconds(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        projectDashboardService.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should authorize once and run the four reads side by side")
+    void getDashboard_RunsReadsConcurrently() {
+        // Arrange
+        when(projectRepository.existsByIdAndIsActiveTrue(projectId)).thenReturn(true);
+        when(userRepository.findById(userId)).thenReturn(Optional.empty());
+        when(projectRepository.hasAccess(projectId, userId)).thenReturn(true);
+
+        // Every read waits until all four have started, which only finishes if they run in parallel
+        CountDownLatch allStarted = new CountDownLatch(4);
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        ProjectResponse project = ProjectResponse.builder().id(projectId).name("Dashboard").build();
+        TaskBoardResponse board = TaskBoardResponse.builder().projectId(projectId).build();
+        TaskStatisticsResponse statistics = TaskStatisticsResponse.builder().totalTasks(3L).build();
+        when(projectService.readProject(projectId)).thenAnswer(i -> await(allStarted, threads, project));
+        when(projectService.readProjectMembers(projectId))
+                .thenAnswer(i -> await(allStarted, threads, List.<ProjectMemberResponse>of()));
+        when(taskService.readProjectBoard(projectId, 20)).thenAnswer(i -> await(allStarted, threads, board));
+        when(taskService.readProjectStatistics(userId, projectId)).thenAnswer(i -> await(allStarted, threads, statistics));
+
+        // Act
+        ProjectDashboardResponse dashboard = projectDashboardService.getDashboard(userId, projectId, 20);
+
+        // Assert
+        assertThat(dashboard.getProject()).isSameAs(project);
+        assertThat(dashboard.getMembers()).isEmpty();
+        assertThat(dashboard.getBoard()).isSameAs(board);
+        assertThat(dashboard.getStatistics()).isSameAs(statistics);
+        assertThat(threads).hasSize(4).allMatch(name -> name.startsWith("dashboard-"));
+        verify(projectRepository, times(1)).hasAccess(projectId, userId);
+        verify(transactionManager, times(4)).getTransaction(
+                argThat(definition -> definition.isReadOnly() && definition.getTimeout() == 5));
+        verify(transactionManager, times(4)).commit(any());
+    }
+
+    @Test
+    @DisplayName("Should deny the dashboard without running any read")
+    void getDashboard_NoAccess_ThrowsException() {
+        // Arrange
+        when(projectRepository.existsByIdAndIsActiveTrue(projectId)).thenReturn(true);
+        when(userRepository.findById(userId)).thenReturn(Optional.empty());
+        when(projectRepository.hasAccess(projectId, userId)).thenReturn(false);
+
+        // Act & Assert
+        assertThatThrownBy(() -> projectDashboardService.getDashboard(userId, projectId, null))
+                .isInstanceOf(ForbiddenException.class);
+        verifyNoInteractions(projectService, taskService);
+    }
+
+    @Test
+    @DisplayName("Should surface the exception of a failed read")
+    void getDashboard_ReadFails_RethrowsCause() {
+        // Arrange
+        when(projectRepository.existsByIdAndIsActiveTrue(projectId)).thenReturn(true);
+        when(userRepository.findById(userId)).thenReturn(Optional.empty());
+        when(projectRepository.hasAccess(projectId, userId)).thenReturn(true);
+        when(projectService.readProject(projectId)).thenThrow(new ResourceNotFoundException("Project not found"));
+
+        // Act & Assert
+        assertThatThrownBy(() -> projectDashboardService.getDashboard(userId, projectId, null))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage("Project not found");
+    }
+
+    @Test
+    @DisplayName("Should cancel the reads that have not started when the dashboard times out")
+    void getDashboard_Timeout_CancelsQueuedReads() {
+        // Arrange: one thread, held by the first read past the deadline
+        projectDashboardService.shutdown();
+        projectDashboardService = new ProjectDashboardService(projectRepository, userRepository, projectService,
+                taskService, transactionManager, 1, 10, Duration.ofMillis(200));
+        when(projectRepository.existsByIdAndIsActiveTrue(projectId)).thenReturn(true);
+        when(userRepository.findById(userId)).thenReturn(Optional.empty());
+        when(projectRepository.hasAccess(projectId, userId)).thenReturn(true);
+        CountDownLatch release = new CountDownLatch(1);
+        when(projectService.readProject(projectId)).thenAnswer(i -> {
+            release.await(5, TimeUnit.SECONDS);
+            return ProjectResponse.builder().id(projectId).build();
+        });
+
+        // Act & Assert
+        assertThatThrownBy(() -> projectDashboardService.getDashboard(userId, projectId, null))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("did not finish");
+        release.countDown();
+        verify(projectService, after(300).never()).readProjectMembers(projectId);
+        verify(taskService, never()).readProjectBoard(any(), any());
+        verify(taskService, never()).readProjectStatistics(any(), any());
+    }
+
+    private static <T> T await(CountDownLatch allStarted, Set<String> threads, T result) throws InterruptedException {
+        threads.add(Thread.currentThread().getName());
+        allStarted.countDown();
+        assertThat(allStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        return result;
+    }
+}
@@ -0,0 +1,143 @@
+package com.taskmanager.service;
+
+import com.taskmanager.entity.ProjectDeletion;
+import com.taskmanager.entity.ProjectDeletionStatus;
+import com.taskmanager.repository.NotificationRepository;
+import com.taskmanager.repository.ProjectDeletionRepository;
+import com.taskmanager.repository.TaskJdbcRepository;
+import com.taskmanager.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProjectDeletionService Unit Tests")
+class ProjectDeletionServiceTest {
+
+    @Mock
+    private ProjectDeletionRepository projectDeletionRepository;
+
+    @Mock
+    private TaskJdbcRepository taskJdbcRepository;
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @Mock
+    private ProjectVersionService projectVersionService;
+
+    @InjectMocks
+    private ProjectDeletionService projectDeletionService;
+
+    private UUID projectId;
+    private ProjectDeletion deletion;
+
+    @BeforeEach
+    void setUp() {
+        projectId = UUID.randomUUID();
+        deletion = ProjectDeletion.builder()
+                .projectId(projectId)
+                .requestedAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should do nothing when no deletion is pending")
+    void processBatch_NothingPending() {
+        // Arrange
+        when(projectDeletionRepository.findUnfinishedForUpdate(any())).thenReturn(List.of());
+
+        // Act
+        boolean progressed = projectDeletionService.processBatch(500);
+
+        // Assert
+        assertThat(progressed).isFalse();
+        verifyNoInteractions(taskJdbcRepository, notificationRepository, projectVersionService);
+    }
+
+    @Test
+    @DisplayName("Should soft-delete a full batch and keep the deletion running")
+    void processBatch_FullBatch_StaysRunning() {
+        // Arrange
+        List<UUID> taskIds = List.of(UUID.randomUUID(), UUID.randomUUID());
+        when(projectDeletionRepository.findUnfinishedForUpdate(any())).thenReturn(List.of(deletion));
+        when(taskRepository.countByProjectIdAndIsActiveTrue(projectId)).thenReturn(5L);
+        when(taskJdbcRepository.deactivateProjectTasks(eq(projectId), eq(2), any(LocalDateTime.class)))
+                .thenReturn(taskIds);
+        when(notificationRepository.deleteByTaskIdIn(taskIds)).thenReturn(3);
+
+        // Act
+        boolean progressed = projectDeletionService.processBatch(2);
+
+        // Assert
+        assertThat(progressed).isTrue();
+        assertThat(deletion.getStatus()).isEqualTo(ProjectDeletionStatus.RUNNING);
+        assertThat(deletion.getTasksTotal()).isEqualTo(5);
+        assertThat(deletion.getTasksDeactivated()).isEqualTo(2);
+        assertThat(deletion.getNotificationsDeleted()).isEqualTo(3);
+        assertThat(deletion.getStartedAt()).isNotNull();
+        verify(projectVersionService).bump(projectId);
+        verify(projectDeletionRepository).save(deletion);
+    }
+
+    @Test
+    @DisplayName("Should complete the deletion once no active task is left")
+    void processBatch_LastBatch_Completes() {
+        // Arrange
+        deletion.setStatus(ProjectDeletionStatus.RUNNING);
+        deletion.setTasksTotal(3);
+        deletion.setTasksDeactivated(2);
+        List<UUID> taskIds = List.of(UUID.randomUUID());
+        when(projectDeletionRepository.findUnfinishedForUpdate(any())).thenReturn(List.of(deletion));
+        when(taskJdbcRepository.deactivateProjectTasks(eq(projectId), eq(2), any(LocalDateTime.class)))
+                .thenReturn(taskIds);
+        when(taskRepository.countByProjectIdAndIsActiveTrue(projectId)).thenReturn(0L);
+
+        // Act
+        boolean progressed = projectDeletionService.processBatch(2);
+
+        // Assert
+        assertThat(progressed).isTrue();
+        assertThat(deletion.getStatus()).isEqualTo(ProjectDeletionStatus.COMPLETED);
+        assertThat(deletion.getTasksDeactivated()).isEqualTo(3);
+        assertThat(deletion.getCompletedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should stay running when the remaining tasks are locked by live edits")
+    void processBatch_RemainingLocked_StaysRunning() {
+        // Arrange
+        deletion.setStatus(ProjectDeletionStatus.RUNNING);
+        when(projectDeletionRepository.findUnfinishedForUpdate(any())).thenReturn(List.of(deletion));
+        when(taskJdbcRepository.deactivateProjectTasks(eq(projectId), anyInt(), any(LocalDateTime.class)))
+                .thenReturn(List.of());
+        when(taskRepository.countByProjectIdAndIsActiveTrue(projectId)).thenReturn(4L);
+
+        // Act
+        boolean progressed = projectDeletionService.processBatch(500);
+
+        // Assert
+        assertThat(progressed).isFalse();
+        assertThat(deletion.getStatus()).isEqualTo(ProjectDeletionStatus.RUNNING);
+        verify(notificationRepository, never()).deleteByTaskIdIn(any());
+        verify(projectVersionService, never()).bump(any());
+    }
+}
@@ -2,12 +2,15 @@ package com.taskmanager.service;
 
 import com.taskmanager.dto.*;
 import com.taskmanager.entity.Project;
+import com.taskmanager.entity.ProjectDeletion;
+import com.taskmanager.entity.ProjectDeletionStatus;
 import com.taskmanager.entity.ProjectMember;
 import com.taskmanager.entity.ProjectRole;
 import com.taskmanager.entity.User;
 import com.taskmanager.exception.DuplicateResourceException;
 import com.taskmanager.exception.ForbiddenException;
 import com.taskmanager.exception.ResourceNotFoundException;
+import com.taskmanager.repository.ProjectDeletionRepository;
 import com.taskmanager.repository.ProjectMemberRepository;
 import com.taskmanager.repository.ProjectRepository;
 import com.taskmanager.repository.UserRepository;
@@ -43,6 +46,15 @@ class ProjectServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private ProjectVersionService projectVersionService;
+
+    @Mock
+    private CacheInvalidationPublisher cacheInvalidationPublisher;
+
+    @Mock
+    private ProjectDeletionRepository projectDeletionRepository;
+
     @InjectMocks
     private ProjectService projectService;
 
@@ -91,6 +103,7 @@ class ProjectServiceTest {
                 .id(UUID.randomUUID())
                 .projectId(projectId)
                 .userId(userId)
+                .user(user)
                 .role(ProjectRole.OWNER)
                 .joinedAt(LocalDateTime.now())
                 .build();
@@ -315,6 +328,35 @@ class ProjectServiceTest {
         ArgumentCaptor<Project> projectCaptor = ArgumentCaptor.forClass(Project.class);
         verify(projectRepository).save(projectCaptor.capture());
         assertThat(projectCaptor.getValue().getIsActive()).isFalse(); // Soft delete
+        verify(projectVersionService).bump(projectId);
+
+        // Tasks are cascaded in the background
+        ArgumentCaptor<ProjectDeletion> deletionCaptor = ArgumentCaptor.forClass(ProjectDeletion.class);
+        verify(projectDeletionRepository).save(deletionCaptor.capture());
+        assertThat(deletionCaptor.getValue().getProjectId()).isEqualTo(projectId);
+        assertThat(deletionCaptor.getValue().getStatus()).isEqualTo(ProjectDeletionStatus.PENDING);
+    }
+
+    @Test
+    @DisplayName("Should report deletion progress to the owner")
+    void getDeletionStatus_AsOwner_ReturnsProgress() {
+        // Arrange
+        ProjectDeletion deletion = ProjectDeletion.builder()
+                .projectId(projectId)
+                .status(ProjectDeletionStatus.RUNNING)
+                .tasksTotal(1200)
+                .tasksDeactivated(500)
+                .build();
+        when(projectRepository.isOwner(projectId, userId)).thenReturn(true);
+        when(projectDeletionRepository.findById(projectId)).thenReturn(Optional.of(deletion));
+
+        // Act
+        ProjectDeletionResponse response = projectService.getDeletionStatus(userId, projectId);
+
+        // Assert
+        assertThat(response.getStatus()).isEqualTo(ProjectDeletionStatus.RUNNING);
+        assertThat(response.getTasksTotal()).isEqualTo(1200);
+        assertThat(response.getTasksDeactivated()).isEqualTo(500);
     }
 
     @Test
@@ -475,6 +517,10 @@ class ProjectServiceTest {
 
         // Assert
         verify(projectMemberRepository).deleteByProjectIdAndUserId(projectId, memberId);
+        verify(cacheInvalidationPublisher).publish(
+                CacheInvalidation.of(CacheInvalidation.Target.PROJECT_MEMBERS, projectId));
+        verify(cacheInvalidationPublisher).publish(
+                CacheInvalidation.of(CacheInvalidation.Target.USER_PROJECTS, memberId));
     }
 
     @Test
@@ -506,6 +552,7 @@ class ProjectServiceTest {
         // Assert
         assertThat(members).hasSize(1);
         assertThat(members.get(0).getUserId()).isEqualTo(userId);
+        assertThat(members.get(0).getUserName()).isEqualTo("John Doe");
     }
 
     @Test
@@ -520,4 +567,32 @@ class ProjectServiceTest {
                 .isInstanceOf(ForbiddenException.class)
                 .hasMessage("You don't have access to this project");
     }
+
+    @Test
+    @DisplayName("Should return project version for member")
+    void getProjectVersion_Success() {
+        // Arrange
+        when(projectRepository.existsByIdAndIsActiveTrue(projectId)).thenReturn(true);
+        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+        when(projectRepository.hasAccess(projectId, userId)).thenReturn(true);
+        when(projectVersionService.getVersion(projectId)).thenReturn(42L);
+
+        // Act
+        long version = projectService.getProjectVersion(userId, projectId);
+
+        // Assert
+        assertThat(version).isEqualTo(42L);
+    }
+
+    @Test
+    @DisplayName("Should throw exception when getting version of missing project")
+    void getProjectVersion_ProjectNotFound_ThrowsException() {
+        // Arrange
+        when(projectRepository.existsByIdAndIsActiveTrue(projectId)).thenReturn(false);
+
+        // Act & Assert
+        assertThatThrownBy(() -> projectService.getProjectVersion(userId, projectId))
+                .isInstanceOf(ResourceNotFoundException.class);
+        verify(projectVersionService, never()).getVersion(any());
+    }
 }
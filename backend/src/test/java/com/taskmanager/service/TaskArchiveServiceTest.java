@@ -0,0 +1,172 @@
+package com.taskmanager.service;
+
+import com.taskmanager.dto.TaskPageResponse;
+import com.taskmanager.dto.TaskResponse;
+import com.taskmanager.entity.TaskPriority;
+import com.taskmanager.entity.TaskStatus;
+import com.taskmanager.entity.User;
+import com.taskmanager.entity.UserRole;
+import com.taskmanager.exception.ForbiddenException;
+import com.taskmanager.exception.ResourceNotFoundException;
+import com.taskmanager.repository.ProjectRepository;
+import com.taskmanager.repository.TaskArchiveRepository;
+import com.taskmanager.repository.TaskCursor;
+import com.taskmanager.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TaskArchiveService Unit Tests")
+class TaskArchiveServiceTest {
+
+    @Mock
+    private TaskArchiveRepository taskArchiveRepository;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ProjectVersionService projectVersionService;
+
+    @InjectMocks
+    private TaskArchiveService taskArchiveService;
+
+    private UUID userId;
+    private UUID projectId;
+    private User user;
+    private LocalDateTime deletedBefore;
+    private LocalDateTime finishedBefore;
+
+    @BeforeEach
+    void setUp() {
+        userId = UUID.randomUUID();
+        projectId = UUID.randomUUID();
+        user = User.builder()
+                .id(userId)
+                .email("user@example.com")
+                .firstName("John")
+                .lastName("Doe")
+                .role(UserRole.USER)
+                .isActive(true)
+                .build();
+        deletedBefore = LocalDateTime.now().minusDays(1);
+        finishedBefore = LocalDateTime.now().minusDays(90);
+    }
+
+    @Test
+    @DisplayName("Should archive a locked batch and bump each affected project once")
+    void archiveBatch_ArchivesAndBumpsProjects() {
+        // Arrange
+        UUID otherProjectId = UUID.randomUUID();
+        Map<UUID, UUID> batch = new LinkedHashMap<>();
+        batch.put(UUID.randomUUID(), projectId);
+        batch.put(UUID.randomUUID(), projectId);
+        batch.put(UUID.randomUUID(), otherProjectId);
+
+        when(taskArchiveRepository.lockArchivable(deletedBefore, finishedBefore, 500)).thenReturn(batch);
+        when(taskArchiveRepository.archive(eq(batch.keySet()), any(LocalDateTime.class))).thenReturn(3);
+
+        // Act
+        int archived = taskArchiveService.archiveBatch(deletedBefore, finishedBefore, 500);
+
+        // Assert
+        assertThat(archived).isEqualTo(3);
+        verify(projectVersionService, times(1)).bump(projectId);
+        verify(projectVersionService, times(1)).bump(otherProjectId);
+    }
+
+    @Test
+    @DisplayName("Should do nothing when no task is due for archiving")
+    void archiveBatch_NothingDue() {
+        // Arrange
+        when(taskArchiveRepository.lockArchivable(deletedBefore, finishedBefore, 500)).thenReturn(Map.of());
+
+        // Act
+        int archived = taskArchiveService.archiveBatch(deletedBefore, finishedBefore, 500);
+
+        // Assert
+        assertThat(archived).isZero();
+        verify(taskArchiveRepository, never()).archive(any(), any());
+        verifyNoInteractions(projectVersionService);
+    }
+
+    @Test
+    @DisplayName("Should page through archived tasks with a cursor")
+    void getProjectArchive_ReturnsPageWithCursor() {
+        // Arrange
+        List<TaskResponse> rows = new ArrayList<>(List.of(archivedTask(), archivedTask(), archivedTask()));
+
+        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+        when(projectRepository.hasAccess(projectId, userId)).thenReturn(true);
+        when(taskArchiveRepository.findProjectArchive(eq(projectId), eq(null), eq(3), any(LocalDateTime.class)))
+                .thenReturn(rows);
+
+        // Act
+        TaskPageResponse page = taskArchiveService.getProjectArchive(userId, projectId, null, 2);
+
+        // Assert
+        assertThat(page.getItems()).hasSize(2);
+        assertThat(TaskCursor.decode(page.getNextCursor()).getId()).isEqualTo(rows.get(1).getId());
+    }
+
+    @Test
+    @DisplayName("Should deny the archive to users without project access")
+    void getProjectArchive_NoAccess_ThrowsException() {
+        // Arrange
+        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+        when(projectRepository.hasAccess(projectId, userId)).thenReturn(false);
+
+        // Act & Assert
+        assertThatThrownBy(() -> taskArchiveService.getProjectArchive(userId, projectId, null, null))
+                .isInstanceOf(ForbiddenException.class);
+        verify(taskArchiveRepository, never()).findProjectArchive(any(), any(), anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("Should report an unknown archived task as not found")
+    void getArchivedTask_NotFound_ThrowsException() {
+        // Arrange
+        UUID taskId = UUID.randomUUID();
+        when(taskArchiveRepository.findArchivedTask(eq(taskId), any(LocalDateTime.class))).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThatThrownBy(() -> taskArchiveService.getArchivedTask(userId, taskId))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage("Archived task not found");
+    }
+
+    private TaskResponse archivedTask() {
+        return TaskResponse.builder()
+                .id(UUID.randomUUID())
+                .title("Archived")
+                .status(TaskStatus.DONE)
+                .priority(TaskPriority.MEDIUM)
+                .projectId(projectId)
+                .position(0.0)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,201 @@
+package com.taskmanager.service;
+
+import com.taskmanager.dto.*;
+import com.taskmanager.entity.*;
+import com.taskmanager.repository.ProjectMemberRepository;
+import com.taskmanager.repository.ProjectRepository;
+import com.taskmanager.repository.TaskRepository;
+import com.taskmanager.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TaskBulkService Unit Tests")
+class TaskBulkServiceTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private ProjectMemberRepository projectMemberRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private NotificationService notificationService;
+
+    @Mock
+    private ProjectVersionService projectVersionService;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @InjectMocks
+    private TaskBulkService taskBulkService;
+
+    private UUID userId;
+    private UUID projectId;
+    private User user;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        userId = UUID.randomUUID();
+        projectId = UUID.randomUUID();
+
+        user = User.builder()
+                .id(userId)
+                .email("user@example.com")
+                .firstName("John")
+                .lastName("Doe")
+                .isActive(true)
+                .build();
+
+        project = Project.builder()
+                .id(projectId)
+                .name("Test Project")
+                .ownerId(userId)
+                .isActive(true)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should persist creates with pre-assigned IDs in request order")
+    void applyOperations_CreatesInRequestOrder() {
+        // Arrange
+        UUID firstId = UUID.randomUUID();
+        UUID secondId = UUID.randomUUID();
+        BulkTaskRequest request = BulkTaskRequest.builder()
+                .operations(List.of(createOperation(firstId, "First"), createOperation(secondId, "Second")))
+                .build();
+
+        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+        when(taskRepository.findExistingIds(Set.of(firstId, secondId))).thenReturn(List.of());
+        when(projectRepository.findByIdAndIsActiveTrue(projectId)).thenReturn(Optional.of(project));
+        when(projectRepository.isOwner(projectId, userId)).thenReturn(true);
+        when(taskRepository.findMinPosition(projectId)).thenReturn(Optional.of(1024.0));
+
+        // Act
+        BulkTaskResponse response = taskBulkService.applyOperations(userId, request);
+
+        // Assert
+        assertThat(response.getSucceeded()).isEqualTo(2);
+        assertThat(response.getResults()).extracting(BulkTaskResult::getId).containsExactly(firstId, secondId);
+
+        ArgumentCaptor<Task> taskCaptor = ArgumentCaptor.forClass(Task.class);
+        verify(entityManager, times(2)).persist(taskCaptor.capture());
+        assertThat(taskCaptor.getAllValues()).extracting(Task::getPosition).containsExactly(-1024.0, 0.0);
+        verify(entityManager).flush();
+
+        // Permission and project lookups happen once per project, not per operation
+        verify(projectRepository, times(1)).findByIdAndIsActiveTrue(projectId);
+        verify(projectRepository, times(1)).isOwner(projectId, userId);
+        verify(projectVersionService).bump(projectId);
+    }
+
+    @Test
+    @DisplayName("Should report failed items and apply the rest")
+    void applyOperations_ReportsPerItemFailures() {
+        // Arrange
+        UUID takenId = UUID.randomUUID();
+        UUID missingTaskId = UUID.randomUUID();
+        Task existing = Task.builder()
+                .id(UUID.randomUUID())
+                .title("Existing")
+                .projectId(projectId)
+                .createdByUserId(userId)
+                .status(TaskStatus.TODO)
+                .priority(TaskPriority.MEDIUM)
+                .position(0.0)
+                .isActive(true)
+                .createdAt(LocalDateTime.now())
+                .build();
+        BulkTaskRequest request = BulkTaskRequest.builder()
+                .operations(List.of(
+                        createOperation(takenId, "Duplicate"),
+                        BulkTaskOperation.builder()
+                                .type(BulkTaskOperationType.UPDATE)
+                                .id(existing.getId())
+                                .update(UpdateTaskRequest.builder().status(TaskStatus.DONE).build())
+                                .build(),
+                        BulkTaskOperation.builder()
+                                .type(BulkTaskOperationType.DELETE)
+                                .id(missingTaskId)
+                                .build()))
+                .build();
+
+        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+        when(taskRepository.findExistingIds(Set.of(takenId))).thenReturn(List.of(takenId));
+        when(projectRepository.findByIdAndIsActiveTrue(projectId)).thenReturn(Optional.of(project));
+        when(projectRepository.isOwner(projectId, userId)).thenReturn(true);
+        when(taskRepository.findAllById(any())).thenReturn(List.of(existing));
+
+        // Act
+        BulkTaskResponse response = taskBulkService.applyOperations(userId, request);
+
+        // Assert
+        assertThat(response.getSucceeded()).isEqualTo(1);
+        assertThat(response.getFailed()).isEqualTo(2);
+        assertThat(response.getResults().get(0).getError()).isEqualTo("Task ID already exists");
+        assertThat(response.getResults().get(1).isSuccess()).isTrue();
+        assertThat(response.getResults().get(2).getError()).isEqualTo("Task not found");
+        assertThat(existing.getStatus()).isEqualTo(TaskStatus.DONE);
+        assertThat(existing.getCompletedAt()).isNotNull();
+        verify(entityManager, never()).persist(any());
+    }
+
+    @Test
+    @DisplayName("Should reject creates in projects where the user cannot edit")
+    void applyOperations_NoPermission_ReportsForbidden() {
+        // Arrange
+        BulkTaskRequest request = BulkTaskRequest.builder()
+                .operations(List.of(createOperation(null, "First"), createOperation(null, "Second")))
+                .build();
+
+        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+        when(projectRepository.findByIdAndIsActiveTrue(projectId)).thenReturn(Optional.of(project));
+        when(projectRepository.isOwner(projectId, userId)).thenReturn(false);
+        when(projectMemberRepository.findRoleByProjectIdAndUserId(projectId, userId))
+                .thenReturn(Optional.of(ProjectRole.MEMBER));
+
+        // Act
+        BulkTaskResponse response = taskBulkService.applyOperations(userId, request);
+
+        // Assert
+        assertThat(response.getFailed()).isEqualTo(2);
+        assertThat(response.getResults()).extracting(BulkTaskResult::getError)
+                .containsOnly("You don't have permission to edit tasks in this project");
+        verify(projectMemberRepository, times(1)).findRoleByProjectIdAndUserId(projectId, userId);
+        verify(entityManager, never()).persist(any());
+        verify(projectVersionService, never()).bump(any());
+    }
+
+    private BulkTaskOperation createOperation(UUID id, String title) {
+        return BulkTaskOperation.builder()
+                .type(BulkTaskOperationType.CREATE)
+                .id(id)
+                .create(CreateTaskRequest.builder().title(title).projectId(projectId).build())
+                .build();
+    }
+}
@@ -0,0 +1,146 @@
+package com.taskmanager.service;
+
+import com.taskmanager.entity.NotificationType;
+import com.taskmanager.repository.TaskDueAlertRepository;
+import com.taskmanager.repository.TaskDueAlertRepository.ClaimedAlert;
+import com.taskmanager.repository.TaskDueAlertRepository.DueTask;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TaskDueAlertService Unit Tests")
+class TaskDueAlertServiceTest {
+
+    @Mock
+    private TaskDueAlertRepository taskDueAlertRepository;
+
+    @Mock
+    private NotificationService notificationService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private TaskDueAlertService taskDueAlertService;
+
+    private UUID taskId;
+    private UUID assigneeId;
+
+    @BeforeEach
+    void setUp() {
+        taskId = UUID.randomUUID();
+        assigneeId = UUID.randomUUID();
+        taskDueAlertService = new TaskDueAlertService(taskDueAlertRepository, notificationService, transactionManager,
+                Duration.ofHours(1), Duration.ofHours(6), Duration.ofDays(1), 2, 1000, 64);
+    }
+
+    @Test
+    @DisplayName("Should load due dates batch by batch and schedule a reminder and an overdue alert for each")
+    void loadUpcoming_PagesThroughBatches() {
+        // Arrange
+        LocalDateTime dueDate = LocalDateTime.now().plusHours(3);
+        DueTask first = new DueTask(UUID.randomUUID(), dueDate, false);
+        DueTask second = new DueTask(UUID.randomUUID(), dueDate.plusMinutes(1), false);
+        DueTask third = new DueTask(UUID.randomUUID(), dueDate.plusMinutes(2), true);
+        when(taskDueAlertRepository.findDueTasks(any(LocalDateTime.class), any(LocalDateTime.class), isNull(), eq(2)))
+                .thenReturn(List.of(first, second));
+        when(taskDueAlertRepository.findDueTasks(any(LocalDateTime.class), any(LocalDateTime.class), eq(second), eq(2)))
+                .thenReturn(List.of(third));
+
+        // Act
+        int loaded = taskDueAlertService.loadUpcoming();
+
+        // Assert
+        assertThat(loaded).isEqualTo(3);
+        // The third task's reminder already went out for this due date
+        assertThat(taskDueAlertService.scheduledCount()).isEqualTo(5);
+        assertThat(taskDueAlertService.sendDueAlerts()).isZero();
+        verifyNoInteractions(notificationService);
+    }
+
+    @Test
+    @DisplayName("Should send the overdue alert of a task that is already past due")
+    void sendDueAlerts_PastDue_SendsOverdueNotification() {
+        // Arrange
+        LocalDateTime dueDate = LocalDateTime.now().minusMinutes(5);
+        when(taskDueAlertRepository.findDueTasks(any(LocalDateTime.class), any(LocalDateTime.class), any(), anyInt()))
+                .thenReturn(List.of(new DueTask(taskId, dueDate, false)));
+        when(taskDueAlertRepository.claim(eq(NotificationType.TASK_OVERDUE), eq(Map.of(taskId, dueDate)),
+                any(LocalDateTime.class)))
+                .thenReturn(List.of(new ClaimedAlert(taskId, assigneeId, "Ship release", "Website", dueDate)));
+        taskDueAlertService.loadUpcoming();
+
+        // Act
+        int sent = taskDueAlertService.sendDueAlerts();
+
+        // Assert
+        assertThat(sent).isEqualTo(1);
+        verify(notificationService).createNotification(assigneeId, taskId, NotificationType.TASK_OVERDUE,
+                "Task Overdue", "Task 'Ship release' in project 'Website' is now overdue");
+        verify(transactionManager).commit(any());
+        assertThat(taskDueAlertService.scheduledCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should not notify when another node already claimed the alert")
+    void sendDueAlerts_AlreadyClaimed_SendsNothing() {
+        // Arrange
+        LocalDateTime dueDate = LocalDateTime.now().minusMinutes(1);
+        taskDueAlertService.reschedule(taskId, dueDate);
+        when(taskDueAlertRepository.claim(eq(NotificationType.TASK_OVERDUE), any(), any(LocalDateTime.class)))
+                .thenReturn(List.of());
+
+        // Act
+        int sent = taskDueAlertService.sendDueAlerts();
+
+        // Assert
+        assertThat(sent).isZero();
+        verifyNoInteractions(notificationService);
+    }
+
+    @Test
+    @DisplayName("Should drop a task's alerts when its due date moves past the horizon")
+    void reschedule_DueDateBeyondHorizon_CancelsAlerts() {
+        // Arrange
+        taskDueAlertService.reschedule(taskId, LocalDateTime.now().plusHours(2));
+        assertThat(taskDueAlertService.scheduledCount()).isEqualTo(2);
+
+        // Act
+        taskDueAlertService.reschedule(taskId, LocalDateTime.now().plusDays(30));
+
+        // Assert
+        assertThat(taskDueAlertService.scheduledCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should not alert a due date moved further into the past than the catch-up window")
+    void reschedule_DueDateBeforeCatchUp_SchedulesNothing() {
+        // Arrange
+        taskDueAlertService.reschedule(taskId, LocalDateTime.now().plusHours(2));
+
+        // Act
+        taskDueAlertService.reschedule(taskId, LocalDateTime.now().minusDays(30));
+
+        // Assert
+        assertThat(taskDueAlertService.scheduledCount()).isZero();
+        assertThat(taskDueAlertService.sendDueAlerts()).isZero();
+        verifyNoInteractions(taskDueAlertRepository);
+    }
+}
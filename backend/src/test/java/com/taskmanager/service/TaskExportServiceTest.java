@@ -0,0 +1,134 @@
+package com.taskmanager.service;
+
+import com.taskmanager.dto.TaskExportFormat;
+import com.taskmanager.exception.ForbiddenException;
+import com.taskmanager.repository.ProjectRepository;
+import com.taskmanager.repository.TaskJdbcRepository;
+import com.taskmanager.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TaskExportService Unit Tests")
+class TaskExportServiceTest {
+
+    @Mock
+    private TaskJdbcRepository taskJdbcRepository;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private TaskExportService taskExportService;
+
+    private UUID userId;
+    private UUID projectId;
+    private UUID taskId;
+
+    @BeforeEach
+    void setUp() {
+        userId = UUID.randomUUID();
+        projectId = UUID.randomUUID();
+        taskId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("Should write one JSON object per line")
+    void export_Ndjson() throws Exception {
+        // Arrange
+        streamRows(2);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        taskExportService.export(projectId, TaskExportFormat.NDJSON, out);
+
+        // Assert
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).startsWith("{\"id\":\"" + taskId + "\",\"title\":\"Write \\\"docs\\\"\"");
+        assertThat(lines[0]).contains("\"assignedToId\":null", "\"estimatedHours\":2.5", "\"createdAt\":\"2025-10-19T10:00\"");
+    }
+
+    @Test
+    @DisplayName("Should write a CSV header followed by quoted rows")
+    void export_Csv() throws Exception {
+        // Arrange
+        streamRows(1);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        taskExportService.export(projectId, TaskExportFormat.CSV, out);
+
+        // Assert
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).startsWith("id,title,description,status,priority,position,");
+        assertThat(lines[1]).startsWith("\"" + taskId + "\",\"Write \"\"docs\"\"\",,TODO,HIGH,1024.0,");
+    }
+
+    @Test
+    @DisplayName("Should reject export for users without project access")
+    void checkAccess_NoAccess_ThrowsException() {
+        // Arrange
+        when(userRepository.findById(userId)).thenReturn(Optional.empty());
+        when(projectRepository.hasAccess(projectId, userId)).thenReturn(false);
+
+        // Act & Assert
+        assertThatThrownBy(() -> taskExportService.checkAccess(userId, projectId))
+                .isInstanceOf(ForbiddenException.class);
+    }
+
+    @Test
+    @DisplayName("Should reject unknown export formats")
+    void fromParameter_Unknown_ThrowsException() {
+        assertThat(TaskExportFormat.fromParameter("CSV")).isEqualTo(TaskExportFormat.CSV);
+        assertThatThrownBy(() -> TaskExportFormat.fromParameter("xml"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    // Feeds the same mocked row to the export callback a number of times
+    private void streamRows(int count) throws Exception {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getString(any())).thenReturn(null);
+        when(rs.getString("id")).thenReturn(taskId.toString());
+        when(rs.getString("title")).thenReturn("Write \"docs\"");
+        when(rs.getString("status")).thenReturn("TODO");
+        when(rs.getString("priority")).thenReturn("HIGH");
+        when(rs.getDouble("position")).thenReturn(1024.0);
+        when(rs.getBigDecimal("estimated_hours")).thenReturn(new BigDecimal("2.5"));
+        when(rs.getTimestamp(any())).thenReturn(null);
+        when(rs.getTimestamp("created_at")).thenReturn(Timestamp.valueOf(LocalDateTime.of(2025, 10, 19, 10, 0)));
+
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            for (int i = 0; i < count; i++) {
+                handler.processRow(rs);
+            }
+            return null;
+        }).when(taskJdbcRepository).streamProjectTasks(eq(projectId), any());
+    }
+}
@@ -0,0 +1,187 @@
+package com.taskmanager.service;
+
+import com.taskmanager.dto.TaskImportResponse;
+import com.taskmanager.entity.NotificationType;
+import com.taskmanager.entity.Project;
+import com.taskmanager.exception.ForbiddenException;
+import com.taskmanager.entity.ProjectRole;
+import com.taskmanager.repository.ProjectMemberRepository;
+import com.taskmanager.repository.ProjectRepository;
+import com.taskmanager.repository.TaskJdbcRepository;
+import com.taskmanager.repository.TaskJdbcRepository.ImportedTasks;
+import com.taskmanager.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TaskImportService Unit Tests")
+class TaskImportServiceTest {
+
+    @Mock
+    private TaskJdbcRepository taskJdbcRepository;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private ProjectMemberRepository projectMemberRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ProjectVersionService projectVersionService;
+
+    @Mock
+    private NotificationService notificationService;
+
+    @InjectMocks
+    private TaskImportService taskImportService;
+
+    private UUID userId;
+    private UUID projectId;
+    private UUID memberId;
+    private Project project;
+    private ByteArrayOutputStream staged;
+
+    @BeforeEach
+    void setUp() {
+        userId = UUID.randomUUID();
+        projectId = UUID.randomUUID();
+        memberId = UUID.randomUUID();
+        staged = new ByteArrayOutputStream();
+
+        project = Project.builder()
+                .id(projectId)
+                .name("Test Project")
+                .ownerId(userId)
+                .isActive(true)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should stage valid rows through COPY and report rejected ones")
+    void importTasks_StagesValidRowsAndReportsErrors() {
+        // Arrange
+        String csv = """
+                title,status,priority,assignedToId,dueDate,estimatedHours
+                "Write ""docs""\",in_progress,HIGH,%s,2025-11-01,2.5
+                ,TODO,,,,
+                Ship it,SHIPPED,,,,
+                Review,,,%s,,
+                Plan,DONE,LOW,,2025-11-02T09:30:00,
+                """.formatted(memberId, UUID.randomUUID());
+        stubOwnerImport(new ImportedTasks(2, Map.of(memberId, 1)));
+
+        // Act
+        TaskImportResponse response = taskImportService.importTasks(userId, projectId, stream(csv));
+
+        // Assert
+        assertThat(response.getImported()).isEqualTo(2);
+        assertThat(response.getFailed()).isEqualTo(3);
+        assertThat(response.getErrors()).extracting("row").containsExactly(2L, 3L, 4L);
+        assertThat(response.getErrors()).extracting("error").containsExactly(
+                "Title is required",
+                "Invalid status: SHIPPED",
+                "Cannot assign task to user who is not a project member");
+        assertThat(staged.toString(StandardCharsets.UTF_8).split("\n")).containsExactly(
+                "1,\"Write \"\"docs\"\"\",,IN_PROGRESS,HIGH,\"" + memberId + "\",2.5,,2025-11-01T00:00",
+                "5,Plan,,DONE,LOW,,,,2025-11-02T09:30");
+        verify(projectMemberRepository, times(1)).findUserIdsByProjectId(projectId);
+        verify(projectVersionService).bump(projectId);
+    }
+
+    @Test
+    @DisplayName("Should send each assignee one summary notification, except the importer")
+    void importTasks_NotifiesAssigneesOnce() {
+        // Arrange
+        String csv = """
+                title,assignedToId
+                First,%1$s
+                Second,%1$s
+                Mine,%2$s
+                """.formatted(memberId, userId);
+        stubOwnerImport(new ImportedTasks(3, Map.of(memberId, 2, userId, 1)));
+
+        // Act
+        taskImportService.importTasks(userId, projectId, stream(csv));
+
+        // Assert
+        verify(notificationService).createNotification(
+                eq(memberId),
+                eq(null),
+                eq(NotificationType.TASK_ASSIGNED),
+                eq("New Tasks Assigned"),
+                eq("You have been assigned to 2 imported tasks in project 'Test Project'"));
+        verify(notificationService, never()).createNotification(eq(userId), any(), any(), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("Should reject files without a title column")
+    void importTasks_MissingTitleColumn_ThrowsException() {
+        // Arrange
+        stubOwnerImport(new ImportedTasks(0, Map.of()));
+
+        // Act & Assert
+        assertThatThrownBy(() -> taskImportService.importTasks(userId, projectId, stream("name\nTask\n")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("CSV header must include a title column");
+        verify(taskJdbcRepository, never()).mergeImportStaging(any(), any(), anyDouble(), any());
+    }
+
+    @Test
+    @DisplayName("Should reject imports from members without create rights")
+    void importTasks_NoPermission_ThrowsException() {
+        // Arrange
+        when(projectRepository.findByIdAndIsActiveTrue(projectId)).thenReturn(Optional.of(project));
+        when(userRepository.findById(userId)).thenReturn(Optional.empty());
+        when(projectRepository.isOwner(projectId, userId)).thenReturn(false);
+        when(projectMemberRepository.findRoleByProjectIdAndUserId(projectId, userId))
+                .thenReturn(Optional.of(ProjectRole.MEMBER));
+
+        // Act & Assert
+        assertThatThrownBy(() -> taskImportService.importTasks(userId, projectId, stream("title\nTask\n")))
+                .isInstanceOf(ForbiddenException.class);
+        verifyNoInteractions(taskJdbcRepository);
+    }
+
+    private void stubOwnerImport(ImportedTasks merged) {
+        when(projectRepository.findByIdAndIsActiveTrue(projectId)).thenReturn(Optional.of(project));
+        when(userRepository.findById(userId)).thenReturn(Optional.empty());
+        when(projectRepository.isOwner(projectId, userId)).thenReturn(true);
+        when(projectMemberRepository.findUserIdsByProjectId(projectId)).thenReturn(Set.of(userId, memberId));
+        when(taskJdbcRepository.copyIntoImportStaging(any())).thenAnswer(invocation -> {
+            invocation.getArgument(0, TaskJdbcRepository.StagingWriter.class).write(staged);
+            return 0L;
+        });
+        lenient().when(taskJdbcRepository.mergeImportStaging(eq(projectId), eq(userId), anyDouble(), any(LocalDateTime.class)))
+                .thenReturn(merged);
+    }
+
+    private static InputStream stream(String csv) {
+        return new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,72 @@
+package com.taskmanager.service;
+
+import com.taskmanager.repository.ProjectVersionRepository;
+import com.taskmanager.repository.TaskRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TaskPositionRebalanceJob Unit Tests")
+class TaskPositionRebalanceJobTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private ProjectVersionRepository projectVersionRepository;
+
+    @Mock
+    private TaskService taskService;
+
+    @InjectMocks
+    private TaskPositionRebalanceJob job;
+
+    @Test
+    @DisplayName("Should scan every project first, then only projects changed since the run before the last")
+    void rebalanceCrowdedProjects_ScansFromRunBeforeLast() {
+        // Arrange
+        when(projectVersionRepository.findLatestVersion()).thenReturn(100L, 200L, 300L);
+        when(taskRepository.findProjectsWithCrowdedPositions(anyDouble(), anyLong())).thenReturn(List.of());
+
+        // Act
+        job.rebalanceCrowdedProjects();
+        job.rebalanceCrowdedProjects();
+        job.rebalanceCrowdedProjects();
+
+        // Assert
+        verify(taskRepository, times(2)).findProjectsWithCrowdedPositions(anyDouble(), eq(0L));
+        verify(taskRepository).findProjectsWithCrowdedPositions(anyDouble(), eq(100L));
+        verifyNoInteractions(taskService);
+    }
+
+    @Test
+    @DisplayName("Should keep the scan window while a crowded project failed to rebalance")
+    void rebalanceCrowdedProjects_Failure_KeepsWindow() {
+        // Arrange
+        UUID failing = UUID.randomUUID();
+        when(projectVersionRepository.findLatestVersion()).thenReturn(100L, 200L, 300L);
+        when(taskRepository.findProjectsWithCrowdedPositions(anyDouble(), anyLong()))
+                .thenReturn(List.of(failing))
+                .thenReturn(List.of());
+        when(taskService.rebalancePositions(failing)).thenThrow(new IllegalStateException("lock timeout"));
+
+        // Act
+        job.rebalanceCrowdedProjects();
+        job.rebalanceCrowdedProjects();
+        job.rebalanceCrowdedProjects();
+
+        // Assert: the failed run does not advance the window, the next two do
+        verify(taskRepository, times(3)).findProjectsWithCrowdedPositions(anyDouble(), eq(0L));
+    }
+}
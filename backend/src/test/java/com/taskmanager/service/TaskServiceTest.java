@@ -10,20 +10,26 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -33,6 +39,12 @@ class TaskServiceTest {
     @Mock
     private TaskRepository taskRepository;
 
+    @Mock
+    private TaskJdbcRepository taskJdbcRepository;
+
+    @Mock
+    private TaskReadRepository taskReadRepository;
+
     @Mock
     private TaskCommentRepository taskCommentRepository;
 
@@ -45,6 +57,24 @@ class TaskServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private NotificationService notificationService;
+
+    @Mock
+    private ProjectVersionService projectVersionService;
+
+    @Mock
+    private TaskProjectMoveRepository taskProjectMoveRepository;
+
+    @Mock
+    private TaskArchiveRepository taskArchiveRepository;
+
+    @Mock
+    private ProjectAccessService projectAccessService;
+
+    @Mock
+    private TaskDueAlertService taskDueAlertService;
+
     @InjectMocks
     private TaskService taskService;
 
@@ -84,7 +114,7 @@ class TaskServiceTest {
                 .createdByUserId(userId)
                 .status(TaskStatus.TODO)
                 .priority(TaskPriority.MEDIUM)
-                .position(0)
+                .position(0.0)
                 .isActive(true)
                 .createdAt(LocalDateTime.now())
                 .updatedAt(LocalDateTime.now())
@@ -118,6 +148,7 @@ class TaskServiceTest {
         assertThat(response).isNotNull();
         assertThat(response.getTitle()).isEqualTo(task.getTitle());
         verify(taskRepository).save(any(Task.class));
+        verify(projectVersionService).bump(projectId);
     }
 
     @Test
@@ -146,7 +177,7 @@ class TaskServiceTest {
         Task savedTask = taskCaptor.getValue();
         assertThat(savedTask.getPriority()).isEqualTo(TaskPriority.MEDIUM);
         assertThat(savedTask.getStatus()).isEqualTo(TaskStatus.TODO);
-        assertThat(savedTask.getPosition()).isEqualTo(0);
+        assertThat(savedTask.getPosition()).isEqualTo(0.0);
     }
 
     @Test
@@ -267,6 +298,29 @@ class TaskServiceTest {
         assertThat(updatedTask.getCompletedAt()).isNull();
     }
 
+    @Test
+    @DisplayName("Should re-arm due date alerts when the due date changes")
+    void updateTask_NewDueDate_ReschedulesAlerts() {
+        // Arrange
+        LocalDateTime dueDate = LocalDateTime.now().plusHours(3);
+        UpdateTaskRequest request = UpdateTaskRequest.builder()
+                .dueDate(dueDate)
+                .build();
+
+        when(taskRepository.findByIdAndIsActiveTrue(taskId)).thenReturn(Optional.of(task));
+        when(projectRepository.isOwner(projectId, userId)).thenReturn(true);
+        when(taskRepository.save(any(Task.class))).thenReturn(task);
+        when(projectRepository.findById(projectId)).thenReturn(Optional.of(project));
+        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+        when(taskCommentRepository.countByTaskId(taskId)).thenReturn(0L);
+
+        // Act
+        taskService.updateTask(userId, taskId, request);
+
+        // Assert
+        verify(taskDueAlertService).rescheduleAfterCommit(taskId, dueDate);
+    }
+
     @Test
     @DisplayName("Should throw exception when member tries to edit task")
     void updateTask_AsMember_ThrowsException() {
@@ -337,12 +391,224 @@ class TaskServiceTest {
     }
 
     @Test
-    @DisplayName("Should filter tasks by status")
+    @DisplayName("Should place moved task halfway between its neighbours")
+    void reorderTasks_BetweenNeighbours() {
+        // Arrange
+        Task above = createTaskWithStatus(TaskStatus.IN_PROGRESS);
+        above.setPosition(1024.0);
+        Task below = createTaskWithStatus(TaskStatus.IN_PROGRESS);
+        below.setPosition(2048.0);
+        ReorderTasksRequest request = ReorderTasksRequest.builder()
+                .moves(List.of(TaskMoveRequest.builder()
+                        .taskId(taskId)
+                        .afterTaskId(above.getId())
+                        .beforeTaskId(below.getId())
+                        .status(TaskStatus.IN_PROGRESS)
+                        .build()))
+                .build();
+
+        when(projectRepository.isOwner(projectId, userId)).thenReturn(true);
+        when(taskRepository.findAllForReorder(eq(projectId), any())).thenReturn(List.of(task, above, below));
+
+        // Act
+        List<TaskPositionResponse> result = taskService.reorderTasks(userId, projectId, request);
+
+        // Assert
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getPosition()).isEqualTo(1536.0);
+        assertThat(result.get(0).getStatus()).isEqualTo(TaskStatus.IN_PROGRESS);
+        ArgumentCaptor<List<Task>> batchCaptor = ArgumentCaptor.forClass(List.class);
+        verify(taskJdbcRepository).batchUpdateBoardPositions(batchCaptor.capture());
+        assertThat(batchCaptor.getValue()).extracting(Task::getId).containsExactly(taskId);
+        verify(taskRepository, never()).save(any(Task.class));
+        verify(projectVersionService).bump(projectId);
+        InOrder inOrder = inOrder(taskRepository);
+        inOrder.verify(taskRepository).lockBoard(projectId);
+        inOrder.verify(taskRepository).findAllForReorder(eq(projectId), any());
+    }
+
+    @Test
+    @DisplayName("Should rebalance the board when neighbours are too close to split")
+    void reorderTasks_RebalancesWhenGapExhausted() {
+        // Arrange
+        Task above = createTaskWithStatus(TaskStatus.TODO);
+        above.setPosition(5.0);
+        Task below = createTaskWithStatus(TaskStatus.TODO);
+        below.setPosition(5.0);
+        Task aboveRespaced = createTaskWithStatus(TaskStatus.TODO);
+        aboveRespaced.setId(above.getId());
+        aboveRespaced.setPosition(1024.0);
+        Task belowRespaced = createTaskWithStatus(TaskStatus.TODO);
+        belowRespaced.setId(below.getId());
+        belowRespaced.setPosition(2048.0);
+        ReorderTasksRequest request = ReorderTasksRequest.builder()
+                .moves(List.of(TaskMoveRequest.builder()
+                        .taskId(taskId)
+                        .afterTaskId(above.getId())
+                        .beforeTaskId(below.getId())
+                        .build()))
+                .build();
+
+        when(projectRepository.isOwner(projectId, userId)).thenReturn(true);
+        when(taskRepository.findAllForReorder(eq(projectId), any()))
+                .thenReturn(List.of(task, above, below))
+                .thenReturn(List.of(task, aboveRespaced, belowRespaced));
+        when(taskRepository.rebalancePositions(eq(projectId), anyDouble())).thenReturn(3);
+
+        // Act
+        List<TaskPositionResponse> result = taskService.reorderTasks(userId, projectId, request);
+
+        // Assert
+        assertThat(result.get(0).getPosition()).isEqualTo(1536.0);
+        assertThat(result.get(0).getStatus()).isEqualTo(TaskStatus.TODO);
+        InOrder inOrder = inOrder(taskRepository);
+        inOrder.verify(taskRepository).lockBoard(projectId);
+        inOrder.verify(taskRepository).rebalancePositions(eq(projectId), anyDouble());
+    }
+
+    @Test
+    @DisplayName("Should lock the board before respacing it")
+    void rebalancePositions_LocksBoardFirst() {
+        // Arrange
+        when(taskRepository.rebalancePositions(eq(projectId), anyDouble())).thenReturn(2);
+
+        // Act
+        int updated = taskService.rebalancePositions(projectId);
+
+        // Assert
+        assertThat(updated).isEqualTo(2);
+        InOrder inOrder = inOrder(taskRepository);
+        inOrder.verify(taskRepository).lockBoard(projectId);
+        inOrder.verify(taskRepository).rebalancePositions(eq(projectId), anyDouble());
+        verify(projectVersionService).bump(projectId);
+    }
+
+    @Test
+    @DisplayName("Should throw exception when a moved task is not in the project")
+    void reorderTasks_TaskNotFound_ThrowsException() {
+        // Arrange
+        ReorderTasksRequest request = ReorderTasksRequest.builder()
+                .moves(List.of(TaskMoveRequest.builder()
+                        .taskId(taskId)
+                        .beforeTaskId(UUID.randomUUID())
+                        .build()))
+                .build();
+
+        when(projectRepository.isOwner(projectId, userId)).thenReturn(true);
+        when(taskRepository.findAllForReorder(eq(projectId), any())).thenReturn(List.of(task));
+
+        // Act & Assert
+        assertThatThrownBy(() -> taskService.reorderTasks(userId, projectId, request))
+                .isInstanceOf(ResourceNotFoundException.class);
+        verify(taskJdbcRepository, never()).batchUpdateBoardPositions(any());
+    }
+
+    @Test
+    @DisplayName("Should throw exception when member without edit rights reorders tasks")
+    void reorderTasks_NoPermission_ThrowsException() {
+        // Arrange
+        ReorderTasksRequest request = ReorderTasksRequest.builder()
+                .moves(List.of(TaskMoveRequest.builder().taskId(taskId).build()))
+                .build();
+
+        when(projectRepository.isOwner(projectId, userId)).thenReturn(false);
+        when(projectMemberRepository.findRoleByProjectIdAndUserId(projectId, userId))
+                .thenReturn(Optional.of(ProjectRole.MEMBER));
+
+        // Act & Assert
+        assertThatThrownBy(() -> taskService.reorderTasks(userId, projectId, request))
+                .isInstanceOf(ForbiddenException.class);
+        verify(taskRepository, never()).findAllForReorder(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should move matching tasks to the top of the target board in one statement")
+    void transitionTasks_MoveToProject() {
+        // Arrange
+        UUID targetProjectId = UUID.randomUUID();
+        Project target = Project.builder().id(targetProjectId).name("Target").ownerId(userId).isActive(true).build();
+        UUID movedId = UUID.randomUUID();
+        TaskTransitionRequest request = TaskTransitionRequest.builder()
+                .filter(TaskFilterRequest.builder().statuses(List.of(TaskStatus.DONE)).build())
+                .targetProjectId(targetProjectId)
+                .build();
+
+        when(projectRepository.findByIdAndIsActiveTrue(projectId)).thenReturn(Optional.of(project));
+        when(projectRepository.findByIdAndIsActiveTrue(targetProjectId)).thenReturn(Optional.of(target));
+        when(projectRepository.isOwner(any(), eq(userId))).thenReturn(true);
+        when(taskRepository.findMinPosition(targetProjectId)).thenReturn(Optional.of(2048.0));
+        when(taskJdbcRepository.transition(eq(projectId), eq(request), eq(2048.0), anyDouble(), any(LocalDateTime.class)))
+                .thenReturn(List.of(movedId));
+
+        // Act
+        TaskTransitionResponse result = taskService.transitionTasks(userId, projectId, request);
+
+        // Assert
+        assertThat(result.getUpdated()).isEqualTo(1);
+        assertThat(result.getTaskIds()).containsExactly(movedId);
+        verify(projectVersionService).bump(projectId);
+        verify(projectVersionService).bump(targetProjectId);
+        verify(taskRepository, never()).save(any(Task.class));
+    }
+
+    @Test
+    @DisplayName("Should send one summary notification when reassigning tasks in bulk")
+    void transitionTasks_Reassign_NotifiesOnce() {
+        // Arrange
+        UUID assigneeId = UUID.randomUUID();
+        TaskTransitionRequest request = TaskTransitionRequest.builder()
+                .status(TaskStatus.IN_PROGRESS)
+                .assignedToId(assigneeId)
+                .build();
+
+        when(projectRepository.findByIdAndIsActiveTrue(projectId)).thenReturn(Optional.of(project));
+        when(projectRepository.isOwner(projectId, userId)).thenReturn(true);
+        when(projectMemberRepository.existsByProjectIdAndUserId(projectId, assigneeId)).thenReturn(true);
+        when(taskJdbcRepository.transition(eq(projectId), eq(request), anyDouble(), anyDouble(), any(LocalDateTime.class)))
+                .thenReturn(List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID()));
+
+        // Act
+        TaskTransitionResponse result = taskService.transitionTasks(userId, projectId, request);
+
+        // Assert
+        assertThat(result.getUpdated()).isEqualTo(3);
+        verify(notificationService, times(1)).createNotification(
+                eq(assigneeId), isNull(), eq(NotificationType.TASK_REASSIGNED), any(), contains("3 tasks"));
+        verify(projectVersionService, times(1)).bump(projectId);
+    }
+
+    @Test
+    @DisplayName("Should reject a transition without any change")
+    void transitionTasks_NoChange_ThrowsException() {
+        // Act & Assert
+        assertThatThrownBy(() -> taskService.transitionTasks(userId, projectId, new TaskTransitionRequest()))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(taskJdbcRepository);
+    }
+
+    @Test
+    @DisplayName("Should throw exception when member without edit rights transitions tasks")
+    void transitionTasks_NoPermission_ThrowsException() {
+        // Arrange
+        TaskTransitionRequest request = TaskTransitionRequest.builder().status(TaskStatus.DONE).build();
+
+        when(projectRepository.findByIdAndIsActiveTrue(projectId)).thenReturn(Optional.of(project));
+        when(projectRepository.isOwner(projectId, userId)).thenReturn(false);
+        when(projectMemberRepository.findRoleByProjectIdAndUserId(projectId, userId))
+                .thenReturn(Optional.of(ProjectRole.MEMBER));
+
+        // Act & Assert
+        assertThatThrownBy(() -> taskService.transitionTasks(userId, projectId, request))
+                .isInstanceOf(ForbiddenException.class);
+        verifyNoInteractions(taskJdbcRepository);
+    }
+
+    @Test
+    @DisplayName("Should return filtered tasks as a page")
     void filterTasks_ByStatus() {
         // Arrange
-        Task task1 = createTaskWithStatus(TaskStatus.TODO);
-        Task task2 = createTaskWithStatus(TaskStatus.IN_PROGRESS);
-        Task task3 = createTaskWithStatus(TaskStatus.DONE);
+        TaskResponse task1 = createTaskResponse(0.0);
+        TaskResponse task2 = createTaskResponse(1.0);
 
         TaskFilterRequest filter = TaskFilterRequest.builder()
                 .projectId(projectId)
@@ -350,96 +616,460 @@ class TaskServiceTest {
                 .build();
 
         when(projectRepository.hasAccess(projectId, userId)).thenReturn(true);
-        when(taskRepository.findByProjectIdAndIsActiveTrue(projectId))
-                .thenReturn(Arrays.asList(task1, task2, task3));
-        setupTaskResponseMocks();
+        when(taskReadRepository.findProjectTasks(eq(projectId), eq(filter), isNull(), eq(51), any(LocalDateTime.class)))
+                .thenReturn(new ArrayList<>(Arrays.asList(task1, task2)));
 
         // Act
-        List<TaskResponse> result = taskService.filterTasks(userId, filter);
+        TaskPageResponse result = taskService.filterTasks(userId, filter);
 
         // Assert
-        assertThat(result).hasSize(2);
+        assertThat(result.getItems()).containsExactly(task1, task2);
+        assertThat(result.getNextCursor()).isNull();
     }
 
     @Test
-    @DisplayName("Should filter tasks by priority")
-    void filterTasks_ByPriority() {
+    @DisplayName("Should not query tasks when filtering a project without access")
+    void filterTasks_NoAccess_ThrowsException() {
         // Arrange
-        Task task1 = createTaskWithPriority(TaskPriority.LOW);
-        Task task2 = createTaskWithPriority(TaskPriority.HIGH);
-        Task task3 = createTaskWithPriority(TaskPriority.URGENT);
+        TaskFilterRequest filter = TaskFilterRequest.builder()
+                .projectId(projectId)
+                .overdue(true)
+                .build();
+
+        when(projectRepository.hasAccess(projectId, userId)).thenReturn(false);
+
+        // Act & Assert
+        assertThatThrownBy(() -> taskService.filterTasks(userId, filter))
+                .isInstanceOf(ForbiddenException.class);
+        verifyNoInteractions(taskReadRepository);
+    }
 
+    @Test
+    @DisplayName("Should reject a malformed filter cursor")
+    void filterTasks_InvalidCursor_ThrowsException() {
+        // Arrange
         TaskFilterRequest filter = TaskFilterRequest.builder()
                 .projectId(projectId)
-                .priorities(List.of(TaskPriority.HIGH, TaskPriority.URGENT))
+                .cursor("not-a-cursor")
                 .build();
 
         when(projectRepository.hasAccess(projectId, userId)).thenReturn(true);
-        when(taskRepository.findByProjectIdAndIsActiveTrue(projectId))
-                .thenReturn(Arrays.asList(task1, task2, task3));
+
+        // Act & Assert
+        assertThatThrownBy(() -> taskService.filterTasks(userId, filter))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid cursor");
+    }
+
+    @Test
+    @DisplayName("Should return next cursor when more project tasks exist")
+    void getProjectTasks_HasNextPage() {
+        // Arrange
+        TaskResponse first = createTaskResponse(0.0);
+        TaskResponse second = createTaskResponse(1.0);
+        TaskResponse third = createTaskResponse(2.0);
+
+        when(projectRepository.hasAccess(projectId, userId)).thenReturn(true);
+        when(taskReadRepository.findProjectTasks(eq(projectId), isNull(), isNull(), eq(3), any(LocalDateTime.class)))
+                .thenReturn(new ArrayList<>(Arrays.asList(first, second, third)));
+
+        // Act
+        TaskPageResponse result = taskService.getProjectTasks(userId, projectId, null, 2);
+
+        // Assert
+        assertThat(result.getItems()).hasSize(2);
+        assertThat(result.getNextCursor()).isNotNull();
+        TaskCursor cursor = TaskCursor.decode(result.getNextCursor());
+        assertThat(cursor.getId()).isEqualTo(second.getId());
+        assertThat(cursor.getPosition()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should throw exception when getting project tasks without access")
+    void getProjectTasks_NoAccess_ThrowsException() {
+        // Arrange
+        when(projectRepository.hasAccess(projectId, userId)).thenReturn(false);
+
+        // Act & Assert
+        assertThatThrownBy(() -> taskService.getProjectTasks(userId, projectId, null, null))
+                .isInstanceOf(ForbiddenException.class);
+    }
+
+    @Test
+    @DisplayName("Should not expose project version without access")
+    void getProjectVersion_NoAccess_ThrowsException() {
+        // Arrange
+        when(projectRepository.hasAccess(projectId, userId)).thenReturn(false);
+
+        // Act & Assert
+        assertThatThrownBy(() -> taskService.getProjectVersion(userId, projectId))
+                .isInstanceOf(ForbiddenException.class);
+        verify(projectVersionService, never()).getVersion(any());
+    }
+
+    @Test
+    @DisplayName("Should list tasks across the user's accessible projects")
+    void getAllUserTasks_QueriesAccessibleProjects() {
+        // Arrange
+        UUID otherProjectId = UUID.randomUUID();
+        List<UUID> projectIds = List.of(projectId, otherProjectId);
+        when(projectAccessService.getAccessibleProjectIds(userId)).thenReturn(projectIds);
+        when(taskReadRepository.findTasksInProjects(eq(projectIds), isNull(), isNull(), eq(51), any(LocalDateTime.class)))
+                .thenReturn(new ArrayList<>());
+
+        // Act
+        TaskPageResponse result = taskService.getAllUserTasks(userId, null, null);
+
+        // Assert
+        assertThat(result.getItems()).isEmpty();
+        assertThat(result.getNextCursor()).isNull();
+        verify(taskReadRepository).findTasksInProjects(eq(projectIds), isNull(), isNull(), eq(51), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("Should return one inbox bucket with the size of every bucket")
+    void getMyTasks_ReturnsBucketAndCounts() {
+        // Arrange
+        List<UUID> projectIds = List.of(projectId);
+        when(projectAccessService.getAccessibleProjectIds(userId)).thenReturn(projectIds);
+        when(taskReadRepository.findInboxTasks(eq(userId), eq(projectIds), eq(TaskInboxBucket.OVERDUE), isNull(),
+                eq(51), any(LocalDateTime.class))).thenReturn(new ArrayList<>());
+        when(taskReadRepository.countInboxBuckets(eq(userId), eq(projectIds), any(LocalDateTime.class)))
+                .thenReturn(Map.of(TaskInboxBucket.OVERDUE, 2L, TaskInboxBucket.TODAY, 1L, TaskInboxBucket.THIS_WEEK, 5L));
+
+        // Act
+        TaskInboxResponse result = taskService.getMyTasks(userId, "overdue", null, null);
+
+        // Assert
+        assertThat(result.getItems()).isEmpty();
+        assertThat(result.getOverdueCount()).isEqualTo(2L);
+        assertThat(result.getDueTodayCount()).isEqualTo(1L);
+        assertThat(result.getDueThisWeekCount()).isEqualTo(5L);
+    }
+
+    @Test
+    @DisplayName("Should reject an unknown inbox bucket")
+    void getMyTasks_UnknownBucket_ThrowsException() {
+        // Act & Assert
+        assertThatThrownBy(() -> taskService.getMyTasks(userId, "someday", null, null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Unsupported inbox bucket: someday");
+        verifyNoInteractions(taskReadRepository);
+    }
+
+    @Test
+    @DisplayName("Should read the calendar over all accessible projects as a half-open range")
+    void getCalendar_AllAccessibleProjects() {
+        // Arrange
+        List<UUID> projectIds = List.of(projectId);
+        TaskCalendarDayResponse day = TaskCalendarDayResponse.builder()
+                .date(LocalDate.of(2026, 3, 2)).taskCount(7L).build();
+        when(projectAccessService.getAccessibleProjectIds(userId)).thenReturn(projectIds);
+        when(taskReadRepository.findCalendar(eq(projectIds), eq(LocalDateTime.of(2026, 3, 1, 0, 0)),
+                eq(LocalDateTime.of(2026, 4, 1, 0, 0)), eq(3), any(LocalDateTime.class))).thenReturn(List.of(day));
+
+        // Act
+        TaskCalendarResponse calendar = taskService.getCalendar(userId, "2026-03-01", "2026-03-31", null, null);
+
+        // Assert
+        assertThat(calendar.getFrom()).isEqualTo(LocalDate.of(2026, 3, 1));
+        assertThat(calendar.getTo()).isEqualTo(LocalDate.of(2026, 3, 31));
+        assertThat(calendar.getDays()).containsExactly(day);
+    }
+
+    @Test
+    @DisplayName("Should deny a calendar for a project the user cannot see")
+    void getCalendar_ProjectWithoutAccess_ThrowsException() {
+        // Arrange
+        UUID otherProjectId = UUID.randomUUID();
+        when(projectAccessService.getAccessibleProjectIds(userId)).thenReturn(List.of(projectId));
+        when(projectRepository.hasAccess(otherProjectId, userId)).thenReturn(false);
+
+        // Act & Assert
+        assertThatThrownBy(() -> taskService.getCalendar(userId, "2026-03-01", "2026-03-31",
+                List.of(projectId, otherProjectId), null))
+                .isInstanceOf(ForbiddenException.class);
+        verifyNoInteractions(taskReadRepository);
+    }
+
+    @Test
+    @DisplayName("Should reject a calendar range longer than a year")
+    void getCalendar_RangeTooLong_ThrowsException() {
+        // Act & Assert
+        assertThatThrownBy(() -> taskService.getCalendar(userId, "2026-01-01", "2027-01-02", null, null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Calendar range is limited to 366 days");
+        verifyNoInteractions(projectAccessService, taskReadRepository);
+    }
+
+    @Test
+    @DisplayName("Should trim each board column to the limit and return a cursor for the rest")
+    void getProjectBoard_TrimsColumnsWithCursor() {
+        // Arrange
+        List<TaskResponse> todo = new ArrayList<>(List.of(boardTask(1.0), boardTask(2.0), boardTask(3.0)));
+        TaskBoardColumnResponse todoColumn = TaskBoardColumnResponse.builder()
+                .status(TaskStatus.TODO).totalCount(3L).items(todo).build();
+        TaskBoardColumnResponse doneColumn = TaskBoardColumnResponse.builder()
+                .status(TaskStatus.DONE).totalCount(0L).build();
+
+        when(projectRepository.hasAccess(projectId, userId)).thenReturn(true);
+        when(taskReadRepository.findBoard(eq(projectId), eq(3), any(LocalDateTime.class)))
+                .thenReturn(List.of(todoColumn, doneColumn));
+
+        // Act
+        TaskBoardResponse board = taskService.getProjectBoard(userId, projectId, 2);
+
+        // Assert
+        assertThat(board.getColumns()).hasSize(2);
+        TaskBoardColumnResponse first = board.getColumns().get(0);
+        assertThat(first.getItems()).hasSize(2);
+        assertThat(first.getTotalCount()).isEqualTo(3L);
+        assertThat(TaskCursor.decode(first.getNextCursor()).getId()).isEqualTo(todo.get(1).getId());
+        assertThat(board.getColumns().get(1).getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should reject an unknown board column")
+    void getBoardColumn_UnknownStatus_ThrowsException() {
+        // Act & Assert
+        assertThatThrownBy(() -> taskService.getBoardColumn(userId, projectId, "BLOCKED", null, null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Unknown board column: BLOCKED");
+        verifyNoInteractions(taskReadRepository);
+    }
+
+    @Test
+    @DisplayName("Should reject a page size below one")
+    void getAllUserTasks_InvalidLimit_ThrowsException() {
+        // Act & Assert
+        assertThatThrownBy(() -> taskService.getAllUserTasks(userId, null, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should split task changes into updates and deletions")
+    void getTaskChanges_SplitsChangedAndDeleted() {
+        // Arrange
+        Task updated = createTaskWithStatus(TaskStatus.IN_PROGRESS);
+        updated.setChangeXid(500L);
+        updated.setChangeSeq(11L);
+        Task removed = createTaskWithStatus(TaskStatus.TODO);
+        removed.setIsActive(false);
+        removed.setChangeXid(501L);
+        removed.setChangeSeq(12L);
+
+        when(projectRepository.hasAccess(projectId, userId)).thenReturn(true);
+        when(taskRepository.findChangeHorizon()).thenReturn(600L);
+        when(taskRepository.findChangesSince(projectId, 0L, 10L, 600L, 0L, 201))
+                .thenReturn(new ArrayList<>(Arrays.asList(updated, removed)));
         setupTaskResponseMocks();
 
         // Act
-        List<TaskResponse> result = taskService.filterTasks(userId, filter);
+        TaskChangesResponse result = taskService.getTaskChanges(userId, projectId, "10", null);
 
         // Assert
-        assertThat(result).hasSize(2);
+        assertThat(result.getChanged()).extracting(TaskResponse::getId).containsExactly(updated.getId());
+        assertThat(result.getDeleted()).containsExactly(removed.getId());
+        assertThat(result.getNextCursor()).isEqualTo(TaskChangeCursor.of(501L, 12L).encode());
+        assertThat(result.getHasMore()).isFalse();
     }
 
     @Test
-    @DisplayName("Should filter overdue tasks")
-    void filterTasks_Overdue() {
+    @DisplayName("Should keep the cursor and report more changes when a batch is full")
+    void getTaskChanges_HasMore() {
         // Arrange
-        Task overdueTask = createTaskWithDueDate(LocalDateTime.now().minusDays(1));
-        overdueTask.setStatus(TaskStatus.IN_PROGRESS);
+        Task first = createTaskWithStatus(TaskStatus.TODO);
+        first.setChangeXid(500L);
+        first.setChangeSeq(1L);
+        Task second = createTaskWithStatus(TaskStatus.TODO);
+        second.setChangeXid(500L);
+        second.setChangeSeq(2L);
 
-        Task notOverdueTask = createTaskWithDueDate(LocalDateTime.now().plusDays(1));
-        notOverdueTask.setStatus(TaskStatus.IN_PROGRESS);
+        when(projectRepository.hasAccess(projectId, userId)).thenReturn(true);
+        when(taskRepository.findChangeHorizon()).thenReturn(600L);
+        when(taskRepository.findChangesSince(projectId, 0L, 0L, 600L, 600L, 2))
+                .thenReturn(new ArrayList<>(Arrays.asList(first, second)));
+        setupTaskResponseMocks();
 
-        Task completedOverdueTask = createTaskWithDueDate(LocalDateTime.now().minusDays(1));
-        completedOverdueTask.setStatus(TaskStatus.DONE);
+        // Act
+        TaskChangesResponse result = taskService.getTaskChanges(userId, projectId, null, 1);
 
-        TaskFilterRequest filter = TaskFilterRequest.builder()
+        // Assert
+        assertThat(result.getChanged()).hasSize(1);
+        assertThat(result.getNextCursor()).isEqualTo(
+                TaskChangeCursor.initialSync(600L).advanceTo(TaskChangeCursor.of(500L, 1L)).encode());
+        assertThat(result.getHasMore()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should report tasks moved to another project as deleted")
+    void getTaskChanges_MovedOutReportedAsDeleted() {
+        // Arrange
+        Task updated = createTaskWithStatus(TaskStatus.TODO);
+        updated.setChangeXid(500L);
+        updated.setChangeSeq(11L);
+        UUID movedId = UUID.randomUUID();
+        TaskProjectMove move = TaskProjectMove.builder()
+                .taskId(movedId)
                 .projectId(projectId)
-                .overdue(true)
+                .changeXid(502L)
+                .changeSeq(14L)
                 .build();
+        String since = TaskChangeCursor.of(400L, 10L).encode();
 
         when(projectRepository.hasAccess(projectId, userId)).thenReturn(true);
-        when(taskRepository.findByProjectIdAndIsActiveTrue(projectId))
-                .thenReturn(Arrays.asList(overdueTask, notOverdueTask, completedOverdueTask));
+        when(taskRepository.findChangeHorizon()).thenReturn(600L);
+        when(taskRepository.findChangesSince(projectId, 400L, 10L, 600L, 0L, 201))
+                .thenReturn(new ArrayList<>(List.of(updated)));
+        when(taskProjectMoveRepository.findMovedOutSince(projectId, 400L, 10L, 600L, 0L, 201)).thenReturn(List.of(move));
         setupTaskResponseMocks();
 
         // Act
-        List<TaskResponse> result = taskService.filterTasks(userId, filter);
+        TaskChangesResponse result = taskService.getTaskChanges(userId, projectId, since, null);
 
         // Assert
-        assertThat(result).hasSize(1); // Only the overdue in-progress task
+        assertThat(result.getChanged()).extracting(TaskResponse::getId).containsExactly(updated.getId());
+        assertThat(result.getDeleted()).containsExactly(movedId);
+        assertThat(result.getNextCursor()).isEqualTo(TaskChangeCursor.of(502L, 14L).encode());
     }
 
     @Test
-    @DisplayName("Should filter tasks by search text")
-    void filterTasks_BySearchText() {
+    @DisplayName("Should report a task that moved out and came back as changed only")
+    void getTaskChanges_MovedOutAndBack_ReportedAsChanged() {
         // Arrange
-        Task task1 = createTaskWithTitle("Bug fix in authentication");
-        Task task2 = createTaskWithTitle("Feature: Add dark mode");
-        Task task3 = createTaskWithTitle("Update documentation");
-        task3.setDescription("Fix authentication docs");
-
-        TaskFilterRequest filter = TaskFilterRequest.builder()
+        Task returned = createTaskWithStatus(TaskStatus.TODO);
+        returned.setChangeXid(505L);
+        returned.setChangeSeq(30L);
+        TaskProjectMove move = TaskProjectMove.builder()
+                .taskId(returned.getId())
                 .projectId(projectId)
-                .searchText("authentication")
+                .changeXid(502L)
+                .changeSeq(14L)
                 .build();
+        String since = TaskChangeCursor.of(400L, 10L).encode();
+
+        when(projectRepository.hasAccess(projectId, userId)).thenReturn(true);
+        when(taskRepository.findChangeHorizon()).thenReturn(600L);
+        when(taskRepository.findChangesSince(projectId, 400L, 10L, 600L, 0L, 201))
+                .thenReturn(new ArrayList<>(List.of(returned)));
+        when(taskProjectMoveRepository.findMovedOutSince(projectId, 400L, 10L, 600L, 0L, 201)).thenReturn(List.of(move));
+        setupTaskResponseMocks();
+
+        // Act
+        TaskChangesResponse result = taskService.getTaskChanges(userId, projectId, since, null);
+
+        // Assert
+        assertThat(result.getChanged()).extracting(TaskResponse::getId).containsExactly(returned.getId());
+        assertThat(result.getDeleted()).isEmpty();
+        assertThat(result.getNextCursor()).isEqualTo(TaskChangeCursor.of(505L, 30L).encode());
+    }
+
+    @Test
+    @DisplayName("Should report archived tasks as deleted")
+    void getTaskChanges_ArchivedReportedAsDeleted() {
+        // Arrange
+        UUID archivedId = UUID.randomUUID();
+        String since = TaskChangeCursor.of(400L, 10L).encode();
+
+        when(projectRepository.hasAccess(projectId, userId)).thenReturn(true);
+        when(taskRepository.findChangeHorizon()).thenReturn(600L);
+        when(taskRepository.findChangesSince(projectId, 400L, 10L, 600L, 0L, 201))
+                .thenReturn(new ArrayList<>());
+        when(taskArchiveRepository.findArchivedSince(eq(projectId), any(TaskChangeCursor.class), eq(600L), eq(201)))
+                .thenReturn(Map.of(archivedId, TaskChangeCursor.of(503L, 17L)));
+
+        // Act
+        TaskChangesResponse result = taskService.getTaskChanges(userId, projectId, since, null);
+
+        // Assert
+        assertThat(result.getChanged()).isEmpty();
+        assertThat(result.getDeleted()).containsExactly(archivedId);
+        assertThat(result.getNextCursor()).isEqualTo(TaskChangeCursor.of(503L, 17L).encode());
+    }
+
+    @Test
+    @DisplayName("Should merge archive tombstones with task changes in stamp order up to the limit")
+    void getTaskChanges_MergesArchivedInStampOrder() {
+        // Arrange
+        Task updated = createTaskWithStatus(TaskStatus.TODO);
+        updated.setChangeXid(500L);
+        updated.setChangeSeq(20L);
+        UUID archivedBefore = UUID.randomUUID();
+        UUID archivedAfter = UUID.randomUUID();
+        Map<UUID, TaskChangeCursor> archived = new LinkedHashMap<>();
+        archived.put(archivedBefore, TaskChangeCursor.of(499L, 30L));
+        archived.put(archivedAfter, TaskChangeCursor.of(501L, 10L));
+        String since = TaskChangeCursor.of(400L, 10L).encode();
 
         when(projectRepository.hasAccess(projectId, userId)).thenReturn(true);
-        when(taskRepository.findByProjectIdAndIsActiveTrue(projectId))
-                .thenReturn(Arrays.asList(task1, task2, task3));
+        when(taskRepository.findChangeHorizon()).thenReturn(600L);
+        when(taskRepository.findChangesSince(projectId, 400L, 10L, 600L, 0L, 3))
+                .thenReturn(new ArrayList<>(List.of(updated)));
+        when(taskArchiveRepository.findArchivedSince(eq(projectId), any(TaskChangeCursor.class), eq(600L), eq(3)))
+                .thenReturn(archived);
         setupTaskResponseMocks();
 
         // Act
-        List<TaskResponse> result = taskService.filterTasks(userId, filter);
+        TaskChangesResponse result = taskService.getTaskChanges(userId, projectId, since, 2);
+
+        // Assert
+        assertThat(result.getDeleted()).containsExactly(archivedBefore);
+        assertThat(result.getChanged()).extracting(TaskResponse::getId).containsExactly(updated.getId());
+        assertThat(result.getNextCursor()).isEqualTo(TaskChangeCursor.of(500L, 20L).encode());
+        assertThat(result.getHasMore()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should leave out deletions committed before an initial sync started")
+    void getTaskChanges_InitialSync_SkipsEarlierTombstones() {
+        // Arrange
+        when(projectRepository.hasAccess(projectId, userId)).thenReturn(true);
+        when(taskRepository.findChangeHorizon()).thenReturn(600L);
+        when(taskRepository.findChangesSince(projectId, 0L, 0L, 600L, 600L, 201))
+                .thenReturn(new ArrayList<>());
+        ArgumentCaptor<TaskChangeCursor> after = ArgumentCaptor.forClass(TaskChangeCursor.class);
+        when(taskArchiveRepository.findArchivedSince(eq(projectId), after.capture(), eq(600L), eq(201)))
+                .thenReturn(Map.of());
+
+        // Act
+        TaskChangesResponse result = taskService.getTaskChanges(userId, projectId, null, null);
 
         // Assert
-        assertThat(result).hasSize(2); // task1 (title) and task3 (description)
+        assertThat(after.getValue().getTombstonesFrom()).isEqualTo(600L);
+        assertThat(result.getDeleted()).isEmpty();
+        assertThat(TaskChangeCursor.decode(result.getNextCursor()).getTombstonesFrom()).isEqualTo(600L);
+    }
+
+    @Test
+    @DisplayName("Should hold back changes of transactions at or past the oldest running one")
+    void getTaskChanges_CursorStaysBelowHorizon() {
+        // Arrange
+        String since = TaskChangeCursor.of(400L, 10L).encode();
+
+        when(projectRepository.hasAccess(projectId, userId)).thenReturn(true);
+        when(taskRepository.findChangeHorizon()).thenReturn(450L);
+        when(taskRepository.findChangesSince(projectId, 400L, 10L, 450L, 0L, 201))
+                .thenReturn(new ArrayList<>());
+
+        // Act
+        TaskChangesResponse result = taskService.getTaskChanges(userId, projectId, since, null);
+
+        // Assert
+        assertThat(result.getChanged()).isEmpty();
+        assertThat(result.getNextCursor()).isEqualTo(since);
+        verify(taskProjectMoveRepository).findMovedOutSince(projectId, 400L, 10L, 450L, 0L, 201);
+    }
+
+    @Test
+    @DisplayName("Should reject a malformed change cursor")
+    void getTaskChanges_InvalidCursor_ThrowsException() {
+        // Arrange
+        when(projectRepository.hasAccess(projectId, userId)).thenReturn(true);
+
+        // Act & Assert
+        assertThatThrownBy(() -> taskService.getTaskChanges(userId, projectId, "abc", null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid cursor");
     }
 
     @Test
@@ -608,18 +1238,6 @@ class TaskServiceTest {
                 .build();
     }
 
-    private Task createTaskWithPriority(TaskPriority priority) {
-        return Task.builder()
-                .id(UUID.randomUUID())
-                .title("Task")
-                .projectId(projectId)
-                .createdByUserId(userId)
-                .status(TaskStatus.TODO)
-                .priority(priority)
-                .isActive(true)
-                .build();
-    }
-
     private Task createTaskWithDueDate(LocalDateTime dueDate) {
         return Task.builder()
                 .id(UUID.randomUUID())
@@ -633,15 +1251,15 @@ class TaskServiceTest {
                 .build();
     }
 
-    private Task createTaskWithTitle(String title) {
-        return Task.builder()
+    private TaskResponse createTaskResponse(Double position) {
+        return TaskResponse.builder()
                 .id(UUID.randomUUID())
-                .title(title)
-                .projectId(projectId)
-                .createdByUserId(userId)
+                .title("Task")
                 .status(TaskStatus.TODO)
                 .priority(TaskPriority.MEDIUM)
-                .isActive(true)
+                .projectId(projectId)
+                .position(position)
+                .createdAt(LocalDateTime.now())
                 .build();
     }
 
@@ -650,4 +1268,16 @@ class TaskServiceTest {
         when(userRepository.findById(any())).thenReturn(Optional.of(user));
         when(taskCommentRepository.countByTaskId(any())).thenReturn(0L);
     }
+
+    private TaskResponse boardTask(double position) {
+        return TaskResponse.builder()
+                .id(UUID.randomUUID())
+                .title("Board task")
+                .status(TaskStatus.TODO)
+                .priority(TaskPriority.MEDIUM)
+                .projectId(projectId)
+                .position(position)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
 }
@@ -0,0 +1,109 @@
+package com.taskmanager.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TimingWheel Unit Tests")
+class TimingWheelTest {
+
+    private static final long START = 1_000_000L;
+
+    // 10 ms ticks, 8 buckets: the first level spans 80 ms, the next 640 ms, then 5120 ms
+    private TimingWheel<String, String> wheel;
+
+    @BeforeEach
+    void setUp() {
+        wheel = new TimingWheel<>(10, 8, START);
+    }
+
+    @Test
+    @DisplayName("Should fire timers on the first level in expiration order")
+    void advance_FiresInOrder() {
+        // Arrange
+        wheel.schedule("b", "b", START + 35);
+        wheel.schedule("a", "a", START + 12);
+        wheel.schedule("c", "c", START + 70);
+
+        // Act & Assert
+        assertThat(wheel.advance(START + 5)).isEmpty();
+        assertThat(wheel.advance(START + 40)).containsExactly("a", "b");
+        assertThat(wheel.advance(START + 79)).containsExactly("c");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should cascade timers from the overflow levels down to the tick they expire in")
+    void advance_CascadesFromOverflowLevels() {
+        // Arrange
+        wheel.schedule("minute", "minute", START + 300);
+        wheel.schedule("far", "far", START + 4_000);
+
+        // Act
+        List<String> fired = new ArrayList<>();
+        for (long now = START; now <= START + 5_000; now += 5) {
+            List<String> due = wheel.advance(now);
+            fired.addAll(due);
+            if (due.contains("minute")) {
+                assertThat(now).isBetween(START + 290, START + 300);
+            }
+            if (due.contains("far")) {
+                assertThat(now).isBetween(START + 3_990, START + 4_000);
+            }
+        }
+
+        // Assert
+        assertThat(fired).containsExactly("minute", "far");
+    }
+
+    @Test
+    @DisplayName("Should not fire a cancelled timer and replace a rescheduled one")
+    void schedule_CancelAndReplace() {
+        // Arrange
+        wheel.schedule("cancelled", "cancelled", START + 20);
+        wheel.schedule("moved", "first", START + 30);
+        wheel.schedule("moved", "second", START + 500);
+
+        // Act
+        boolean cancelled = wheel.cancel("cancelled");
+
+        // Assert
+        assertThat(cancelled).isTrue();
+        assertThat(wheel.size()).isEqualTo(1);
+        assertThat(wheel.advance(START + 100)).isEmpty();
+        assertThat(wheel.advance(START + 500)).containsExactly("second");
+    }
+
+    @Test
+    @DisplayName("Should fire a timer set in the past on the next advance")
+    void schedule_PastExpiration_FiresOnNextAdvance() {
+        // Arrange
+        wheel.advance(START + 200);
+        wheel.schedule("late", "late", START + 50);
+
+        // Act & Assert
+        assertThat(wheel.advance(START + 200)).containsExactly("late");
+        assertThat(wheel.cancel("late")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should catch up in one advance after the clock jumps far ahead")
+    void advance_LargeJump_FiresEverythingDue() {
+        // Arrange
+        for (int i = 0; i < 100; i++) {
+            wheel.schedule("t" + i, "t" + i, START + i * 97L);
+        }
+
+        // Act
+        List<String> fired = wheel.advance(START + 100_000);
+
+        // Assert
+        assertThat(fired).hasSize(100).startsWith("t0", "t1", "t2").endsWith("t99");
+        assertThat(wheel.size()).isZero();
+    }
+}
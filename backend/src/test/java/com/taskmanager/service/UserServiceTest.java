@@ -32,6 +32,12 @@ class UserServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private ProjectVersionService projectVersionService;
+
+    @Mock
+    private CacheInvalidationPublisher cacheInvalidationPublisher;
+
     @InjectMocks
     private UserService userService;
 
@@ -131,6 +137,7 @@ class UserServiceTest {
         assertThat(updatedUser.getProfileImage()).isEqualTo("https://example.com/new-avatar.jpg");
 
         assertThat(response).isNotNull();
+        verify(projectVersionService).bumpAllForMember(userId);
     }
 
     @Test
@@ -279,6 +286,7 @@ class UserServiceTest {
 
         User deletedUser = userCaptor.getValue();
         assertThat(deletedUser.getIsActive()).isFalse();
+        verify(cacheInvalidationPublisher).publish(CacheInvalidation.of(CacheInvalidation.Target.USER, userId));
     }
 
     @Test
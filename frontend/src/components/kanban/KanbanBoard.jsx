@@ -14,7 +14,7 @@ import KanbanColumn from './KanbanColumn';
 import KanbanCard from './KanbanCard';
 import { useToast } from '../../context/ToastContext';
 
-const KanbanBoard = ({ tasks, onTaskUpdate }) => {
+const KanbanBoard = ({ board, loadingColumns = {}, onTaskUpdate, onTaskReorder, onLoadMore }) => {
   const [activeTask, setActiveTask] = useState(null);
   const toast = useToast();
 
@@ -32,10 +32,22 @@ const KanbanBoard = ({ tasks, onTaskUpdate }) => {
     { id: 'DONE', title: 'Done', color: 'bg-green-500' },
   ];
 
-  const getTasksByStatus = (status) => {
-    return tasks
-      .filter((task) => task.status === status)
-      .sort((a, b) => (a.position || 0) - (b.position || 0));
+  // Loaded tasks of each column, already in board order
+  const getTasksByStatus = (status) => board[status]?.items || [];
+
+  const tasks = columns.flatMap((column) => getTasksByStatus(column.id));
+
+  // Neighbours of the drop slot; the server ranks the task between them
+  const getDropNeighbours = (task, targetTask) => {
+    const column = getTasksByStatus(targetTask.status).filter((t) => t.id !== task.id);
+    const targetIndex = column.findIndex((t) => t.id === targetTask.id);
+    const movingDown =
+      task.status === targetTask.status && (task.position || 0) < (targetTask.position || 0);
+    const insertAt = movingDown ? targetIndex + 1 : targetIndex;
+    return {
+      afterTaskId: column[insertAt - 1]?.id ?? null,
+      beforeTaskId: column[insertAt]?.id ?? null,
+    };
   };
 
   const handleDragStart = (event) => {
@@ -63,8 +75,9 @@ const KanbanBoard = ({ tasks, onTaskUpdate }) => {
       // If over.id is not a valid status, it means we dropped on a task
       // Find which column that task belongs to
       const validStatuses = ['TODO', 'IN_PROGRESS', 'IN_REVIEW', 'DONE'];
+      let targetTask = null;
       if (!validStatuses.includes(newStatus)) {
-        const targetTask = tasks.find((t) => t.id === over.id);
+        targetTask = tasks.find((t) => t.id === over.id);
         if (targetTask) {
           newStatus = targetTask.status;
         } else {
@@ -72,6 +85,19 @@ const KanbanBoard = ({ tasks, onTaskUpdate }) => {
         }
       }
 
+      // Dropped onto another task: move into that slot
+      if (onTaskReorder && targetTask && targetTask.id !== taskId) {
+        try {
+          await onTaskReorder([
+            { taskId, status: newStatus, ...getDropNeighbours(task, targetTask) },
+          ]);
+          toast.success('Task moved successfully');
+        } catch (error) {
+          console.error('Failed to reorder task:', error);
+        }
+        return;
+      }
+
       // If the status hasn't changed, no need to update
       if (task.status === newStatus) return;
 
@@ -84,7 +110,7 @@ const KanbanBoard = ({ tasks, onTaskUpdate }) => {
         toast.error('Failed to move task');
       }
     },
-    [tasks, onTaskUpdate, toast]
+    [tasks, onTaskUpdate, onTaskReorder, toast]
   );
 
   return (
@@ -102,6 +128,10 @@ const KanbanBoard = ({ tasks, onTaskUpdate }) => {
             title={column.title}
             color={column.color}
             tasks={getTasksByStatus(column.id)}
+            totalCount={board[column.id]?.totalCount}
+            hasMore={!!board[column.id]?.nextCursor}
+            loadingMore={!!loadingColumns[column.id]}
+            onLoadMore={onLoadMore ? () => onLoadMore(column.id) : undefined}
           />
         ))}
       </div>
@@ -113,14 +143,24 @@ const KanbanBoard = ({ tasks, onTaskUpdate }) => {
 };
 
 KanbanBoard.propTypes = {
-  tasks: PropTypes.arrayOf(
+  // Status -> column from the board endpoint
+  board: PropTypes.objectOf(
     PropTypes.shape({
-      id: PropTypes.string.isRequired,
-      status: PropTypes.string.isRequired,
-      position: PropTypes.number,
+      totalCount: PropTypes.number,
+      nextCursor: PropTypes.string,
+      items: PropTypes.arrayOf(
+        PropTypes.shape({
+          id: PropTypes.string.isRequired,
+          status: PropTypes.string.isRequired,
+          position: PropTypes.number,
+        })
+      ).isRequired,
     })
   ).isRequired,
+  loadingColumns: PropTypes.objectOf(PropTypes.bool),
   onTaskUpdate: PropTypes.func.isRequired,
+  onTaskReorder: PropTypes.func,
+  onLoadMore: PropTypes.func,
 };
 
 export default KanbanBoard;
@@ -2,24 +2,34 @@ import { useDroppable } from '@dnd-kit/core';
 import { SortableContext, verticalListSortingStrategy } from '@dnd-kit/sortable';
 import PropTypes from 'prop-types';
 import KanbanCard from './KanbanCard';
+import Button from '../common/Button';
 
-const KanbanColumn = ({ status, title, tasks, color }) => {
+const KanbanColumn = ({ status, title, tasks, color, totalCount, hasMore = false, loadingMore = false, onLoadMore }) => {
   const { setNodeRef, isOver } = useDroppable({
     id: status,
   });
 
+  // Fetch the next page once the column is scrolled near its end
+  const handleScroll = (e) => {
+    const { scrollTop, scrollHeight, clientHeight } = e.currentTarget;
+    if (hasMore && !loadingMore && onLoadMore && scrollHeight - scrollTop - clientHeight < 200) {
+      onLoadMore();
+    }
+  };
+
   return (
     <div className="flex flex-col min-h-0 flex-1">
       <div className={`rounded-t-lg px-4 py-3 ${color}`}>
         <div className="flex items-center justify-between">
           <h3 className="font-semibold text-white">{title}</h3>
           <span className="bg-white bg-opacity-30 text-white text-sm px-2 py-1 rounded">
-            {tasks.length}
+            {totalCount ?? tasks.length}
           </span>
         </div>
       </div>
       <div
         ref={setNodeRef}
+        onScroll={handleScroll}
         className={`flex-1 p-4 space-y-3 bg-gray-50 rounded-b-lg min-h-[400px] max-h-[calc(100vh-300px)] overflow-y-auto transition-colors ${
           isOver ? 'bg-blue-50' : ''
         }`}
@@ -32,7 +42,12 @@ const KanbanColumn = ({ status, title, tasks, color }) => {
             <KanbanCard key={task.id} task={task} />
           ))}
         </SortableContext>
-        {tasks.length === 0 && (
+        {hasMore && onLoadMore && (
+          <Button variant="secondary" onClick={onLoadMore} loading={loadingMore} className="w-full">
+            Load more
+          </Button>
+        )}
+        {tasks.length === 0 && !hasMore && (
           <div className="text-center text-gray-400 py-8">
             No tasks
           </div>
@@ -51,6 +66,10 @@ KanbanColumn.propTypes = {
     })
   ).isRequired,
   color: PropTypes.string.isRequired,
+  totalCount: PropTypes.number,
+  hasMore: PropTypes.bool,
+  loadingMore: PropTypes.bool,
+  onLoadMore: PropTypes.func,
 };
 
 export default KanbanColumn;
@@ -29,6 +29,9 @@ export const API_ENDPOINTS = {
     BASE: '/tasks',
     BY_ID: (id) => `/tasks/${id}`,
     PROJECT_TASKS: (projectId) => `/projects/${projectId}/tasks`,
+    REORDER: (projectId) => `/projects/${projectId}/tasks/reorder`,
+    BOARD: (projectId) => `/projects/${projectId}/board`,
+    BOARD_COLUMN: (projectId, status) => `/projects/${projectId}/board/${status}`,
     FILTER: '/tasks/filter',
     STATISTICS: (projectId) => `/projects/${projectId}/tasks/statistics`,
     COMMENTS: (taskId) => `/tasks/${taskId}/comments`,
@@ -0,0 +1,142 @@
+import { useState, useEffect } from 'react';
+import taskService from '../services/taskService';
+
+const byPosition = (a, b) => (a.position || 0) - (b.position || 0);
+
+// Drops the task from whichever column holds it
+const removeTask = (columns, taskId) =>
+  Object.fromEntries(
+    Object.entries(columns).map(([status, column]) => {
+      const items = column.items.filter((t) => t.id !== taskId);
+      const removed = items.length !== column.items.length;
+      return [status, removed ? { ...column, items, totalCount: column.totalCount - 1 } : column];
+    })
+  );
+
+// Adds the task to its column; a task ranked past the loaded part arrives with a later page
+const placeTask = (columns, task) => {
+  const column = columns[task.status];
+  if (!column) return columns;
+  const last = column.items[column.items.length - 1];
+  const beyondLoaded = column.nextCursor && last && (task.position || 0) > (last.position || 0);
+  return {
+    ...columns,
+    [task.status]: {
+      ...column,
+      totalCount: column.totalCount + 1,
+      items: beyondLoaded ? column.items : [...column.items, task].sort(byPosition),
+    },
+  };
+};
+
+export const useBoard = (projectId) => {
+  // Status -> { status, totalCount, items, nextCursor }
+  const [columns, setColumns] = useState({});
+  const [loading, setLoading] = useState(true);
+  const [error, setError] = useState(null);
+  const [loadingColumns, setLoadingColumns] = useState({});
+
+  // Loads the first tasks of every column; more are fetched per column with loadMore
+  const fetchBoard = async () => {
+    if (!projectId) {
+      setColumns({});
+      setLoading(false);
+      return;
+    }
+    try {
+      setLoading(true);
+      setError(null);
+      const board = await taskService.getProjectBoard(projectId);
+      setColumns(Object.fromEntries(board.columns.map((column) => [column.status, column])));
+    } catch (err) {
+      setError(err.response?.data?.message || 'Failed to fetch board');
+      console.error('Error fetching board:', err);
+    } finally {
+      setLoading(false);
+    }
+  };
+
+  useEffect(() => {
+    fetchBoard();
+  }, [projectId]);
+
+  const loadMore = async (status) => {
+    const column = columns[status];
+    if (!column?.nextCursor || loadingColumns[status]) return;
+    try {
+      setLoadingColumns((loadingNow) => ({ ...loadingNow, [status]: true }));
+      const page = await taskService.getBoardColumn(projectId, status, column.nextCursor);
+      setColumns((current) => {
+        // Tasks moved here locally may come back in the page
+        const loaded = new Set(current[status].items.map((t) => t.id));
+        return {
+          ...current,
+          [status]: {
+            ...current[status],
+            totalCount: page.totalCount ?? current[status].totalCount,
+            items: [...current[status].items, ...page.items.filter((t) => !loaded.has(t.id))],
+            nextCursor: page.nextCursor,
+          },
+        };
+      });
+    } catch (err) {
+      setError(err.response?.data?.message || 'Failed to fetch tasks');
+      console.error('Error fetching board column:', err);
+    } finally {
+      setLoadingColumns((loadingNow) => ({ ...loadingNow, [status]: false }));
+    }
+  };
+
+  const createTask = async (taskData) => {
+    try {
+      const newTask = await taskService.createTask(taskData);
+      if (newTask.projectId === projectId) {
+        setColumns((current) => placeTask(current, newTask));
+      }
+      return newTask;
+    } catch (err) {
+      throw err;
+    }
+  };
+
+  const updateTask = async (id, taskData) => {
+    try {
+      const updatedTask = await taskService.updateTask(id, taskData);
+      setColumns((current) => {
+        const without = removeTask(current, id);
+        return updatedTask.projectId === projectId ? placeTask(without, updatedTask) : without;
+      });
+      return updatedTask;
+    } catch (err) {
+      throw err;
+    }
+  };
+
+  const reorderTasks = async (moves) => {
+    try {
+      const positions = await taskService.reorderTasks(projectId, moves);
+      setColumns((current) => {
+        const tasks = Object.values(current).flatMap((column) => column.items);
+        return positions.reduce((next, p) => {
+          const task = tasks.find((t) => t.id === p.id);
+          return task ? placeTask(removeTask(next, p.id), { ...task, ...p }) : next;
+        }, current);
+      });
+      return positions;
+    } catch (err) {
+      throw err;
+    }
+  };
+
+  return {
+    columns,
+    loading,
+    error,
+    loadingColumns,
+    fetchBoard,
+    loadMore,
+    createTask,
+    updateTask,
+    reorderTasks,
+  };
+};
@@ -5,15 +5,27 @@ export const useTasks = (projectId = null) => {
   const [tasks, setTasks] = useState([]);
   const [loading, setLoading] = useState(true);
   const [error, setError] = useState(null);
+  const [nextCursor, setNextCursor] = useState(null);
+  const [loadingMore, setLoadingMore] = useState(false);
+  // Filters of the list being paged; null for the plain task list
+  const [activeFilters, setActiveFilters] = useState(null);
 
+  const fetchPage = (cursor, filters) => {
+    if (filters) return taskService.filterTasks(filters, cursor);
+    return projectId
+      ? taskService.getProjectTasks(projectId, cursor)
+      : taskService.getAllTasks(cursor);
+  };
+
+  // Loads the first page only; further pages are fetched on request with loadMore
   const fetchTasks = async () => {
     try {
       setLoading(true);
       setError(null);
-      const data = projectId
-        ? await taskService.getProjectTasks(projectId)
-        : await taskService.getAllTasks();
-      setTasks(data);
+      setActiveFilters(null);
+      const page = await fetchPage(null, null);
+      setTasks(page.items);
+      setNextCursor(page.nextCursor);
     } catch (err) {
       setError(err.response?.data?.message || 'Failed to fetch tasks');
       console.error('Error fetching tasks:', err);
@@ -26,6 +38,21 @@ export const useTasks = (projectId = null) => {
     fetchTasks();
   }, [projectId]);
 
+  const loadMore = async () => {
+    if (!nextCursor || loadingMore) return;
+    try {
+      setLoadingMore(true);
+      const page = await fetchPage(nextCursor, activeFilters);
+      setTasks((loaded) => [...loaded, ...page.items]);
+      setNextCursor(page.nextCursor);
+    } catch (err) {
+      setError(err.response?.data?.message || 'Failed to fetch tasks');
+      console.error('Error fetching more tasks:', err);
+    } finally {
+      setLoadingMore(false);
+    }
+  };
+
   const createTask = async (taskData) => {
     try {
       const newTask = await taskService.createTask(taskData);
@@ -46,6 +73,17 @@ export const useTasks = (projectId = null) => {
     }
   };
 
+  const reorderTasks = async (projectId, moves) => {
+    try {
+      const positions = await taskService.reorderTasks(projectId, moves);
+      const byId = new Map(positions.map((p) => [p.id, p]));
+      setTasks(tasks.map((t) => (byId.has(t.id) ? { ...t, ...byId.get(t.id) } : t)));
+      return positions;
+    } catch (err) {
+      throw err;
+    }
+  };
+
   const deleteTask = async (id) => {
     try {
       await taskService.deleteTask(id);
@@ -59,8 +97,10 @@ export const useTasks = (projectId = null) => {
     try {
       setLoading(true);
       setError(null);
-      const data = await taskService.filterTasks(filters);
-      setTasks(data);
+      setActiveFilters(filters);
+      const page = await fetchPage(null, filters);
+      setTasks(page.items);
+      setNextCursor(page.nextCursor);
     } catch (err) {
       setError(err.response?.data?.message || 'Failed to filter tasks');
       console.error('Error filtering tasks:', err);
@@ -73,9 +113,13 @@ export const useTasks = (projectId = null) => {
     tasks,
     loading,
     error,
+    hasMore: !!nextCursor,
+    loadingMore,
+    loadMore,
     fetchTasks,
     createTask,
     updateTask,
+    reorderTasks,
     deleteTask,
     filterTasks,
   };
@@ -1,6 +1,8 @@
 import { useState } from 'react';
+import { useSearchParams } from 'react-router-dom';
 import { Plus, Kanban as KanbanIcon } from 'lucide-react';
-import { useTasks } from '../hooks/useTasks';
+import { useBoard } from '../hooks/useBoard';
+import { useProjects } from '../hooks/useProjects';
 import { useToast } from '../context/ToastContext';
 import Button from '../components/common/Button';
 import CreateTaskModal from '../components/tasks/CreateTaskModal';
@@ -8,7 +10,12 @@ import KanbanBoard from '../components/kanban/KanbanBoard';
 import LoadingSpinner from '../components/common/LoadingSpinner';
 
 const Kanban = () => {
-  const { tasks, loading, createTask, updateTask } = useTasks();
+  const { projects, loading: projectsLoading } = useProjects();
+  const [searchParams, setSearchParams] = useSearchParams();
+  // The board shows one project at a time, the first one unless picked
+  const projectId = searchParams.get('project') || projects[0]?.id || null;
+  const { columns, loading, loadingColumns, loadMore, createTask, updateTask, reorderTasks } = useBoard(projectId);
+  const isEmpty = Object.values(columns).every((column) => column.totalCount === 0);
   const toast = useToast();
   const [isCreateTaskOpen, setIsCreateTaskOpen] = useState(false);
 
@@ -32,7 +39,16 @@ const Kanban = () => {
     }
   };
 
-  if (loading) {
+  const handleTaskReorder = async (moves) => {
+    try {
+      await reorderTasks(moves);
+    } catch (err) {
+      toast.error(err.response?.data?.message || 'Failed to move task');
+      throw err;
+    }
+  };
+
+  if (projectsLoading || loading) {
     return (
       <div className="flex items-center justify-center h-full">
         <LoadingSpinner size="large" />
@@ -47,18 +63,32 @@ const Kanban = () => {
           <KanbanIcon className="w-8 h-8 text-primary-600" />
           <h1 className="text-2xl font-bold text-gray-900">Kanban Board</h1>
         </div>
-        <Button
-          variant="primary"
-          onClick={() => setIsCreateTaskOpen(true)}
-          className="flex items-center gap-2"
-        >
-          <Plus className="w-4 h-4" />
-          New Task
-        </Button>
+        <div className="flex items-center gap-3">
+          <select
+            value={projectId || ''}
+            onChange={(e) => setSearchParams({ project: e.target.value })}
+            className="input"
+            aria-label="Project"
+          >
+            {projects.map((p) => (
+              <option key={p.id} value={p.id}>
+                {p.name}
+              </option>
+            ))}
+          </select>
+          <Button
+            variant="primary"
+            onClick={() => setIsCreateTaskOpen(true)}
+            className="flex items-center gap-2"
+          >
+            <Plus className="w-4 h-4" />
+            New Task
+          </Button>
+        </div>
       </div>
 
       <div className="flex-1 overflow-auto">
-        {tasks.length === 0 ? (
+        {isEmpty ? (
           <div className="flex items-center justify-center h-full">
             <div className="text-center">
               <KanbanIcon className="w-16 h-16 text-gray-300 mx-auto mb-4" />
@@ -75,7 +105,13 @@ const Kanban = () => {
             </div>
           </div>
         ) : (
-          <KanbanBoard tasks={tasks} onTaskUpdate={handleTaskUpdate} />
+          <KanbanBoard
+            board={columns}
+            loadingColumns={loadingColumns}
+            onTaskUpdate={handleTaskUpdate}
+            onTaskReorder={handleTaskReorder}
+            onLoadMore={loadMore}
+          />
         )}
       </div>
 
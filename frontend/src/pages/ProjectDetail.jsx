@@ -31,6 +31,9 @@ const ProjectDetail = () => {
 
   const [project, setProject] = useState(null);
   const [tasks, setTasks] = useState([]);
+  const [nextCursor, setNextCursor] = useState(null);
+  const [loadingMore, setLoadingMore] = useState(false);
+  const [statistics, setStatistics] = useState(null);
   const [members, setMembers] = useState([]);
   const [loading, setLoading] = useState(true);
   const [activeTab, setActiveTab] = useState('overview');
@@ -46,13 +49,16 @@ const ProjectDetail = () => {
   const fetchProjectData = async () => {
     try {
       setLoading(true);
-      const [projectData, tasksData, membersData] = await Promise.all([
+      const [projectData, tasksPage, statisticsData, membersData] = await Promise.all([
         projectService.getProjectById(id),
         taskService.getProjectTasks(id),
+        taskService.getProjectStatistics(id),
         projectService.getProjectMembers(id)
       ]);
       setProject(projectData);
-      setTasks(tasksData);
+      setTasks(tasksPage.items);
+      setNextCursor(tasksPage.nextCursor);
+      setStatistics(statisticsData);
       setMembers(membersData);
     } catch (err) {
       toast.error(err.response?.data?.message || 'Failed to load project details');
@@ -62,6 +68,19 @@ const ProjectDetail = () => {
     }
   };
 
+  const handleLoadMoreTasks = async () => {
+    setLoadingMore(true);
+    try {
+      const page = await taskService.getProjectTasks(id, nextCursor);
+      setTasks((loaded) => [...loaded, ...page.items]);
+      setNextCursor(page.nextCursor);
+    } catch (err) {
+      toast.error(err.response?.data?.message || 'Failed to load tasks');
+    } finally {
+      setLoadingMore(false);
+    }
+  };
+
   const handleUpdate = async (projectData) => {
     try {
       const updated = await projectService.updateProject(id, projectData);
@@ -133,8 +152,10 @@ const ProjectDetail = () => {
     return null;
   }
 
-  const completedTasks = tasks.filter(t => t.status === 'DONE').length;
-  const completionRate = tasks.length > 0 ? Math.round((completedTasks / tasks.length) * 100) : 0;
+  // Counts come from the statistics endpoint, since only the loaded pages are in tasks
+  const totalTasks = statistics?.totalTasks || 0;
+  const completedTasks = statistics?.doneCount || 0;
+  const completionRate = totalTasks > 0 ? Math.round((completedTasks / totalTasks) * 100) : 0;
 
   return (
     <div className="max-w-7xl mx-auto">
@@ -199,7 +220,7 @@ const ProjectDetail = () => {
             </div>
             <div>
               <p className="text-sm text-secondary-600">Total Tasks</p>
-              <p className="text-2xl font-bold text-secondary-900">{tasks.length}</p>
+              <p className="text-2xl font-bold text-secondary-900">{totalTasks}</p>
             </div>
           </div>
         </div>
@@ -286,7 +307,7 @@ const ProjectDetail = () => {
       {activeTab === 'tasks' && (
         <div className="space-y-4">
           <div className="flex justify-between items-center mb-4">
-            <h2 className="text-lg font-semibold text-secondary-900">Tasks ({tasks.length})</h2>
+            <h2 className="text-lg font-semibold text-secondary-900">Tasks ({totalTasks})</h2>
             <Button
               variant="primary"
               onClick={() => setIsCreateTaskModalOpen(true)}
@@ -330,6 +351,14 @@ const ProjectDetail = () => {
               ))}
             </div>
           )}
+
+          {nextCursor && (
+            <div className="flex justify-center">
+              <Button variant="secondary" onClick={handleLoadMoreTasks} loading={loadingMore}>
+                Load more
+              </Button>
+            </div>
+          )}
         </div>
       )}
 
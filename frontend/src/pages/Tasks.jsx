@@ -13,7 +13,7 @@ import ConfirmDialog from '../components/common/ConfirmDialog';
 
 const Tasks = () => {
   const navigate = useNavigate();
-  const { tasks, loading, createTask, updateTask, deleteTask } = useTasks();
+  const { tasks, loading, hasMore, loadingMore, loadMore, createTask, updateTask, deleteTask } = useTasks();
   const { user } = useAuth();
   const toast = useToast();
   const [isCreateModalOpen, setIsCreateModalOpen] = useState(false);
@@ -114,7 +114,7 @@ const Tasks = () => {
         </div>
       </div>
 
-      {filteredTasks.length === 0 ? (
+      {filteredTasks.length === 0 && !hasMore ? (
         <div className="text-center py-12">
           <div className="w-24 h-24 bg-gray-100 rounded-full flex items-center justify-center mx-auto mb-4">
             <Plus className="w-12 h-12 text-gray-400" />
@@ -151,6 +151,14 @@ const Tasks = () => {
         </div>
       )}
 
+      {hasMore && (
+        <div className="flex justify-center mt-6">
+          <Button variant="secondary" onClick={loadMore} loading={loadingMore}>
+            Load more
+          </Button>
+        </div>
+      )}
+
       <CreateTaskModal
         isOpen={isCreateModalOpen}
         onClose={() => setIsCreateModalOpen(false)}
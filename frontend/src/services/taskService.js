@@ -2,13 +2,26 @@ import api from './api';
 import { API_ENDPOINTS } from '../constants/api';
 
 class TaskService {
-  async getAllTasks() {
-    const response = await api.get(API_ENDPOINTS.TASKS.BASE);
+  // Task lists are paginated with a keyset cursor: each call returns { items, nextCursor },
+  // pass nextCursor back to fetch the next page; it is null on the last page
+  async getAllTasks(cursor = null) {
+    const response = await api.get(API_ENDPOINTS.TASKS.BASE, { params: cursor ? { cursor } : {} });
     return response.data;
   }
 
-  async getProjectTasks(projectId) {
-    const response = await api.get(API_ENDPOINTS.TASKS.PROJECT_TASKS(projectId));
+  async getProjectTasks(projectId, cursor = null) {
+    const response = await api.get(API_ENDPOINTS.TASKS.PROJECT_TASKS(projectId), { params: cursor ? { cursor } : {} });
+    return response.data;
+  }
+
+  // Every status column with its first tasks, totalCount and nextCursor
+  async getProjectBoard(projectId) {
+    const response = await api.get(API_ENDPOINTS.TASKS.BOARD(projectId));
+    return response.data;
+  }
+
+  async getBoardColumn(projectId, status, cursor) {
+    const response = await api.get(API_ENDPOINTS.TASKS.BOARD_COLUMN(projectId, status), { params: { cursor } });
     return response.data;
   }
 
@@ -27,13 +40,19 @@ class TaskService {
     return response.data;
   }
 
+  // moves: [{ taskId, afterTaskId, beforeTaskId, status }], applied in order
+  async reorderTasks(projectId, moves) {
+    const response = await api.post(API_ENDPOINTS.TASKS.REORDER(projectId), { moves });
+    return response.data;
+  }
+
   async deleteTask(id) {
     const response = await api.delete(API_ENDPOINTS.TASKS.BY_ID(id));
     return response.data;
   }
 
-  async filterTasks(filters) {
-    const response = await api.post(API_ENDPOINTS.TASKS.FILTER, filters);
+  async filterTasks(filters, cursor = null) {
+    const response = await api.post(API_ENDPOINTS.TASKS.FILTER, { ...filters, cursor });
     return response.data;
   }
 
@@ -146,9 +146,9 @@ export const handlers = [
     const url = new URL(request.url)
     const projectId = url.searchParams.get('projectId')
     if (projectId) {
-      return HttpResponse.json([{ ...mockTask, projectId }])
+      return HttpResponse.json({ items: [{ ...mockTask, projectId }], nextCursor: null })
     }
-    return HttpResponse.json([mockTask])
+    return HttpResponse.json({ items: [mockTask], nextCursor: null })
   }),
 
   http.get(`${API_BASE_URL}/tasks/:taskId`, ({ params }) => {
@@ -167,6 +167,16 @@ export const handlers = [
     })
   }),
 
+  http.post(`${API_BASE_URL}/projects/:projectId/tasks/reorder`, async ({ request }) => {
+    const { moves } = await request.json()
+    return HttpResponse.json(moves.map((move, index) => ({
+      id: move.taskId,
+      position: (index + 1) * 1024,
+      status: move.status ?? mockTask.status,
+      completedAt: null,
+    })))
+  }),
+
   http.delete(`${API_BASE_URL}/tasks/:taskId`, () => {
     return HttpResponse.json({ message: 'Task deleted successfully' })
   }),